@@ -0,0 +1,104 @@
+package be.iffy.fv.benchmarks;
+
+import be.iffy.fv.Rule;
+import be.iffy.fv.Transformation;
+import be.iffy.fv.Validation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import static be.iffy.fv.rules.text.CharCategory.ASCII_DIGITS;
+import static be.iffy.fv.rules.text.CharCategory.ASCII_LETTERS;
+import static be.iffy.fv.rules.text.CharCategory.LETTERS;
+import static be.iffy.fv.rules.text.CharCategory.SPACE;
+import static be.iffy.fv.rules.text.StringOps.stringOps;
+import static be.iffy.fv.rules.text.StringRules.strings;
+
+/**
+ * The character class rules and transformations of {@link be.iffy.fv.rules.text.StringRules} and
+ * {@link be.iffy.fv.rules.text.StringOps}. Valid input is already clean, so the transformations have nothing to remove.
+ * <p>
+ * {@code regexContainsOnly} and {@code regexKeep} are the equivalent {@link Pattern} based implementations, for reference.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CharClassBenchmark {
+
+    private static final Pattern LETTERS_AND_SPACES = Pattern.compile("[\\p{L} ]*");
+    private static final Pattern NOT_ALPHANUMERIC = Pattern.compile("[^A-Za-z0-9]+");
+
+    private static final Rule<String> containsOnly = strings.containsOnly(LETTERS, SPACE);
+    private static final Rule<String> hexadecimal = strings.hexadecimal();
+    private static final Rule<String> base64 = strings.base64();
+    private static final Transformation<String> keep = stringOps.keep(ASCII_LETTERS, ASCII_DIGITS);
+    private static final Transformation<String> removeCharacters = stringOps.removeCharacters("-.() ");
+
+    @Param
+    public Inputs inputs;
+
+    private String name = "";
+    private String hex = "";
+    private String encoded = "";
+    private String reference = "";
+    private String phone = "";
+
+    @Setup
+    public void setup() {
+        boolean valid = inputs == Inputs.VALID;
+        name = valid ? "Jean Émile Dupont" : "Jean Émile Dupont 3";
+        hex = valid ? "3f2a9c0b7e1d4f6a8b5c" : "3f2a9c0b7e1d4f6a8b5g";
+        encoded = valid ? "YW55IGNhcm5hbCBwbGVhc3VyZS4=" : "YW55IGNhcm5hbCBwbGVhc3VyZS4!";
+        reference = valid ? "INV2024000123" : "INV-2024/000123";
+        phone = valid ? "3212345678" : "+32 (0)12.34-56-78";
+    }
+
+    @Benchmark
+    public boolean regexContainsOnly() {
+        return LETTERS_AND_SPACES.matcher(name).matches();
+    }
+
+    @Benchmark
+    public Validation<String> containsOnly() {
+        return containsOnly.apply(name);
+    }
+
+    @Benchmark
+    public Validation<String> hexadecimal() {
+        return hexadecimal.apply(hex);
+    }
+
+    @Benchmark
+    public Validation<String> base64() {
+        return base64.apply(encoded);
+    }
+
+    @Benchmark
+    public String regexKeep() {
+        return NOT_ALPHANUMERIC.matcher(reference).replaceAll("");
+    }
+
+    @Benchmark
+    public String keep() {
+        return keep.apply(reference);
+    }
+
+    @Benchmark
+    public String removeCharacters() {
+        return removeCharacters.apply(phone);
+    }
+}
@@ -0,0 +1,59 @@
+package be.iffy.fv.benchmarks;
+
+import be.iffy.fv.Rule;
+import be.iffy.fv.Validation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static be.iffy.fv.rules.text.StringRules.strings;
+
+/**
+ * A typical chain of combinators, as built with {@code and} and {@code then}, next to the same chain after {@link Rule#compile()}.
+ * <p>
+ * The invalid input fails both {@code notBlank} and {@code maxLength}, so {@code matches} is never evaluated.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompiledRuleBenchmark {
+
+    private static final Rule<String> username = strings.notBlank()
+        .and(strings.maxLength(50))
+        .then(strings.matches("[a-z][a-z0-9_]*"));
+
+    private static final Rule<String> compiled = username.compile();
+
+    @Param
+    public Inputs inputs;
+
+    private String value = "";
+
+    @Setup
+    public void setup() {
+        value = inputs == Inputs.VALID ? "alice_1984" : " ".repeat(60);
+    }
+
+    @Benchmark
+    public Validation<String> uncompiled() {
+        return username.apply(value);
+    }
+
+    @Benchmark
+    public Validation<String> compiled() {
+        return compiled.apply(value);
+    }
+}
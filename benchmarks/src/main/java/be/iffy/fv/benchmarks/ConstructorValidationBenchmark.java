@@ -0,0 +1,94 @@
+package be.iffy.fv.benchmarks;
+
+import be.iffy.fv.Validation;
+import be.iffy.fv.ValidationException;
+import be.iffy.fv.dsl.impl.PlanDSL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static be.iffy.fv.dsl.DSL.*;
+
+/**
+ * The constructor validation pattern from the README: a record that validates and normalises its components with
+ * {@code asserting(validateThat(...))}, and throws a {@link ValidationException} when they are invalid. The
+ * {@code construct} benchmark catches the exception itself, {@code catching} turns it into a {@link Validation} with
+ * {@code Validation.from().catching(...)}, which creates it without a stack trace. {@code planned} constructs a record with
+ * the same checks, prepared once with {@code plan(field(...))}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConstructorValidationBenchmark {
+
+    public record Person(String name, int age) {
+        public Person {
+            var v = asserting(
+                    validateThat(name, Person::name).after(stringOps.trim()).is(strings.minLength(2)),
+                    validateThat(age, Person::age).is(ints.atLeast(18))
+            );
+            name = v._1;
+        }
+    }
+
+    public record PlannedPerson(String name, int age) {
+        private static final PlanDSL.Plan2<String, Integer, String, Integer> VALIDATION = plan(
+                field(PlannedPerson::name).after(stringOps.trim()).is(strings.minLength(2)),
+                field(PlannedPerson::age).is(ints.atLeast(18))
+        );
+
+        public PlannedPerson {
+            var v = VALIDATION.asserting(name, age);
+            name = v._1;
+        }
+    }
+
+    @Param
+    public Inputs inputs;
+
+    private String name = "";
+    private int age;
+
+    @Setup
+    public void setup() {
+        boolean valid = inputs == Inputs.VALID;
+        name = valid ? "  Alice  " : " A ";
+        age = valid ? 30 : 16;
+    }
+
+    @Benchmark
+    public Object construct() {
+        try {
+            return new Person(name, age);
+        } catch (ValidationException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Validation<Person> catching() {
+        return Validation.from().catching(() -> new Person(name, age));
+    }
+
+    @Benchmark
+    public Object planned() {
+        try {
+            return new PlannedPerson(name, age);
+        } catch (ValidationException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package be.iffy.fv.benchmarks;
+
+import be.iffy.fv.ErrorMessage;
+import be.iffy.fv.MappingRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static be.iffy.fv.rules.text.StringRules.strings;
+
+/**
+ * The number, UUID and boolean conversions of {@link be.iffy.fv.rules.text.StringRules} on batches of inputs where
+ * {@code invalidPercentage} of the inputs is garbage, like the traffic of a bot probing an endpoint.
+ * <p>
+ * {@code catchingInteger} is the exception based conversion, as built with {@link MappingRule#catching}, for reference.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConversionBenchmark {
+
+    private static final int BATCH = 1024;
+
+    private static final MappingRule<String, Integer> catchingInteger =
+        MappingRule.catching(Integer::parseInt, (input, e) -> ErrorMessage.of("must.be.integer", "value", input));
+    private static final MappingRule<String, Integer> asInteger = strings.asInteger();
+    private static final MappingRule<String, Long> asLong = strings.asLong();
+    private static final MappingRule<String, Double> asDouble = strings.asDouble();
+    private static final MappingRule<String, BigDecimal> asBigDecimal = strings.asBigDecimal();
+    private static final MappingRule<String, UUID> asUUID = strings.asUUID();
+    private static final MappingRule<String, Boolean> asBoolean = strings.asBoolean();
+
+    private static final String[] GARBAGE = {
+        "", "abc", "1e3x", "--1", "12,5", "0x1G", "<script>", "' OR 1=1 --", "NaN?", "99999999999999999999x"
+    };
+
+    @Param({"50", "90", "100"})
+    public int invalidPercentage;
+
+    private String[] integers = new String[0];
+    private String[] decimals = new String[0];
+    private String[] uuids = new String[0];
+    private String[] booleans = new String[0];
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        integers = new String[BATCH];
+        decimals = new String[BATCH];
+        uuids = new String[BATCH];
+        booleans = new String[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            boolean invalid = random.nextInt(100) < invalidPercentage;
+            String garbage = GARBAGE[random.nextInt(GARBAGE.length)];
+            integers[i] = invalid ? garbage : Integer.toString(random.nextInt());
+            decimals[i] = invalid ? garbage : Double.toString(random.nextDouble() * 1000);
+            uuids[i] = invalid ? garbage : new UUID(random.nextLong(), random.nextLong()).toString();
+            booleans[i] = invalid ? garbage : random.nextBoolean() ? "yes" : "no";
+        }
+    }
+
+    private static <R> void convert(MappingRule<String, R> rule, String[] inputs, Blackhole blackhole) {
+        for (String input : inputs) {
+            blackhole.consume(rule.apply(input));
+        }
+    }
+
+    @Benchmark
+    public void catchingInteger(Blackhole blackhole) {
+        convert(catchingInteger, integers, blackhole);
+    }
+
+    @Benchmark
+    public void asInteger(Blackhole blackhole) {
+        convert(asInteger, integers, blackhole);
+    }
+
+    @Benchmark
+    public void asLong(Blackhole blackhole) {
+        convert(asLong, integers, blackhole);
+    }
+
+    @Benchmark
+    public void asDouble(Blackhole blackhole) {
+        convert(asDouble, decimals, blackhole);
+    }
+
+    @Benchmark
+    public void asBigDecimal(Blackhole blackhole) {
+        convert(asBigDecimal, decimals, blackhole);
+    }
+
+    @Benchmark
+    public void asUUID(Blackhole blackhole) {
+        convert(asUUID, uuids, blackhole);
+    }
+
+    @Benchmark
+    public void asBoolean(Blackhole blackhole) {
+        convert(asBoolean, booleans, blackhole);
+    }
+}
@@ -0,0 +1,88 @@
+package be.iffy.fv.benchmarks;
+
+import be.iffy.fv.ErrorMessage;
+import be.iffy.fv.Rule;
+import be.iffy.fv.Validation;
+import io.vavr.collection.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Path handling of {@link ErrorMessage}: {@code prepend}, {@code atIndex} and rendering with {@code message()},
+ * both directly and through {@link Validation#at(String)}/{@link Validation#atIndex(Object)} the way nested
+ * validations use them. {@code failingRule} applies a {@code Rule.of(predicate, key)}, {@code distinct} builds an
+ * {@code Invalid} from 20 errors with a key, a path and a parameter.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ErrorMessageBenchmark {
+
+    private static final ErrorMessage.Path street = ErrorMessage.Path.of("street");
+
+    @Param
+    public Inputs inputs;
+
+    private ErrorMessage error = ErrorMessage.of("must.not.be.blank");
+    private Validation<String> validation = Validation.valid("");
+    private final Rule<Integer> positive = Rule.of(i -> i > 0, "must.be.positive");
+    private int number;
+    private List<ErrorMessage> errors = List.empty();
+
+    @Setup
+    public void setup() {
+        error = ErrorMessage.of("must.have.min.length", "min", 3)
+                .prepend(street)
+                .atIndex(2)
+                .prepend(ErrorMessage.Path.of("addresses"));
+        validation = inputs == Inputs.VALID
+                ? Validation.valid("Main Street")
+                : Validation.invalid(ErrorMessage.of("must.not.be.blank"), ErrorMessage.of("must.have.min.length", "min", 3));
+        number = inputs == Inputs.VALID ? 1 : -1;
+        errors = List.range(0, 20).map(i -> ErrorMessage.of("must.have.min.length", "min", 3).prepend(ErrorMessage.Path.of("line" + i)));
+    }
+
+    @Benchmark
+    public ErrorMessage prepend() {
+        return error.prepend(street);
+    }
+
+    @Benchmark
+    public ErrorMessage atIndex() {
+        return error.atIndex(7);
+    }
+
+    @Benchmark
+    public String message() {
+        return error.message();
+    }
+
+    @Benchmark
+    public Validation<String> nestedPaths() {
+        return validation.at("street").atIndex(2).at("addresses").at("customer");
+    }
+
+    @Benchmark
+    public Validation<Integer> failingRule() {
+        return positive.apply(number);
+    }
+
+    @Benchmark
+    public Validation<String> distinct() {
+        return Validation.invalid(errors);
+    }
+}
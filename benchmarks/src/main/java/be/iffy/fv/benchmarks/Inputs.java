@@ -0,0 +1,18 @@
+package be.iffy.fv.benchmarks;
+
+/**
+ * Which kind of input a benchmark feeds to the code under test.
+ * <p>
+ * Every suite runs against both, because the failure paths (error accumulation, path prefixing, exceptions)
+ * are where most of the allocations come from.
+ */
+public enum Inputs {
+    /**
+     * Every input passes validation.
+     */
+    VALID,
+    /**
+     * Every input fails validation.
+     */
+    INVALID
+}
@@ -0,0 +1,80 @@
+package be.iffy.fv.benchmarks;
+
+import be.iffy.fv.MappingRule;
+import be.iffy.fv.Memo;
+import be.iffy.fv.Validation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.URI;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static be.iffy.fv.rules.text.StringRules.strings;
+
+/**
+ * Eight threads sharing one {@code asURI()} rule, fed from a skewed set of {@code distinct} URIs where a few are
+ * validated far more often than the rest: the {@code plain} benchmark applies the rule, the {@code memoized} benchmark
+ * the same rule memoized in a {@link Memo#bounded(int)} memo of 1 000 results.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class MemoBenchmark {
+
+    private static final int SAMPLES = 1 << 16;
+
+    @Param({"100", "100000"})
+    public int distinct;
+
+    private final MappingRule<String, URI> plain = strings.asURI();
+    private MappingRule<String, URI> memoized = plain;
+    private String[] inputs = new String[0];
+
+    @Setup
+    public void setup() {
+        memoized = plain.memoized(Memo.bounded(1_000));
+        Random random = new Random(42);
+        inputs = new String[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            // the square of a uniform value favours the low numbers
+            double skewed = random.nextDouble();
+            int n = (int) (skewed * skewed * distinct);
+            inputs[i] = "https://example.com/orders/" + n + "?page=" + (n % 7);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next = new Random().nextInt(SAMPLES);
+
+        String next(String[] inputs) {
+            next = (next + 1) & (SAMPLES - 1);
+            return inputs[next];
+        }
+    }
+
+    @Benchmark
+    public Validation<URI> plain(Cursor cursor) {
+        return plain.apply(cursor.next(inputs));
+    }
+
+    @Benchmark
+    public Validation<URI> memoized(Cursor cursor) {
+        return memoized.apply(cursor.next(inputs));
+    }
+}
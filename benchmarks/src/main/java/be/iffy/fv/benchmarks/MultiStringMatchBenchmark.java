@@ -0,0 +1,98 @@
+package be.iffy.fv.benchmarks;
+
+import be.iffy.fv.Rule;
+import be.iffy.fv.Validation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static be.iffy.fv.rules.text.StringRules.strings;
+
+/**
+ * The prefix, suffix and denylist rules of {@link be.iffy.fv.rules.text.StringRules} with dictionaries of growing
+ * size. The input matches none of the entries, so the whole dictionary has to be ruled out.
+ * <p>
+ * {@code loopingDoesNotContain} checks each entry with {@link String#contains(CharSequence)}, for reference.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MultiStringMatchBenchmark {
+
+    private static final String TEXT = "The quick brown fox jumps over the lazy dog, twice, and then takes a nap.";
+
+    @Param({"10", "1000", "100000"})
+    public int dictionarySize;
+
+    private List<String> dictionary = List.of();
+    private Rule<String> startsWith = Rule.notNull();
+    private Rule<String> endsWithIgnoreCase = Rule.notNull();
+    private Rule<String> doesNotContainAnyOf = Rule.notNull();
+    private Rule<String> doesNotContainAnyOfIgnoreCase = Rule.notNull();
+
+    @Setup
+    public void setup() {
+        // random words of 5 to 8 letters out of 'q' to 'z', so they occur nowhere in the text
+        Random random = new Random(42);
+        dictionary = new ArrayList<>();
+        for (int i = 0; i < dictionarySize; i++) {
+            StringBuilder word = new StringBuilder();
+            int length = 5 + random.nextInt(4);
+            for (int j = 0; j < length; j++) {
+                word.append((char) ('q' + random.nextInt(10)));
+            }
+            dictionary.add(word.toString());
+        }
+        String[] entries = dictionary.toArray(String[]::new);
+        startsWith = strings.startsWith(entries);
+        endsWithIgnoreCase = strings.endsWithIgnoreCase(entries);
+        doesNotContainAnyOf = strings.doesNotContainAnyOf(dictionary);
+        doesNotContainAnyOfIgnoreCase = strings.doesNotContainAnyOfIgnoreCase(dictionary);
+    }
+
+    @Benchmark
+    public boolean loopingDoesNotContain() {
+        for (String entry : dictionary) {
+            if (TEXT.contains(entry)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Benchmark
+    public Validation<String> doesNotContainAnyOf() {
+        return doesNotContainAnyOf.apply(TEXT);
+    }
+
+    @Benchmark
+    public Validation<String> doesNotContainAnyOfIgnoreCase() {
+        return doesNotContainAnyOfIgnoreCase.apply(TEXT);
+    }
+
+    @Benchmark
+    public Validation<String> startsWith() {
+        return startsWith.apply(TEXT);
+    }
+
+    @Benchmark
+    public Validation<String> endsWithIgnoreCase() {
+        return endsWithIgnoreCase.apply(TEXT);
+    }
+}
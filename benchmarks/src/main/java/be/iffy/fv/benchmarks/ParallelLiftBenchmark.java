@@ -0,0 +1,72 @@
+package be.iffy.fv.benchmarks;
+
+import be.iffy.fv.MappingRule;
+import be.iffy.fv.Parallelism;
+import be.iffy.fv.Validation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static be.iffy.fv.rules.text.StringRules.strings;
+
+/**
+ * A bulk import of rows, each a host name and a UUID, where {@code invalidPercentage} of the rows is malformed: the
+ * {@code sequential} benchmark lifts the row rule with {@code toList()}, the {@code parallel} benchmark with
+ * {@code toList(Parallelism.commonPool())}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelLiftBenchmark {
+
+    private static final MappingRule<String, UUID> row = MappingRule.of((String line) ->
+            strings.hostname().apply(line.substring(0, line.indexOf(';')))
+                    .flatMap(host -> strings.asUUID().apply(line.substring(line.indexOf(';') + 1))));
+    private static final MappingRule<java.util.List<String>, java.util.List<UUID>> sequential = row.lift().toList();
+    private static final MappingRule<java.util.List<String>, java.util.List<UUID>> parallel = row.lift().toList(Parallelism.commonPool());
+
+    @Param({"0", "1"})
+    public int invalidPercentage;
+
+    @Param({"1000", "500000"})
+    public int size;
+
+    private java.util.List<String> rows = java.util.List.of();
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        rows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String host = "host-" + i + ".example.com";
+            String id = new UUID(random.nextLong(), random.nextLong()).toString();
+            rows.add(random.nextInt(100) < invalidPercentage ? host + "-;" + id.substring(1) : host + ";" + id);
+        }
+    }
+
+    @Benchmark
+    public Validation<java.util.List<UUID>> sequential() {
+        return sequential.apply(rows);
+    }
+
+    @Benchmark
+    public Validation<java.util.List<UUID>> parallel() {
+        return parallel.apply(rows);
+    }
+}
@@ -0,0 +1,88 @@
+package be.iffy.fv.benchmarks;
+
+import be.iffy.fv.Rule;
+import be.iffy.fv.Validation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.DoubleStream;
+
+import static be.iffy.fv.rules.numbers.DoubleRules.doubles;
+import static be.iffy.fv.rules.numbers.IntegerRules.ints;
+
+/**
+ * Validating a batch of numbers, like sensor readings, where {@code invalidPercentage} of the values is out of range:
+ * the {@code boxed} benchmarks lift a {@link Rule} to a {@link java.util.List}, the {@code primitive} benchmarks lift
+ * the same primitive rules of {@link be.iffy.fv.rules.numbers.IntegerRules} and
+ * {@link be.iffy.fv.rules.numbers.DoubleRules} to an array or stream, without boxing the valid values.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrimitiveRuleBenchmark {
+
+    private static final Rule<java.util.List<Integer>> boxedInts = ints.nonNegative().and(ints.maxInt(4095)).lift().toList();
+    private static final Rule<int[]> primitiveInts = ints.nonNegative().and(ints.maxInt(4095)).lift().toArray();
+    private static final Rule<java.util.List<Double>> boxedDoubles = doubles.finiteDouble().and(doubles.between(0.0, 1.0)).lift().toList();
+    private static final Rule<double[]> primitiveDoubles = doubles.finiteDouble().and(doubles.between(0.0, 1.0)).lift().toArray();
+
+    @Param({"0", "1", "50"})
+    public int invalidPercentage;
+
+    @Param({"1000", "1000000"})
+    public int size;
+
+    private int[] intArray = new int[0];
+    private double[] doubleArray = new double[0];
+    private java.util.List<Integer> intList = java.util.List.of();
+    private java.util.List<Double> doubleList = java.util.List.of();
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        intArray = new int[size];
+        doubleArray = new double[size];
+        for (int i = 0; i < size; i++) {
+            boolean invalid = random.nextInt(100) < invalidPercentage;
+            intArray[i] = invalid ? 4096 + random.nextInt(100) : random.nextInt(4096);
+            doubleArray[i] = invalid ? Double.NaN : random.nextDouble();
+        }
+        intList = Arrays.stream(intArray).boxed().toList();
+        doubleList = DoubleStream.of(doubleArray).boxed().toList();
+    }
+
+    @Benchmark
+    public Validation<java.util.List<Integer>> boxedInts() {
+        return boxedInts.apply(intList);
+    }
+
+    @Benchmark
+    public Validation<int[]> primitiveInts() {
+        return primitiveInts.apply(intArray);
+    }
+
+    @Benchmark
+    public Validation<java.util.List<Double>> boxedDoubles() {
+        return boxedDoubles.apply(doubleList);
+    }
+
+    @Benchmark
+    public Validation<double[]> primitiveDoubles() {
+        return primitiveDoubles.apply(doubleArray);
+    }
+}
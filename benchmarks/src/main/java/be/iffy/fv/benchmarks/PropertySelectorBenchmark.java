@@ -0,0 +1,79 @@
+package be.iffy.fv.benchmarks;
+
+import be.iffy.fv.PropertySelector;
+import be.iffy.fv.Rule;
+import be.iffy.fv.Validation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static be.iffy.fv.dsl.DSL.validateThat;
+import static be.iffy.fv.rules.text.StringRules.strings;
+
+/**
+ * Naming a property with a {@link PropertySelector}: looking up the name of {@code Person::name}, applying
+ * {@code Rule.on(Person::name, ...)}, naming a {@link Validation} with {@code at(Person::name)}, and the DSL entry point
+ * {@code validateThat(value, Person::name)}, with a method reference and with a selector resolved up front.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PropertySelectorBenchmark {
+
+    public record Person(String name) {
+    }
+
+    private static final PropertySelector<Person, String> name = PropertySelector.resolve(Person::name);
+    private static final Rule<Person> namePresent = Rule.on(Person::name, strings.notBlank());
+
+    @Param
+    public Inputs inputs;
+
+    private Person person = new Person("");
+    private Validation<String> validation = Validation.valid("");
+
+    @Setup
+    public void setup() {
+        person = new Person(inputs == Inputs.VALID ? "Alice" : " ");
+        validation = strings.notBlank().apply(person.name());
+    }
+
+    @Benchmark
+    public String propertyName() {
+        PropertySelector<Person, String> selector = Person::name;
+        return selector.getPropertyName();
+    }
+
+    @Benchmark
+    public Validation<Person> ruleOn() {
+        return namePresent.apply(person);
+    }
+
+    @Benchmark
+    public Validation<String> at() {
+        return validation.at(Person::name);
+    }
+
+    @Benchmark
+    public Validation<String> validateThatMethodReference() {
+        return validateThat(person.name(), Person::name).is(strings.notBlank());
+    }
+
+    @Benchmark
+    public Validation<String> validateThatResolved() {
+        return validateThat(person.name(), name).is(strings.notBlank());
+    }
+}
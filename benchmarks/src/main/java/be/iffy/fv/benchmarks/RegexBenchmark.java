@@ -0,0 +1,91 @@
+package be.iffy.fv.benchmarks;
+
+import be.iffy.fv.Rule;
+import be.iffy.fv.Validation;
+import be.iffy.fv.rules.text.LinearPattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import static be.iffy.fv.rules.text.StringRules.strings;
+
+/**
+ * The regular expression rules of {@link be.iffy.fv.rules.text.StringRules}: {@link Pattern} based, linear time with
+ * {@link LinearPattern} and {@link Pattern} with a step budget, on an e-mail address and on input that makes
+ * {@code (.*a){12}} backtrack. Valid input matches, invalid input does not.
+ * <p>
+ * Invalid input for {@code regexBacktracking} is exponential in the number of characters, the other two stay linear.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RegexBenchmark {
+
+    private static final String EMAIL = "[\\w.+-]+@[\\w-]+(\\.[\\w-]+)+";
+    private static final String BACKTRACKING = "(.*a){12}";
+    private static final int BUDGET = 10_000;
+
+    private static final Rule<String> regexEmail = strings.matches(Pattern.compile(EMAIL));
+    private static final Rule<String> linearEmail = strings.matches(LinearPattern.compile(EMAIL));
+    private static final Rule<String> withinEmail = strings.matchesWithin(EMAIL, BUDGET);
+    private static final Rule<String> regexBacktracking = strings.matches(Pattern.compile(BACKTRACKING));
+    private static final Rule<String> linearBacktracking = strings.matches(LinearPattern.compile(BACKTRACKING));
+    private static final Rule<String> withinBacktracking = strings.matchesWithin(BACKTRACKING, BUDGET);
+
+    @Param
+    public Inputs inputs;
+
+    private String email = "";
+    private String backtracking = "";
+
+    @Setup
+    public void setup() {
+        boolean valid = inputs == Inputs.VALID;
+        email = valid ? "jean.dupont+news@mail.example.be" : "jean.dupont+news@mail.example.be!";
+        backtracking = "a".repeat(16) + (valid ? "a" : "!");
+    }
+
+    @Benchmark
+    public Validation<String> regexEmail() {
+        return regexEmail.apply(email);
+    }
+
+    @Benchmark
+    public Validation<String> linearEmail() {
+        return linearEmail.apply(email);
+    }
+
+    @Benchmark
+    public Validation<String> withinEmail() {
+        return withinEmail.apply(email);
+    }
+
+    @Benchmark
+    public Validation<String> regexBacktracking() {
+        return regexBacktracking.apply(backtracking);
+    }
+
+    @Benchmark
+    public Validation<String> linearBacktracking() {
+        return linearBacktracking.apply(backtracking);
+    }
+
+    @Benchmark
+    public Validation<String> withinBacktracking() {
+        return withinBacktracking.apply(backtracking);
+    }
+}
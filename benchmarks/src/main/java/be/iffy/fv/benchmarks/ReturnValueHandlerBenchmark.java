@@ -0,0 +1,89 @@
+package be.iffy.fv.benchmarks;
+
+import be.iffy.fv.ErrorMessage;
+import be.iffy.fv.Validation;
+import be.iffy.fv.ValidationException;
+import be.iffy.fv.spring.DefaultValidationResponseFactory;
+import be.iffy.fv.spring.FvSpringWebProperties;
+import be.iffy.fv.spring.ValidationResponseFactory;
+import be.iffy.fv.spring.ValidationReturnValueHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A controller method returning {@code Validation<T>}, handled by {@link ValidationReturnValueHandler}.
+ * <p>
+ * A valid result is serialized to JSON by the delegate {@code @ResponseBody} processor, an invalid one is turned
+ * into a Problem Details response by the {@link DefaultValidationResponseFactory}, like the exception handler does.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReturnValueHandlerBenchmark {
+
+    public record PersonResponse(String name, int age) {
+    }
+
+    public static class Controller {
+        public Validation<PersonResponse> person() {
+            throw new UnsupportedOperationException("only used for its return type");
+        }
+    }
+
+    @Param
+    public Inputs inputs;
+
+    private ValidationReturnValueHandler handler;
+    private ValidationResponseFactory responseFactory;
+    private MethodParameter returnType;
+    private Validation<PersonResponse> returnValue;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        var adapter = new RequestMappingHandlerAdapter();
+        adapter.setMessageConverters(List.of(new JacksonJsonHttpMessageConverter()));
+        handler = new ValidationReturnValueHandler(adapter);
+        responseFactory = new DefaultValidationResponseFactory(FvSpringWebProperties.defaultProperties());
+        returnType = new MethodParameter(Controller.class.getMethod("person"), -1);
+        returnValue = inputs == Inputs.VALID
+                ? Validation.valid(new PersonResponse("Alice", 30))
+                : Validation.invalid(
+                        ErrorMessage.of("must.have.min.length", "min", 2).prepend(ErrorMessage.Path.of("name")),
+                        ErrorMessage.of("must.be.at.least", "min", 18).prepend(ErrorMessage.Path.of("age"))
+                );
+    }
+
+    @Benchmark
+    public Object handleReturnValue() throws Exception {
+        var request = new ServletWebRequest(new MockHttpServletRequest("GET", "/person"), new MockHttpServletResponse());
+        try {
+            handler.handleReturnValue(returnValue, returnType, new ModelAndViewContainer(), request);
+            return request;
+        } catch (ValidationException e) {
+            return responseFactory.create(e, new HttpHeaders(), request);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package be.iffy.fv.benchmarks;
+
+import be.iffy.fv.Rule;
+import be.iffy.fv.Validation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The basic {@link Rule} combinators: {@code of}, {@code and}, {@code all}, {@code any} and {@code then}.
+ * <p>
+ * The invalid input fails every individual rule, so the combinators that accumulate errors accumulate all of them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RuleBenchmark {
+
+    private static final Rule<String> minLength = Rule.of(s -> s.length() >= 3, "must.have.min.length");
+    private static final Rule<String> onlyLetters = Rule.of(s -> s.chars().allMatch(Character::isLetter), "must.only.contain.letters");
+    private static final Rule<String> lowerCase = Rule.of(s -> s.equals(s.toLowerCase(Locale.ROOT)), "must.be.lowercase");
+
+    private static final Rule<String> and = minLength.and(onlyLetters).and(lowerCase);
+    private static final Rule<String> all = Rule.all(minLength, onlyLetters, lowerCase);
+    private static final Rule<String> any = Rule.any(minLength, onlyLetters, lowerCase);
+    private static final Rule<String> then = minLength.then(onlyLetters).then(lowerCase);
+
+    @Param
+    public Inputs inputs;
+
+    private String value = "";
+
+    @Setup
+    public void setup() {
+        value = inputs == Inputs.VALID ? "alice" : "A1";
+    }
+
+    @Benchmark
+    public Validation<String> of() {
+        return minLength.apply(value);
+    }
+
+    @Benchmark
+    public Validation<String> and() {
+        return and.apply(value);
+    }
+
+    @Benchmark
+    public Validation<String> all() {
+        return all.apply(value);
+    }
+
+    @Benchmark
+    public Validation<String> any() {
+        return any.apply(value);
+    }
+
+    @Benchmark
+    public Validation<String> then() {
+        return then.apply(value);
+    }
+}
@@ -0,0 +1,62 @@
+package be.iffy.fv.benchmarks;
+
+import be.iffy.fv.Rule;
+import be.iffy.fv.Validation;
+import be.iffy.fv.Validations;
+import io.vavr.collection.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Sequencing many validations into one: {@link Validations#sequence(io.vavr.collection.Seq, String)} directly, and
+ * {@link be.iffy.fv.RuleLifter#toList()} which validates every element of a {@link java.util.List} first.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SequenceBenchmark {
+
+    private static final Rule<Integer> positive = Rule.of(i -> i > 0, "must.be.positive");
+    private static final Rule<java.util.List<Integer>> allPositive = positive.lift().toList();
+
+    @Param
+    public Inputs inputs;
+
+    @Param({"10", "1000", "1000000"})
+    public int size;
+
+    private java.util.List<Integer> values = java.util.List.of();
+    private List<Validation<Integer>> validations = List.empty();
+
+    @Setup
+    public void setup() {
+        int sign = inputs == Inputs.VALID ? 1 : -1;
+        values = IntStream.rangeClosed(1, size).map(i -> i * sign).boxed().toList();
+        validations = List.ofAll(values).map(positive::apply);
+    }
+
+    @Benchmark
+    public Validation<List<Integer>> sequence() {
+        return Validations.sequence(validations, "values");
+    }
+
+    @Benchmark
+    public Validation<java.util.List<Integer>> liftToList() {
+        return allPositive.apply(values);
+    }
+}
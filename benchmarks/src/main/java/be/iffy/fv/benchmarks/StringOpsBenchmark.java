@@ -0,0 +1,74 @@
+package be.iffy.fv.benchmarks;
+
+import be.iffy.fv.Transformation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import static be.iffy.fv.rules.text.StringOps.stringOps;
+
+/**
+ * A typical {@link be.iffy.fv.rules.text.StringOps} normalization pipeline, as built by
+ * {@code after(trim(), collapseWhitespace(), toLowercase(), stripDiacritics())}, on input that is already clean, on
+ * ASCII input that needs cleaning and on input with accents.
+ * <p>
+ * {@code separateSteps} chains the same steps as plain lambdas with a {@link String} per step, for reference.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StringOpsBenchmark {
+
+    private static final Transformation<String> fused = Transformation.sequence(
+        stringOps.trim(),
+        stringOps.collapseWhitespace(),
+        stringOps.toLowercase(),
+        stringOps.stripDiacritics()
+    );
+
+    private static final Transformation<String> separateSteps = Transformation.sequence(
+        String::trim,
+        s -> s.replaceAll("\\s+", " "),
+        s -> s.toLowerCase(Locale.ROOT),
+        s -> Normalizer.normalize(Normalizer.normalize(s, Normalizer.Form.NFD).replaceAll("\\p{M}+", ""), Normalizer.Form.NFC)
+    );
+
+    @Param({"clean", "ascii", "accents"})
+    public String input;
+
+    private String text = "";
+
+    @Setup
+    public void setup() {
+        text = switch (input) {
+            case "clean" -> "jean emile dupont, rue de la loi 16, brussels";
+            case "ascii" -> "  Jean  Emile\tDupont,  Rue de la Loi 16,\nBrussels ";
+            default -> "  Jean  Émile\tDupont,  Rue de la Loi 16,\nBruxelles Françoise ";
+        };
+    }
+
+    @Benchmark
+    public String separateSteps() {
+        return separateSteps.apply(text);
+    }
+
+    @Benchmark
+    public String fused() {
+        return fused.apply(text);
+    }
+}
@@ -0,0 +1,67 @@
+package be.iffy.fv.benchmarks;
+
+import be.iffy.fv.MappingRule;
+import be.iffy.fv.Validation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static be.iffy.fv.rules.text.StringRules.strings;
+
+/**
+ * The parsing {@link be.iffy.fv.rules.text.StringRules}: {@code asInteger}, {@code asUUID} and {@code asLocalDate}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StringParsingBenchmark {
+
+    private static final MappingRule<String, Integer> asInteger = strings.asInteger();
+    private static final MappingRule<String, UUID> asUUID = strings.asUUID();
+    private static final MappingRule<String, LocalDate> asLocalDate = strings.asLocalDate();
+
+    @Param
+    public Inputs inputs;
+
+    private String integer = "";
+    private String uuid = "";
+    private String localDate = "";
+
+    @Setup
+    public void setup() {
+        boolean valid = inputs == Inputs.VALID;
+        integer = valid ? "1234567" : "12e4567";
+        uuid = valid ? "123e4567-e89b-12d3-a456-426614174000" : "123e4567-e89b-12d3-a456-42661417400z";
+        localDate = valid ? "2024-02-29" : "2023-02-29";
+    }
+
+    @Benchmark
+    public Validation<Integer> asInteger() {
+        return asInteger.apply(integer);
+    }
+
+    @Benchmark
+    public Validation<UUID> asUUID() {
+        return asUUID.apply(uuid);
+    }
+
+    @Benchmark
+    public Validation<LocalDate> asLocalDate() {
+        return asLocalDate.apply(localDate);
+    }
+}
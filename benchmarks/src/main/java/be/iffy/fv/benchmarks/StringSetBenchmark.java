@@ -0,0 +1,114 @@
+package be.iffy.fv.benchmarks;
+
+import be.iffy.fv.MappingRule;
+import be.iffy.fv.Rule;
+import be.iffy.fv.Validation;
+import io.vavr.collection.HashSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import static be.iffy.fv.rules.text.StringRules.strings;
+
+/**
+ * The allowlist rules of {@link be.iffy.fv.rules.text.StringRules} on sets the size of a list of country codes and of
+ * a product catalog, against a plain vavr {@link HashSet} lookup. Valid input is in the set, invalid input is not.
+ * <p>
+ * {@code buildHashSet} and {@code buildIsIn} create the set and the rule, their allocation ({@code gc.alloc.rate.norm})
+ * is an upper bound of their memory footprint. {@code hashSetIgnoreCase} lower-cases the input to look it up in a set
+ * of lower-cased entries, the usual alternative to {@code isInIgnoreCase}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StringSetBenchmark {
+
+    private static final MappingRule<String, ChronoUnit> asEnum = strings.asEnum(ChronoUnit.class);
+    private static final MappingRule<String, ChronoUnit> asEnumIgnoreCase = strings.asEnumIgnoreCase(ChronoUnit.class);
+
+    @Param({"250", "10000"})
+    public int size;
+
+    @Param
+    public Inputs inputs;
+
+    private String[] codes = new String[0];
+    private HashSet<String> hashSet = HashSet.empty();
+    private HashSet<String> lowerCaseHashSet = HashSet.empty();
+    private Rule<String> isIn = Rule.notNull();
+    private Rule<String> isInIgnoreCase = Rule.notNull();
+    private String code = "";
+    private String mixedCaseCode = "";
+    private String unit = "";
+
+    @Setup
+    public void setup() {
+        codes = new String[size];
+        for (int i = 0; i < size; i++) {
+            codes[i] = "PRD-" + Integer.toString(i * 7919, 36).toUpperCase(Locale.ROOT);
+        }
+        hashSet = HashSet.of(codes);
+        lowerCaseHashSet = hashSet.map(s -> s.toLowerCase(Locale.ROOT));
+        isIn = strings.isIn(hashSet);
+        isInIgnoreCase = strings.isInIgnoreCase(hashSet);
+        boolean valid = inputs == Inputs.VALID;
+        code = valid ? codes[size / 2] : "PRD-UNKNOWN";
+        mixedCaseCode = valid ? "prd-" + code.substring(4) : "prd-unknown";
+        unit = valid ? "MILLENNIA" : "EONS";
+    }
+
+    @Benchmark
+    public boolean hashSetContains() {
+        return hashSet.contains(code);
+    }
+
+    @Benchmark
+    public Validation<String> isIn() {
+        return isIn.apply(code);
+    }
+
+    @Benchmark
+    public boolean hashSetIgnoreCase() {
+        return lowerCaseHashSet.contains(mixedCaseCode.toLowerCase(Locale.ROOT));
+    }
+
+    @Benchmark
+    public Validation<String> isInIgnoreCase() {
+        return isInIgnoreCase.apply(mixedCaseCode);
+    }
+
+    @Benchmark
+    public Validation<ChronoUnit> asEnum() {
+        return asEnum.apply(unit);
+    }
+
+    @Benchmark
+    public Validation<ChronoUnit> asEnumIgnoreCase() {
+        return asEnumIgnoreCase.apply(unit.toLowerCase(Locale.ROOT));
+    }
+
+    @Benchmark
+    public HashSet<String> buildHashSet() {
+        return HashSet.of(codes);
+    }
+
+    @Benchmark
+    public Rule<String> buildIsIn() {
+        return strings.isIn(hashSet);
+    }
+}
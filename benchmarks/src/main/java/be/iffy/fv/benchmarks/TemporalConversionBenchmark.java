@@ -0,0 +1,166 @@
+package be.iffy.fv.benchmarks;
+
+import be.iffy.fv.ErrorMessage;
+import be.iffy.fv.MappingRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static be.iffy.fv.rules.text.StringRules.strings;
+
+/**
+ * The date and time conversions of {@link be.iffy.fv.rules.text.StringRules} on batches of inputs where
+ * {@code invalidPercentage} of the inputs is garbage.
+ * <p>
+ * The {@code catching*} benchmarks are the exception based conversions with {@link DateTimeFormatter}, as built with
+ * {@link MappingRule#catching}, for reference. {@code catchingLocalDateFormats} tries each format in turn.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TemporalConversionBenchmark {
+
+    private static final int BATCH = 1024;
+
+    private static final DateTimeFormatter ISO = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final DateTimeFormatter EUROPEAN = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    private static final MappingRule<String, LocalDate> catchingLocalDate =
+        MappingRule.catching(LocalDate::parse, (input, e) -> ErrorMessage.of("must.be.localdate", "value", input));
+    private static final MappingRule<String, LocalDateTime> catchingLocalDateTime =
+        MappingRule.catching(LocalDateTime::parse, (input, e) -> ErrorMessage.of("must.be.localdatetime", "value", input));
+    private static final MappingRule<String, Instant> catchingInstant =
+        MappingRule.catching(Instant::parse, (input, e) -> ErrorMessage.of("must.be.instant", "value", input));
+    private static final MappingRule<String, OffsetDateTime> catchingOffsetDateTime =
+        MappingRule.catching(OffsetDateTime::parse, (input, e) -> ErrorMessage.of("must.be.offsetdatetime", "value", input));
+    private static final MappingRule<String, LocalDate> catchingLocalDateFormats =
+        MappingRule.catching(TemporalConversionBenchmark::parseEitherFormat, (input, e) -> ErrorMessage.of("must.be.localdate", "value", input));
+
+    private static final MappingRule<String, LocalDate> asLocalDate = strings.asLocalDate();
+    private static final MappingRule<String, LocalDateTime> asLocalDateTime = strings.asLocalDateTime();
+    private static final MappingRule<String, Instant> asInstant = strings.asInstant();
+    private static final MappingRule<String, OffsetDateTime> asOffsetDateTime = strings.asOffsetDateTime();
+    private static final MappingRule<String, LocalDate> asLocalDateFormats = strings.asLocalDate("yyyy-MM-dd", "dd/MM/yyyy");
+
+    private static final String[] GARBAGE = {
+        "", "tomorrow", "2023-02-29", "2023-13-01", "2023-10-27T25:00:00Z", "27.10.2023", "1698401730", "<script>",
+        "2023-10-27 10:15:30", "' OR 1=1 --"
+    };
+
+    @Param({"50", "90", "100"})
+    public int invalidPercentage;
+
+    private String[] dates = new String[0];
+    private String[] dateTimes = new String[0];
+    private String[] instants = new String[0];
+    private String[] offsetDateTimes = new String[0];
+    private String[] mixedDates = new String[0];
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        dates = new String[BATCH];
+        dateTimes = new String[BATCH];
+        instants = new String[BATCH];
+        offsetDateTimes = new String[BATCH];
+        mixedDates = new String[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            boolean invalid = random.nextInt(100) < invalidPercentage;
+            String garbage = GARBAGE[random.nextInt(GARBAGE.length)];
+            LocalDateTime dateTime = LocalDateTime.of(1970, 1, 1, 0, 0)
+                .plusSeconds(random.nextInt(2_000_000_000))
+                .plusNanos(random.nextInt(1000) * 1_000_000L);
+            ZoneOffset offset = ZoneOffset.ofHours(random.nextInt(25) - 12);
+            dates[i] = invalid ? garbage : dateTime.toLocalDate().toString();
+            dateTimes[i] = invalid ? garbage : dateTime.toString();
+            instants[i] = invalid ? garbage : dateTime.toInstant(ZoneOffset.UTC).toString();
+            offsetDateTimes[i] = invalid ? garbage : dateTime.atOffset(offset).toString();
+            mixedDates[i] = invalid ? garbage : (random.nextBoolean() ? ISO : EUROPEAN).format(dateTime);
+        }
+    }
+
+    private static LocalDate parseEitherFormat(String input) {
+        try {
+            return LocalDate.parse(input, ISO);
+        } catch (RuntimeException e) {
+            return LocalDate.parse(input, EUROPEAN);
+        }
+    }
+
+    private static <R> void convert(MappingRule<String, R> rule, String[] inputs, Blackhole blackhole) {
+        for (String input : inputs) {
+            blackhole.consume(rule.apply(input));
+        }
+    }
+
+    @Benchmark
+    public void catchingLocalDate(Blackhole blackhole) {
+        convert(catchingLocalDate, dates, blackhole);
+    }
+
+    @Benchmark
+    public void asLocalDate(Blackhole blackhole) {
+        convert(asLocalDate, dates, blackhole);
+    }
+
+    @Benchmark
+    public void catchingLocalDateTime(Blackhole blackhole) {
+        convert(catchingLocalDateTime, dateTimes, blackhole);
+    }
+
+    @Benchmark
+    public void asLocalDateTime(Blackhole blackhole) {
+        convert(asLocalDateTime, dateTimes, blackhole);
+    }
+
+    @Benchmark
+    public void catchingInstant(Blackhole blackhole) {
+        convert(catchingInstant, instants, blackhole);
+    }
+
+    @Benchmark
+    public void asInstant(Blackhole blackhole) {
+        convert(asInstant, instants, blackhole);
+    }
+
+    @Benchmark
+    public void catchingOffsetDateTime(Blackhole blackhole) {
+        convert(catchingOffsetDateTime, offsetDateTimes, blackhole);
+    }
+
+    @Benchmark
+    public void asOffsetDateTime(Blackhole blackhole) {
+        convert(asOffsetDateTime, offsetDateTimes, blackhole);
+    }
+
+    @Benchmark
+    public void catchingLocalDateFormats(Blackhole blackhole) {
+        convert(catchingLocalDateFormats, mixedDates, blackhole);
+    }
+
+    @Benchmark
+    public void asLocalDateFormats(Blackhole blackhole) {
+        convert(asLocalDateFormats, mixedDates, blackhole);
+    }
+}
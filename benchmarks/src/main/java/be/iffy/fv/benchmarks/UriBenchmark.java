@@ -0,0 +1,137 @@
+package be.iffy.fv.benchmarks;
+
+import be.iffy.fv.ErrorMessage;
+import be.iffy.fv.MappingRule;
+import be.iffy.fv.Rule;
+import io.vavr.control.Try;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.net.URI;
+import java.net.URL;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static be.iffy.fv.rules.text.StringRules.strings;
+
+/**
+ * The URI and URL conversions and the host name and IP address rules of {@link be.iffy.fv.rules.text.StringRules}, on
+ * batches of links where {@code invalidPercentage} of the inputs is malformed, like the links in scraped or user
+ * submitted content.
+ * <p>
+ * {@code tryURI} and {@code tryURL} are the exception based conversions, for reference.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UriBenchmark {
+
+    private static final int BATCH = 1024;
+
+    private static final MappingRule<String, URI> tryURI =
+        MappingRule.catching(URI::create, (input, e) -> ErrorMessage.of("must.be.uri", "value", input));
+    private static final MappingRule<String, URL> tryURL =
+        MappingRule.fromTry(input -> Try.of(() -> URI.create(input).toURL()), (input, e) -> ErrorMessage.of("must.be.url", "value", input));
+    private static final MappingRule<String, URI> asURI = strings.asURI();
+    private static final MappingRule<String, URL> asURL = strings.asURL();
+    private static final Rule<String> hostname = strings.hostname();
+    private static final Rule<String> ipv4 = strings.ipv4();
+    private static final Rule<String> ipv6 = strings.ipv6();
+
+    private static final String[] LINKS = {
+        "https://www.example.com/", "https://example.com/search?q=validation&page=2#results",
+        "http://user@intranet:8080/app/index.html", "https://[2001:db8::1]/status", "http://192.168.1.20:9000/metrics"
+    };
+    private static final String[] GARBAGE = {
+        "", "not a link", "http://exa mple.com", "https://example.com/%zz", "http://[::1", "<a href=x>", "www.example.com",
+        "http://host:port/", "' OR 1=1 --", "https://example.com/\"onclick=alert(1)"
+    };
+    private static final String[] HOSTS = {"www.example.com", "localhost", "intranet.corp.example.be"};
+    private static final String[] IPV4 = {"127.0.0.1", "192.168.1.20", "10.0.0.255"};
+    private static final String[] IPV6 = {"::1", "2001:db8::1", "fe80::1:2:3:4"};
+
+    @Param({"50", "90", "100"})
+    public int invalidPercentage;
+
+    private String[] links = new String[0];
+    private String[] hosts = new String[0];
+    private String[] ipv4s = new String[0];
+    private String[] ipv6s = new String[0];
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        links = new String[BATCH];
+        hosts = new String[BATCH];
+        ipv4s = new String[BATCH];
+        ipv6s = new String[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            boolean invalid = random.nextInt(100) < invalidPercentage;
+            String garbage = GARBAGE[random.nextInt(GARBAGE.length)];
+            links[i] = invalid ? garbage : LINKS[random.nextInt(LINKS.length)];
+            hosts[i] = invalid ? garbage : HOSTS[random.nextInt(HOSTS.length)];
+            ipv4s[i] = invalid ? garbage : IPV4[random.nextInt(IPV4.length)];
+            ipv6s[i] = invalid ? garbage : IPV6[random.nextInt(IPV6.length)];
+        }
+    }
+
+    private static void validate(Rule<String> rule, String[] inputs, Blackhole blackhole) {
+        for (String input : inputs) {
+            blackhole.consume(rule.apply(input));
+        }
+    }
+
+    private static <R> void convert(MappingRule<String, R> rule, String[] inputs, Blackhole blackhole) {
+        for (String input : inputs) {
+            blackhole.consume(rule.apply(input));
+        }
+    }
+
+    @Benchmark
+    public void tryURI(Blackhole blackhole) {
+        convert(tryURI, links, blackhole);
+    }
+
+    @Benchmark
+    public void asURI(Blackhole blackhole) {
+        convert(asURI, links, blackhole);
+    }
+
+    @Benchmark
+    public void tryURL(Blackhole blackhole) {
+        convert(tryURL, links, blackhole);
+    }
+
+    @Benchmark
+    public void asURL(Blackhole blackhole) {
+        convert(asURL, links, blackhole);
+    }
+
+    @Benchmark
+    public void hostname(Blackhole blackhole) {
+        validate(hostname, hosts, blackhole);
+    }
+
+    @Benchmark
+    public void ipv4(Blackhole blackhole) {
+        validate(ipv4, ipv4s, blackhole);
+    }
+
+    @Benchmark
+    public void ipv6(Blackhole blackhole) {
+        validate(ipv6, ipv6s, blackhole);
+    }
+}
@@ -0,0 +1,61 @@
+package be.iffy.fv.benchmarks;
+
+import be.iffy.fv.Rule;
+import be.iffy.fv.Validation;
+import be.iffy.fv.ValidationContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Validating a large list with {@link be.iffy.fv.RuleLifter#toList()}: unbounded, and within a
+ * {@link ValidationContext} that stops at 100 errors or after a second.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationContextBenchmark {
+
+    private static final Rule<Integer> positive = Rule.of(i -> i > 0, "must.be.positive");
+    private static final Rule<java.util.List<Integer>> allPositive = positive.lift().toList();
+    private static final ValidationContext bounded = ValidationContext.maxErrors(100).withTimeout(Duration.ofSeconds(1));
+
+    @Param
+    public Inputs inputs;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private java.util.List<Integer> values = java.util.List.of();
+
+    @Setup
+    public void setup() {
+        int sign = inputs == Inputs.VALID ? 1 : -1;
+        values = IntStream.rangeClosed(1, size).map(i -> i * sign).boxed().toList();
+    }
+
+    @Benchmark
+    public Validation<java.util.List<Integer>> unbounded() {
+        return allPositive.apply(values);
+    }
+
+    @Benchmark
+    public Validation<java.util.List<Integer>> bounded() {
+        return bounded.run(() -> allPositive.apply(values));
+    }
+}
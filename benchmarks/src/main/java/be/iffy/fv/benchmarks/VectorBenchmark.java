@@ -0,0 +1,104 @@
+package be.iffy.fv.benchmarks;
+
+import be.iffy.fv.Rule;
+import be.iffy.fv.Validation;
+import be.iffy.fv.vector.DoubleArrayRule;
+import be.iffy.fv.vector.IntArrayRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The range rules of the {@code vector} module on a telemetry frame where {@code invalidPercentage} of the samples is
+ * out of range: {@code liftToArray} is the element rule lifted with {@code lift().toArray()}, the {@code scalar}
+ * benchmarks test one element at a time and the {@code vector} benchmarks a vector of elements at a time.
+ * {@code offending} only finds the failing samples, {@code apply} also builds their errors.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Benchmark)
+public class VectorBenchmark {
+
+    private static final IntArrayRule vectorInts = IntArrayRule.nonNegative().and(IntArrayRule.max(4095));
+    private static final IntArrayRule scalarInts = vectorInts.scalar();
+    private static final Rule<int[]> liftedInts = vectorInts.elementRule().lift().toArray();
+    private static final DoubleArrayRule vectorDoubles = DoubleArrayRule.finite().and(DoubleArrayRule.between(-1.0, 1.0));
+    private static final DoubleArrayRule scalarDoubles = vectorDoubles.scalar();
+    private static final Rule<double[]> liftedDoubles = vectorDoubles.elementRule().lift().toArray();
+
+    @Param({"0", "1"})
+    public int invalidPercentage;
+
+    @Param({"1000", "10000000"})
+    public int size;
+
+    private int[] ints = new int[0];
+    private double[] doubles = new double[0];
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        ints = new int[size];
+        doubles = new double[size];
+        for (int i = 0; i < size; i++) {
+            boolean invalid = random.nextInt(100) < invalidPercentage;
+            ints[i] = invalid ? -1 - random.nextInt(100) : random.nextInt(4096);
+            doubles[i] = invalid ? Double.NaN : random.nextDouble(-1.0, 1.0);
+        }
+    }
+
+    @Benchmark
+    public Validation<int[]> liftToArrayInts() {
+        return liftedInts.apply(ints);
+    }
+
+    @Benchmark
+    public BitSet scalarOffendingInts() {
+        return scalarInts.offending(ints);
+    }
+
+    @Benchmark
+    public BitSet vectorOffendingInts() {
+        return vectorInts.offending(ints);
+    }
+
+    @Benchmark
+    public Validation<int[]> vectorApplyInts() {
+        return vectorInts.apply(ints);
+    }
+
+    @Benchmark
+    public Validation<double[]> liftToArrayDoubles() {
+        return liftedDoubles.apply(doubles);
+    }
+
+    @Benchmark
+    public BitSet scalarOffendingDoubles() {
+        return scalarDoubles.offending(doubles);
+    }
+
+    @Benchmark
+    public BitSet vectorOffendingDoubles() {
+        return vectorDoubles.offending(doubles);
+    }
+
+    @Benchmark
+    public Validation<double[]> vectorApplyDoubles() {
+        return vectorDoubles.apply(doubles);
+    }
+}
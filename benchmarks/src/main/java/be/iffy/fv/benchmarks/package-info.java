@@ -0,0 +1,10 @@
+/**
+ * JMH benchmarks for the FV hot paths.
+ *
+ * <p>Run {@code mvn -pl benchmarks -am package -DskipTests} and then
+ * {@code java -jar benchmarks/target/benchmarks.jar}; see {@link be.iffy.fv.benchmarks.BenchmarkRunner}.
+ */
+@NullMarked
+package be.iffy.fv.benchmarks;
+
+import org.jspecify.annotations.NullMarked;
@@ -0,0 +1,151 @@
+package be.iffy.fv;
+
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * The asynchronous counterpart of a {@link MappingRule}: maps an input of type T to an output of type R, completing a
+ * {@link CompletionStage} with the {@link Validation} of the output, e.g. to look up an entity by its id.
+ *
+ * @see AsyncRule
+ */
+@FunctionalInterface
+public interface AsyncMappingRule<T, R> extends RuleLike<T, CompletionStage<Validation<R>>> {
+
+    /**
+     * Starts processing the input, transforming it from type T to type R.
+     *
+     * @param value the value to be processed by this {@link AsyncMappingRule}
+     * @return a {@link CompletionStage} that completes with the {@link Validation} of the transformed value.
+     */
+    @Override
+    @Contract(pure = true)
+    CompletionStage<Validation<R>> apply(@Nullable T value);
+
+    //region factory methods
+
+    /**
+     * Creates an explicit {@link AsyncMappingRule} from a function that has the same signature.
+     */
+    static <T, R> AsyncMappingRule<T, R> of(RuleLike<? super T, ? extends CompletionStage<? extends Validation<? extends R>>> asyncFunction) {
+        Objects.requireNonNull(asyncFunction, "asyncFunction cannot be null");
+        if (asyncFunction instanceof AsyncMappingRule) {
+            @SuppressWarnings("unchecked")
+            AsyncMappingRule<T, R> alreadyRule = (AsyncMappingRule<T, R>) asyncFunction;
+            return alreadyRule;
+        }
+        return input -> {
+            if (input == null) {
+                return AsyncSupport.notNull();
+            }
+            return AsyncSupport.future(asyncFunction.apply(input));
+        };
+    }
+
+    /**
+     * Adapts a synchronous mapping rule: the returned stage is already completed when {@code apply} returns.
+     * Use {@link #blocking(RuleLike, Executor)} instead for a rule that blocks while waiting on I/O.
+     */
+    static <T, R> AsyncMappingRule<T, R> from(RuleLike<? super T, ? extends Validation<? extends R>> rule) {
+        MappingRule<T, R> sync = MappingRule.of(rule);
+        return input -> CompletableFuture.completedFuture(sync.apply(input));
+    }
+
+    /**
+     * Adapts a synchronous mapping rule that blocks, e.g. one using a JDBC connection, by applying it on the executor.
+     * With {@code Executors.newVirtualThreadPerTaskExecutor()}, every application gets its own virtual thread.
+     */
+    static <T, R> AsyncMappingRule<T, R> blocking(RuleLike<? super T, ? extends Validation<? extends R>> rule, Executor executor) {
+        Objects.requireNonNull(executor, "executor cannot be null");
+        MappingRule<T, R> sync = MappingRule.of(rule);
+        return input -> CompletableFuture.supplyAsync(() -> sync.apply(input), executor);
+    }
+
+    //endregion
+
+    //region combinators
+
+    /**
+     * Pass the result of this rule to the given asynchronous function, once this rule completed successfully.
+     * <p>
+     * Short-circuiting, not accumulating.
+     */
+    default <Z> AsyncMappingRule<T, Z> then(RuleLike<? super R, ? extends CompletionStage<? extends Validation<? extends Z>>> asyncFunction) {
+        Objects.requireNonNull(asyncFunction, "asyncFunction cannot be null");
+        return input -> AsyncSupport.<R>future(apply(input)).thenCompose(validation -> {
+            if (validation instanceof Validation.Valid<R>(var value)) {
+                return AsyncSupport.<Z>future(asyncFunction.apply(value));
+            }
+            // an Invalid holds no value, only its type parameter changes
+            @SuppressWarnings("unchecked")
+            Validation<Z> invalid = (Validation<Z>) (Validation<?>) validation;
+            return CompletableFuture.completedFuture(invalid);
+        });
+    }
+
+    /**
+     * Shorthand for AsyncRuleCombiners.combine(this, other);
+     */
+    default <R2> AsyncRuleCombiners.CombineBuilder2<T, R, R2> combine(RuleLike<? super T, ? extends CompletionStage<Validation<R2>>> other) {
+        return AsyncRuleCombiners.combine(this, other);
+    }
+
+    //endregion
+
+    //region modifiers
+
+    /**
+     * Maps the valid result of this rule.
+     */
+    default <Z> AsyncMappingRule<T, Z> map(Function<? super R, ? extends Z> mapper) {
+        Objects.requireNonNull(mapper, "mapper cannot be null");
+        return input -> AsyncSupport.<R>future(apply(input)).thenApply(validation -> validation.map(mapper));
+    }
+
+    /**
+     * Fails with error key {@code must.complete.within} and parameter {@code timeout} when the rule did not complete
+     * within the timeout.
+     * <p>
+     * The work behind the rule is not interrupted, only the returned stage completes early. Bound the I/O itself as
+     * well (e.g. with a query or socket timeout) to free the resources it holds.
+     *
+     * @throws IllegalArgumentException if the timeout is not positive.
+     */
+    default AsyncMappingRule<T, R> withTimeout(Duration timeout) {
+        AsyncSupport.requirePositive(timeout);
+        return withTimeout(timeout, AsyncSupport.timeoutError(timeout));
+    }
+
+    /**
+     * Fails with the given error message when the rule did not complete within the timeout.
+     *
+     * @throws IllegalArgumentException if the timeout is not positive.
+     * @see #withTimeout(Duration)
+     */
+    default AsyncMappingRule<T, R> withTimeout(Duration timeout, ErrorMessage errorMessage) {
+        AsyncSupport.requirePositive(timeout);
+        Objects.requireNonNull(errorMessage, "errorMessage cannot be null");
+        return input -> AsyncSupport.withTimeout(apply(input), timeout, errorMessage);
+    }
+
+    //endregion
+
+    //region conversions
+
+    /**
+     * A synchronous {@link MappingRule} that waits for this rule to complete.
+     * If the stage completes exceptionally, its exception is rethrown.
+     */
+    default MappingRule<T, R> toMappingRule() {
+        return MappingRule.of(input -> AsyncSupport.join(apply(input)));
+    }
+
+    //endregion
+}
@@ -0,0 +1,214 @@
+package be.iffy.fv;
+
+import org.jetbrains.annotations.Contract;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * The asynchronous counterpart of a {@link Rule}, for checks that wait on I/O: a database lookup, a remote service, ...
+ * Instead of a {@link Validation}, it returns a {@link CompletionStage} that completes with one.
+ * <p>
+ * The same contract as that of a {@link Rule} applies: the value in a {@link Validation.Valid} is the input itself, and a
+ * rule created with the {@code AsyncRule.of(...)} factories never passes null to the underlying function.
+ * <p>
+ * The accumulating combinators, {@link #and(AsyncRule)} and {@link #all(AsyncRule[])}, start every rule before waiting
+ * for any of them, so independent lookups run concurrently and the total time is that of the slowest one. Errors are
+ * still reported in the order of the rules. A stage that completes exceptionally makes the combined stage complete with
+ * the same exception.
+ * <p>
+ * None of the combinators block a thread while waiting, so the rules can be applied from virtual threads or from an
+ * event loop alike. Use {@link #toRule()} to wait for the result where a synchronous {@link Rule} is needed.
+ */
+@FunctionalInterface
+public interface AsyncRule<T> extends RuleLike<T, CompletionStage<Validation<T>>> {
+
+    /**
+     * Starts testing the given value against the rule. If the value passes the test, the stage completes with a
+     * {@link Validation.Valid} containing the exact same instance.
+     *
+     * @param value the value to be validated.
+     * @return a {@link CompletionStage} that completes with the {@link Validation} of the value.
+     */
+    @Override
+    @Contract(pure = true)
+    CompletionStage<Validation<T>> apply(T value);
+
+    //region Factory methods
+
+    /**
+     * Make an {@code AsyncRule<T>} from a function that shares the same signature.
+     * Rule semantics will be enforced, so the function won't be able to return another value.
+     */
+    static <T> AsyncRule<T> of(RuleLike<? super T, ? extends CompletionStage<? extends Validation<? extends T>>> asyncFunction) {
+        Objects.requireNonNull(asyncFunction, "asyncFunction cannot be null");
+
+        if (asyncFunction instanceof AsyncRule) {
+            @SuppressWarnings("unchecked")
+            AsyncRule<T> alreadyRule = (AsyncRule<T>) asyncFunction;
+            return alreadyRule;
+        }
+
+        return input -> {
+            if (input == null) {
+                return AsyncSupport.notNull();
+            }
+            return AsyncSupport.<T>future(asyncFunction.apply(input)).thenApply(validation -> validation.mapTo(input));
+        };
+    }
+
+    /**
+     * Creates an {@link AsyncRule} from the given asynchronous predicate and error message key.
+     * If the predicate completes with {@code true}, the value is considered {@link Validation.Valid}.
+     */
+    static <T> AsyncRule<T> of(Function<? super T, ? extends CompletionStage<Boolean>> predicate, String errorKey) {
+        return of(predicate, ErrorMessage.of(errorKey));
+    }
+
+    /**
+     * Creates an {@link AsyncRule} from the given asynchronous predicate and {@link ErrorMessage}.
+     * If the predicate completes with {@code true}, the value is considered {@link Validation.Valid}.
+     */
+    static <T> AsyncRule<T> of(Function<? super T, ? extends CompletionStage<Boolean>> predicate, ErrorMessage errorMessage) {
+        Objects.requireNonNull(predicate, "predicate cannot be null");
+        Objects.requireNonNull(errorMessage, "errorMessage cannot be null");
+        return input -> {
+            if (input == null) {
+                return AsyncSupport.notNull();
+            }
+            CompletionStage<Boolean> test = Objects.requireNonNull(predicate.apply(input), "predicate cannot return null CompletionStage");
+            return test.thenApply(passed -> Boolean.TRUE.equals(passed) ? Validation.valid(input) : Validation.invalid(errorMessage));
+        };
+    }
+
+    /**
+     * Adapts a synchronous rule: the returned stage is already completed when {@code apply} returns.
+     * Use {@link #blocking(RuleLike, Executor)} instead for a rule that blocks while waiting on I/O.
+     */
+    static <T> AsyncRule<T> from(RuleLike<? super T, ? extends Validation<? extends T>> rule) {
+        Rule<T> sync = Rule.of(rule);
+        return input -> CompletableFuture.completedFuture(sync.apply(input));
+    }
+
+    /**
+     * Adapts a synchronous rule that blocks, e.g. one using a JDBC connection, by applying it on the executor.
+     * With {@code Executors.newVirtualThreadPerTaskExecutor()}, every application gets its own virtual thread.
+     */
+    static <T> AsyncRule<T> blocking(RuleLike<? super T, ? extends Validation<? extends T>> rule, Executor executor) {
+        Objects.requireNonNull(executor, "executor cannot be null");
+        Rule<T> sync = Rule.of(rule);
+        return input -> CompletableFuture.supplyAsync(() -> sync.apply(input), executor);
+    }
+
+    //endregion
+
+    //region combinators
+
+    /**
+     * Composes this rule with another rule using "non-short-circuiting and" logic.
+     * Both rules are started before waiting for either, so they run concurrently.
+     * If both rules fail, their errors are combined, those of this rule first.
+     * <p>
+     * Non-short-circuiting, accumulating.
+     */
+    default AsyncRule<T> and(AsyncRule<? super T> other) {
+        Objects.requireNonNull(other, "other rule cannot be null");
+        return input -> AsyncSupport.all(List.of(apply(input), other.apply(input)))
+                .thenApply(validations -> AsyncSupport.accumulate(validations, input));
+    }
+
+    /**
+     * Composes multiple rules using "non-short-circuiting and" logic.
+     * All rules are started before waiting for any of them, so they run concurrently.
+     * Errors of all failing rules are combined, in the order of the rules.
+     * If no rules are passed, the value is considered to be valid if it is non-null.
+     * <p>
+     * Non-short-circuiting, accumulating.
+     */
+    @SafeVarargs
+    static <T> AsyncRule<T> all(AsyncRule<? super T>... rules) {
+        Objects.requireNonNull(rules, "rules cannot be null");
+        ArrayList<AsyncRule<? super T>> checked = new ArrayList<>(rules.length);
+        for (AsyncRule<? super T> rule : rules) {
+            checked.add(Objects.requireNonNull(rule, "rule cannot be null"));
+        }
+
+        return of((T input) -> {
+            ArrayList<CompletionStage<? extends Validation<?>>> stages = new ArrayList<>(checked.size());
+            for (AsyncRule<? super T> rule : checked) {
+                stages.add(rule.apply(input));
+            }
+            return AsyncSupport.all(stages).thenApply(validations -> AsyncSupport.accumulate(validations, input));
+        });
+    }
+
+    /**
+     * Composes this rule with another rule using "short-circuiting and" logic.
+     * The other rule is only started once this rule completed successfully.
+     * <p>
+     * Short-circuiting, not accumulating.
+     */
+    default AsyncRule<T> then(AsyncRule<? super T> other) {
+        Objects.requireNonNull(other, "other rule cannot be null");
+        return input -> AsyncSupport.<T>future(apply(input)).thenCompose(validation -> validation.isValid()
+                // map back to original input so we're protected against other returning an incompatible value
+                ? AsyncSupport.future(other.apply(input)).thenApply(result -> result.mapTo(input))
+                : CompletableFuture.completedFuture(validation));
+    }
+
+    /**
+     * Pass the result of this rule to the given asynchronous mapping function, once this rule completed successfully.
+     * <p>
+     * Short-circuiting, not accumulating.
+     */
+    default <R> AsyncMappingRule<T, R> then(RuleLike<? super T, ? extends CompletionStage<? extends Validation<? extends R>>> asyncFunction) {
+        Objects.requireNonNull(asyncFunction, "asyncFunction cannot be null");
+        return AsyncMappingRule.<T, T>of(this).then(asyncFunction);
+    }
+
+    /**
+     * Fails with error key {@code must.complete.within} and parameter {@code timeout} when the rule did not complete
+     * within the timeout.
+     * <p>
+     * The work behind the rule is not interrupted, only the returned stage completes early. Bound the I/O itself as
+     * well (e.g. with a query or socket timeout) to free the resources it holds.
+     *
+     * @throws IllegalArgumentException if the timeout is not positive.
+     */
+    default AsyncRule<T> withTimeout(Duration timeout) {
+        AsyncSupport.requirePositive(timeout);
+        return withTimeout(timeout, AsyncSupport.timeoutError(timeout));
+    }
+
+    /**
+     * Fails with the given error message when the rule did not complete within the timeout.
+     *
+     * @throws IllegalArgumentException if the timeout is not positive.
+     * @see #withTimeout(Duration)
+     */
+    default AsyncRule<T> withTimeout(Duration timeout, ErrorMessage errorMessage) {
+        AsyncSupport.requirePositive(timeout);
+        Objects.requireNonNull(errorMessage, "errorMessage cannot be null");
+        return input -> AsyncSupport.withTimeout(apply(input), timeout, errorMessage);
+    }
+
+    //endregion
+
+    //region conversions
+
+    /**
+     * A synchronous {@link Rule} that waits for this rule to complete.
+     * If the stage completes exceptionally, its exception is rethrown.
+     */
+    default Rule<T> toRule() {
+        return Rule.of(input -> AsyncSupport.join(apply(input)));
+    }
+
+    //endregion
+}
@@ -0,0 +1,85 @@
+package be.iffy.fv;
+
+import io.vavr.Function2;
+import io.vavr.Function3;
+import io.vavr.Function4;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * The asynchronous counterpart of {@link RuleCombiners}: all rules are started before waiting for any of them, so they
+ * run concurrently, and the errors of the failing rules are accumulated in the order of the rules.
+ */
+public class AsyncRuleCombiners {
+
+    private AsyncRuleCombiners() {}
+
+    /**
+     * Combines two asynchronous mapping rules into a builder that can map all valid values or accumulate all errors.
+     */
+    public static <T, R1, R2> CombineBuilder2<T, R1, R2> combine(RuleLike<? super T, ? extends CompletionStage<Validation<R1>>> r1, RuleLike<? super T, ? extends CompletionStage<Validation<R2>>> r2) {
+        return new CombineBuilder2<>(r1, r2);
+    }
+
+    /**
+     * Combines three asynchronous mapping rules into a builder that can map all valid values or accumulate all errors.
+     */
+    public static <T, R1, R2, R3> CombineBuilder3<T, R1, R2, R3> combine(RuleLike<? super T, ? extends CompletionStage<Validation<R1>>> r1, RuleLike<? super T, ? extends CompletionStage<Validation<R2>>> r2, RuleLike<? super T, ? extends CompletionStage<Validation<R3>>> r3) {
+        return new CombineBuilder3<>(r1, r2, r3);
+    }
+
+    /**
+     * Combines four asynchronous mapping rules into a builder that can map all valid values or accumulate all errors.
+     */
+    public static <T, R1, R2, R3, R4> CombineBuilder4<T, R1, R2, R3, R4> combine(RuleLike<? super T, ? extends CompletionStage<Validation<R1>>> r1, RuleLike<? super T, ? extends CompletionStage<Validation<R2>>> r2, RuleLike<? super T, ? extends CompletionStage<Validation<R3>>> r3, RuleLike<? super T, ? extends CompletionStage<Validation<R4>>> r4) {
+        return new CombineBuilder4<>(r1, r2, r3, r4);
+    }
+
+    public record CombineBuilder2<T, R1, R2>(RuleLike<? super T, ? extends CompletionStage<Validation<R1>>> r1, RuleLike<? super T, ? extends CompletionStage<Validation<R2>>> r2) {
+        public <R> AsyncMappingRule<T, R> map(Function2<? super R1, ? super R2, ? extends R> mapper) {
+            return input -> {
+                CompletableFuture<Validation<R1>> v1 = AsyncSupport.future(r1.apply(input));
+                CompletableFuture<Validation<R2>> v2 = AsyncSupport.future(r2.apply(input));
+                return v1.thenCombine(v2, (first, second) -> Validations.combine(first, second).map(mapper));
+            };
+        }
+
+        public <R> AsyncMappingRule<T, R> into(Function2<? super R1, ? super R2, ? extends R> mapper) {
+            return map(mapper);
+        }
+    }
+
+    public record CombineBuilder3<T, R1, R2, R3>(RuleLike<? super T, ? extends CompletionStage<Validation<R1>>> r1, RuleLike<? super T, ? extends CompletionStage<Validation<R2>>> r2, RuleLike<? super T, ? extends CompletionStage<Validation<R3>>> r3) {
+        public <R> AsyncMappingRule<T, R> map(Function3<? super R1, ? super R2, ? super R3, ? extends R> mapper) {
+            return input -> {
+                CompletableFuture<Validation<R1>> v1 = AsyncSupport.future(r1.apply(input));
+                CompletableFuture<Validation<R2>> v2 = AsyncSupport.future(r2.apply(input));
+                CompletableFuture<Validation<R3>> v3 = AsyncSupport.future(r3.apply(input));
+                return CompletableFuture.allOf(v1, v2, v3)
+                        .thenApply(ignored -> Validations.combine(v1.join(), v2.join(), v3.join()).map(mapper));
+            };
+        }
+
+        public <R> AsyncMappingRule<T, R> into(Function3<? super R1, ? super R2, ? super R3, ? extends R> mapper) {
+            return map(mapper);
+        }
+    }
+
+    public record CombineBuilder4<T, R1, R2, R3, R4>(RuleLike<? super T, ? extends CompletionStage<Validation<R1>>> r1, RuleLike<? super T, ? extends CompletionStage<Validation<R2>>> r2, RuleLike<? super T, ? extends CompletionStage<Validation<R3>>> r3, RuleLike<? super T, ? extends CompletionStage<Validation<R4>>> r4) {
+        public <R> AsyncMappingRule<T, R> map(Function4<? super R1, ? super R2, ? super R3, ? super R4, ? extends R> mapper) {
+            return input -> {
+                CompletableFuture<Validation<R1>> v1 = AsyncSupport.future(r1.apply(input));
+                CompletableFuture<Validation<R2>> v2 = AsyncSupport.future(r2.apply(input));
+                CompletableFuture<Validation<R3>> v3 = AsyncSupport.future(r3.apply(input));
+                CompletableFuture<Validation<R4>> v4 = AsyncSupport.future(r4.apply(input));
+                return CompletableFuture.allOf(v1, v2, v3, v4)
+                        .thenApply(ignored -> Validations.combine(v1.join(), v2.join(), v3.join(), v4.join()).map(mapper));
+            };
+        }
+
+        public <R> AsyncMappingRule<T, R> into(Function4<? super R1, ? super R2, ? super R3, ? super R4, ? extends R> mapper) {
+            return map(mapper);
+        }
+    }
+}
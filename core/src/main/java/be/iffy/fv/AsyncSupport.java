@@ -0,0 +1,92 @@
+package be.iffy.fv;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The plumbing shared by {@link AsyncRule} and {@link AsyncMappingRule}.
+ */
+final class AsyncSupport {
+
+    static final String TIMEOUT_KEY = "must.complete.within";
+
+    private AsyncSupport() {
+    }
+
+    static <R> CompletableFuture<Validation<R>> notNull() {
+        return CompletableFuture.completedFuture(Validation.Invalid.notNull());
+    }
+
+    /**
+     * The stage of an async rule, as a {@link CompletableFuture} that completing does not affect the stage itself.
+     */
+    static <R> CompletableFuture<Validation<R>> future(CompletionStage<? extends Validation<? extends R>> stage) {
+        Objects.requireNonNull(stage, "async rule cannot return null CompletionStage");
+        return stage.toCompletableFuture().thenApply(validation ->
+                Validation.narrow(Objects.requireNonNull(validation, "async rule cannot complete with null Validation")));
+    }
+
+    /**
+     * The validations of the stages, in order, once all of them completed. The stages were all started before this is
+     * called, so they run concurrently.
+     */
+    static CompletableFuture<java.util.List<Validation<?>>> all(java.util.List<? extends CompletionStage<? extends Validation<?>>> stages) {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[stages.size()];
+        for (int i = 0; i < futures.length; i++) {
+            futures[i] = future(stages.get(i));
+        }
+        return CompletableFuture.allOf(futures).thenApply(ignored -> {
+            ArrayList<Validation<?>> validations = new ArrayList<>(futures.length);
+            for (CompletableFuture<?> future : futures) {
+                validations.add((Validation<?>) future.join());
+            }
+            return validations;
+        });
+    }
+
+    /**
+     * The errors of all validations in order, or the value if there are none.
+     */
+    static <T> Validation<T> accumulate(java.util.List<Validation<?>> validations, T value) {
+        ErrorAccumulator errors = new ErrorAccumulator();
+        validations.forEach(errors::add);
+        return errors.hasErrors() ? errors.toInvalid() : Validation.valid(value);
+    }
+
+    static <R> CompletableFuture<Validation<R>> withTimeout(CompletionStage<? extends Validation<? extends R>> stage, Duration timeout, ErrorMessage error) {
+        return AsyncSupport.<R>future(stage).completeOnTimeout(Validation.invalid(error), timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    static ErrorMessage timeoutError(Duration timeout) {
+        return ErrorMessage.of(TIMEOUT_KEY, "timeout", timeout);
+    }
+
+    static void requirePositive(Duration timeout) {
+        Objects.requireNonNull(timeout, "timeout cannot be null");
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("timeout must be positive");
+        }
+    }
+
+    /**
+     * Waits for the stage, rethrowing the exception it completed with instead of a {@link CompletionException}.
+     */
+    static <R> Validation<R> join(CompletionStage<? extends Validation<? extends R>> stage) {
+        try {
+            return future(stage).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
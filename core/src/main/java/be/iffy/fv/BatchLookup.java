@@ -0,0 +1,201 @@
+package be.iffy.fv;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * A {@link MappingRule} that looks its values up by key, resolving the keys of all elements of a lifted collection with
+ * as few calls to a batch loader as possible, e.g. one {@code SELECT ... WHERE sku IN (...)} for all lines of an order
+ * instead of one query per line.
+ * {@snippet :
+ * BatchLookup<OrderLine, String, Product> product = BatchLookup.of(OrderLine::sku, products::findAllBySku)
+ *         .withMaxBatchSize(500);
+ *
+ * // one call to findAllBySku for every 500 distinct skus
+ * MappingRule<List<OrderLine>, List<Product>> products = product.lift().toList();
+ *}
+ * <p>
+ * Every distinct key is loaded once per validation run. A key that is not in the map returned by the loader fails with
+ * error key {@code must.exist} and parameter {@code key}. The errors get the usual {@code [index]} paths of the lifted
+ * rule.
+ * <p>
+ * Batching happens in {@link Rule#lift()}, {@link MappingRule#lift()} (lists, maps, and the parallel variants, which
+ * load a batch per chunk) and in {@code validateValuesWith} of the collection rules, use {@link #asRule()} for the
+ * latter. Applied to a single value, the rule loads a batch of one. Wrapping the rule in another one, e.g. with
+ * {@code on(...)} or {@code then(...)}, applies it to one value at a time again, use a key extractor instead.
+ *
+ * @param <T> the type of the validated values
+ * @param <K> the type of the keys
+ * @param <V> the type of the loaded values
+ */
+public final class BatchLookup<T, K, V> implements MappingRule<T, V>, Batching<T, V> {
+
+    static final int DEFAULT_MAX_BATCH_SIZE = 1_000;
+
+    private final Function<? super T, ? extends K> keyExtractor;
+    private final Function<? super Set<K>, ? extends java.util.Map<K, ? extends V>> loader;
+    private final int maxBatchSize;
+    private final Function<? super K, ErrorMessage> missing;
+
+    private BatchLookup(Function<? super T, ? extends K> keyExtractor, Function<? super Set<K>, ? extends java.util.Map<K, ? extends V>> loader, int maxBatchSize, Function<? super K, ErrorMessage> missing) {
+        this.keyExtractor = keyExtractor;
+        this.loader = loader;
+        this.maxBatchSize = maxBatchSize;
+        this.missing = missing;
+    }
+
+    /**
+     * Looks up the values themselves, e.g. to turn ids into entities.
+     *
+     * @param loader loads the values of a set of keys, leaving out the keys that do not exist.
+     */
+    public static <K, V> BatchLookup<K, K, V> of(Function<? super Set<K>, ? extends java.util.Map<K, ? extends V>> loader) {
+        return of(Function.identity(), loader);
+    }
+
+    /**
+     * Looks up the key of every value, e.g. the sku of an order line.
+     *
+     * @param keyExtractor the key of a value. A null key fails with {@code must.not.be.null}.
+     * @param loader       loads the values of a set of keys, leaving out the keys that do not exist.
+     */
+    public static <T, K, V> BatchLookup<T, K, V> of(Function<? super T, ? extends K> keyExtractor, Function<? super Set<K>, ? extends java.util.Map<K, ? extends V>> loader) {
+        Objects.requireNonNull(keyExtractor, "keyExtractor cannot be null");
+        Objects.requireNonNull(loader, "loader cannot be null");
+        return new BatchLookup<>(keyExtractor, loader, DEFAULT_MAX_BATCH_SIZE, key -> ErrorMessage.of("must.exist", "key", key));
+    }
+
+    /**
+     * The most keys passed to a single call of the loader. The default is {@value #DEFAULT_MAX_BATCH_SIZE}.
+     *
+     * @throws IllegalArgumentException if {@code maxBatchSize} is not positive.
+     */
+    public BatchLookup<T, K, V> withMaxBatchSize(int maxBatchSize) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be positive");
+        }
+        return new BatchLookup<>(keyExtractor, loader, maxBatchSize, missing);
+    }
+
+    /**
+     * Fails with the given error key and parameter {@code key} when a key does not exist.
+     */
+    public BatchLookup<T, K, V> ifMissing(String errorKey) {
+        Objects.requireNonNull(errorKey, "errorKey cannot be null");
+        return ifMissing(key -> ErrorMessage.of(errorKey, "key", key));
+    }
+
+    /**
+     * Fails with the error message made for the key when a key does not exist.
+     */
+    public BatchLookup<T, K, V> ifMissing(Function<? super K, ErrorMessage> errorMessageMaker) {
+        Objects.requireNonNull(errorMessageMaker, "errorMessageMaker cannot be null");
+        return new BatchLookup<>(keyExtractor, loader, maxBatchSize, errorMessageMaker);
+    }
+
+    /**
+     * A {@link Rule} that only checks that the key of the value exists, and batches in the same places, e.g. in
+     * {@code lists.validateValuesWith(...)}.
+     */
+    public Rule<T> asRule() {
+        return new Exists<>(this);
+    }
+
+    @Override
+    public Validation<V> apply(T value) {
+        if (value == null) {
+            return Validation.Invalid.notNull();
+        }
+        return applyAll(Collections.singletonList(value)).getFirst();
+    }
+
+    @Override
+    public java.util.List<Validation<V>> applyAll(java.util.List<? extends T> values) {
+        Objects.requireNonNull(values, "values cannot be null");
+        ArrayList<K> keys = new ArrayList<>(values.size());
+        LinkedHashSet<K> distinct = new LinkedHashSet<>();
+        for (T value : values) {
+            K key = value == null ? null : keyExtractor.apply(value);
+            keys.add(key);
+            if (key != null) {
+                distinct.add(key);
+            }
+        }
+        java.util.Map<K, V> found = load(distinct);
+        ArrayList<Validation<V>> validations = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            if (key == null) {
+                validations.add(Validation.Invalid.notNull());
+                continue;
+            }
+            V result = found.get(key);
+            validations.add(result == null
+                    ? Validation.invalid(Objects.requireNonNull(missing.apply(key), "errorMessageMaker cannot return null"))
+                    : Validation.valid(result));
+        }
+        return validations;
+    }
+
+    // calls the loader once for every maxBatchSize keys
+    private java.util.Map<K, V> load(Set<K> keys) {
+        HashMap<K, V> found = HashMap.newHashMap(keys.size());
+        LinkedHashSet<K> batch = new LinkedHashSet<>();
+        for (K key : keys) {
+            batch.add(key);
+            if (batch.size() == maxBatchSize) {
+                loadInto(batch, found);
+                batch = new LinkedHashSet<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            loadInto(batch, found);
+        }
+        return found;
+    }
+
+    private void loadInto(Set<K> batch, java.util.Map<K, V> found) {
+        java.util.Map<K, ? extends V> loaded = Objects.requireNonNull(loader.apply(Collections.unmodifiableSet(batch)), "loader cannot return null Map");
+        loaded.forEach((key, value) -> {
+            if (key != null && value != null && batch.contains(key)) {
+                found.put(key, value);
+            }
+        });
+    }
+
+    @Override
+    public String toString() {
+        return "BatchLookup[maxBatchSize=" + maxBatchSize + "]";
+    }
+
+    /**
+     * The lookup as a {@link Rule}, returning the input.
+     */
+    private record Exists<T>(BatchLookup<T, ?, ?> lookup) implements Rule<T>, Batching<T, T> {
+
+        @Override
+        public Validation<T> apply(T value) {
+            return value == null ? Validation.Invalid.notNull() : lookup.apply(value).mapTo(value);
+        }
+
+        @Override
+        public java.util.List<Validation<T>> applyAll(java.util.List<? extends T> values) {
+            java.util.List<? extends Validation<?>> found = lookup.applyAll(values);
+            ArrayList<Validation<T>> validations = new ArrayList<>(found.size());
+            for (int i = 0; i < found.size(); i++) {
+                validations.add(found.get(i).isValid() ? Validation.valid(values.get(i)) : invalid(found.get(i)));
+            }
+            return validations;
+        }
+
+        // an Invalid holds no value, only its type parameter changes
+        @SuppressWarnings("unchecked")
+        private static <T> Validation<T> invalid(Validation<?> invalid) {
+            return (Validation<T>) invalid;
+        }
+    }
+}
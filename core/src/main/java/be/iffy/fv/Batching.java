@@ -0,0 +1,25 @@
+package be.iffy.fv;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A rule that validates the elements of a collection together, e.g. to look them all up in a single call. The lifters
+ * hand all elements to {@link #applyAll(java.util.List)} instead of applying the rule to each of them.
+ *
+ * @see BatchLookup
+ */
+interface Batching<T, R> {
+
+    /**
+     * The validations of the values, in the same order, the same as applying the rule to each value.
+     */
+    java.util.List<Validation<R>> applyAll(java.util.List<? extends T> values);
+
+    /**
+     * The rule as a {@link Batching}, or {@code null} if it validates every value on its own.
+     */
+    @SuppressWarnings("unchecked")
+    static <T, R> @Nullable Batching<T, R> of(RuleLike<T, ? extends Validation<R>> rule) {
+        return rule instanceof Batching<?, ?> batching ? (Batching<T, R>) batching : null;
+    }
+}
@@ -0,0 +1,258 @@
+package be.iffy.fv;
+
+import org.jspecify.annotations.Nullable;
+
+import java.time.Clock;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The results of a {@link Memo#bounded(int)} memo.
+ * <p>
+ * Lookups read a {@link ConcurrentHashMap} without locking. The eviction policy, W-TinyLFU style, is guarded by a lock:
+ * <ul>
+ *     <li>new results enter the <em>window</em>, an LRU queue of 1% of the entries;</li>
+ *     <li>the least recently used result of a full window is a candidate for the <em>main</em> queues: it replaces the
+ *     least recently used result of the <em>probation</em> queue only if its input was seen more often according to a
+ *     {@link FrequencySketch}, otherwise the candidate is dropped;</li>
+ *     <li>a hit in the probation queue moves the result to the <em>protected</em> queue, 80% of the main entries, whose
+ *     least recently used result falls back to probation when it is full.</li>
+ * </ul>
+ * A hit only updates the policy when the lock is free: under contention, the recency of some hits is lost, but readers
+ * never wait for each other. Expired results are dropped when they are read, or evicted as usual.
+ */
+final class BoundedMemoStore implements Memo.Store {
+
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+    private static final int REMOVED = 3;
+
+    private final ConcurrentHashMap<Object, Node> data;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final FrequencySketch sketch;
+    private final Queue window = new Queue();
+    private final Queue probation = new Queue();
+    private final Queue protect = new Queue();
+    private final int maximumSize;
+    private final int windowMaximum;
+    private final int protectedMaximum;
+    private final long expireAfterWriteMillis;
+    private final Clock clock;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    BoundedMemoStore(int maximumSize, long expireAfterWriteMillis, Clock clock) {
+        this.data = new ConcurrentHashMap<>(Math.min(maximumSize, 1 << 16));
+        this.sketch = new FrequencySketch(maximumSize);
+        this.maximumSize = maximumSize;
+        this.windowMaximum = Math.max(1, maximumSize / 100);
+        this.protectedMaximum = (maximumSize - windowMaximum) * 4 / 5;
+        this.expireAfterWriteMillis = expireAfterWriteMillis;
+        this.clock = clock;
+    }
+
+    @Override
+    public @Nullable Object get(Object key) {
+        Node node = data.get(key);
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+        if (expired(node)) {
+            misses.increment();
+            lock.lock();
+            try {
+                if (remove(node)) {
+                    evictions.increment();
+                }
+            } finally {
+                lock.unlock();
+            }
+            return null;
+        }
+        hits.increment();
+        if (lock.tryLock()) {
+            try {
+                onHit(node);
+            } finally {
+                lock.unlock();
+            }
+        }
+        return node.value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        Node node = new Node(key, value, expireAfterWriteMillis == 0 ? 0 : clock.millis());
+        lock.lock();
+        try {
+            sketch.ensureCapacity(window.size + probation.size + protect.size + 1);
+            sketch.increment(key);
+            Node prior = data.putIfAbsent(key, node);
+            if (prior != null) {
+                if (!expired(prior)) {
+                    // another thread computed the same result first
+                    return;
+                }
+                if (remove(prior)) {
+                    evictions.increment();
+                }
+                data.put(key, node);
+            }
+            node.queue = WINDOW;
+            window.addLast(node);
+            evict();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public MemoStats stats() {
+        return new MemoStats(hits.sum(), misses.sum(), evictions.sum(), data.size());
+    }
+
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            data.clear();
+            for (Queue queue : new Queue[]{window, probation, protect}) {
+                for (Node node = queue.first; node != null; node = node.next) {
+                    node.queue = REMOVED;
+                }
+                queue.first = null;
+                queue.last = null;
+                queue.size = 0;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean expired(Node node) {
+        return expireAfterWriteMillis != 0 && clock.millis() - node.writtenAt >= expireAfterWriteMillis;
+    }
+
+    private void onHit(Node node) {
+        sketch.increment(node.key);
+        switch (node.queue) {
+            case WINDOW -> window.moveToLast(node);
+            case PROTECTED -> protect.moveToLast(node);
+            case PROBATION -> {
+                probation.unlink(node);
+                node.queue = PROTECTED;
+                protect.addLast(node);
+                if (protect.size > protectedMaximum) {
+                    Node demoted = protect.removeFirst();
+                    demoted.queue = PROBATION;
+                    probation.addLast(demoted);
+                }
+            }
+            default -> {
+                // removed by another thread in the meantime
+            }
+        }
+    }
+
+    private void evict() {
+        while (window.size > windowMaximum) {
+            Node candidate = window.removeFirst();
+            candidate.queue = PROBATION;
+            probation.addLast(candidate);
+            if (window.size + probation.size + protect.size > maximumSize) {
+                Node victim = probation.first != candidate ? probation.first : protect.first;
+                if (victim == null || sketch.frequency(candidate.key) <= sketch.frequency(victim.key)) {
+                    victim = candidate;
+                }
+                remove(victim);
+                evictions.increment();
+            }
+        }
+    }
+
+    // whether the node was still in the memo
+    private boolean remove(Node node) {
+        switch (node.queue) {
+            case WINDOW -> window.unlink(node);
+            case PROBATION -> probation.unlink(node);
+            case PROTECTED -> protect.unlink(node);
+            default -> {
+                return false;
+            }
+        }
+        node.queue = REMOVED;
+        data.remove(node.key, node);
+        return true;
+    }
+
+    private static final class Node {
+        final Object key;
+        final Object value;
+        final long writtenAt;
+        int queue = REMOVED;
+        @Nullable Node previous;
+        @Nullable Node next;
+
+        Node(Object key, Object value, long writtenAt) {
+            this.key = key;
+            this.value = value;
+            this.writtenAt = writtenAt;
+        }
+    }
+
+    /**
+     * A doubly linked list of nodes, least recently used first.
+     */
+    private static final class Queue {
+        @Nullable Node first;
+        @Nullable Node last;
+        int size;
+
+        void addLast(Node node) {
+            node.previous = last;
+            node.next = null;
+            if (last == null) {
+                first = node;
+            } else {
+                last.next = node;
+            }
+            last = node;
+            size++;
+        }
+
+        Node removeFirst() {
+            Node node = Objects.requireNonNull(first, "queue cannot be empty");
+            unlink(node);
+            return node;
+        }
+
+        void moveToLast(Node node) {
+            if (node != last) {
+                unlink(node);
+                addLast(node);
+            }
+        }
+
+        void unlink(Node node) {
+            if (node.previous == null) {
+                first = node.next;
+            } else {
+                node.previous.next = node.next;
+            }
+            if (node.next == null) {
+                last = node.previous;
+            } else {
+                node.next.previous = node.previous;
+            }
+            node.previous = null;
+            node.next = null;
+            size--;
+        }
+    }
+}
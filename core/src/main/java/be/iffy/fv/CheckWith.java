@@ -0,0 +1,35 @@
+package be.iffy.fv;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The rule that the validator generated for a {@link RecordValidator} record applies to this component: a
+ * {@code static} field named {@link #field()} on the class {@link #on()}, holding a {@link Rule} or
+ * {@link MappingRule} for the type of the component. Primitive components are boxed.
+ * {@snippet :
+ * class PersonRules {
+ *     static final Rule<String> NAME = strings.notBlank();
+ *     static final Rule<Integer> AGE = ints.atLeast(18);
+ * }
+ * }
+ * The field must be accessible from the package of the record.
+ */
+@Documented
+@Target(ElementType.RECORD_COMPONENT)
+@Retention(RetentionPolicy.SOURCE)
+public @interface CheckWith {
+
+    /**
+     * The class that declares the rule.
+     */
+    Class<?> on();
+
+    /**
+     * The name of the {@code static} field that holds the rule.
+     */
+    String field();
+}
@@ -0,0 +1,147 @@
+package be.iffy.fv;
+
+import be.iffy.fv.Validation.Invalid;
+import io.vavr.collection.List;
+
+import java.util.Objects;
+import java.util.function.DoublePredicate;
+
+/**
+ * A {@link Rule} for {@link Double} values that can also test a primitive {@code double} without boxing it.
+ * <p>
+ * Use it like any other {@code Rule<Double>}. The primitive form pays off when validating many values at once:
+ * {@code lift().toArray()} validates an {@code double[]} element by element, and only boxes the elements that fail, to
+ * build their errors.
+ * {@snippet :
+ * Rule<double[]> ratios = doubles.finiteDouble().and(doubles.between(0.0, 1.0)).lift().toArray();
+ *}
+ *
+ * @see IntRule
+ * @see LongRule
+ */
+public interface DoubleRule extends Rule<Double> {
+
+    /**
+     * Tests the value, without boxing it.
+     *
+     * @return {@code true} if the value passes the rule.
+     */
+    boolean test(double value);
+
+    /**
+     * The errors of a value that does not pass the rule, only called when {@link #test(double)} returned {@code false}.
+     */
+    List<ErrorMessage> errors(double value);
+
+    @Override
+    default Validation<Double> apply(Double value) {
+        if (value == null) {
+            return Invalid.notNull();
+        }
+        return test(value) ? Validation.valid(value) : Validation.invalid(errors(value));
+    }
+
+    //region Factory methods
+
+    /**
+     * Creates an {@link DoubleRule} from the given predicate and error message key.
+     */
+    static DoubleRule of(DoublePredicate predicate, String errorKey) {
+        return of(predicate, ErrorMessage.of(errorKey));
+    }
+
+    /**
+     * Creates an {@link DoubleRule} from the given predicate and {@link ErrorMessage}.
+     * If the predicate resolves to {@code true}, the value is valid.
+     */
+    static DoubleRule of(DoublePredicate predicate, ErrorMessage errorMessage) {
+        Objects.requireNonNull(predicate, "predicate cannot be null");
+        Objects.requireNonNull(errorMessage, "errorMessage cannot be null");
+        List<ErrorMessage> errors = List.of(errorMessage);
+        return new DoubleRule() {
+            @Override
+            public boolean test(double value) {
+                return predicate.test(value);
+            }
+
+            @Override
+            public List<ErrorMessage> errors(double value) {
+                return errors;
+            }
+        };
+    }
+
+    //endregion
+
+    //region combinators
+
+    /**
+     * Same as {@link Rule#and(RuleLike)}, for two {@link DoubleRule}s: the errors of both
+     * rules are returned when both fail.
+     * <p>
+     * Accumulating. {@link #test} stops at the first rule that fails, {@link #errors} then tests both.
+     */
+    default DoubleRule and(DoubleRule other) {
+        Objects.requireNonNull(other, "other rule cannot be null");
+        DoubleRule self = this;
+        return new DoubleRule() {
+            @Override
+            public boolean test(double value) {
+                return self.test(value) && other.test(value);
+            }
+
+            @Override
+            public List<ErrorMessage> errors(double value) {
+                if (self.test(value)) {
+                    return other.errors(value);
+                }
+                return other.test(value) ? self.errors(value) : self.errors(value).appendAll(other.errors(value));
+            }
+        };
+    }
+
+    /**
+     * Same as {@link Rule#or(RuleLike)}, for two {@link DoubleRule}s: the other rule is only tested when this one
+     * fails, and the errors of both are returned when both fail.
+     * <p>
+     * Short-circuiting, accumulating.
+     */
+    default DoubleRule or(DoubleRule other) {
+        Objects.requireNonNull(other, "other rule cannot be null");
+        DoubleRule self = this;
+        return new DoubleRule() {
+            @Override
+            public boolean test(double value) {
+                return self.test(value) || other.test(value);
+            }
+
+            @Override
+            public List<ErrorMessage> errors(double value) {
+                return self.errors(value).appendAll(other.errors(value));
+            }
+        };
+    }
+
+    @Override
+    default DoubleRule negate(String negatedErrorKey) {
+        Objects.requireNonNull(negatedErrorKey, "negatedErrorKey cannot be null");
+        return negate(ErrorMessage.of(negatedErrorKey));
+    }
+
+    @Override
+    default DoubleRule negate(ErrorMessage negatedError) {
+        Objects.requireNonNull(negatedError, "negatedError cannot be null");
+        return of(value -> !test(value), negatedError);
+    }
+
+    //endregion
+
+    /**
+     * Lift this rule by giving you access to the {@link DoubleRuleLifter}, which adds {@code double[]} and
+     * {@link java.util.stream.DoubleStream} to the types of {@link RuleLifter}.
+     */
+    @Override
+    default DoubleRuleLifter lift() {
+        return new DoubleRuleLifter(this);
+    }
+}
@@ -0,0 +1,59 @@
+package be.iffy.fv;
+
+import java.util.ArrayList;
+import java.util.stream.DoubleStream;
+
+/**
+ * The {@link RuleLifter} of an {@link DoubleRule}, which can also lift it to {@code double[]} and {@link DoubleStream}.
+ * <p>
+ * The elements are tested as primitives, only the elements that fail are boxed, to build their errors. The errors
+ * have the same {@code [index]} paths as those of {@link #toList()}.
+ */
+public class DoubleRuleLifter extends RuleLifter<Double> {
+
+    private final DoubleRule rule;
+
+    DoubleRuleLifter(DoubleRule rule) {
+        super(rule);
+        this.rule = rule;
+    }
+
+    /**
+     * Lifts this {@link DoubleRule} so it applies to an {@code double[]}.
+     * If the array is empty, it is considered valid.
+     */
+    public Rule<double[]> toArray() {
+        return values -> {
+            if (values == null) {
+                return Validation.Invalid.notNull();
+            }
+            return validate(values);
+        };
+    }
+
+    /**
+     * Lifts this {@link DoubleRule} so it applies to an {@link DoubleStream}. The stream is consumed, a valid result holds
+     * its elements as an {@code double[]}.
+     */
+    public MappingRule<DoubleStream, double[]> toDoubleStream() {
+        return stream -> {
+            if (stream == null) {
+                return Validation.Invalid.notNull();
+            }
+            return validate(stream.toArray());
+        };
+    }
+
+    private Validation<double[]> validate(double[] values) {
+        ArrayList<ErrorMessage> errors = null;
+        for (int i = 0; i < values.length; i++) {
+            if (!rule.test(values[i])) {
+                if (errors == null) {
+                    errors = new ArrayList<>();
+                }
+                SequenceBuilder.addErrorsAt(errors, i, rule.errors(values[i]));
+            }
+        }
+        return errors == null ? Validation.valid(values) : Validation.invalid(errors);
+    }
+}
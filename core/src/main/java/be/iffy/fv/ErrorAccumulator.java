@@ -0,0 +1,111 @@
+package be.iffy.fv;
+
+import io.vavr.collection.List;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+
+/**
+ * Collects the errors of several {@link Validation}s, in order, for the accumulating combinators.
+ * <p>
+ * Adding the errors of a validation is O(1): the (already de-duplicated) error list of each {@link Validation.Invalid}
+ * is kept as a chunk, nothing is copied until {@link #errors()} is called. At that point the chunks are concatenated in
+ * a single pass, sharing the last chunk as the tail of the result, and a single chunk is returned as is. De-duplication
+ * happens once, when the resulting {@link Validation.Invalid} is constructed.
+ * <p>
+ * An accumulator that is {@link #counting()} evaluates the rules itself, it counts its errors against the budget of the
+ * running {@link ValidationContext} and {@link #stop()}s the loop when the budget is exhausted.
+ */
+final class ErrorAccumulator {
+
+    private @Nullable List<ErrorMessage> first;
+    private @Nullable ArrayList<List<ErrorMessage>> rest;
+    private int size;
+    private final ValidationContext.@Nullable Budget budget;
+    private final int counted;
+    private boolean truncated;
+
+    ErrorAccumulator() {
+        this(null);
+    }
+
+    private ErrorAccumulator(ValidationContext.@Nullable Budget budget) {
+        this.budget = budget;
+        this.counted = budget == null ? 0 : budget.errors();
+    }
+
+    /**
+     * An accumulator for the errors of rules that are evaluated while it collects them.
+     */
+    static ErrorAccumulator counting() {
+        return new ErrorAccumulator(ValidationContext.budget());
+    }
+
+    /**
+     * Whether to stop evaluating the next rule, because the budget of the running context is exhausted.
+     */
+    boolean stop() {
+        if (budget != null && budget.stop()) {
+            truncated = true;
+        }
+        return truncated;
+    }
+
+    ErrorAccumulator add(Validation<?> validation) {
+        if (validation instanceof Validation.Invalid<?>(var errors)) {
+            addAll(errors);
+        }
+        return this;
+    }
+
+    ErrorAccumulator addAll(List<ErrorMessage> errors) {
+        if (errors.isEmpty()) {
+            return this;
+        }
+        if (first == null) {
+            first = errors;
+        } else {
+            if (rest == null) {
+                rest = new ArrayList<>(4);
+            }
+            rest.add(errors);
+        }
+        size += errors.size();
+        if (budget != null) {
+            budget.atLeast(counted + size);
+        }
+        return this;
+    }
+
+    boolean hasErrors() {
+        return first != null || truncated;
+    }
+
+    List<ErrorMessage> errors() {
+        if (first == null) {
+            // a stopped evaluation isn't valid, even without errors
+            return truncated && budget != null ? List.of(budget.marker()) : List.empty();
+        }
+        if (rest == null) {
+            return first;
+        }
+        // build back to front, so the last chunk becomes the shared tail and every other error is prepended exactly once
+        List<ErrorMessage> result = rest.getLast();
+        ErrorMessage[] buffer = new ErrorMessage[size];
+        for (int chunk = rest.size() - 2; chunk >= -1; chunk--) {
+            List<ErrorMessage> errors = chunk == -1 ? first : rest.get(chunk);
+            int length = 0;
+            for (ErrorMessage error : errors) {
+                buffer[length++] = error;
+            }
+            for (int i = length - 1; i >= 0; i--) {
+                result = result.prepend(buffer[i]);
+            }
+        }
+        return result;
+    }
+
+    <T> Validation<T> toInvalid() {
+        return Validation.invalid(errors());
+    }
+}
@@ -8,6 +8,7 @@ import lombok.With;
 import org.jspecify.annotations.Nullable;
 
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Represents an error message with a unique key, paths, and optional arguments.
@@ -19,6 +20,10 @@ import java.util.Objects;
  */
 public record ErrorMessage(String errorKey, List<Path> paths, Map<String, @Nullable Object> parameters) {
 
+    // error keys are almost always constants, the cap only guards against keys built from input
+    private static final int MAX_INTERNED = 1_024;
+    private static final ConcurrentHashMap<String, ErrorMessage> interned = new ConcurrentHashMap<>();
+
     /**
      * Creates a new {@link ErrorMessage}.
      *
@@ -31,11 +36,25 @@ public record ErrorMessage(String errorKey, List<Path> paths, Map<String, @Nulla
 
     /**
      * Creates an {@link ErrorMessage} with the given key.
+     * <p>
+     * Error messages without parameters are shared: calling this twice with the same key usually returns the same
+     * instance.
      *
      * @param errorKey the error errorKey key.
      */
     public static ErrorMessage of(String errorKey) {
-        return new ErrorMessage(errorKey, List.of(), HashMap.empty());
+        Objects.requireNonNull(errorKey, "errorKey cannot be null");
+        ErrorMessage error = interned.get(errorKey);
+        if (error == null) {
+            error = new ErrorMessage(errorKey, List.of(), HashMap.empty());
+            if (interned.size() < MAX_INTERNED) {
+                ErrorMessage prior = interned.putIfAbsent(errorKey, error);
+                if (prior != null) {
+                    error = prior;
+                }
+            }
+        }
+        return error;
     }
 
     /**
@@ -45,7 +64,8 @@ public record ErrorMessage(String errorKey, List<Path> paths, Map<String, @Nulla
      * @param parameters the dynamic parameters.
      */
     public static ErrorMessage of(String message, Map<String, Object> parameters) {
-        return new ErrorMessage(message, List.of(), parameters);
+        Objects.requireNonNull(parameters, "parameters cannot be null");
+        return parameters.isEmpty() ? of(message) : new ErrorMessage(message, List.of(), parameters);
     }
 
 
@@ -56,7 +76,8 @@ public record ErrorMessage(String errorKey, List<Path> paths, Map<String, @Nulla
      * @param parameters the dynamic parameters.
      */
     public static ErrorMessage of(String message, java.util.Map<String, Object> parameters) {
-        return new ErrorMessage(message, List.of(), HashMap.ofAll(parameters));
+        Objects.requireNonNull(parameters, "parameters cannot be null");
+        return parameters.isEmpty() ? of(message) : new ErrorMessage(message, List.of(), HashMap.ofAll(parameters));
     }
 
     /**
@@ -72,13 +93,15 @@ public record ErrorMessage(String errorKey, List<Path> paths, Map<String, @Nulla
 
     /**
      * Prepends a {@link Path} segment to this error message.
+     * <p>
+     * The existing segments are shared with this error message, not copied.
      *
      * @param path the path segment to prepend.
      */
     public ErrorMessage prepend(Path path) {
         if (!paths.isEmpty() && paths.head().index.isDefined() && paths.head().text.isEmpty() && path.index.isEmpty()) {
             // previous path was just an index, and this one hasn't got one, combine them
-            return this.withPaths(paths.tail().prepend(path.withIndex(paths.head().index).withText(path.text)));
+            return this.withPaths(paths.tail().prepend(new Path(path.text, paths.head().index)));
         } else {
             return this.withPaths(paths.prepend(path));
         }
@@ -91,10 +114,15 @@ public record ErrorMessage(String errorKey, List<Path> paths, Map<String, @Nulla
      * @param index the index (e.g., a collection index or map key).
      */
     public ErrorMessage atIndex(Object index) {
+        return atIndex(Option.of(index));
+    }
+
+    // lets callers that index many errors at once share a single Option
+    ErrorMessage atIndex(Option<Object> index) {
         if (paths.isEmpty()) {
-            return prepend(new Path("", Option.of(index)));
+            return this.withPaths(List.of(new Path("", index)));
         } else {
-            return this.withPaths(paths.update(0, paths.head().withIndex(Option.of(index))));
+            return this.withPaths(paths.tail().prepend(paths.head().withIndex(index)));
         }
     }
 
@@ -104,7 +132,43 @@ public record ErrorMessage(String errorKey, List<Path> paths, Map<String, @Nulla
      * @return the formatted error message.
      */
     public String message() {
-        return paths.map(Path::formatted).append(errorKey).mkString(".");
+        return appendMessage(new StringBuilder()).toString();
+    }
+
+    /**
+     * Returns the dotted path of this error message, without the error key.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * ErrorMessage error = ErrorMessage.of("must.not.be.blank").prepend(Path.of("street")).atIndex(1).prepend(Path.of("addresses"));
+     * error.path();    // "addresses.street[1]"
+     * error.message(); // "addresses.street[1].must.not.be.blank"
+     * }</pre>
+     *
+     * @return the dotted path, or an empty string if this error message has no paths.
+     */
+    public String path() {
+        if (paths.isEmpty()) {
+            return "";
+        }
+        return appendPath(new StringBuilder()).toString();
+    }
+
+    private StringBuilder appendPath(StringBuilder builder) {
+        for (List<Path> segment = paths; !segment.isEmpty(); segment = segment.tail()) {
+            if (segment != paths) {
+                builder.append('.');
+            }
+            segment.head().appendTo(builder);
+        }
+        return builder;
+    }
+
+    private StringBuilder appendMessage(StringBuilder builder) {
+        if (!paths.isEmpty()) {
+            appendPath(builder).append('.');
+        }
+        return builder.append(errorKey);
     }
 
     /**
@@ -131,19 +195,58 @@ public record ErrorMessage(String errorKey, List<Path> paths, Map<String, @Nulla
      * @return the formatted error message with parameters.
      */
     public String formatted() {
-        if (parameters.isEmpty()) {
-            return message();
-        } else {
-            return message() + ":" + parameters.map(tuple -> tuple._1 + ":" + formatValues(tuple._2)).mkString("{", ",", "}");
+        StringBuilder builder = appendMessage(new StringBuilder());
+        if (!parameters.isEmpty()) {
+            builder.append(":{");
+            boolean first = true;
+            for (var parameter : parameters) {
+                if (!first) {
+                    builder.append(',');
+                }
+                first = false;
+                builder.append(parameter._1).append(':');
+                appendValues(builder, parameter._2);
+            }
+            builder.append('}');
         }
+        return builder.toString();
     }
 
-    private String formatValues(@Nullable Object values) {
-        return switch (values) {
-            case List<?> l -> l.mkString("[", ",", "]");
-            case null -> "null";
-            default -> values.toString();
-        };
+    private static void appendValues(StringBuilder builder, @Nullable Object values) {
+        switch (values) {
+            case List<?> l -> builder.append(l.mkString("[", ",", "]"));
+            case null -> builder.append("null");
+            default -> builder.append(values);
+        }
+    }
+
+    /**
+     * Two error messages are equal when their key, paths and parameters are equal. Shared instances, such as those
+     * returned by {@link #of(String)}, are equal without comparing anything.
+     */
+    @Override
+    public boolean equals(@Nullable Object other) {
+        return other == this
+                || other instanceof ErrorMessage error
+                && errorKey.equals(error.errorKey)
+                && paths.equals(error.paths)
+                && parameters.equals(error.parameters);
+    }
+
+    /**
+     * Only hashes the paths and parameters when there are any, so the hash of an error message with just a key is the
+     * hash of that key, which {@link String} computes only once.
+     */
+    @Override
+    public int hashCode() {
+        int hash = errorKey.hashCode();
+        if (!paths.isEmpty()) {
+            hash = 31 * hash + paths.hashCode();
+        }
+        if (!parameters.isEmpty()) {
+            hash = 31 * hash + parameters.hashCode();
+        }
+        return hash;
     }
 
     ErrorMessage withPaths(List<Path> paths) {
@@ -176,7 +279,18 @@ public record ErrorMessage(String errorKey, List<Path> paths, Map<String, @Nulla
          * @return the formatted path segment.
          */
         public String formatted() {
-            return text + index.map(i -> "[" + i + "]").getOrElse("");
+            if (index.isEmpty()) {
+                return text;
+            }
+            return appendTo(new StringBuilder(text.length() + 8)).toString();
+        }
+
+        StringBuilder appendTo(StringBuilder builder) {
+            builder.append(text);
+            if (index.isDefined()) {
+                builder.append('[').append(index.get()).append(']');
+            }
+            return builder;
         }
     }
 }
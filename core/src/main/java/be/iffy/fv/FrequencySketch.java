@@ -0,0 +1,119 @@
+package be.iffy.fv;
+
+/**
+ * An approximate, aging count of how often keys were seen, for the admission policy of a bounded {@link Memo}: a
+ * count-min sketch of 4-bit counters, 16 to a {@code long}. A key is counted in four counters and its frequency is the
+ * smallest of them. After {@code 10 * width} increments all counters are halved, so keys that were popular long ago do
+ * not stay in the memo forever.
+ * <p>
+ * The table starts small and grows with the memo, up to one {@code long} per entry of a full memo: a memo with a large
+ * maximum size that only ever holds a few entries doesn't pay for the table of a full one. Growing keeps the counts:
+ * a counter's index is the low bits of its hash, so every slot of the larger table starts as the slot of the smaller
+ * one with the same low bits, which never counts a key less than before.
+ * <p>
+ * Not thread-safe, used under the lock of the memo.
+ */
+final class FrequencySketch {
+
+    private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+    private static final long ONE_MASK = 0x7777777777777777L;
+
+    private static final int MINIMUM_WIDTH = 16;
+    private static final int MAXIMUM_WIDTH = 1 << 26;
+
+    private final int maximumWidth;
+    private long[] table;
+    private int mask;
+    private int sampleSize;
+    private int additions;
+
+    FrequencySketch(int maximumSize) {
+        this.maximumWidth = width(maximumSize);
+        this.table = new long[MINIMUM_WIDTH];
+        this.mask = MINIMUM_WIDTH - 1;
+        this.sampleSize = 10 * MINIMUM_WIDTH;
+    }
+
+    /**
+     * Grows the table for the number of entries the memo holds, if it is still smaller than that.
+     */
+    void ensureCapacity(int size) {
+        if (size > table.length && table.length < maximumWidth) {
+            resize(Math.min(width(size), maximumWidth));
+        }
+    }
+
+    /**
+     * The number of {@code long}s in the table.
+     */
+    int width() {
+        return table.length;
+    }
+
+    private void resize(int width) {
+        long[] grown = new long[width];
+        for (int i = 0; i < width; i++) {
+            grown[i] = table[i & mask];
+        }
+        this.table = grown;
+        this.mask = width - 1;
+        this.sampleSize = 10 * width;
+    }
+
+    // the power of two for the size, between the minimum and maximum width
+    private static int width(int size) {
+        return Integer.highestOneBit(Math.max(MINIMUM_WIDTH, Math.min(size, MAXIMUM_WIDTH)) - 1) << 1;
+    }
+
+    /**
+     * The estimated number of times the key was seen, at most 15.
+     */
+    int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int frequency = 15;
+        for (int i = 0; i < 4; i++) {
+            frequency = Math.min(frequency, (int) ((table[index(hash, i)] >>> offset(hash, i)) & 0xF));
+        }
+        return frequency;
+    }
+
+    void increment(Object key) {
+        int hash = spread(key.hashCode());
+        boolean added = false;
+        for (int i = 0; i < 4; i++) {
+            int index = index(hash, i);
+            int offset = offset(hash, i);
+            if (((table[index] >>> offset) & 0xF) != 0xF) {
+                table[index] += 1L << offset;
+                added = true;
+            }
+        }
+        if (added && ++additions == sampleSize) {
+            age();
+        }
+    }
+
+    private void age() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & ONE_MASK;
+        }
+        additions /= 2;
+    }
+
+    private int index(int hash, int i) {
+        long h = (hash + SEEDS[i]) * SEEDS[i];
+        h += h >>> 32;
+        return (int) h & mask;
+    }
+
+    // which of the 16 counters of the long, a different one for each of the four hashes
+    private static int offset(int hash, int i) {
+        return ((hash >>> (i << 3)) & 0xF) << 2;
+    }
+
+    private static int spread(int hash) {
+        hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        return (hash >>> 16) ^ hash;
+    }
+}
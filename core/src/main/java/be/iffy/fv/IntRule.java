@@ -0,0 +1,147 @@
+package be.iffy.fv;
+
+import be.iffy.fv.Validation.Invalid;
+import io.vavr.collection.List;
+
+import java.util.Objects;
+import java.util.function.IntPredicate;
+
+/**
+ * A {@link Rule} for {@link Integer} values that can also test a primitive {@code int} without boxing it.
+ * <p>
+ * Use it like any other {@code Rule<Integer>}. The primitive form pays off when validating many values at once:
+ * {@code lift().toArray()} validates an {@code int[]} element by element, and only boxes the elements that fail, to
+ * build their errors.
+ * {@snippet :
+ * Rule<int[]> readings = ints.nonNegative().and(ints.maxInt(4095)).lift().toArray();
+ *}
+ *
+ * @see LongRule
+ * @see DoubleRule
+ */
+public interface IntRule extends Rule<Integer> {
+
+    /**
+     * Tests the value, without boxing it.
+     *
+     * @return {@code true} if the value passes the rule.
+     */
+    boolean test(int value);
+
+    /**
+     * The errors of a value that does not pass the rule, only called when {@link #test(int)} returned {@code false}.
+     */
+    List<ErrorMessage> errors(int value);
+
+    @Override
+    default Validation<Integer> apply(Integer value) {
+        if (value == null) {
+            return Invalid.notNull();
+        }
+        return test(value) ? Validation.valid(value) : Validation.invalid(errors(value));
+    }
+
+    //region Factory methods
+
+    /**
+     * Creates an {@link IntRule} from the given predicate and error message key.
+     */
+    static IntRule of(IntPredicate predicate, String errorKey) {
+        return of(predicate, ErrorMessage.of(errorKey));
+    }
+
+    /**
+     * Creates an {@link IntRule} from the given predicate and {@link ErrorMessage}.
+     * If the predicate resolves to {@code true}, the value is valid.
+     */
+    static IntRule of(IntPredicate predicate, ErrorMessage errorMessage) {
+        Objects.requireNonNull(predicate, "predicate cannot be null");
+        Objects.requireNonNull(errorMessage, "errorMessage cannot be null");
+        List<ErrorMessage> errors = List.of(errorMessage);
+        return new IntRule() {
+            @Override
+            public boolean test(int value) {
+                return predicate.test(value);
+            }
+
+            @Override
+            public List<ErrorMessage> errors(int value) {
+                return errors;
+            }
+        };
+    }
+
+    //endregion
+
+    //region combinators
+
+    /**
+     * Same as {@link Rule#and(RuleLike)}, for two {@link IntRule}s: the errors of both
+     * rules are returned when both fail.
+     * <p>
+     * Accumulating. {@link #test} stops at the first rule that fails, {@link #errors} then tests both.
+     */
+    default IntRule and(IntRule other) {
+        Objects.requireNonNull(other, "other rule cannot be null");
+        IntRule self = this;
+        return new IntRule() {
+            @Override
+            public boolean test(int value) {
+                return self.test(value) && other.test(value);
+            }
+
+            @Override
+            public List<ErrorMessage> errors(int value) {
+                if (self.test(value)) {
+                    return other.errors(value);
+                }
+                return other.test(value) ? self.errors(value) : self.errors(value).appendAll(other.errors(value));
+            }
+        };
+    }
+
+    /**
+     * Same as {@link Rule#or(RuleLike)}, for two {@link IntRule}s: the other rule is only tested when this one
+     * fails, and the errors of both are returned when both fail.
+     * <p>
+     * Short-circuiting, accumulating.
+     */
+    default IntRule or(IntRule other) {
+        Objects.requireNonNull(other, "other rule cannot be null");
+        IntRule self = this;
+        return new IntRule() {
+            @Override
+            public boolean test(int value) {
+                return self.test(value) || other.test(value);
+            }
+
+            @Override
+            public List<ErrorMessage> errors(int value) {
+                return self.errors(value).appendAll(other.errors(value));
+            }
+        };
+    }
+
+    @Override
+    default IntRule negate(String negatedErrorKey) {
+        Objects.requireNonNull(negatedErrorKey, "negatedErrorKey cannot be null");
+        return negate(ErrorMessage.of(negatedErrorKey));
+    }
+
+    @Override
+    default IntRule negate(ErrorMessage negatedError) {
+        Objects.requireNonNull(negatedError, "negatedError cannot be null");
+        return of(value -> !test(value), negatedError);
+    }
+
+    //endregion
+
+    /**
+     * Lift this rule by giving you access to the {@link IntRuleLifter}, which adds {@code int[]} and
+     * {@link java.util.stream.IntStream} to the types of {@link RuleLifter}.
+     */
+    @Override
+    default IntRuleLifter lift() {
+        return new IntRuleLifter(this);
+    }
+}
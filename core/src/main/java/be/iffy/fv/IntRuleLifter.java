@@ -0,0 +1,59 @@
+package be.iffy.fv;
+
+import java.util.ArrayList;
+import java.util.stream.IntStream;
+
+/**
+ * The {@link RuleLifter} of an {@link IntRule}, which can also lift it to {@code int[]} and {@link IntStream}.
+ * <p>
+ * The elements are tested as primitives, only the elements that fail are boxed, to build their errors. The errors
+ * have the same {@code [index]} paths as those of {@link #toList()}.
+ */
+public class IntRuleLifter extends RuleLifter<Integer> {
+
+    private final IntRule rule;
+
+    IntRuleLifter(IntRule rule) {
+        super(rule);
+        this.rule = rule;
+    }
+
+    /**
+     * Lifts this {@link IntRule} so it applies to an {@code int[]}.
+     * If the array is empty, it is considered valid.
+     */
+    public Rule<int[]> toArray() {
+        return values -> {
+            if (values == null) {
+                return Validation.Invalid.notNull();
+            }
+            return validate(values);
+        };
+    }
+
+    /**
+     * Lifts this {@link IntRule} so it applies to an {@link IntStream}. The stream is consumed, a valid result holds
+     * its elements as an {@code int[]}.
+     */
+    public MappingRule<IntStream, int[]> toIntStream() {
+        return stream -> {
+            if (stream == null) {
+                return Validation.Invalid.notNull();
+            }
+            return validate(stream.toArray());
+        };
+    }
+
+    private Validation<int[]> validate(int[] values) {
+        ArrayList<ErrorMessage> errors = null;
+        for (int i = 0; i < values.length; i++) {
+            if (!rule.test(values[i])) {
+                if (errors == null) {
+                    errors = new ArrayList<>();
+                }
+                SequenceBuilder.addErrorsAt(errors, i, rule.errors(values[i]));
+            }
+        }
+        return errors == null ? Validation.valid(values) : Validation.invalid(errors);
+    }
+}
@@ -5,11 +5,13 @@ import io.vavr.Tuple2;
 import io.vavr.collection.HashMap;
 import io.vavr.collection.List;
 import io.vavr.collection.Map;
-import io.vavr.collection.Seq;
 import io.vavr.control.Option;
+import org.jspecify.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.RandomAccess;
 import java.util.function.Function;
 
 import static be.iffy.fv.Validation.invalid;
@@ -18,14 +20,41 @@ abstract class Lifter<T, R> {
 
     abstract Validation<R> test(T value);
 
+    /**
+     * The lifted rule if it validates the elements of a collection together, see {@link Batching}.
+     */
+    @Nullable Batching<T, R> batching() {
+        return null;
+    }
+
+    // adds the validations of the values to the builder in order, in a single batch for a rule that batches
+    private void validate(java.util.List<T> values, SequenceBuilder<R> builder) {
+        Batching<T, R> batching = batching();
+        if (batching == null) {
+            for (T value : values) {
+                if (builder.stop()) {
+                    return;
+                }
+                builder.add(test(value));
+            }
+        } else if (!builder.stop()) {
+            for (Validation<R> validation : batching.applyAll(values)) {
+                if (builder.stop()) {
+                    return;
+                }
+                builder.add(validation);
+            }
+        }
+    }
+
     protected RuleLike<List<T>, Validation<List<R>>> toVavrList() {
         return values -> {
             if (values == null) {
                 return Validation.Invalid.notNull();
             }
-            List<Validation<R>> validations = values.map(this::test);
-            // Validation.sequence already adds the [index] path segment, so we don't do it here.
-            return Validations.sequence(validations);
+            SequenceBuilder<R> builder = SequenceBuilder.evaluating(values.size(), 0);
+            validate(values.asJava(), builder);
+            return builder.toVavrList();
         };
     }
 
@@ -34,12 +63,51 @@ abstract class Lifter<T, R> {
             if (values == null) {
                 return Validation.Invalid.notNull();
             }
-            java.util.List<Validation<R>> validations = values.stream().map(this::test).toList();
-            // Validation.sequence already adds the [index] path segment, so we don't do it here.
-            return Validations.sequence(validations);
+            SequenceBuilder<R> builder = SequenceBuilder.evaluating(values.size(), 0);
+            validate(values, builder);
+            return builder.toList();
+        };
+    }
+
+    protected RuleLike<List<T>, Validation<List<R>>> toVavrList(Parallelism parallelism) {
+        Objects.requireNonNull(parallelism, "parallelism cannot be null");
+        return values -> {
+            if (values == null) {
+                return Validation.Invalid.notNull();
+            }
+            return sequence(values.asJava(), parallelism).toVavrList();
+        };
+    }
+
+    protected RuleLike<java.util.List<T>, Validation<java.util.List<R>>> toList(Parallelism parallelism) {
+        Objects.requireNonNull(parallelism, "parallelism cannot be null");
+        return values -> {
+            if (values == null) {
+                return Validation.Invalid.notNull();
+            }
+            return sequence(values, parallelism).toList();
         };
     }
 
+    private SequenceBuilder<R> sequence(java.util.List<T> values, Parallelism parallelism) {
+        java.util.List<T> elements = randomAccess(values, parallelism);
+        java.util.List<SequenceBuilder<R>> chunks = parallelism.split(elements.size(), (from, to) -> {
+            SequenceBuilder<R> builder = SequenceBuilder.evaluating(to - from, from);
+            validate(elements.subList(from, to), builder);
+            return builder;
+        });
+        SequenceBuilder<R> builder = chunks.get(0);
+        for (int c = 1; c < chunks.size(); c++) {
+            builder.addAll(chunks.get(c));
+        }
+        return builder;
+    }
+
+    // the chunks take sublists, which only is cheap for lists with random access
+    private static <E> java.util.List<E> randomAccess(java.util.List<E> values, Parallelism parallelism) {
+        return values instanceof RandomAccess || !parallelism.splits(values.size()) ? values : new ArrayList<>(values);
+    }
+
     protected RuleLike<Option<T>, Validation<Option<R>>> toOption() {
         return opt -> {
             if (opt == null) {
@@ -75,27 +143,80 @@ abstract class Lifter<T, R> {
             if(map == null) {
                 return Validation.Invalid.notNull();
             }
-            Seq<Tuple2<K, Validation<R>>> validations = map.map(tuple ->
-                    Tuple.of(tuple._1, this.test(tuple._2).mapErrors(errors ->
-                            errors.map(e -> e.prepend(new ErrorMessage.Path("", Option.of(keyExtractor.apply(tuple._1)))))
-                    ))
-            );
-
-            var validAndInvalid = validations.partition(t -> t._2.isValid());
-            if (validAndInvalid._2.nonEmpty()) {
-                return invalid(validAndInvalid._2.flatMap(t -> t._2.errors()).toList());
-            } else {
-                return Validation.valid(
-                        validAndInvalid._1.toMap(
-                                Tuple2::_1,
-                                t ->
-                                        t._2.getOrElseThrow()
-                        )
-                );
+            java.util.List<Tuple2<K, T>> entries = map.toJavaList();
+            return joinMap(java.util.List.of(validate(entries, keyExtractor)));
+        };
+    }
+
+    protected <K> RuleLike<Map<K, T>, Validation<Map<K, R>>> toVavrMap(Parallelism parallelism) {
+        return toVavrMap(Objects::toString, parallelism);
+    }
+
+    protected <K> RuleLike<Map<K, T>, Validation<Map<K, R>>> toVavrMap(Function<K, Object> keyExtractor, Parallelism parallelism) {
+        Objects.requireNonNull(keyExtractor, "keyExtractor cannot be null");
+        Objects.requireNonNull(parallelism, "parallelism cannot be null");
+        return map -> {
+            if (map == null) {
+                return Validation.Invalid.notNull();
+            }
+            if (!parallelism.splits(map.size())) {
+                return this.<K>toVavrMap(keyExtractor).apply(map);
+            }
+            java.util.List<Tuple2<K, T>> entries = new ArrayList<>(map.size());
+            for (Tuple2<K, T> entry : map) {
+                entries.add(entry);
             }
+            return joinMap(parallelism.split(entries.size(), (from, to) -> validate(entries.subList(from, to), keyExtractor)));
         };
     }
 
+    // the validations of the values of the entries, with the key in the path of their errors. Within a
+    // ValidationContext the errors are counted, and when its budget is exhausted the entries that are left are replaced
+    // by a single invalid entry, so the map isn't valid
+    private <K> java.util.List<Tuple2<K, Validation<R>>> validate(java.util.List<Tuple2<K, T>> entries, Function<K, Object> keyExtractor) {
+        ValidationContext.Budget budget = ValidationContext.budget();
+        int counted = budget == null ? 0 : budget.errors();
+        java.util.List<T> values = new ArrayList<>(entries.size());
+        for (Tuple2<K, T> entry : entries) {
+            values.add(entry._2);
+        }
+        Batching<T, R> batching = batching();
+        boolean exhausted = budget != null && !entries.isEmpty() && budget.stop();
+        java.util.@Nullable List<Validation<R>> results = batching == null || exhausted ? null : batching.applyAll(values);
+        java.util.List<Tuple2<K, Validation<R>>> validations = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            Tuple2<K, T> entry = entries.get(i);
+            if (budget != null && budget.stop()) {
+                validations.add(Tuple.of(entry._1, invalid(List.of(budget.marker()))));
+                break;
+            }
+            Validation<R> validation = results == null ? test(entry._2) : results.get(i);
+            if (budget != null && validation instanceof Validation.Invalid<R>(var errors)) {
+                counted += errors.size();
+                budget.atLeast(counted);
+            }
+            validations.add(Tuple.of(entry._1, validation.mapErrors(errors -> {
+                ErrorMessage.Path key = new ErrorMessage.Path("", Option.of(keyExtractor.apply(entry._1)));
+                return errors.map(e -> e.prepend(key));
+            })));
+        }
+        return validations;
+    }
+
+    // joins the validations of the chunks of entries, in order
+    private static <K, R> Validation<Map<K, R>> joinMap(java.util.List<java.util.List<Tuple2<K, Validation<R>>>> chunks) {
+        ArrayList<ErrorMessage> errors = new ArrayList<>();
+        for (java.util.List<Tuple2<K, Validation<R>>> chunk : chunks) {
+            for (Tuple2<K, Validation<R>> validation : chunk) {
+                errors.addAll(validation._2.errors().asJava());
+            }
+        }
+        if (!errors.isEmpty()) {
+            return invalid(List.ofAll(errors));
+        }
+        return Validation.valid(List.ofAll(chunks).flatMap(List::ofAll).toMap(Tuple2::_1, t -> t._2.getOrElseThrow()));
+    }
+
     protected <K> RuleLike<java.util.Map<K, T>, Validation<java.util.Map<K, R>>> toMap() {
         return toMap(Objects::toString);
     }
@@ -0,0 +1,147 @@
+package be.iffy.fv;
+
+import be.iffy.fv.Validation.Invalid;
+import io.vavr.collection.List;
+
+import java.util.Objects;
+import java.util.function.LongPredicate;
+
+/**
+ * A {@link Rule} for {@link Long} values that can also test a primitive {@code long} without boxing it.
+ * <p>
+ * Use it like any other {@code Rule<Long>}. The primitive form pays off when validating many values at once:
+ * {@code lift().toArray()} validates an {@code long[]} element by element, and only boxes the elements that fail, to
+ * build their errors.
+ * {@snippet :
+ * Rule<long[]> timestamps = longs.positive().and(longs.maxLong(4_102_444_800_000L)).lift().toArray();
+ *}
+ *
+ * @see IntRule
+ * @see DoubleRule
+ */
+public interface LongRule extends Rule<Long> {
+
+    /**
+     * Tests the value, without boxing it.
+     *
+     * @return {@code true} if the value passes the rule.
+     */
+    boolean test(long value);
+
+    /**
+     * The errors of a value that does not pass the rule, only called when {@link #test(long)} returned {@code false}.
+     */
+    List<ErrorMessage> errors(long value);
+
+    @Override
+    default Validation<Long> apply(Long value) {
+        if (value == null) {
+            return Invalid.notNull();
+        }
+        return test(value) ? Validation.valid(value) : Validation.invalid(errors(value));
+    }
+
+    //region Factory methods
+
+    /**
+     * Creates an {@link LongRule} from the given predicate and error message key.
+     */
+    static LongRule of(LongPredicate predicate, String errorKey) {
+        return of(predicate, ErrorMessage.of(errorKey));
+    }
+
+    /**
+     * Creates an {@link LongRule} from the given predicate and {@link ErrorMessage}.
+     * If the predicate resolves to {@code true}, the value is valid.
+     */
+    static LongRule of(LongPredicate predicate, ErrorMessage errorMessage) {
+        Objects.requireNonNull(predicate, "predicate cannot be null");
+        Objects.requireNonNull(errorMessage, "errorMessage cannot be null");
+        List<ErrorMessage> errors = List.of(errorMessage);
+        return new LongRule() {
+            @Override
+            public boolean test(long value) {
+                return predicate.test(value);
+            }
+
+            @Override
+            public List<ErrorMessage> errors(long value) {
+                return errors;
+            }
+        };
+    }
+
+    //endregion
+
+    //region combinators
+
+    /**
+     * Same as {@link Rule#and(RuleLike)}, for two {@link LongRule}s: the errors of both
+     * rules are returned when both fail.
+     * <p>
+     * Accumulating. {@link #test} stops at the first rule that fails, {@link #errors} then tests both.
+     */
+    default LongRule and(LongRule other) {
+        Objects.requireNonNull(other, "other rule cannot be null");
+        LongRule self = this;
+        return new LongRule() {
+            @Override
+            public boolean test(long value) {
+                return self.test(value) && other.test(value);
+            }
+
+            @Override
+            public List<ErrorMessage> errors(long value) {
+                if (self.test(value)) {
+                    return other.errors(value);
+                }
+                return other.test(value) ? self.errors(value) : self.errors(value).appendAll(other.errors(value));
+            }
+        };
+    }
+
+    /**
+     * Same as {@link Rule#or(RuleLike)}, for two {@link LongRule}s: the other rule is only tested when this one
+     * fails, and the errors of both are returned when both fail.
+     * <p>
+     * Short-circuiting, accumulating.
+     */
+    default LongRule or(LongRule other) {
+        Objects.requireNonNull(other, "other rule cannot be null");
+        LongRule self = this;
+        return new LongRule() {
+            @Override
+            public boolean test(long value) {
+                return self.test(value) || other.test(value);
+            }
+
+            @Override
+            public List<ErrorMessage> errors(long value) {
+                return self.errors(value).appendAll(other.errors(value));
+            }
+        };
+    }
+
+    @Override
+    default LongRule negate(String negatedErrorKey) {
+        Objects.requireNonNull(negatedErrorKey, "negatedErrorKey cannot be null");
+        return negate(ErrorMessage.of(negatedErrorKey));
+    }
+
+    @Override
+    default LongRule negate(ErrorMessage negatedError) {
+        Objects.requireNonNull(negatedError, "negatedError cannot be null");
+        return of(value -> !test(value), negatedError);
+    }
+
+    //endregion
+
+    /**
+     * Lift this rule by giving you access to the {@link LongRuleLifter}, which adds {@code long[]} and
+     * {@link java.util.stream.LongStream} to the types of {@link RuleLifter}.
+     */
+    @Override
+    default LongRuleLifter lift() {
+        return new LongRuleLifter(this);
+    }
+}
@@ -0,0 +1,59 @@
+package be.iffy.fv;
+
+import java.util.ArrayList;
+import java.util.stream.LongStream;
+
+/**
+ * The {@link RuleLifter} of an {@link LongRule}, which can also lift it to {@code long[]} and {@link LongStream}.
+ * <p>
+ * The elements are tested as primitives, only the elements that fail are boxed, to build their errors. The errors
+ * have the same {@code [index]} paths as those of {@link #toList()}.
+ */
+public class LongRuleLifter extends RuleLifter<Long> {
+
+    private final LongRule rule;
+
+    LongRuleLifter(LongRule rule) {
+        super(rule);
+        this.rule = rule;
+    }
+
+    /**
+     * Lifts this {@link LongRule} so it applies to an {@code long[]}.
+     * If the array is empty, it is considered valid.
+     */
+    public Rule<long[]> toArray() {
+        return values -> {
+            if (values == null) {
+                return Validation.Invalid.notNull();
+            }
+            return validate(values);
+        };
+    }
+
+    /**
+     * Lifts this {@link LongRule} so it applies to an {@link LongStream}. The stream is consumed, a valid result holds
+     * its elements as an {@code long[]}.
+     */
+    public MappingRule<LongStream, long[]> toLongStream() {
+        return stream -> {
+            if (stream == null) {
+                return Validation.Invalid.notNull();
+            }
+            return validate(stream.toArray());
+        };
+    }
+
+    private Validation<long[]> validate(long[] values) {
+        ArrayList<ErrorMessage> errors = null;
+        for (int i = 0; i < values.length; i++) {
+            if (!rule.test(values[i])) {
+                if (errors == null) {
+                    errors = new ArrayList<>();
+                }
+                SequenceBuilder.addErrorsAt(errors, i, rule.errors(values[i]));
+            }
+        }
+        return errors == null ? Validation.valid(values) : Validation.invalid(errors);
+    }
+}
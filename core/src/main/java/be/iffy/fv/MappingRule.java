@@ -11,6 +11,8 @@ import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
+import static be.iffy.fv.RuleCompiler.stepFor;
+
 import static be.iffy.fv.Validation.invalid;
 
 /**
@@ -90,7 +92,10 @@ public interface MappingRule<T, R> extends RuleLike<T, Validation<R>> {
             }
             try {
                 return Validation.valid(
-                    Objects.requireNonNull(throwingMapper.apply(input), "throwingMapper cannot return null")
+                    Objects.requireNonNull(
+                        ValidationException.withoutStackTraces(() -> throwingMapper.apply(input)),
+                        "throwingMapper cannot return null"
+                    )
                 );
             } catch (ValidationException ve) {
                 return invalid(ve.errors());
@@ -146,7 +151,10 @@ public interface MappingRule<T, R> extends RuleLike<T, Validation<R>> {
             if (input == null) {
                 return Invalid.notNull();
             }
-            Try<? extends R> result = Objects.requireNonNull(tryProvider.apply(input), "tryProvider cannot return null Try");
+            Try<? extends R> result = Objects.requireNonNull(
+                ValidationException.withoutStackTraces(() -> tryProvider.apply(input)),
+                "tryProvider cannot return null Try"
+            );
             return result.fold(
                 t -> {
                     if (t instanceof ValidationException ve) {
@@ -185,7 +193,7 @@ public interface MappingRule<T, R> extends RuleLike<T, Validation<R>> {
      */
     default MappingRule<T, R> fallback(RuleLike<? super T, ? extends Validation<R>> fallback) {
         Objects.requireNonNull(fallback, "fallback rule cannot be null");
-        return MappingRule.of(input -> {
+        MappingRule<T, R> rule = MappingRule.of(input -> {
             Validation<R> first = this.apply(input);
             if (first.isValid()) {
                 return first;
@@ -193,6 +201,7 @@ public interface MappingRule<T, R> extends RuleLike<T, Validation<R>> {
 
             return Objects.requireNonNull(fallback.apply(input), "fallback cannot return null Validation");
         });
+        return RuleCompiler.compilable(rule, () -> new RuleCompiler.Fallback(false, stepFor(this), stepFor(fallback)));
     }
 
     /**
@@ -207,9 +216,10 @@ public interface MappingRule<T, R> extends RuleLike<T, Validation<R>> {
      */
     default <Z> MappingRule<T, Z> then(RuleLike<? super R, ? extends Validation<? extends Z>> rule) {
         Objects.requireNonNull(rule, "rule cannot be null");
-        return MappingRule.of((T input) ->
+        MappingRule<T, Z> sequence = MappingRule.of((T input) ->
             this.apply(input).flatMap(rule)
         );
+        return RuleCompiler.compilable(sequence, () -> RuleCompiler.Sequence.of(true, true, stepFor(this), stepFor(rule)));
     }
 
     /**
@@ -223,7 +233,7 @@ public interface MappingRule<T, R> extends RuleLike<T, Validation<R>> {
     @SuppressWarnings("unchecked")
     default MappingRule<T, R> or(RuleLike<? super T, ? extends Validation<? extends R>> other) {
         Objects.requireNonNull(other, "other rule cannot be null");
-        return MappingRule.of(input -> {
+        MappingRule<T, R> rule = MappingRule.of(input -> {
             Validation<R> first = this.apply(input);
             if (first.isValid()) {
                 return first;
@@ -234,8 +244,9 @@ public interface MappingRule<T, R> extends RuleLike<T, Validation<R>> {
                 return second;
             }
 
-            return invalid(first.errors().appendAll(second.errors()));
+            return new ErrorAccumulator().add(first).add(second).toInvalid();
         });
+        return RuleCompiler.compilable(rule, () -> RuleCompiler.AnyOf.of(false, stepFor(this), stepFor(other)));
     }
 
     /**
@@ -269,13 +280,15 @@ public interface MappingRule<T, R> extends RuleLike<T, Validation<R>> {
     static <T, V, R> MappingRule<T, R> on(PropertySelector<? super T, ? extends V> selector, RuleLike<? super V, ? extends Validation<? extends R>> rule) {
         Objects.requireNonNull(selector, "selector cannot be null");
         Objects.requireNonNull(rule, "rule cannot be null");
-        return MappingRule.of(input ->
+        String name = selector.getPropertyName();
+        MappingRule<T, R> onProperty = MappingRule.of(input ->
             Validation.narrow(
                 Objects.requireNonNull(
-                    rule.apply(selector.apply(input)).at(selector.getPropertyName()),
+                    rule.apply(selector.apply(input)).at(name),
                     "rule cannot return null Validation"
                 )
             ));
+        return RuleCompiler.compilable(onProperty, () -> new RuleCompiler.Property(true, false, selector, stepFor(rule)));
     }
 
     /**
@@ -297,9 +310,10 @@ public interface MappingRule<T, R> extends RuleLike<T, Validation<R>> {
      */
     default <Z> MappingRule<T, Z> map(Function<? super R, ? extends Z> mapper) {
         Objects.requireNonNull(mapper, "mapper cannot be null");
-        return MappingRule.of((T input) ->
+        MappingRule<T, Z> rule = MappingRule.of((T input) ->
             this.apply(input).map(mapper)
         );
+        return RuleCompiler.compilable(rule, () -> new RuleCompiler.Mapped(stepFor(this), mapper));
     }
 
     /**
@@ -314,6 +328,35 @@ public interface MappingRule<T, R> extends RuleLike<T, Validation<R>> {
 
     //endregion
 
+    /**
+     * Returns an equivalent MappingRule that evaluates this tree of combinators from a single, flattened execution plan.
+     * <p>
+     * Nested combinators of the same kind, like {@code a.then(b).then(c)} or {@code a.or(b).or(c)}, are merged into a single
+     * step, no intermediate {@link Validation}s are created while evaluating them, and the property names of
+     * {@link #on(PropertySelector, RuleLike)} are resolved once, when compiling.
+     * The compiled rule returns the same values and the same errors, in the same order, as this rule.
+     * <p>
+     * Compiling walks the whole tree, so compile once and reuse the result.
+     * A MappingRule that isn't built with these combinators is returned as is.
+     */
+    default MappingRule<T, R> compile() {
+        return RuleCompiler.compile(this);
+    }
+
+    /**
+     * Returns an equivalent MappingRule that keeps its results in the {@link Memo}, for expensive rules that are
+     * applied to the same values over and over, e.g. {@code strings.asURL()} on the links of a feed.
+     * <p>
+     * Only memoize rules that always give the same result for the same input. The memoized results are shared, so
+     * they should be immutable.
+     *
+     * @throws IllegalStateException if the memo was already passed to another rule.
+     */
+    default MappingRule<T, R> memoized(Memo memo) {
+        Objects.requireNonNull(memo, "memo cannot be null");
+        return memo.<T, R>memoize(this)::apply;
+    }
+
     /**
      * Converts this MappingRule into a {@link Predicate} that tests whether
      * the given input satisfies the rule's conditions.
@@ -3,6 +3,7 @@ package be.iffy.fv;
 import io.vavr.collection.List;
 import io.vavr.collection.Map;
 import io.vavr.control.Option;
+import org.jspecify.annotations.Nullable;
 
 import java.util.Optional;
 import java.util.function.Function;
@@ -30,6 +31,11 @@ public class MappingRuleLifter<T, R> extends Lifter<T,R> {
         return rule.apply(value);
     }
 
+    @Override
+    @Nullable Batching<T, R> batching() {
+        return Batching.of(rule);
+    }
+
     /**
      * Lifts a {@link MappingRule} so it applies to a {@link List} of T instead of a single T.
      * If the List is empty, the List is considered valid.
@@ -46,6 +52,22 @@ public class MappingRuleLifter<T, R> extends Lifter<T,R> {
         return of(super.toList());
     }
 
+    /**
+     * Like {@link #toVavrList()}, validating the elements of large lists on several threads. The result is the same,
+     * the rule has to be safe to apply from several threads at once.
+     */
+    public MappingRule<List<T>, List<R>> toVavrList(Parallelism parallelism) {
+        return of(super.toVavrList(parallelism));
+    }
+
+    /**
+     * Like {@link #toList()}, validating the elements of large lists on several threads. The result is the same,
+     * the rule has to be safe to apply from several threads at once.
+     */
+    public MappingRule<java.util.List<T>, java.util.List<R>> toList(Parallelism parallelism) {
+        return of(super.toList(parallelism));
+    }
+
     /**
      * Lifts the current mapping rule to operate on the content of {@link Option} containers.
      * Empty Options (None) are considered to be valid.
@@ -95,6 +117,22 @@ public class MappingRuleLifter<T, R> extends Lifter<T,R> {
         return of(super.toVavrMap(keyExtractor));
     }
 
+    /**
+     * Like {@link #toVavrMap()}, validating the values of large maps on several threads. The result is the same, the
+     * rule has to be safe to apply from several threads at once.
+     */
+    public <K> MappingRule<Map<K, T>, Map<K, R>> toVavrMap(Parallelism parallelism) {
+        return of(super.toVavrMap(parallelism));
+    }
+
+    /**
+     * Like {@link #toVavrMap(Function)}, validating the values of large maps on several threads. The result is the same,
+     * the rule has to be safe to apply from several threads at once.
+     */
+    public <K> MappingRule<Map<K, T>, Map<K, R>> toVavrMap(Function<K, Object> keyExtractor, Parallelism parallelism) {
+        return of(super.toVavrMap(keyExtractor, parallelism));
+    }
+
     /**
      * Lifts this {@link MappingRule} so it applies to a {@link java.util.Map} of K to T.
      * <p>
@@ -0,0 +1,206 @@
+package be.iffy.fv;
+
+import org.jspecify.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.IdentityHashMap;
+import java.util.Objects;
+
+/**
+ * Where a memoized rule keeps its results, see {@link Rule#memoized(Memo)} and {@link MappingRule#memoized(Memo)}.
+ * Only memoize rules that are pure: the same input always gives the same result, and the input is not changed after it
+ * was validated.
+ * <ul>
+ *     <li>
+ *         {@link #bounded(int)} keeps at most a number of results, and optionally drops them a while after they were
+ *         computed. When it is full, a frequency-aware policy in the style of W-TinyLFU decides which result to keep:
+ *         a new result first enters a small window, and only replaces one of the other results when its input was
+ *         seen more often. A burst of one-off inputs so cannot push out the inputs that are validated all the time.
+ *     </li>
+ *     <li>
+ *         {@link #identity()} keeps every result for as long as the memo lives, looked up by the identity of the input
+ *         instead of {@code equals}. Create one per request, to validate a shared object graph only once.
+ *     </li>
+ * </ul>
+ * A memo belongs to the single rule it was passed to. Inputs that are null are never memoized, and neither are rules
+ * that throw, nor results that a {@link ValidationContext} cut short.
+ */
+public final class Memo {
+
+    /**
+     * The results of a single memoized rule.
+     */
+    interface Store {
+        @Nullable Object get(Object key);
+
+        void put(Object key, Object value);
+
+        MemoStats stats();
+
+        void clear();
+    }
+
+    private final int maximumSize;
+    private final long expireAfterWriteMillis;
+    private final Clock clock;
+    private volatile @Nullable Store store;
+
+    private Memo(int maximumSize, long expireAfterWriteMillis, Clock clock) {
+        this.maximumSize = maximumSize;
+        this.expireAfterWriteMillis = expireAfterWriteMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * A memo that keeps at most {@code maximumSize} results, looked up by {@code equals}.
+     *
+     * @throws IllegalArgumentException if {@code maximumSize} is not positive.
+     */
+    public static Memo bounded(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive");
+        }
+        return new Memo(maximumSize, 0, Clock.systemUTC());
+    }
+
+    /**
+     * A memo that keeps every result for as long as it lives, looked up by the identity of the input.
+     */
+    public static Memo identity() {
+        return new Memo(0, 0, Clock.systemUTC());
+    }
+
+    /**
+     * Drops a result once the time since it was computed exceeds the duration, e.g. for a lookup of a value that may
+     * change.
+     *
+     * @throws IllegalArgumentException if {@code duration} is not positive.
+     * @throws IllegalStateException    for an {@link #identity()} memo, which only lives for a request.
+     */
+    public Memo expireAfterWrite(Duration duration) {
+        Objects.requireNonNull(duration, "duration cannot be null");
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("duration must be positive");
+        }
+        requireBounded();
+        return new Memo(maximumSize, Math.max(1, duration.toMillis()), clock);
+    }
+
+    /**
+     * The clock that {@link #expireAfterWrite(Duration)} measures time with, e.g. a fixed clock in tests.
+     */
+    public Memo withClock(Clock clock) {
+        Objects.requireNonNull(clock, "clock cannot be null");
+        requireBounded();
+        return new Memo(maximumSize, expireAfterWriteMillis, clock);
+    }
+
+    private void requireBounded() {
+        if (maximumSize == 0) {
+            throw new IllegalStateException("an identity memo cannot expire");
+        }
+    }
+
+    /**
+     * The statistics of the memo so far, all zero before it was passed to a rule.
+     */
+    public MemoStats stats() {
+        Store current = store;
+        return current == null ? new MemoStats(0, 0, 0, 0) : current.stats();
+    }
+
+    /**
+     * Drops all results. The statistics are kept.
+     */
+    public void clear() {
+        Store current = store;
+        if (current != null) {
+            current.clear();
+        }
+    }
+
+    /**
+     * The rule, looking its results up in this memo first.
+     *
+     * @throws IllegalStateException if the memo was already passed to another rule.
+     */
+    <T, R> RuleLike<T, Validation<R>> memoize(RuleLike<T, ? extends Validation<? extends R>> rule) {
+        Objects.requireNonNull(rule, "rule cannot be null");
+        Store results = bind();
+        return input -> {
+            if (input == null) {
+                return Validation.narrow(rule.apply(null));
+            }
+            @SuppressWarnings("unchecked")
+            Validation<R> cached = (Validation<R>) results.get(input);
+            if (cached != null) {
+                return cached;
+            }
+            Validation<R> validation = Validation.narrow(Objects.requireNonNull(rule.apply(input), "rule cannot return null Validation"));
+            if (complete(validation)) {
+                results.put(input, validation);
+            }
+            return validation;
+        };
+    }
+
+    // whether the result isn't cut short by a ValidationContext: nothing stopped in the running context yet, and it
+    // isn't the truncated result of a context run by the rule itself
+    private static boolean complete(Validation<?> validation) {
+        ValidationContext.Budget budget = ValidationContext.budget();
+        return (budget == null || !budget.stopped()) && (validation.isValid() || !ValidationContext.isTruncated(validation));
+    }
+
+    private synchronized Store bind() {
+        if (store != null) {
+            throw new IllegalStateException("memo is already used by another rule, create a Memo per rule");
+        }
+        Store created = maximumSize == 0 ? new IdentityStore() : new BoundedMemoStore(maximumSize, expireAfterWriteMillis, clock);
+        store = created;
+        return created;
+    }
+
+    @Override
+    public String toString() {
+        return maximumSize == 0
+                ? "Memo[identity]"
+                : "Memo[maximumSize=" + maximumSize + ", expireAfterWrite=" + (expireAfterWriteMillis == 0 ? "never" : Duration.ofMillis(expireAfterWriteMillis)) + "]";
+    }
+
+    /**
+     * The results of an {@link #identity()} memo. It only lives for a request, so a lock is cheap enough.
+     */
+    private static final class IdentityStore implements Store {
+
+        private final IdentityHashMap<Object, Object> results = new IdentityHashMap<>();
+        private long hits;
+        private long misses;
+
+        @Override
+        public synchronized @Nullable Object get(Object key) {
+            Object result = results.get(key);
+            if (result == null) {
+                misses++;
+            } else {
+                hits++;
+            }
+            return result;
+        }
+
+        @Override
+        public synchronized void put(Object key, Object value) {
+            results.putIfAbsent(key, value);
+        }
+
+        @Override
+        public synchronized MemoStats stats() {
+            return new MemoStats(hits, misses, 0, results.size());
+        }
+
+        @Override
+        public synchronized void clear() {
+            results.clear();
+        }
+    }
+}
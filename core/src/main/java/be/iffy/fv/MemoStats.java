@@ -0,0 +1,27 @@
+package be.iffy.fv;
+
+/**
+ * A snapshot of the statistics of a {@link Memo}.
+ *
+ * @param hits      the number of times a rule result was found in the memo.
+ * @param misses    the number of times the rule had to be applied, including for expired results.
+ * @param evictions the number of results dropped because the memo was full or because they expired.
+ * @param size      the number of results in the memo.
+ */
+public record MemoStats(long hits, long misses, long evictions, long size) {
+
+    /**
+     * The number of lookups, {@code hits + misses}.
+     */
+    public long requests() {
+        return hits + misses;
+    }
+
+    /**
+     * The fraction of lookups that were hits, {@code 1.0} if there were none.
+     */
+    public double hitRate() {
+        long requests = requests();
+        return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+}
@@ -0,0 +1,164 @@
+package be.iffy.fv;
+
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * How a lifted rule validates the elements of a large collection on several threads, e.g.
+ * {@code rule.lift().toList(Parallelism.commonPool())}.
+ * <p>
+ * The elements are split into consecutive chunks. The first chunk is validated on the calling thread and the others on
+ * the executor, and the results of the chunks are joined in order. The result is the same as that of the sequential
+ * rule, including the order of the errors and their {@code [index]} paths, as long as the rule itself can be applied
+ * from several threads at once. If the rule throws, the exception of the first chunk that threw is rethrown.
+ * <p>
+ * Collections with fewer elements than the {@linkplain #withThreshold(int) threshold} are validated on the calling
+ * thread, splitting them costs more than validating them.
+ */
+public final class Parallelism {
+
+    static final int DEFAULT_THRESHOLD = 10_000;
+    static final int DEFAULT_CHUNK_SIZE = 1_024;
+    // chunks per thread, so that a thread that finishes early can pick up the work of a slower one
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private final Executor executor;
+    private final int threads;
+    private final int threshold;
+    private final int chunkSize;
+
+    private Parallelism(Executor executor, int threads, int threshold, int chunkSize) {
+        this.executor = executor;
+        this.threads = threads;
+        this.threshold = threshold;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Validates on the {@link ForkJoinPool#commonPool()}. Its parallelism is one less than the number of processors, and
+     * at least one, so on a single processor the chunks only take turns.
+     */
+    public static Parallelism commonPool() {
+        return on(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Validates on the pool, in at most {@code 4 * pool.getParallelism()} chunks.
+     */
+    public static Parallelism on(ForkJoinPool pool) {
+        Objects.requireNonNull(pool, "pool cannot be null");
+        return on(pool, pool.getParallelism());
+    }
+
+    /**
+     * Validates on any executor, e.g. {@code Executors.newVirtualThreadPerTaskExecutor()}, in at most
+     * {@code 4 * threads} chunks.
+     *
+     * @throws IllegalArgumentException if {@code threads} is not positive.
+     */
+    public static Parallelism on(Executor executor, int threads) {
+        Objects.requireNonNull(executor, "executor cannot be null");
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be positive");
+        }
+        return new Parallelism(executor, threads, DEFAULT_THRESHOLD, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Collections with fewer elements are validated on the calling thread. The default is {@value #DEFAULT_THRESHOLD}.
+     *
+     * @throws IllegalArgumentException if {@code threshold} is negative.
+     */
+    public Parallelism withThreshold(int threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("threshold cannot be negative");
+        }
+        return new Parallelism(executor, threads, threshold, chunkSize);
+    }
+
+    /**
+     * The smallest number of elements a chunk is split into. The default is {@value #DEFAULT_CHUNK_SIZE}.
+     *
+     * @throws IllegalArgumentException if {@code chunkSize} is not positive.
+     */
+    public Parallelism withChunkSize(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+        return new Parallelism(executor, threads, threshold, chunkSize);
+    }
+
+    /**
+     * Validates the elements in {@code [from, to)}.
+     */
+    @FunctionalInterface
+    interface Chunk<P> {
+        P validate(int from, int to);
+    }
+
+    /**
+     * Whether a collection of the size is split into chunks.
+     */
+    boolean splits(int size) {
+        // the calling thread validates the first chunk, so even a single thread of the executor doubles the threads
+        return size >= threshold && size / chunkSize >= 2;
+    }
+
+    /**
+     * The results of the chunks of {@code [0, size)}, in order. A single chunk when the size is below the threshold.
+     */
+    <P> java.util.List<P> split(int size, Chunk<P> chunk) {
+        int chunks = splits(size) ? (int) Math.min((long) threads * CHUNKS_PER_THREAD, size / chunkSize) : 1;
+        if (chunks == 1) {
+            return java.util.List.of(chunk.validate(0, size));
+        }
+        ArrayList<CompletableFuture<P>> rest = new ArrayList<>(chunks - 1);
+        // the chunks share the budget of the context the caller runs in
+        ValidationContext.Budget budget = ValidationContext.budget();
+        for (int c = 1; c < chunks; c++) {
+            int from = bound(size, chunks, c);
+            int to = bound(size, chunks, c + 1);
+            rest.add(CompletableFuture.supplyAsync(
+                    () -> ValidationContext.within(budget, () -> chunk.validate(from, to)), executor));
+        }
+        ArrayList<P> results = new ArrayList<>(chunks);
+        try {
+            results.add(chunk.validate(0, bound(size, chunks, 1)));
+            for (CompletableFuture<P> future : rest) {
+                results.add(future.join());
+            }
+        } catch (CompletionException e) {
+            rest.forEach(future -> future.cancel(false));
+            throw rethrow(e.getCause());
+        } catch (RuntimeException | Error e) {
+            rest.forEach(future -> future.cancel(false));
+            throw e;
+        }
+        return results;
+    }
+
+    // the first index of chunk c, so that the sizes of the chunks differ by at most one
+    private static int bound(int size, int chunks, int c) {
+        return (int) ((long) size * c / chunks);
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException e) {
+            return e;
+        }
+        if (cause instanceof Error e) {
+            throw e;
+        }
+        // rules cannot throw checked exceptions, but keep the cause if one was sneaked through
+        return new CompletionException(cause);
+    }
+
+    @Override
+    public String toString() {
+        return "Parallelism[threads=" + threads + ", threshold=" + threshold + ", chunkSize=" + chunkSize + "]";
+    }
+}
@@ -1,6 +1,7 @@
 package be.iffy.fv;
 
 import java.io.Serializable;
+import java.util.Objects;
 import java.util.function.Function;
 
 /**
@@ -12,7 +13,39 @@ public interface PropertySelector<T, V> extends Serializable, Function<T, V> {
 
     V apply(T input);
 
+    /**
+     * The name of the property, derived from the method name: {@code getName} and {@code isActive} become {@code name}
+     * and {@code active}, a record component keeps its name.
+     */
     default String getPropertyName() {
         return PropertySelectorSupport.getImplMethodName(this);
     }
+
+    /**
+     * A selector that looks its name up once, instead of on every call to {@link #getPropertyName()}. Keep it in a
+     * constant where a method reference would be evaluated for every value, e.g. in a validating constructor:
+     * {@snippet :
+     * private static final PropertySelector<Person, String> NAME = PropertySelector.resolve(Person::name);
+     *
+     * public Person {
+     *     name = assertThat(name, NAME).is(strings.notBlank());
+     * }
+     * }
+     */
+    static <T, V> PropertySelector<T, V> resolve(PropertySelector<T, V> selector) {
+        Objects.requireNonNull(selector, "selector cannot be null");
+        return selector instanceof PropertySelectorSupport.Resolved<T, V>
+                ? selector
+                : new PropertySelectorSupport.Resolved<>(selector, selector.getPropertyName());
+    }
+
+    /**
+     * A selector with the given name, which is never looked up, e.g. for the selectors generated for a
+     * {@link RecordValidator} record.
+     */
+    static <T, V> PropertySelector<T, V> named(String name, PropertySelector<T, V> selector) {
+        Objects.requireNonNull(name, "name cannot be null");
+        Objects.requireNonNull(selector, "selector cannot be null");
+        return new PropertySelectorSupport.Resolved<>(selector, name);
+    }
 }
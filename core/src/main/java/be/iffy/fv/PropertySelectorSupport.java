@@ -7,15 +7,13 @@ import java.lang.reflect.Method;
 
 class PropertySelectorSupport {
 
-    private static final ThreadLocal<PropertySelector<?, ?>> SELECTOR_HOLDER = new ThreadLocal<>();
-
-    // use a ClassValue cache, so we can't leak / hold on to classes unnecessarily
-    private static final ClassValue<String> NAME_CACHE = new ClassValue<>() {
+    // use a ClassValue cache, so we can't leak / hold on to classes unnecessarily.
+    // The ClassValue only sees the class of the method reference, not the instance that knows its method name, so it
+    // holds a slot that the first lookup fills in. Racing lookups compute the same name.
+    private static final ClassValue<String[]> NAME_CACHE = new ClassValue<>() {
         @Override
-        protected String computeValue(Class<?> type) {
-            PropertySelector<?, ?> selector = SELECTOR_HOLDER.get();
-            String methodName = serialized(selector).getImplMethodName();
-            return processName(methodName);
+        protected String[] computeValue(Class<?> type) {
+            return new String[1];
         }
     };
 
@@ -24,12 +22,28 @@ class PropertySelectorSupport {
      * Handles getXxx and isXxx prefixes by stripping them and converting the next character to lowercase if necessary
      */
     public static String getImplMethodName(PropertySelector<?, ?> selector) {
-        try {
-            // we can't pass the PropertySelector properly, so set it as a ThreadLocal
-            SELECTOR_HOLDER.set(selector);
-            return NAME_CACHE.get(selector.getClass());
-        } finally {
-            SELECTOR_HOLDER.remove();
+        String[] slot = NAME_CACHE.get(selector.getClass());
+        String name = slot[0];
+        if (name == null) {
+            name = processName(serialized(selector).getImplMethodName());
+            slot[0] = name;
+        }
+        return name;
+    }
+
+    /**
+     * A {@link PropertySelector} with its name looked up once, see {@link PropertySelector#resolve(PropertySelector)}.
+     */
+    record Resolved<T, V>(PropertySelector<T, V> selector, String name) implements PropertySelector<T, V> {
+
+        @Override
+        public V apply(T input) {
+            return selector.apply(input);
+        }
+
+        @Override
+        public String getPropertyName() {
+            return name;
         }
     }
 
@@ -0,0 +1,38 @@
+package be.iffy.fv;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates, with the annotation processor of the {@code processor} module, two classes next to the annotated record:
+ * <ul>
+ *     <li>
+ *         {@code <Record>Properties}, a {@link PropertySelector} constant per component, named after the component
+ *         with {@link PropertySelector#named(String, PropertySelector)}, so their names are known without reflection;
+ *     </li>
+ *     <li>
+ *         {@code <Record>Validator}, a {@link Rule} that applies the {@link CheckWith} rule of every annotated
+ *         component, and accumulates their errors under the name of the component, in straight-line code.
+ *     </li>
+ * </ul>
+ * {@snippet :
+ * @RecordValidator
+ * record Person(@CheckWith(on = PersonRules.class, field = "NAME") String name,
+ *               @CheckWith(on = PersonRules.class, field = "AGE") int age) {
+ * }
+ *
+ * Validation<Person> person = PersonValidator.instance.apply(new Person("Alice", 30));
+ * Validation<String> name = validateThat(value, PersonProperties.name).is(strings.notBlank());
+ * }
+ * The names of nested records are prefixed with those of the enclosing types, e.g. {@code Order_LineValidator}. The
+ * generated classes are in the package of the record, so neither the record nor the types it is nested in can be
+ * private.
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.SOURCE)
+public @interface RecordValidator {
+}
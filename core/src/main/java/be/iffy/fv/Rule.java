@@ -9,6 +9,9 @@ import java.util.Objects;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import static be.iffy.fv.RuleCompiler.stepFor;
+import static be.iffy.fv.RuleCompiler.stepsFor;
+
 /**
  * Represents a validation rule that can be applied to a value.
  *
@@ -93,13 +96,16 @@ public interface Rule<T> extends RuleLike<T, Validation<T>> {
     static <T> Rule<T> of(Predicate<? super T> predicate, ErrorMessage errorMessage) {
         Objects.requireNonNull(predicate, "predicate cannot be null");
         Objects.requireNonNull(errorMessage, "errorMessage cannot be null");
-        return value -> {
+        // an Invalid holds no value, so every failure can return the same one
+        Validation<T> failure = Validation.invalid(errorMessage);
+        Rule<T> rule = value -> {
             if (value == null) {
                 return Invalid.notNull();
             } else {
-                return predicate.test(value) ? Validation.valid(value) : Validation.invalid(errorMessage);
+                return predicate.test(value) ? Validation.valid(value) : failure;
             }
         };
+        return RuleCompiler.compilable(rule, () -> new RuleCompiler.Test(predicate, errorMessage));
     }
 
     /**
@@ -129,12 +135,13 @@ public interface Rule<T> extends RuleLike<T, Validation<T>> {
     default <S extends T> Rule<S> and(RuleLike<? super S, ? extends Validation<?>> other) {
         Objects.requireNonNull(other, "other rule cannot be null");
         // map back to original input so we're protected against other returning an incompatible value
-        return input ->
+        Rule<S> rule = input ->
             Validations.combine(
                     apply(input),
                     other.apply(input)
                 )
                 .map((v, o) -> input);
+        return RuleCompiler.compilable(rule, () -> RuleCompiler.All.of(false, stepFor(this), stepFor(other)));
     }
 
     /**
@@ -150,17 +157,20 @@ public interface Rule<T> extends RuleLike<T, Validation<T>> {
         Objects.requireNonNull(rules, "rules cannot be null");
         List.of(rules).forEach(rule -> Objects.requireNonNull(rule,"rule cannot be null"));
 
-        return Rule.of(value -> {
-            List<Validation<T>> validations = List.of(rules).map(rule ->
-                Objects.requireNonNull(rule.apply(value),"rule cannot return null Validation")
-            );
-            List<ErrorMessage> errors = validations
-                .flatMap(Validation::errors);
+        Rule<T> combined = Rule.of(value -> {
+            ErrorAccumulator errors = ErrorAccumulator.counting();
+            for (RuleLike<? super T, ? extends Validation<T>> rule : rules) {
+                if (errors.stop()) {
+                    break;
+                }
+                errors.add(Objects.requireNonNull(rule.apply(value),"rule cannot return null Validation"));
+            }
 
-            return errors.isEmpty()
-                ? Validation.valid(value)
-                : Validation.invalid(errors);
+            return errors.hasErrors()
+                ? errors.toInvalid()
+                : Validation.valid(value);
         });
+        return RuleCompiler.compilable(combined, () -> RuleCompiler.All.of(true, stepsFor(rules)));
     }
 
     /**
@@ -180,18 +190,19 @@ public interface Rule<T> extends RuleLike<T, Validation<T>> {
         }
         Stream.of(rules).forEach(r -> Objects.requireNonNull(r, "rules cannot be null"));
 
-        return Rule.of(value -> {
-            // we use a Stream of Lazy to ensure each rule is applied at most once per validation run
-            Stream<io.vavr.Lazy<Validation<T>>> lazyValidations = Stream.of(rules)
-                    .map(rule -> io.vavr.Lazy.of(() -> rule.apply(value)));
-
-            return lazyValidations
-                    .map(io.vavr.Lazy::get)
-                    .find(Validation::isValid)
-                    .getOrElse(() ->
-                            Validation.invalid(lazyValidations.flatMap(l -> l.get().errors()).toList())
-                    );
+        Rule<T> combined = Rule.of(value -> {
+            // each rule is applied at most once per validation run, and none after the first valid one
+            ErrorAccumulator errors = new ErrorAccumulator();
+            for (RuleLike<? super T, ? extends Validation<T>> rule : rules) {
+                Validation<T> validation = rule.apply(value);
+                if (validation.isValid()) {
+                    return validation;
+                }
+                errors.add(validation);
+            }
+            return errors.toInvalid();
         });
+        return RuleCompiler.compilable(combined, () -> RuleCompiler.AnyOf.of(true, stepsFor(rules)));
     }
 
     /**
@@ -203,7 +214,7 @@ public interface Rule<T> extends RuleLike<T, Validation<T>> {
      */
     default Rule<T> fallback(RuleLike<? super T, ? extends Validation<T>> other) {
         Objects.requireNonNull(other, "other rule cannot be null");
-        return Rule.of(input -> {
+        Rule<T> rule = Rule.of(input -> {
             Validation<T> first = this.apply(input);
             if (first.isValid()) {
                 return first;
@@ -212,6 +223,7 @@ public interface Rule<T> extends RuleLike<T, Validation<T>> {
             // make sure we stick to the Rule contract and return the original input
             return Validation.narrowSuper(other.apply(input).map(ignored -> input));
         });
+        return RuleCompiler.compilable(rule, () -> new RuleCompiler.Fallback(true, stepFor(this), stepFor(other)));
     }
 
     /**
@@ -224,7 +236,7 @@ public interface Rule<T> extends RuleLike<T, Validation<T>> {
      */
     default <S extends T> Rule<S> or(RuleLike<? super S, ? extends Validation<?>> other) {
         Objects.requireNonNull(other, "other rule cannot be null");
-        return Rule.of(input -> {
+        Rule<S> rule = Rule.of(input -> {
 
             Validation<S> first = this.<S>narrow().apply(input);
             if (first.isValid()) {
@@ -236,8 +248,9 @@ public interface Rule<T> extends RuleLike<T, Validation<T>> {
                 return second;
             }
 
-            return Validation.invalid(first.errors().appendAll(second.errors()));
+            return new ErrorAccumulator().add(first).add(second).toInvalid();
         });
+        return RuleCompiler.compilable(rule, () -> RuleCompiler.AnyOf.of(true, stepFor(this), stepFor(other)));
     }
 
     /**
@@ -251,11 +264,12 @@ public interface Rule<T> extends RuleLike<T, Validation<T>> {
      */
     default Rule<T> then(Rule<? super T> other) {
         Objects.requireNonNull(other, "other rule cannot be null");
-        return input ->
+        Rule<T> rule = input ->
             apply(input).flatMap(v ->
                 // map back to original input so we're protected against other returning an incompatible value
                 other.apply(input).map(ignored -> input)
             );
+        return RuleCompiler.compilable(rule, () -> RuleCompiler.Sequence.of(false, false, stepFor(this), stepFor(other)));
     }
 
     /**
@@ -264,10 +278,11 @@ public interface Rule<T> extends RuleLike<T, Validation<T>> {
      * Short-circuiting, not accumulating.
      */
     default <R> MappingRule<T, R> then(RuleLike<? super T, ? extends Validation<? extends R>> ruleLikeFunction) {
-        return MappingRule.of(input ->
+        MappingRule<T, R> rule = MappingRule.of(input ->
             apply(input)
                 .flatMap(ruleLikeFunction)
         );
+        return RuleCompiler.compilable(rule, () -> RuleCompiler.Sequence.of(true, true, stepFor(this), stepFor(ruleLikeFunction)));
     }
 
     /**
@@ -384,12 +399,13 @@ public interface Rule<T> extends RuleLike<T, Validation<T>> {
      */
     default Rule<T> onlyIf(Predicate<? super T> condition) {
         Objects.requireNonNull(condition, "condition cannot be null");
-        return Rule.of(input -> {
+        Rule<T> rule = Rule.of(input -> {
             if (condition.test(input)) {
                 return this.apply(input);
             }
             return Validation.valid(input);
         });
+        return RuleCompiler.compilable(rule, () -> new RuleCompiler.Conditional(condition, stepFor(this)));
     }
 
     /**
@@ -400,13 +416,15 @@ public interface Rule<T> extends RuleLike<T, Validation<T>> {
      */
     default Rule<T> onlyIf(Supplier<Boolean> condition) {
         Objects.requireNonNull(condition, "condition cannot be null");
-        return Rule.of(input -> {
+        Rule<T> rule = Rule.of(input -> {
             boolean shouldRun = Objects.requireNonNull(condition.get(), "condition result cannot be null");
             if (shouldRun) {
                 return this.apply(input);
             }
             return Validation.valid(input);
         });
+        Predicate<T> shouldRun = ignored -> Objects.requireNonNull(condition.get(), "condition result cannot be null");
+        return RuleCompiler.compilable(rule, () -> new RuleCompiler.Conditional(shouldRun, stepFor(this)));
     }
 
     /**
@@ -416,12 +434,13 @@ public interface Rule<T> extends RuleLike<T, Validation<T>> {
      * If the condition is false, the value is considered valid by default.
      */
     default Rule<T> onlyIf(boolean condition) {
-        return Rule.of(input -> {
+        Rule<T> rule = Rule.of(input -> {
             if (condition) {
                 return this.apply(input);
             }
             return Validation.valid(input);
         });
+        return RuleCompiler.compilable(rule, () -> new RuleCompiler.Conditional(ignored -> condition, stepFor(this)));
     }
 
     /**
@@ -437,6 +456,44 @@ public interface Rule<T> extends RuleLike<T, Validation<T>> {
         );
     }
 
+    /**
+     * Returns an equivalent Rule that evaluates this tree of combinators from a single, flattened execution plan.
+     * <p>
+     * Nested combinators of the same kind, like {@code a.and(b).and(c)}, {@code a.then(b).then(c)} or {@code a.or(b).or(c)},
+     * are merged into a single step, no intermediate {@link Validation}s are created while evaluating them, and the property
+     * names of {@link #on(PropertySelector, RuleLike)} are resolved once, when compiling.
+     * The compiled rule returns the same results and the same errors, in the same order, as this rule.
+     * <p>
+     * Compiling walks the whole tree, so compile once and reuse the result.
+     * A Rule that isn't built with these combinators is returned as is.
+     */
+    default Rule<T> compile() {
+        return RuleCompiler.compile(this);
+    }
+
+    /**
+     * Returns an equivalent Rule that keeps its results in the {@link Memo}, for expensive rules that are applied to
+     * the same values over and over, e.g. a regex-heavy check of a currency code.
+     * {@snippet :
+     * Memo memo = Memo.bounded(10_000).expireAfterWrite(Duration.ofMinutes(10));
+     * Rule<String> tenant = knownTenant.memoized(memo);
+     * memo.stats().hitRate();
+     *}
+     * Only memoize rules that always give the same result for the same input. The Valid results still contain the
+     * input itself.
+     *
+     * @throws IllegalStateException if the memo was already passed to another rule.
+     */
+    default Rule<T> memoized(Memo memo) {
+        Objects.requireNonNull(memo, "memo cannot be null");
+        RuleLike<T, Validation<T>> memoized = memo.memoize(this);
+        return input -> {
+            Validation<T> validation = memoized.apply(input);
+            // the memo may hold the result of an equal input
+            return validation instanceof Validation.Valid<T>(var value) && value != input ? Validation.valid(input) : validation;
+        };
+    }
+
     /**
      * Converts this Rule into a {@link Predicate} that tests whether
      * the given input satisfies the rule's conditions.
@@ -461,13 +518,15 @@ public interface Rule<T> extends RuleLike<T, Validation<T>> {
     static <T, V> Rule<T> on(PropertySelector<? super T, ? extends V> selector, RuleLike<? super V, ? extends Validation<? extends V>> rule) {
         Objects.requireNonNull(selector, "selector cannot be null");
         Objects.requireNonNull(rule, "rule cannot be null");
-        return input ->
+        String name = selector.getPropertyName();
+        Rule<T> onProperty = input ->
             Objects.requireNonNull(
                     rule.apply(selector.apply(input)),
                     "rule cannot return a null Validation"
                 )
                 .map(ignore -> input)
-                .at(selector.getPropertyName());
+                .at(name);
+        return RuleCompiler.compilable(onProperty, () -> new RuleCompiler.Property(false, true, selector, stepFor(rule)));
     }
 
     /**
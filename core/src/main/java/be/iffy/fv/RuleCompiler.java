@@ -0,0 +1,467 @@
+package be.iffy.fv;
+
+import io.vavr.collection.List;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Turns a tree of combinators into a flat execution plan, see {@link Rule#compile()} and {@link MappingRule#compile()}.
+ * <p>
+ * The combinators of {@link Rule} and {@link MappingRule} wrap the rule they return with {@link #compilable(Rule, Supplier)},
+ * which keeps applying that rule as before, but also knows how to describe it as a {@link Step}.
+ * <p>
+ * A plan is a tree of {@link Step}s, where nested groups of the same kind ({@code a.and(b).and(c)}, {@code a.then(b).then(c)},
+ * {@code a.or(b).or(c)}, ...) are merged into a single step that loops over an array. Steps don't wrap their outcome in a
+ * {@link Validation}: they return the resulting value, or a {@link Failed} holding the errors. So a valid input travels
+ * through the whole plan without allocating anything, until the compiled rule wraps it in its final {@link Validation.Valid}.
+ * Rules that aren't combinators (lambdas, method references, ...) are called as they are.
+ */
+final class RuleCompiler {
+
+    private RuleCompiler() {
+    }
+
+    /**
+     * Implemented by the rules that know how to turn themselves into a {@link Step}.
+     */
+    interface Compilable {
+        Step toStep();
+    }
+
+    /**
+     * The outcome of a failed step. It never leaves the plan, so it can't be confused with a validated value.
+     * The errors are de-duplicated once, when the final {@link Validation.Invalid} is created.
+     */
+    record Failed(List<ErrorMessage> errors) {
+    }
+
+    private static final Failed NOT_NULL = new Failed(Validation.Invalid.notNull().errors());
+
+    static <T> Rule<T> compile(Rule<T> rule) {
+        Objects.requireNonNull(rule, "rule cannot be null");
+        return rule instanceof Compilable compilable && !(rule instanceof CompiledRule<T>)
+                ? new CompiledRule<>(compilable.toStep())
+                : rule;
+    }
+
+    static <T, R> MappingRule<T, R> compile(MappingRule<T, R> rule) {
+        Objects.requireNonNull(rule, "rule cannot be null");
+        return rule instanceof Compilable compilable && !(rule instanceof CompiledMappingRule<T, R>)
+                ? new CompiledMappingRule<>(compilable.toStep())
+                : rule;
+    }
+
+    static <T> Rule<T> compilable(Rule<T> rule, Supplier<Step> plan) {
+        return new CompilableRule<>(rule, plan);
+    }
+
+    static <T, R> MappingRule<T, R> compilable(MappingRule<T, R> rule, Supplier<Step> plan) {
+        return new CompilableMappingRule<>(rule, plan);
+    }
+
+    static Step stepFor(RuleLike<?, ? extends Validation<?>> rule) {
+        return rule instanceof Compilable compilable ? compilable.toStep() : new Call(rule);
+    }
+
+    @SafeVarargs
+    static Step[] stepsFor(RuleLike<?, ? extends Validation<?>>... rules) {
+        Step[] steps = new Step[rules.length];
+        for (int i = 0; i < rules.length; i++) {
+            steps[i] = stepFor(rules[i]);
+        }
+        return steps;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <R> Validation<R> toValidation(@Nullable Object outcome) {
+        return switch (outcome) {
+            case Failed failed -> Validation.invalid(failed.errors());
+            // fail just like the uncompiled rule, when it creates a Valid of a null value
+            case null -> throw new NullPointerException("value cannot be null");
+            default -> Validation.valid((R) outcome);
+        };
+    }
+
+    //region compilable and compiled rules
+
+    private static final class CompilableRule<T> implements Rule<T>, Compilable {
+        private final Rule<T> rule;
+        private final Supplier<Step> plan;
+
+        private CompilableRule(Rule<T> rule, Supplier<Step> plan) {
+            this.rule = rule;
+            this.plan = plan;
+        }
+
+        @Override
+        public Validation<T> apply(T value) {
+            return rule.apply(value);
+        }
+
+        @Override
+        public Step toStep() {
+            return plan.get();
+        }
+    }
+
+    private static final class CompilableMappingRule<T, R> implements MappingRule<T, R>, Compilable {
+        private final MappingRule<T, R> rule;
+        private final Supplier<Step> plan;
+
+        private CompilableMappingRule(MappingRule<T, R> rule, Supplier<Step> plan) {
+            this.rule = rule;
+            this.plan = plan;
+        }
+
+        @Override
+        public Validation<R> apply(@Nullable T value) {
+            return rule.apply(value);
+        }
+
+        @Override
+        public Step toStep() {
+            return plan.get();
+        }
+    }
+
+    static final class CompiledRule<T> implements Rule<T>, Compilable {
+        private final Step plan;
+
+        CompiledRule(Step plan) {
+            this.plan = plan;
+        }
+
+        @Override
+        public Validation<T> apply(T value) {
+            return toValidation(plan.run(value));
+        }
+
+        @Override
+        public Step toStep() {
+            return plan;
+        }
+    }
+
+    static final class CompiledMappingRule<T, R> implements MappingRule<T, R>, Compilable {
+        private final Step plan;
+
+        CompiledMappingRule(Step plan) {
+            this.plan = plan;
+        }
+
+        @Override
+        public Validation<R> apply(@Nullable T value) {
+            return toValidation(plan.run(value));
+        }
+
+        @Override
+        public Step toStep() {
+            return plan;
+        }
+    }
+
+    //endregion
+
+    //region steps
+
+    /**
+     * A single node of a plan. Returns the resulting value when the input is valid, a {@link Failed} otherwise.
+     */
+    abstract static class Step {
+        abstract @Nullable Object run(@Nullable Object value);
+    }
+
+    /**
+     * {@code Rule.of(predicate, errorMessage)}: tests the predicate directly, failing with a pre-built error.
+     */
+    static final class Test extends Step {
+        private final Predicate<Object> predicate;
+        private final Failed failure;
+
+        @SuppressWarnings("unchecked")
+        Test(Predicate<?> predicate, ErrorMessage errorMessage) {
+            this.predicate = (Predicate<Object>) predicate;
+            this.failure = new Failed(List.of(errorMessage));
+        }
+
+        @Override
+        @Nullable Object run(@Nullable Object value) {
+            if (value == null) {
+                return NOT_NULL;
+            }
+            return predicate.test(value) ? value : failure;
+        }
+    }
+
+    /**
+     * Any rule that isn't a combinator, applied as is.
+     */
+    static final class Call extends Step {
+        private final RuleLike<Object, ? extends Validation<?>> rule;
+
+        @SuppressWarnings("unchecked")
+        Call(RuleLike<?, ? extends Validation<?>> rule) {
+            this.rule = (RuleLike<Object, ? extends Validation<?>>) rule;
+        }
+
+        @Override
+        @Nullable Object run(@Nullable Object value) {
+            Validation<?> validation = Objects.requireNonNull(rule.apply(value), "rule cannot return null Validation");
+            return switch (validation) {
+                case Validation.Valid<?>(var result) -> result;
+                case Validation.Invalid<?>(var errors) -> new Failed(errors);
+            };
+        }
+    }
+
+    /**
+     * {@code and}/{@code all}: runs every step on the same value and accumulates all errors.
+     */
+    static final class All extends Step {
+        private final boolean nullCheck;
+        private final Step[] steps;
+
+        private All(boolean nullCheck, Step[] steps) {
+            this.nullCheck = nullCheck;
+            this.steps = steps;
+        }
+
+        static Step of(boolean nullCheck, Step... steps) {
+            var flattened = new ArrayList<Step>(steps.length);
+            for (Step step : steps) {
+                // a nested null check is redundant when this step already does it
+                if (step instanceof All all && (nullCheck || !all.nullCheck)) {
+                    flattened.addAll(java.util.List.of(all.steps));
+                } else {
+                    flattened.add(step);
+                }
+            }
+            return new All(nullCheck, flattened.toArray(Step[]::new));
+        }
+
+        @Override
+        @Nullable Object run(@Nullable Object value) {
+            if (nullCheck && value == null) {
+                return NOT_NULL;
+            }
+            // only allocated up front within a ValidationContext, which needs the error count from before the steps
+            ErrorAccumulator errors = ValidationContext.budget() == null ? null : ErrorAccumulator.counting();
+            for (Step step : steps) {
+                if (errors != null && errors.stop()) {
+                    break;
+                }
+                if (step.run(value) instanceof Failed(var failed)) {
+                    errors = errors == null ? new ErrorAccumulator() : errors;
+                    errors.addAll(failed);
+                }
+            }
+            return errors == null || !errors.hasErrors() ? value : new Failed(errors.errors());
+        }
+    }
+
+    /**
+     * {@code then}: runs the steps in order and stops at the first failure. When {@code threading}, every step gets
+     * the result of the previous one ({@code MappingRule.then}), otherwise they all get the input ({@code Rule.then}).
+     */
+    static final class Sequence extends Step {
+        private final boolean nullCheck;
+        private final boolean threading;
+        private final Step[] steps;
+
+        private Sequence(boolean nullCheck, boolean threading, Step[] steps) {
+            this.nullCheck = nullCheck;
+            this.threading = threading;
+            this.steps = steps;
+        }
+
+        static Step of(boolean nullCheck, boolean threading, Step... steps) {
+            var flattened = new ArrayList<Step>(steps.length);
+            for (int i = 0; i < steps.length; i++) {
+                // when threading, only the first step gets the same value as this one, so only there a nested
+                // null check can be dropped
+                if (steps[i] instanceof Sequence sequence && sequence.threading == threading
+                        && (!sequence.nullCheck || (nullCheck && (i == 0 || !threading)))) {
+                    flattened.addAll(java.util.List.of(sequence.steps));
+                } else {
+                    flattened.add(steps[i]);
+                }
+            }
+            return new Sequence(nullCheck, threading, flattened.toArray(Step[]::new));
+        }
+
+        @Override
+        @Nullable Object run(@Nullable Object value) {
+            if (nullCheck && value == null) {
+                return NOT_NULL;
+            }
+            Object current = value;
+            for (Step step : steps) {
+                Object result = step.run(threading ? current : value);
+                if (result instanceof Failed) {
+                    return result;
+                }
+                current = result;
+            }
+            return threading ? current : value;
+        }
+    }
+
+    /**
+     * {@code or}/{@code any}: runs the steps in order until one succeeds, accumulating the errors of those that failed.
+     * When {@code keepInput}, a success returns the input ({@code Rule}), otherwise the result of the step that succeeded.
+     */
+    static final class AnyOf extends Step {
+        private final boolean keepInput;
+        private final Step[] steps;
+
+        private AnyOf(boolean keepInput, Step[] steps) {
+            this.keepInput = keepInput;
+            this.steps = steps;
+        }
+
+        // always null checking, just like Rule.or, Rule.any and MappingRule.or
+        static Step of(boolean keepInput, Step... steps) {
+            var flattened = new ArrayList<Step>(steps.length);
+            for (Step step : steps) {
+                if (step instanceof AnyOf any && any.keepInput == keepInput) {
+                    flattened.addAll(java.util.List.of(any.steps));
+                } else {
+                    flattened.add(step);
+                }
+            }
+            return new AnyOf(keepInput, flattened.toArray(Step[]::new));
+        }
+
+        @Override
+        @Nullable Object run(@Nullable Object value) {
+            if (value == null) {
+                return NOT_NULL;
+            }
+            ErrorAccumulator errors = new ErrorAccumulator();
+            for (Step step : steps) {
+                Object result = step.run(value);
+                if (!(result instanceof Failed(var failed))) {
+                    return keepInput ? value : result;
+                }
+                errors.addAll(failed);
+            }
+            return new Failed(errors.errors());
+        }
+    }
+
+    /**
+     * {@code fallback}: runs the second step only when the first one fails, and only keeps the errors of the second.
+     */
+    static final class Fallback extends Step {
+        private final boolean keepInput;
+        private final Step first;
+        private final Step second;
+
+        Fallback(boolean keepInput, Step first, Step second) {
+            this.keepInput = keepInput;
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        @Nullable Object run(@Nullable Object value) {
+            if (value == null) {
+                return NOT_NULL;
+            }
+            Object result = first.run(value);
+            if (result instanceof Failed) {
+                result = second.run(value);
+            }
+            return keepInput && !(result instanceof Failed) ? value : result;
+        }
+    }
+
+    /**
+     * {@code onlyIf}/{@code when}: only runs the step when the condition holds, the value is valid otherwise.
+     */
+    static final class Conditional extends Step {
+        private final Predicate<Object> condition;
+        private final Step step;
+
+        @SuppressWarnings("unchecked")
+        Conditional(Predicate<?> condition, Step step) {
+            this.condition = (Predicate<Object>) condition;
+            this.step = step;
+        }
+
+        @Override
+        @Nullable Object run(@Nullable Object value) {
+            if (value == null) {
+                return NOT_NULL;
+            }
+            if (condition.test(value) && step.run(value) instanceof Failed failed) {
+                return failed;
+            }
+            return value;
+        }
+    }
+
+    /**
+     * {@code on}: runs the step on a property of the value, prefixing its errors with the name of the property,
+     * which is resolved once, when compiling.
+     */
+    static final class Property extends Step {
+        private final boolean nullCheck;
+        private final boolean keepInput;
+        private final Function<Object, ?> selector;
+        private final ErrorMessage.Path path;
+        private final Step step;
+
+        @SuppressWarnings("unchecked")
+        Property(boolean nullCheck, boolean keepInput, PropertySelector<?, ?> selector, Step step) {
+            this.nullCheck = nullCheck;
+            this.keepInput = keepInput;
+            this.selector = (Function<Object, ?>) selector;
+            this.path = ErrorMessage.Path.of(selector.getPropertyName());
+            this.step = step;
+        }
+
+        @Override
+        @Nullable Object run(@Nullable Object value) {
+            if (nullCheck && value == null) {
+                return NOT_NULL;
+            }
+            Object result = step.run(selector.apply(value));
+            if (result instanceof Failed(var errors)) {
+                return new Failed(errors.map(error -> error.prepend(path)));
+            }
+            return keepInput ? value : result;
+        }
+    }
+
+    /**
+     * {@code MappingRule.map}: applies the mapper to the result of the step.
+     */
+    static final class Mapped extends Step {
+        private final Step step;
+        private final Function<Object, ?> mapper;
+
+        @SuppressWarnings("unchecked")
+        Mapped(Step step, Function<?, ?> mapper) {
+            this.step = step;
+            this.mapper = (Function<Object, ?>) mapper;
+        }
+
+        @Override
+        @Nullable Object run(@Nullable Object value) {
+            if (value == null) {
+                return NOT_NULL;
+            }
+            Object result = step.run(value);
+            // Validation.map puts the result in a Valid, which throws on null
+            return result instanceof Failed ? result : Objects.requireNonNull(mapper.apply(result), "value cannot be null");
+        }
+    }
+
+    //endregion
+}
@@ -3,6 +3,7 @@ package be.iffy.fv;
 import io.vavr.collection.List;
 import io.vavr.collection.Map;
 import io.vavr.control.Option;
+import org.jspecify.annotations.Nullable;
 
 import java.util.Objects;
 import java.util.Optional;
@@ -21,6 +22,11 @@ public class RuleLifter<T> extends Lifter<T,T> {
         return rule.apply(value);
     }
 
+    @Override
+    @Nullable Batching<T, T> batching() {
+        return Batching.of(rule);
+    }
+
     /**
      * Lifts this {@link Rule} so it applies to a {@link List} of T instead of a single T.
      */
@@ -33,14 +39,25 @@ public class RuleLifter<T> extends Lifter<T,T> {
      */
     @Override
     public Rule<java.util.List<T>> toList() {
-        return values -> {
-            if (values == null) {
-                return Validation.Invalid.notNull();
-            }
-            java.util.List<Validation<T>> validations = values.stream().map(this::test).toList();
-            // Validation.sequence already adds the [index] path segment, so we don't do it here.
-            return Validations.sequence(validations);
-        };
+        return Rule.of(super.toList());
+    }
+
+    /**
+     * Like {@link #toVavrList()}, validating the elements of large lists on several threads. The result is the same,
+     * the rule has to be safe to apply from several threads at once.
+     */
+    @Override
+    public Rule<List<T>> toVavrList(Parallelism parallelism) {
+        return Rule.of(super.toVavrList(parallelism));
+    }
+
+    /**
+     * Like {@link #toList()}, validating the elements of large lists on several threads. The result is the same,
+     * the rule has to be safe to apply from several threads at once.
+     */
+    @Override
+    public Rule<java.util.List<T>> toList(Parallelism parallelism) {
+        return Rule.of(super.toList(parallelism));
     }
 
     /**
@@ -98,6 +115,24 @@ public class RuleLifter<T> extends Lifter<T,T> {
        return Rule.of(super.toVavrMap(keyExtractor));
     }
 
+    /**
+     * Like {@link #toVavrMap()}, validating the values of large maps on several threads. The result is the same, the
+     * rule has to be safe to apply from several threads at once.
+     */
+    @Override
+    public <K> Rule<Map<K, T>> toVavrMap(Parallelism parallelism) {
+        return Rule.of(super.toVavrMap(parallelism));
+    }
+
+    /**
+     * Like {@link #toVavrMap(Function)}, validating the values of large maps on several threads. The result is the same,
+     * the rule has to be safe to apply from several threads at once.
+     */
+    @Override
+    public <K> Rule<Map<K, T>> toVavrMap(Function<K, Object> keyExtractor, Parallelism parallelism) {
+        return Rule.of(super.toVavrMap(keyExtractor, parallelism));
+    }
+
     /**
      * Lifts this {@link Rule} so it applies to a {@link java.util.Map} of K to T.
      * <p>
@@ -0,0 +1,136 @@
+package be.iffy.fv;
+
+import io.vavr.collection.List;
+import io.vavr.control.Option;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Objects;
+
+/**
+ * Accumulates validations of consecutive elements into a single validation of all their values, in one pass.
+ * <p>
+ * Values are collected in a presized buffer until the first {@link Validation.Invalid} is seen, after that only errors
+ * are collected. The {@code name[index]} path is only added to the errors of invalid elements, so valid elements cost
+ * a single buffer write. Everything is converted to its final form once at the end, which keeps sequencing linear in
+ * the number of elements, where folding with {@code List.append} was quadratic.
+ * <p>
+ * Within a {@link ValidationContext} the loop that adds the elements asks the builder whether to {@link #stop()}. A
+ * builder that is {@link #evaluating} its elements also counts their errors against the budget of the context, a
+ * builder of validations that were evaluated before doesn't, so their errors aren't counted twice.
+ */
+final class SequenceBuilder<T> {
+
+    private static final ErrorMessage.Path UNNAMED = ErrorMessage.Path.of("");
+
+    private final ErrorMessage.Path path;
+    private ArrayList<T> values;
+    private @Nullable ArrayList<ErrorMessage> errors;
+    private int index;
+    private final ValidationContext.@Nullable Budget budget;
+    private final boolean counting;
+    private final int counted;
+    private boolean truncated;
+
+    SequenceBuilder(String name, int sizeHint) {
+        this(name, sizeHint, 0, false);
+    }
+
+    private SequenceBuilder(String name, int sizeHint, int firstIndex, boolean counting) {
+        this.path = ErrorMessage.Path.of(Objects.requireNonNull(name, "name cannot be null"));
+        this.values = new ArrayList<>(Math.max(sizeHint, 0));
+        this.errors = null;
+        this.index = firstIndex;
+        this.budget = ValidationContext.budget();
+        this.counting = counting;
+        this.counted = budget == null ? 0 : budget.errors();
+    }
+
+    /**
+     * A builder for elements that are validated while they are added, from {@code firstIndex} on. A chunk of a sequence
+     * can be validated this way and {@link #addAll(SequenceBuilder)} to the builder of the chunks before it.
+     */
+    static <T> SequenceBuilder<T> evaluating(int sizeHint, int firstIndex) {
+        return new SequenceBuilder<>("", sizeHint, firstIndex, true);
+    }
+
+    /**
+     * Whether to stop adding elements, because the budget of the running context is exhausted.
+     */
+    boolean stop() {
+        if (budget != null && budget.stop()) {
+            truncated = true;
+        }
+        return truncated;
+    }
+
+    SequenceBuilder<T> add(Validation<? extends T> validation) {
+        Objects.requireNonNull(validation, "validations cannot contain null");
+        switch (validation) {
+            case Validation.Valid<? extends T> v -> {
+                if (errors == null) {
+                    values.add(v.value());
+                }
+            }
+            case Validation.Invalid<? extends T> v -> {
+                if (errors == null) {
+                    errors = new ArrayList<>();
+                    // values are never needed again, let them go
+                    values = new ArrayList<>(0);
+                }
+                Option<Object> i = Option.of(index);
+                for (ErrorMessage error : v.errors()) {
+                    errors.add(error.prepend(path).atIndex(i));
+                }
+                if (counting && budget != null) {
+                    budget.atLeast(counted + errors.size());
+                }
+            }
+        }
+        index++;
+        return this;
+    }
+
+    /**
+     * Adds the elements of the builder of the next chunk, as if they were added to this builder one by one.
+     */
+    SequenceBuilder<T> addAll(SequenceBuilder<T> next) {
+        if (next.errors != null) {
+            if (errors == null) {
+                errors = new ArrayList<>(next.errors.size());
+                values = new ArrayList<>(0);
+            }
+            errors.addAll(next.errors);
+        } else if (errors == null) {
+            values.addAll(next.values);
+        }
+        index = next.index;
+        truncated |= next.truncated;
+        return this;
+    }
+
+    /**
+     * Adds the errors of the element at the index to the target, with the path {@link #add(Validation)} gives them in
+     * a builder without a name, for sequences that are validated without creating a {@link Validation} per element.
+     */
+    static void addErrorsAt(java.util.List<ErrorMessage> target, int index, List<ErrorMessage> errors) {
+        Option<Object> i = Option.of(index);
+        for (ErrorMessage error : errors) {
+            target.add(error.prepend(UNNAMED).atIndex(i));
+        }
+    }
+
+    Validation<List<T>> toVavrList() {
+        return errors == null && !truncated ? Validation.valid(List.ofAll(values)) : Validation.invalid(errors());
+    }
+
+    Validation<java.util.List<T>> toList() {
+        return errors == null && !truncated ? Validation.valid(Collections.unmodifiableList(values)) : Validation.invalid(errors());
+    }
+
+    // a stopped sequence isn't valid, even without errors
+    private List<ErrorMessage> errors() {
+        return errors != null ? List.ofAll(errors) : List.of(Objects.requireNonNull(budget).marker());
+    }
+}
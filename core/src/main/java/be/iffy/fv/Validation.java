@@ -208,7 +208,7 @@ public sealed interface Validation<T> extends Iterable<T> {
         return switch (this) {
             case Valid(var value) -> {
                 try {
-                    yield new Valid<>(mapper.apply(value));
+                    yield new Valid<>(ValidationException.withoutStackTraces(() -> mapper.apply(value)));
                 } catch (ValidationException e) {
                     yield Validation.invalid(e.errors());
                 }
@@ -242,7 +242,7 @@ public sealed interface Validation<T> extends Iterable<T> {
         return switch (this) {
             case Valid(var value) -> {
                 try {
-                    yield new Valid<>(mapper.apply(value));
+                    yield new Valid<>(ValidationException.withoutStackTraces(() -> mapper.apply(value)));
                 } catch (ValidationException e) {
                     yield Validation.invalid(e.errors());
                 } catch (Exception e) {
@@ -277,9 +277,10 @@ public sealed interface Validation<T> extends Iterable<T> {
         return switch (this) {
             case Valid(var value) -> {
                 try {
-                    yield Validation.narrow(
-                            Objects.requireNonNull(flatMapper.apply(value),"flatMapper cannot return null Validation")
-                    );
+                    yield Validation.narrow(Objects.requireNonNull(
+                            ValidationException.withoutStackTraces(() -> flatMapper.apply(value)),
+                            "flatMapper cannot return null Validation"
+                    ));
                 } catch (ValidationException e) {
                     yield Validation.invalid(e.errors());
                 }
@@ -315,9 +316,10 @@ public sealed interface Validation<T> extends Iterable<T> {
         return switch (this) {
             case Valid(var value) -> {
                 try {
-                    yield Validation.narrow(
-                            Objects.requireNonNull(flatMapper.apply(value),"flatMapper cannot return null Validation")
-                    );
+                    yield Validation.narrow(Objects.requireNonNull(
+                            ValidationException.withoutStackTraces(() -> flatMapper.apply(value)),
+                            "flatMapper cannot return null Validation"
+                    ));
                 } catch (ValidationException e) {
                     yield Validation.invalid(e.errors());
                 } catch (Exception e) {
@@ -398,7 +400,8 @@ public sealed interface Validation<T> extends Iterable<T> {
      */
     default Validation<T> atIndex(Object index) {
         Objects.requireNonNull(index, "index cannot be null");
-        return mapErrors(errors -> errors.map(error -> error.atIndex(index)));
+        Option<Object> sharedIndex = Option.of(index);
+        return mapErrors(errors -> errors.map(error -> error.atIndex(sharedIndex)));
     }
 
     /**
@@ -409,7 +412,9 @@ public sealed interface Validation<T> extends Iterable<T> {
      */
     default Validation<T> at(String name) {
         Objects.requireNonNull(name, "name cannot be null");
-        return mapErrors(errors -> errors.map(error -> error.prepend(ErrorMessage.Path.of(name))));
+        // a single segment, shared by all errors
+        ErrorMessage.Path path = ErrorMessage.Path.of(name);
+        return mapErrors(errors -> errors.map(error -> error.prepend(path)));
     }
 
     /**
@@ -419,7 +424,8 @@ public sealed interface Validation<T> extends Iterable<T> {
      */
     default <S> Validation<T> at(PropertySelector<S, T> selector) {
         Objects.requireNonNull(selector, "selector cannot be null");
-        return at(selector.getPropertyName());
+        // a valid result has no errors to name
+        return isValid() ? this : at(selector.getPropertyName());
     }
 
     /**
@@ -551,7 +557,7 @@ public sealed interface Validation<T> extends Iterable<T> {
     static <T> Validation<T> invalid(ErrorMessage error, ErrorMessage... moreErrors) {
         Objects.requireNonNull(error, "error cannot be null");
         Objects.requireNonNull(moreErrors, "moreErrors cannot be null");
-        return new Invalid<>(List.of(error).appendAll(List.of(moreErrors)));
+        return new Invalid<>(moreErrors.length == 0 ? List.of(error) : List.of(error).appendAll(List.of(moreErrors)));
     }
 
     /**
@@ -660,8 +666,28 @@ public sealed interface Validation<T> extends Iterable<T> {
             if (errors.isEmpty()) {
                 throw new IllegalArgumentException("errors must be non-empty");
             }
-            errors.forEach(error -> Objects.requireNonNull(error, "errors cannot contain null"));
-            errors = errors.distinct();
+            errors = distinct(errors);
+        }
+
+        // Checks for nulls and duplicates in a single pass, and only copies the list when there are duplicates.
+        // Small lists, by far the most common, are compared pairwise without allocating anything.
+        private static List<ErrorMessage> distinct(List<ErrorMessage> errors) {
+            boolean duplicates = false;
+            if (errors.size() <= 8) {
+                for (List<ErrorMessage> current = errors; !current.isEmpty(); current = current.tail()) {
+                    ErrorMessage error = Objects.requireNonNull(current.head(), "errors cannot contain null");
+                    for (List<ErrorMessage> previous = errors; previous != current && !duplicates; previous = previous.tail()) {
+                        duplicates = previous.head().equals(error);
+                    }
+                }
+            } else {
+                java.util.HashSet<ErrorMessage> seen = new java.util.HashSet<>(errors.size() * 2);
+                for (ErrorMessage error : errors) {
+                    Objects.requireNonNull(error, "errors cannot contain null");
+                    duplicates |= !seen.add(error);
+                }
+            }
+            return duplicates ? errors.distinct() : errors;
         }
 
         @Override
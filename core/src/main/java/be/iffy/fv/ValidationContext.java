@@ -0,0 +1,262 @@
+package be.iffy.fv;
+
+import io.vavr.collection.List;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Bounds the work of a validation, for input that can be arbitrarily large or hostile: a maximum number of errors,
+ * and a deadline.
+ * {@snippet :
+ * ValidationContext context = ValidationContext.maxErrors(100).withTimeout(Duration.ofMillis(50));
+ *
+ * Validation<List<Order>> orders = context.run(() -> ordersRule.apply(payload));
+ * if (ValidationContext.isTruncated(orders)) {
+ *     // at most 100 errors, and not every element was validated
+ * }
+ * }
+ * While {@link #run(Supplier)} runs, the rules that validate many values stop validating the next value once the
+ * maximum number of errors was collected, or the deadline passed: the rules lifted to collections and maps (and so
+ * {@code validateValuesWith} of the collection and map rules), {@link Rule#all} and {@link Validations#sequence}.
+ * Errors of nested collections are counted once. The result then has at most the maximum number of errors, followed by
+ * an error {@value #TRUNCATED} with a {@code reason} parameter, {@code max.errors} or {@code deadline}. A result that
+ * is valid stays valid.
+ * <p>
+ * The context belongs to the thread that calls {@link #run(Supplier)}, and to the threads that validate the chunks of
+ * a collection for it, see {@link Parallelism}. Those chunks count their errors at the same time, so they may stop a
+ * little early, never late.
+ */
+public final class ValidationContext {
+
+    /**
+     * The key of the error that marks a truncated result.
+     */
+    public static final String TRUNCATED = "validation.truncated";
+
+    private static final ThreadLocal<@Nullable Budget> current = new ThreadLocal<>();
+    // the number of contexts running on any thread, so rules don't look up the thread local when there are none
+    private static final AtomicInteger running = new AtomicInteger();
+
+    private final int maxErrors;
+    private final @Nullable Duration timeout;
+    private final @Nullable Instant deadline;
+    private final Clock clock;
+
+    private ValidationContext(int maxErrors, @Nullable Duration timeout, @Nullable Instant deadline, Clock clock) {
+        this.maxErrors = maxErrors;
+        this.timeout = timeout;
+        this.deadline = deadline;
+        this.clock = clock;
+    }
+
+    /**
+     * A context that stops collecting errors once it has {@code maxErrors} of them.
+     *
+     * @throws IllegalArgumentException if {@code maxErrors} is not positive.
+     */
+    public static ValidationContext maxErrors(int maxErrors) {
+        if (maxErrors < 1) {
+            throw new IllegalArgumentException("maxErrors must be positive");
+        }
+        return new ValidationContext(maxErrors, null, null, Clock.systemUTC());
+    }
+
+    /**
+     * A context without a maximum number of errors, to only give a validation a deadline.
+     */
+    public static ValidationContext unlimited() {
+        return new ValidationContext(Integer.MAX_VALUE, null, null, Clock.systemUTC());
+    }
+
+    /**
+     * Stops validating once the duration passed, counted from the start of every {@link #run(Supplier)}.
+     *
+     * @throws IllegalArgumentException if {@code timeout} is not positive.
+     */
+    public ValidationContext withTimeout(Duration timeout) {
+        Objects.requireNonNull(timeout, "timeout cannot be null");
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("timeout must be positive");
+        }
+        return new ValidationContext(maxErrors, timeout, null, clock);
+    }
+
+    /**
+     * Stops validating once the instant passed, e.g. the deadline of the request being handled.
+     */
+    public ValidationContext withDeadline(Instant deadline) {
+        Objects.requireNonNull(deadline, "deadline cannot be null");
+        return new ValidationContext(maxErrors, null, deadline, clock);
+    }
+
+    /**
+     * The clock that {@link #withDeadline(Instant)} is compared to, e.g. a fixed clock in tests.
+     */
+    public ValidationContext withClock(Clock clock) {
+        Objects.requireNonNull(clock, "clock cannot be null");
+        return new ValidationContext(maxErrors, timeout, deadline, clock);
+    }
+
+    /**
+     * Runs the validation within this context.
+     *
+     * @return the result of the validation, truncated if it was stopped early or has too many errors.
+     */
+    public <T> Validation<T> run(Supplier<? extends Validation<? extends T>> validation) {
+        Objects.requireNonNull(validation, "validation cannot be null");
+        Budget budget = new Budget(maxErrors, deadlineNanos());
+        Budget previous = current.get();
+        current.set(budget);
+        running.incrementAndGet();
+        Validation<T> result;
+        try {
+            result = Validation.narrow(Objects.requireNonNull(validation.get(), "validation cannot return null"));
+        } finally {
+            running.decrementAndGet();
+            current.set(previous);
+        }
+        return budget.truncate(result);
+    }
+
+    /**
+     * Whether the result was truncated by a {@link ValidationContext}: not every value was validated, or not every
+     * error was kept.
+     */
+    public static boolean isTruncated(Validation<?> validation) {
+        Objects.requireNonNull(validation, "validation cannot be null");
+        return validation.errors().exists(ValidationContext::isMarker);
+    }
+
+    // the System.nanoTime() at which to stop, or 0 without a deadline
+    private long deadlineNanos() {
+        if (timeout == null && deadline == null) {
+            return 0;
+        }
+        long remaining = timeout != null
+                ? timeout.toNanos()
+                : Math.max(0, Duration.between(clock.instant(), deadline).toNanos());
+        long nanos = System.nanoTime() + remaining;
+        return nanos == 0 ? 1 : nanos;
+    }
+
+    private static boolean isMarker(ErrorMessage error) {
+        return error.key().equals(TRUNCATED);
+    }
+
+    /**
+     * The budget of the context running on the current thread, or {@code null} if there is none.
+     */
+    static @Nullable Budget budget() {
+        return running.get() == 0 ? null : current.get();
+    }
+
+    /**
+     * Runs the action with the budget, for the threads that validate a chunk of a collection for another thread.
+     */
+    static <P> P within(@Nullable Budget budget, Supplier<P> action) {
+        if (budget == null) {
+            return action.get();
+        }
+        Budget previous = current.get();
+        current.set(budget);
+        try {
+            return action.get();
+        } finally {
+            current.set(previous);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ValidationContext[maxErrors=" + (maxErrors == Integer.MAX_VALUE ? "unlimited" : maxErrors)
+                + (timeout != null ? ", timeout=" + timeout : "")
+                + (deadline != null ? ", deadline=" + deadline : "") + "]";
+    }
+
+    /**
+     * The errors counted and the time left for a single {@link #run(Supplier)}.
+     * <p>
+     * A loop that validates many values counts the errors it collected relative to the count when it started:
+     * {@code atLeast(start + collected)}. The errors of a nested loop are then counted once, by the innermost loop,
+     * without the loops knowing about each other.
+     */
+    static final class Budget {
+        private final int maxErrors;
+        private final long deadline;
+        private final AtomicInteger errors = new AtomicInteger();
+        private volatile @Nullable String reason;
+        private volatile boolean expired;
+        // counts the stop() calls to read the clock every 16th, shared by the threads of the chunks without
+        // synchronisation: a lost update only delays the next read
+        private int ticks;
+
+        Budget(int maxErrors, long deadline) {
+            this.maxErrors = maxErrors;
+            this.deadline = deadline;
+        }
+
+        int errors() {
+            return errors.get();
+        }
+
+        void atLeast(int count) {
+            errors.accumulateAndGet(count, Math::max);
+        }
+
+        /**
+         * Whether a loop stopped early, after which results of the run may be incomplete.
+         */
+        boolean stopped() {
+            return reason != null;
+        }
+
+        /**
+         * Whether to stop before validating the next value, remembering why.
+         */
+        boolean stop() {
+            String stopped = errors.get() >= maxErrors ? "max.errors"
+                    : expired() ? "deadline"
+                    : null;
+            if (stopped != null && reason == null) {
+                reason = stopped;
+            }
+            return stopped != null;
+        }
+
+        // reading the clock costs more than validating a simple value, so it isn't read for every value
+        private boolean expired() {
+            if (expired) {
+                return true;
+            }
+            if (deadline == 0 || (ticks++ & 15) != 0) {
+                return false;
+            }
+            expired = System.nanoTime() - deadline >= 0;
+            return expired;
+        }
+
+        /**
+         * The error of a loop that stopped before it collected any, the result of {@link #truncate} replaces it.
+         */
+        ErrorMessage marker() {
+            return ErrorMessage.of(TRUNCATED, "reason", Objects.requireNonNullElse(reason, "max.errors"));
+        }
+
+        <T> Validation<T> truncate(Validation<T> result) {
+            if (result.isValid()) {
+                return result;
+            }
+            List<ErrorMessage> kept = result.errors().filter(error -> !isMarker(error));
+            if (reason == null && kept.size() <= maxErrors) {
+                return result;
+            }
+            return Validation.invalid(kept.take(maxErrors).append(marker()));
+        }
+    }
+}
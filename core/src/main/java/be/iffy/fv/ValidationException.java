@@ -1,14 +1,36 @@
 package be.iffy.fv;
 
 import io.vavr.collection.List;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * Exception thrown when validation fails during mandatory validation checks.
  * It contains the list of {@link ErrorMessage} objects that caused the failure.
+ * <p>
+ * The message, the error messages joined by {@code ", "}, is only rendered when {@link #getMessage()} is called. Filling
+ * in the stack trace is by far the most expensive part of throwing, and can be skipped:
+ * <ul>
+ *     <li>for a single exception, with {@link #stackless(List)};</li>
+ *     <li>for the exceptions created while running some code on the current thread, with
+ *     {@link #withoutStackTraces(Supplier)}. The methods that turn a {@link ValidationException} into an
+ *     {@link Validation.Invalid}, such as {@link ValidationFactory#catching(Supplier)},
+ *     {@link Validation#mapCatching(java.util.function.Function)} and
+ *     {@link MappingRule#catching(java.util.function.Function, ErrorMessage)}, do this for the code they run. Every
+ *     {@link ValidationException} created by that code has no stack trace, also one that leaves the method, e.g. as
+ *     the cause of another exception the code throws;</li>
+ *     <li>for all exceptions, with {@link #setStackTracesEnabled(boolean)}.</li>
+ * </ul>
  */
 public final class ValidationException extends RuntimeException {
 
+    private static volatile boolean stackTracesEnabled = true;
+    private static final ThreadLocal<int[]> stacklessDepth = ThreadLocal.withInitial(() -> new int[1]);
+
     private final List<ErrorMessage> errors;
+    private transient volatile @Nullable String message;
 
     /**
      * Creates a new {@link ValidationException} with the given {@link ErrorMessage}.
@@ -36,19 +58,82 @@ public final class ValidationException extends RuntimeException {
      * Creates a new {@link ValidationException} with the given list of errors.
      */
     public ValidationException(List<ErrorMessage> errors) {
-        // we don't use the formattedMessage because that could potentially become very big
         // requireNonEmpty is evaluated before super() so the object is never partially initialized
-        super(requireNonEmpty(errors).map(ErrorMessage::message).mkString(", "));
+        this(requireNonEmpty(errors), stackTracesEnabled && stacklessDepth.get()[0] == 0);
+    }
+
+    private ValidationException(List<ErrorMessage> errors, boolean writableStackTrace) {
+        super(null, null, writableStackTrace, writableStackTrace);
         this.errors = errors;
     }
 
     private static List<ErrorMessage> requireNonEmpty(List<ErrorMessage> errors) {
+        Objects.requireNonNull(errors, "errors cannot be null");
         if (errors.isEmpty()) {
             throw new IllegalArgumentException("Errors must be non-empty");
         }
         return errors;
     }
 
+    /**
+     * Creates a {@link ValidationException} without a stack trace, for code that catches it right away.
+     */
+    public static ValidationException stackless(List<ErrorMessage> errors) {
+        return new ValidationException(requireNonEmpty(errors), false);
+    }
+
+    /**
+     * Creates a {@link ValidationException} without a stack trace, for code that catches it right away.
+     */
+    public static ValidationException stackless(ErrorMessage error) {
+        return stackless(List.of(error));
+    }
+
+    /**
+     * Runs the action, creating the {@link ValidationException}s on the current thread meanwhile without a stack trace,
+     * whether they are caught right away or not. Use it around code that throws many of them and catches them right
+     * away, such as validating constructors called for every row of an import.
+     */
+    public static <T> T withoutStackTraces(Supplier<? extends T> action) {
+        Objects.requireNonNull(action, "action cannot be null");
+        int[] depth = stacklessDepth.get();
+        depth[0]++;
+        try {
+            return action.get();
+        } finally {
+            depth[0]--;
+        }
+    }
+
+    /**
+     * Whether a {@link ValidationException} fills in its stack trace, {@code true} by default. Applications that use
+     * exceptions to report invalid input, and never look at where they were thrown, can turn it off at startup.
+     */
+    public static void setStackTracesEnabled(boolean enabled) {
+        stackTracesEnabled = enabled;
+    }
+
+    /**
+     * Whether a {@link ValidationException} fills in its stack trace, see {@link #setStackTracesEnabled(boolean)}.
+     */
+    public static boolean isStackTracesEnabled() {
+        return stackTracesEnabled;
+    }
+
+    /**
+     * The error messages, without parameters, joined by {@code ", "}.
+     */
+    @Override
+    public String getMessage() {
+        String rendered = message;
+        if (rendered == null) {
+            // we don't use the formattedMessage because that could potentially become very big
+            rendered = errors.map(ErrorMessage::message).mkString(", ");
+            message = rendered;
+        }
+        return rendered;
+    }
+
     /**
      * Returns the list of validation errors.
      *
@@ -29,7 +29,7 @@ public class ValidationFactory {
     public <T> Validation<T> catching(Supplier<? extends T> supplier) {
         Objects.requireNonNull(supplier, "supplier cannot be null");
         try {
-            return Validation.valid(supplier.get());
+            return Validation.valid(ValidationException.withoutStackTraces(supplier));
         } catch (ValidationException e) {
             return Validation.invalid(e.errors());
         }
@@ -48,7 +48,7 @@ public class ValidationFactory {
         Objects.requireNonNull(supplier, "supplier cannot be null");
         Objects.requireNonNull(errorMessageMaker, "errorMessageMaker cannot be null");
         try {
-            return Validation.valid(supplier.get());
+            return Validation.valid(ValidationException.withoutStackTraces(supplier));
         } catch (ValidationException e) {
             return Validation.invalid(e.errors());
         } catch (Exception e) {
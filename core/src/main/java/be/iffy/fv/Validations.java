@@ -7,7 +7,6 @@ import io.vavr.control.Option;
 
 import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Function;
 
 /**
  * Utility class providing static factory methods for combining and sequencing {@link Validation} instances.
@@ -36,15 +35,15 @@ public class Validations {
         if (validations.length == 0) {
             throw new IllegalArgumentException("validations cannot be empty");
         }
-        List<ErrorMessage> allErrors = List.empty();
+        ErrorAccumulator allErrors = new ErrorAccumulator();
         for (Validation<? extends T> validation : validations) {
             Objects.requireNonNull(validation, "validations cannot contain null");
             if (validation.isValid()) {
                 return Validation.narrow(validation);
             }
-            allErrors = allErrors.appendAll(validation.errors());
+            allErrors.add(validation);
         }
-        return Validation.invalid(allErrors);
+        return allErrors.toInvalid();
     }
 
     /**
@@ -59,16 +58,16 @@ public class Validations {
         if (!iterator.hasNext()) {
             throw new IllegalArgumentException("validations cannot be empty");
         }
-        List<ErrorMessage> allErrors = List.empty();
+        ErrorAccumulator allErrors = new ErrorAccumulator();
         while (iterator.hasNext()) {
             Validation<? extends T> validation = iterator.next();
             Objects.requireNonNull(validation, "validations cannot contain null");
             if (validation.isValid()) {
                 return Validation.narrow(validation);
             }
-            allErrors = allErrors.appendAll(validation.errors());
+            allErrors.add(validation);
         }
-        return Validation.invalid(allErrors);
+        return allErrors.toInvalid();
     }
 
     /**
@@ -93,15 +92,14 @@ public class Validations {
         Objects.requireNonNull(validations, "validations cannot be null");
         Objects.requireNonNull(name, "name cannot be null");
 
-        return validations
-                .zipWithIndex()
-                .foldLeft(
-                        Validation.valid(List.empty()),
-                        (acc, t) -> {
-                            Validation<T> v = Validation.narrow(t._1.at(name).atIndex(t._2));
-                            return Validations.combine(acc, v).map(List::append);
-                        }
-                );
+        SequenceBuilder<T> builder = new SequenceBuilder<>(name, validations.size());
+        for (Validation<? extends T> validation : validations) {
+            if (builder.stop()) {
+                break;
+            }
+            builder.add(validation);
+        }
+        return builder.toVavrList();
     }
 
     /**
@@ -134,9 +132,7 @@ public class Validations {
      * @return a {@code Validation} containing a list of values if all are valid, or all errors if any are invalid.
      */
     public static <T> Validation<java.util.List<T>> sequence(java.util.Collection<? extends Validation<? extends T>> validations) {
-        Objects.requireNonNull(validations, "validations cannot be null");
-        return sequence(List.ofAll(validations))
-                .map(List::asJava);
+        return sequence(validations, "");
     }
 
     /**
@@ -149,8 +145,14 @@ public class Validations {
     public static <T> Validation<java.util.List<T>> sequence(java.util.Collection<? extends Validation<? extends T>> validations, String at) {
         Objects.requireNonNull(validations, "validations cannot be null");
         Objects.requireNonNull(at, "at cannot be null");
-        return sequence(List.ofAll(validations), at)
-                .map(List::asJava);
+        SequenceBuilder<T> builder = new SequenceBuilder<>(at, validations.size());
+        for (Validation<? extends T> validation : validations) {
+            if (builder.stop()) {
+                break;
+            }
+            builder.add(validation);
+        }
+        return builder.toList();
     }
 
     /**
@@ -219,7 +221,7 @@ public class Validations {
             if (v1 instanceof Validation.Valid(var t1) && v2 instanceof Validation.Valid(var t2)) {
                 return Validation.valid(mapper.apply(t1, t2));
             }
-            return Validation.invalid(List.of(v1.errors(), v2.errors()).flatMap(Function.identity()));
+            return new ErrorAccumulator().add(v1).add(v2).toInvalid();
         }
 
         /**
@@ -230,7 +232,7 @@ public class Validations {
             if (v1 instanceof Validation.Valid(var t1) && v2 instanceof Validation.Valid(var t2)) {
                 return Validation.narrow(Objects.requireNonNull(flatMapper.apply(t1, t2), "flatMapper result cannot be null"));
             }
-            return Validation.invalid(List.of(v1.errors(), v2.errors()).flatMap(Function.identity()));
+            return new ErrorAccumulator().add(v1).add(v2).toInvalid();
         }
     }
 
@@ -252,7 +254,7 @@ public class Validations {
             if (v1 instanceof Validation.Valid(var t1) && v2 instanceof Validation.Valid(var t2) && v3 instanceof Validation.Valid(var t3)) {
                 return Validation.valid(mapper.apply(t1, t2, t3));
             }
-            return Validation.invalid(List.of(v1.errors(), v2.errors(), v3.errors()).flatMap(Function.identity()));
+            return new ErrorAccumulator().add(v1).add(v2).add(v3).toInvalid();
         }
 
         /**
@@ -263,7 +265,7 @@ public class Validations {
             if (v1 instanceof Validation.Valid(var t1) && v2 instanceof Validation.Valid(var t2) && v3 instanceof Validation.Valid(var t3)) {
                 return Validation.narrow(Objects.requireNonNull(flatMapper.apply(t1, t2, t3), "flatMapper result cannot be null"));
             }
-            return Validation.invalid(List.of(v1.errors(), v2.errors(), v3.errors()).flatMap(Function.identity()));
+            return new ErrorAccumulator().add(v1).add(v2).add(v3).toInvalid();
         }
     }
 
@@ -286,7 +288,7 @@ public class Validations {
             if (v1 instanceof Validation.Valid(var t1) && v2 instanceof Validation.Valid(var t2) && v3 instanceof Validation.Valid(var t3) && v4 instanceof Validation.Valid(var t4)) {
                 return Validation.valid(mapper.apply(t1, t2, t3, t4));
             }
-            return Validation.invalid(List.of(v1.errors(), v2.errors(), v3.errors(), v4.errors()).flatMap(Function.identity()));
+            return new ErrorAccumulator().add(v1).add(v2).add(v3).add(v4).toInvalid();
         }
 
         /**
@@ -297,7 +299,7 @@ public class Validations {
             if (v1 instanceof Validation.Valid(var t1) && v2 instanceof Validation.Valid(var t2) && v3 instanceof Validation.Valid(var t3) && v4 instanceof Validation.Valid(var t4)) {
                 return Validation.narrow(Objects.requireNonNull(flatMapper.apply(t1, t2, t3, t4), "flatMapper result cannot be null"));
             }
-            return Validation.invalid(List.of(v1.errors(), v2.errors(), v3.errors(), v4.errors()).flatMap(Function.identity()));
+            return new ErrorAccumulator().add(v1).add(v2).add(v3).add(v4).toInvalid();
         }
     }
 
@@ -321,7 +323,7 @@ public class Validations {
             if (v1 instanceof Validation.Valid(var t1) && v2 instanceof Validation.Valid(var t2) && v3 instanceof Validation.Valid(var t3) && v4 instanceof Validation.Valid(var t4) && v5 instanceof Validation.Valid(var t5)) {
                 return Validation.valid(mapper.apply(t1, t2, t3, t4, t5));
             }
-            return Validation.invalid(List.of(v1.errors(), v2.errors(), v3.errors(), v4.errors(), v5.errors()).flatMap(Function.identity()));
+            return new ErrorAccumulator().add(v1).add(v2).add(v3).add(v4).add(v5).toInvalid();
         }
 
         /**
@@ -332,7 +334,7 @@ public class Validations {
             if (v1 instanceof Validation.Valid(var t1) && v2 instanceof Validation.Valid(var t2) && v3 instanceof Validation.Valid(var t3) && v4 instanceof Validation.Valid(var t4) && v5 instanceof Validation.Valid(var t5)) {
                 return Validation.narrow(Objects.requireNonNull(flatMapper.apply(t1, t2, t3, t4, t5), "flatMapper result cannot be null"));
             }
-            return Validation.invalid(List.of(v1.errors(), v2.errors(), v3.errors(), v4.errors(), v5.errors()).flatMap(Function.identity()));
+            return new ErrorAccumulator().add(v1).add(v2).add(v3).add(v4).add(v5).toInvalid();
         }
     }
 
@@ -357,7 +359,7 @@ public class Validations {
             if (v1 instanceof Validation.Valid(var t1) && v2 instanceof Validation.Valid(var t2) && v3 instanceof Validation.Valid(var t3) && v4 instanceof Validation.Valid(var t4) && v5 instanceof Validation.Valid(var t5) && v6 instanceof Validation.Valid(var t6)) {
                 return Validation.valid(mapper.apply(t1, t2, t3, t4, t5, t6));
             }
-            return Validation.invalid(List.of(v1.errors(), v2.errors(), v3.errors(), v4.errors(), v5.errors(), v6.errors()).flatMap(Function.identity()));
+            return new ErrorAccumulator().add(v1).add(v2).add(v3).add(v4).add(v5).add(v6).toInvalid();
         }
 
         /**
@@ -368,7 +370,7 @@ public class Validations {
             if (v1 instanceof Validation.Valid(var t1) && v2 instanceof Validation.Valid(var t2) && v3 instanceof Validation.Valid(var t3) && v4 instanceof Validation.Valid(var t4) && v5 instanceof Validation.Valid(var t5) && v6 instanceof Validation.Valid(var t6)) {
                 return Validation.narrow(Objects.requireNonNull(flatMapper.apply(t1, t2, t3, t4, t5, t6), "flatMapper result cannot be null"));
             }
-            return Validation.invalid(List.of(v1.errors(), v2.errors(), v3.errors(), v4.errors(), v5.errors(), v6.errors()).flatMap(Function.identity()));
+            return new ErrorAccumulator().add(v1).add(v2).add(v3).add(v4).add(v5).add(v6).toInvalid();
         }
     }
 
@@ -394,7 +396,7 @@ public class Validations {
             if (v1 instanceof Validation.Valid(var t1) && v2 instanceof Validation.Valid(var t2) && v3 instanceof Validation.Valid(var t3) && v4 instanceof Validation.Valid(var t4) && v5 instanceof Validation.Valid(var t5) && v6 instanceof Validation.Valid(var t6) && v7 instanceof Validation.Valid(var t7)) {
                 return Validation.valid(mapper.apply(t1, t2, t3, t4, t5, t6, t7));
             }
-            return Validation.invalid(List.of(v1.errors(), v2.errors(), v3.errors(), v4.errors(), v5.errors(), v6.errors(), v7.errors()).flatMap(Function.identity()));
+            return new ErrorAccumulator().add(v1).add(v2).add(v3).add(v4).add(v5).add(v6).add(v7).toInvalid();
         }
 
         /**
@@ -405,7 +407,7 @@ public class Validations {
             if (v1 instanceof Validation.Valid(var t1) && v2 instanceof Validation.Valid(var t2) && v3 instanceof Validation.Valid(var t3) && v4 instanceof Validation.Valid(var t4) && v5 instanceof Validation.Valid(var t5) && v6 instanceof Validation.Valid(var t6) && v7 instanceof Validation.Valid(var t7)) {
                 return Validation.narrow(Objects.requireNonNull(flatMapper.apply(t1, t2, t3, t4, t5, t6, t7), "flatMapper result cannot be null"));
             }
-            return Validation.invalid(List.of(v1.errors(), v2.errors(), v3.errors(), v4.errors(), v5.errors(), v6.errors(), v7.errors()).flatMap(Function.identity()));
+            return new ErrorAccumulator().add(v1).add(v2).add(v3).add(v4).add(v5).add(v6).add(v7).toInvalid();
         }
     }
 
@@ -432,7 +434,7 @@ public class Validations {
             if (v1 instanceof Validation.Valid(var t1) && v2 instanceof Validation.Valid(var t2) && v3 instanceof Validation.Valid(var t3) && v4 instanceof Validation.Valid(var t4) && v5 instanceof Validation.Valid(var t5) && v6 instanceof Validation.Valid(var t6) && v7 instanceof Validation.Valid(var t7) && v8 instanceof Validation.Valid(var t8)) {
                 return Validation.valid(mapper.apply(t1, t2, t3, t4, t5, t6, t7, t8));
             }
-            return Validation.invalid(List.of(v1.errors(), v2.errors(), v3.errors(), v4.errors(), v5.errors(), v6.errors(), v7.errors(), v8.errors()).flatMap(Function.identity()));
+            return new ErrorAccumulator().add(v1).add(v2).add(v3).add(v4).add(v5).add(v6).add(v7).add(v8).toInvalid();
         }
 
         /**
@@ -443,7 +445,7 @@ public class Validations {
             if (v1 instanceof Validation.Valid(var t1) && v2 instanceof Validation.Valid(var t2) && v3 instanceof Validation.Valid(var t3) && v4 instanceof Validation.Valid(var t4) && v5 instanceof Validation.Valid(var t5) && v6 instanceof Validation.Valid(var t6) && v7 instanceof Validation.Valid(var t7) && v8 instanceof Validation.Valid(var t8)) {
                 return Validation.narrow(Objects.requireNonNull(flatMapper.apply(t1, t2, t3, t4, t5, t6, t7, t8), "flatMapper result cannot be null"));
             }
-            return Validation.invalid(List.of(v1.errors(), v2.errors(), v3.errors(), v4.errors(), v5.errors(), v6.errors(), v7.errors(), v8.errors()).flatMap(Function.identity()));
+            return new ErrorAccumulator().add(v1).add(v2).add(v3).add(v4).add(v5).add(v6).add(v7).add(v8).toInvalid();
         }
     }
 
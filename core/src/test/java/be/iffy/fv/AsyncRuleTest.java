@@ -0,0 +1,267 @@
+package be.iffy.fv;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static be.iffy.fv.assertj.ValidationAssert.assertThatValidation;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AsyncRuleTest {
+
+    /**
+     * An in-memory stand-in for a remote user directory, answering after a delay.
+     */
+    static final class Directory {
+        private final Map<String, Integer> ages = Map.of("alice", 31, "bob", 17);
+        private final Set<String> banned = Set.of("mallory");
+        private final long delayMillis;
+
+        Directory(long delayMillis) {
+            this.delayMillis = delayMillis;
+        }
+
+        private <V> CompletableFuture<V> later(V value) {
+            return CompletableFuture.supplyAsync(() -> value, CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS));
+        }
+
+        CompletionStage<Boolean> exists(String name) {
+            return later(ages.containsKey(name));
+        }
+
+        CompletionStage<Boolean> notBanned(String name) {
+            return later(!banned.contains(name));
+        }
+
+        CompletionStage<Validation<Integer>> age(String name) {
+            Integer age = ages.get(name);
+            return later(age == null ? Validation.invalid("must.exist") : Validation.valid(age));
+        }
+    }
+
+    private static final Directory directory = new Directory(200);
+    private static final AsyncRule<String> exists = AsyncRule.of(directory::exists, "must.exist");
+    private static final AsyncRule<String> notBanned = AsyncRule.of(directory::notBanned, "must.not.be.banned");
+    private static final AsyncRule<String> lowercase = AsyncRule.from(Rule.of((String s) -> s.equals(s.toLowerCase()), "must.be.lowercase"));
+    private static final AsyncMappingRule<String, Integer> age = AsyncMappingRule.of(directory::age);
+
+    private static <T> Validation<T> await(CompletionStage<Validation<T>> stage) {
+        return stage.toCompletableFuture().join();
+    }
+
+    @Nested
+    class Factories {
+
+        @Test
+        void of_predicate() {
+            assertThatValidation(await(exists.apply("alice"))).isValid();
+            assertThatValidation(await(exists.apply("carol"))).isInvalid().hasErrorMessages("must.exist");
+        }
+
+        @Test
+        void of_null_isInvalid_withoutCallingTheFunction() {
+            AtomicInteger calls = new AtomicInteger();
+            AsyncRule<String> rule = AsyncRule.of(s -> {
+                calls.incrementAndGet();
+                return CompletableFuture.completedFuture(true);
+            }, "unused");
+
+            assertThatValidation(await(rule.apply(null))).isInvalid().hasErrorMessages("must.not.be.null");
+            assertThat(calls).hasValue(0);
+        }
+
+        @Test
+        void of_returnsTheInput() {
+            String input = new String("alice");
+            AsyncRule<String> rule = AsyncRule.of((String s) -> CompletableFuture.completedFuture(Validation.valid("other")));
+
+            assertThat(await(rule.apply(input)).getOrElse((String) null)).isSameAs(input);
+        }
+
+        @Test
+        void of_nullStage_throws() {
+            AsyncRule<String> rule = AsyncRule.of((String s) -> null);
+
+            assertThatThrownBy(() -> rule.apply("alice")).isInstanceOf(NullPointerException.class);
+        }
+
+        @Test
+        void blocking_runsOnTheExecutor() {
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                Set<Thread> threads = ConcurrentHashMap.newKeySet();
+                AsyncRule<String> rule = AsyncRule.blocking(Rule.of((String s) -> threads.add(Thread.currentThread()), "unused"), executor);
+
+                assertThatValidation(await(rule.apply("alice"))).isValid();
+                assertThat(threads).singleElement().matches(Thread::isVirtual);
+            }
+        }
+    }
+
+    @Nested
+    class Combinators {
+
+        @Test
+        void and_accumulatesInOrder() {
+            assertThatValidation(await(exists.and(notBanned).apply("alice"))).isValid();
+            assertThatValidation(await(exists.and(notBanned).apply("mallory")))
+                    .isInvalid()
+                    .hasErrorMessages("must.exist", "must.not.be.banned");
+        }
+
+        @Test
+        void all_accumulatesInOrder() {
+            AsyncRule<String> rule = AsyncRule.all(lowercase, notBanned, exists);
+
+            assertThatValidation(await(rule.apply("alice"))).isValid();
+            assertThatValidation(await(rule.apply("Mallory")))
+                    .isInvalid()
+                    .hasErrorMessages("must.be.lowercase", "must.exist");
+            assertThatValidation(await(rule.apply(null))).isInvalid().hasErrorMessages("must.not.be.null");
+        }
+
+        @Test
+        void andAndAll_runConcurrently() {
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int run = 0; run < 2; run++) {
+                    // each application only passes once the other one started as well
+                    CountDownLatch started = new CountDownLatch(2);
+                    AsyncRule<String> waiting = AsyncRule.blocking(Rule.of((String s) -> {
+                        started.countDown();
+                        try {
+                            return started.await(5, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            throw new IllegalStateException(e);
+                        }
+                    }, "must.start.together"), executor);
+
+                    AsyncRule<String> rule = run == 0 ? waiting.and(waiting) : AsyncRule.all(waiting, waiting);
+                    assertThatValidation(await(rule.apply("alice"))).isValid();
+                }
+            }
+        }
+
+        @Test
+        void then_shortCircuits() {
+            AtomicInteger calls = new AtomicInteger();
+            AsyncRule<String> counting = AsyncRule.of(s -> {
+                calls.incrementAndGet();
+                return CompletableFuture.completedFuture(true);
+            }, "unused");
+
+            assertThatValidation(await(lowercase.then(counting).apply("Alice"))).isInvalid().hasErrorMessages("must.be.lowercase");
+            assertThat(calls).hasValue(0);
+            assertThatValidation(await(lowercase.then(counting).apply("alice"))).isValid();
+            assertThat(calls).hasValue(1);
+        }
+
+        @Test
+        void then_mapping() {
+            AsyncMappingRule<String, Integer> rule = lowercase.then(age);
+
+            assertThat(await(rule.apply("alice"))).isEqualTo(Validation.valid(31));
+            assertThatValidation(await(rule.apply("Alice"))).isInvalid().hasErrorMessages("must.be.lowercase");
+            assertThatValidation(await(rule.apply("carol"))).isInvalid().hasErrorMessages("must.exist");
+        }
+
+        @Test
+        void mapping_thenAndMap() {
+            AsyncMappingRule<String, String> rule = age
+                    .then(AsyncRule.from(Rule.of((Integer i) -> i >= 18, "must.be.adult")))
+                    .map(i -> i + " years");
+
+            assertThat(await(rule.apply("alice"))).isEqualTo(Validation.valid("31 years"));
+            assertThatValidation(await(rule.apply("bob"))).isInvalid().hasErrorMessages("must.be.adult");
+        }
+
+        @Test
+        void combine_accumulatesInOrder() {
+            AsyncMappingRule<String, Integer> length = AsyncMappingRule.from((String s) -> Validation.valid(s.length()));
+            AsyncMappingRule<String, String> combined = AsyncRuleCombiners.combine(age, length, notBanned)
+                    .map((a, l, name) -> name + ":" + a + ":" + l);
+
+            assertThat(await(combined.apply("alice"))).isEqualTo(Validation.valid("alice:31:5"));
+            assertThatValidation(await(combined.apply("mallory")))
+                    .isInvalid()
+                    .hasErrorMessages("must.exist", "must.not.be.banned");
+            assertThat(await(age.combine(length).map(Integer::sum).apply("bob"))).isEqualTo(Validation.valid(20));
+        }
+
+        @Test
+        void failedStage_failsTheCombination() {
+            AsyncRule<String> failing = s -> CompletableFuture.failedFuture(new IllegalStateException("boom"));
+
+            assertThatThrownBy(() -> exists.and(failing).toRule().apply("alice"))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("boom");
+        }
+    }
+
+    @Nested
+    class Timeouts {
+
+        @Test
+        void withTimeout_slowRule_isInvalid() {
+            Validation<String> validation = await(exists.withTimeout(Duration.ofMillis(20)).apply("alice"));
+
+            assertThatValidation(validation).isInvalid().hasErrorMessages("must.complete.within");
+            assertThat(validation.errors().head().parameters().get("timeout")).contains(Duration.ofMillis(20));
+        }
+
+        @Test
+        void withTimeout_fastRule_isUnaffected() {
+            assertThatValidation(await(lowercase.withTimeout(Duration.ofMillis(20)).apply("alice"))).isValid();
+            assertThat(await(age.withTimeout(Duration.ofSeconds(5)).apply("alice"))).isEqualTo(Validation.valid(31));
+        }
+
+        @Test
+        void withTimeout_perRule() {
+            AsyncRule<String> rule = exists.withTimeout(Duration.ofSeconds(5))
+                    .and(notBanned.withTimeout(Duration.ofMillis(20), ErrorMessage.of("directory.unavailable")));
+
+            assertThatValidation(await(rule.apply("alice"))).isInvalid().hasErrorMessages("directory.unavailable");
+        }
+
+        @Test
+        void withTimeout_notPositive_throws() {
+            assertThatThrownBy(() -> exists.withTimeout(Duration.ZERO)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> age.withTimeout(Duration.ofMillis(-1))).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    class Adapters {
+
+        @Test
+        void toRule_waits() {
+            Rule<String> rule = exists.and(notBanned).toRule();
+
+            assertThatValidation(rule.apply("alice")).isValid();
+            assertThatValidation(rule.apply("carol")).isInvalid().hasErrorMessages("must.exist");
+        }
+
+        @Test
+        void toMappingRule_waits() {
+            MappingRule<String, Integer> rule = age.toMappingRule();
+
+            assertThat(rule.apply("bob")).isEqualTo(Validation.valid(17));
+            assertThatValidation(rule.apply(null)).isInvalid().hasErrorMessages("must.not.be.null");
+        }
+
+        @Test
+        void from_isAlreadyCompleted() {
+            assertThat(lowercase.apply("alice").toCompletableFuture()).isCompleted();
+        }
+    }
+}
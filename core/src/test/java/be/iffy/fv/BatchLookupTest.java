@@ -0,0 +1,167 @@
+package be.iffy.fv;
+
+import io.vavr.collection.LinkedHashMap;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static be.iffy.fv.assertj.ValidationAssert.assertThatValidation;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BatchLookupTest {
+
+    record OrderLine(String sku, int quantity) {
+    }
+
+    /**
+     * An in-memory stand-in for a product table, recording every batch it is asked for.
+     */
+    static final class Products {
+        private final Map<String, String> names = IntStream.range(0, 2_000).boxed()
+                .collect(Collectors.toMap(i -> "sku-" + i, i -> "product " + i));
+        final List<Set<String>> batches = new CopyOnWriteArrayList<>();
+
+        Map<String, String> findAll(Set<String> skus) {
+            batches.add(Set.copyOf(skus));
+            return skus.stream().filter(names::containsKey).collect(Collectors.toMap(sku -> sku, names::get));
+        }
+    }
+
+    private static List<OrderLine> lines(String... skus) {
+        List<OrderLine> lines = new ArrayList<>();
+        for (String sku : skus) {
+            lines.add(new OrderLine(sku, 1));
+        }
+        return lines;
+    }
+
+    @Nested
+    class Lifting {
+
+        @Test
+        void toList_loadsDistinctKeysInOneBatch() {
+            Products products = new Products();
+            BatchLookup<OrderLine, String, String> product = BatchLookup.of(OrderLine::sku, products::findAll);
+
+            Validation<List<String>> validation = product.lift().toList().apply(lines("sku-1", "sku-2", "sku-1", "sku-3"));
+
+            assertThat(validation).isEqualTo(Validation.valid(List.of("product 1", "product 2", "product 1", "product 3")));
+            assertThat(products.batches).containsExactly(Set.of("sku-1", "sku-2", "sku-3"));
+        }
+
+        @Test
+        void toList_missingKeys_haveIndexedErrors() {
+            Products products = new Products();
+            BatchLookup<OrderLine, String, String> product = BatchLookup.of(OrderLine::sku, products::findAll);
+
+            Validation<List<String>> validation = product.lift().toList().apply(lines("sku-1", "nope", "sku-2", null));
+
+            assertThatValidation(validation).isInvalid().hasErrorMessages("[1].must.exist", "[3].must.not.be.null");
+            assertThat(validation.errors().head().parameters().get("key")).contains("nope");
+            assertThat(products.batches).hasSize(1);
+        }
+
+        @Test
+        void toVavrList_andNullKeys() {
+            Products products = new Products();
+            BatchLookup<OrderLine, String, String> product = BatchLookup.of(OrderLine::sku, products::findAll);
+
+            assertThatValidation(product.lift().toVavrList().apply(io.vavr.collection.List.ofAll(lines("sku-1", null))))
+                    .isInvalid()
+                    .hasErrorMessages("[1].must.not.be.null");
+            assertThat(products.batches).containsExactly(Set.of("sku-1"));
+        }
+
+        @Test
+        void toVavrMap_loadsOneBatch() {
+            Products products = new Products();
+            BatchLookup<String, String, String> product = BatchLookup.of(products::findAll);
+
+            Validation<io.vavr.collection.Map<String, String>> validation = product.lift().<String>toVavrMap()
+                    .apply(LinkedHashMap.of("a", "sku-1", "b", "nope", "c", "sku-1"));
+
+            assertThatValidation(validation).isInvalid().hasErrorMessages("[b].must.exist");
+            assertThat(products.batches).containsExactly(Set.of("sku-1", "nope"));
+        }
+
+        @Test
+        void maxBatchSize_capsBatches() {
+            Products products = new Products();
+            BatchLookup<String, String, String> product = BatchLookup.of(products::findAll).withMaxBatchSize(100);
+            List<String> skus = IntStream.range(0, 1_050).mapToObj(i -> "sku-" + (i % 250)).toList();
+
+            assertThat(product.lift().toList().apply(skus).isValid()).isTrue();
+            assertThat(products.batches).extracting(Set::size).containsExactly(100, 100, 50);
+        }
+
+        @Test
+        void parallel_loadsABatchPerChunk_sameAsSequential() {
+            Products products = new Products();
+            BatchLookup<String, String, String> product = BatchLookup.of(products::findAll);
+            List<String> skus = IntStream.range(0, 3_000).mapToObj(i -> "sku-" + i).toList();
+            Parallelism parallelism = Parallelism.on(ForkJoinPool.commonPool(), 2).withThreshold(0).withChunkSize(500);
+
+            Validation<List<String>> parallel = product.lift().toList(parallelism).apply(skus);
+            int parallelBatches = products.batches.size();
+
+            assertThat(parallel).isEqualTo(product.lift().toList().apply(skus));
+            assertThat(parallelBatches).isGreaterThan(1).isLessThanOrEqualTo(8);
+        }
+
+        @Test
+        void asRule_returnsTheInput() {
+            Products products = new Products();
+            Rule<OrderLine> exists = BatchLookup.of(OrderLine::sku, products::findAll).ifMissing("must.be.known.sku").asRule();
+            List<OrderLine> lines = lines("sku-1", "nope");
+
+            assertThatValidation(exists.lift().toList().apply(lines)).isInvalid().hasErrorMessages("[1].must.be.known.sku");
+            assertThat(exists.lift().toList().apply(lines.subList(0, 1)).getOrElseThrow()).containsExactly(lines.getFirst());
+            assertThat(products.batches).hasSize(2);
+        }
+    }
+
+    @Nested
+    class SingleValues {
+
+        @Test
+        void apply_loadsABatchOfOne() {
+            Products products = new Products();
+            BatchLookup<String, String, String> product = BatchLookup.of(products::findAll);
+
+            assertThat(product.apply("sku-7")).isEqualTo(Validation.valid("product 7"));
+            assertThatValidation(product.apply("nope")).isInvalid().hasErrorMessages("must.exist");
+            assertThatValidation(product.apply(null)).isInvalid().hasErrorMessages("must.not.be.null");
+            assertThat(products.batches).containsExactly(Set.of("sku-7"), Set.of("nope"));
+        }
+
+        @Test
+        void ifMissing_errorMessageMaker() {
+            BatchLookup<String, String, String> product = BatchLookup.of(new Products()::findAll)
+                    .ifMissing(sku -> ErrorMessage.of("unknown." + sku));
+
+            assertThatValidation(product.apply("nope")).isInvalid().hasErrorMessages("unknown.nope");
+        }
+
+        @Test
+        void loaderReturningOtherKeys_areIgnored() {
+            BatchLookup<String, String, String> product = BatchLookup.of((Set<String> skus) -> Map.of("other", "product"));
+
+            assertThatValidation(product.apply("sku-1")).isInvalid().hasErrorMessages("must.exist");
+        }
+
+        @Test
+        void invalidArguments_throw() {
+            assertThatThrownBy(() -> BatchLookup.of(new Products()::findAll).withMaxBatchSize(0)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> BatchLookup.of((Set<String> skus) -> null).apply("sku-1")).isInstanceOf(NullPointerException.class);
+        }
+    }
+}
@@ -125,4 +125,121 @@ class ErrorMessageTest {
             assertThat(errorMessage.key()).isEqualTo("error.key");
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class PathAndMessage {
+
+        @Test
+        void path_whenNoPaths_returnsEmptyString() {
+            // Arrange
+            ErrorMessage errorMessage = ErrorMessage.of("error.key");
+
+            // Act & Assert
+            assertThat(errorMessage.path()).isEmpty();
+            assertThat(errorMessage.message()).isEqualTo("error.key");
+        }
+
+        @Test
+        void path_whenNestedPathsAndIndexes_returnsDottedPathWithoutKey() {
+            // Arrange
+            ErrorMessage errorMessage = ErrorMessage.of("error.key", "val", "foo")
+                    .atIndex(2)
+                    .prepend(ErrorMessage.Path.of("tags"))
+                    .prepend(ErrorMessage.Path.of("field"))
+                    .atIndex(1)
+                    .prepend(ErrorMessage.Path.of("items"));
+
+            // Act & Assert
+            assertThat(errorMessage.path()).isEqualTo("items.field[1].tags[2]");
+            assertThat(errorMessage.message()).isEqualTo("items.field[1].tags[2].error.key");
+        }
+
+        @Test
+        void path_whenOnlyAnIndex_returnsIndex() {
+            // Arrange
+            ErrorMessage errorMessage = ErrorMessage.of("error.key").atIndex("key");
+
+            // Act & Assert
+            assertThat(errorMessage.path()).isEqualTo("[key]");
+            assertThat(errorMessage.message()).isEqualTo("[key].error.key");
+        }
+
+        @Test
+        void prepend_sharesExistingSegments() {
+            // Arrange
+            ErrorMessage errorMessage = ErrorMessage.of("error.key")
+                    .prepend(ErrorMessage.Path.of("field"))
+                    .prepend(ErrorMessage.Path.of("items"));
+
+            // Act
+            ErrorMessage result = errorMessage.prepend(ErrorMessage.Path.of("root"));
+
+            // Assert
+            assertThat(result.paths().tail()).isSameAs(errorMessage.paths());
+        }
+
+        @Test
+        void atIndex_sharesSegmentsAfterTheFirst() {
+            // Arrange
+            ErrorMessage errorMessage = ErrorMessage.of("error.key")
+                    .prepend(ErrorMessage.Path.of("field"))
+                    .prepend(ErrorMessage.Path.of("items"));
+
+            // Act
+            ErrorMessage result = errorMessage.atIndex(3);
+
+            // Assert
+            assertThat(result.paths().tail()).isSameAs(errorMessage.paths().tail());
+            assertThat(result.message()).isEqualTo("items[3].field.error.key");
+        }
+    }
+
+    @Nested
+    class Equality {
+
+        @Test
+        void of_withoutParameters_returnsASharedInstance() {
+            // Act
+            ErrorMessage first = ErrorMessage.of("must.be.positive");
+            ErrorMessage second = ErrorMessage.of(new String("must.be.positive"));
+            ErrorMessage empty = ErrorMessage.of("must.be.positive", java.util.Map.of());
+
+            // Assert
+            assertThat(second).isSameAs(first);
+            assertThat(empty).isSameAs(first);
+        }
+
+        @Test
+        void equals_comparesKeyPathsAndParameters() {
+            // Arrange
+            ErrorMessage error = ErrorMessage.of("must.have.min.length", "min", 3).prepend(ErrorMessage.Path.of("name"));
+
+            // Assert
+            assertThat(error)
+                    .isEqualTo(ErrorMessage.of("must.have.min.length", "min", 3).prepend(ErrorMessage.Path.of("name")))
+                    .hasSameHashCodeAs(ErrorMessage.of("must.have.min.length", "min", 3).prepend(ErrorMessage.Path.of("name")))
+                    .isNotEqualTo(ErrorMessage.of("must.have.min.length", "min", 4).prepend(ErrorMessage.Path.of("name")))
+                    .isNotEqualTo(ErrorMessage.of("must.have.min.length", "min", 3).prepend(ErrorMessage.Path.of("email")))
+                    .isNotEqualTo(ErrorMessage.of("must.have.max.length", "min", 3).prepend(ErrorMessage.Path.of("name")));
+        }
+
+        @Test
+        void hashCode_withOnlyAKey_isTheHashOfTheKey() {
+            assertThat(ErrorMessage.of("must.not.be.null").hashCode()).isEqualTo("must.not.be.null".hashCode());
+        }
+
+        @Test
+        void failingRule_returnsTheSameInvalid() {
+            // Arrange
+            Rule<Integer> positive = Rule.of(i -> i > 0, "must.be.positive");
+
+            // Act
+            Validation<Integer> first = positive.apply(-1);
+            Validation<Integer> second = positive.apply(-2);
+
+            // Assert
+            assertThat(second).isSameAs(first);
+            assertThat(first.errors()).containsExactly(ErrorMessage.of("must.be.positive"));
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package be.iffy.fv;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static be.iffy.fv.assertj.ValidationAssert.assertThatValidation;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MemoTest {
+
+    /**
+     * A rule that counts how often it was applied.
+     */
+    static final class Counting {
+        final AtomicInteger calls = new AtomicInteger();
+        final Rule<String> rule = Rule.of(s -> {
+            calls.incrementAndGet();
+            return s.length() == 3;
+        }, "must.have.length.3");
+        final MappingRule<String, Integer> parse = MappingRule.of(s -> {
+            calls.incrementAndGet();
+            return s.chars().allMatch(Character::isDigit) ? Validation.valid(Integer.parseInt(s)) : Validation.invalid("must.be.number");
+        });
+    }
+
+    static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
+    @Nested
+    class Bounded {
+
+        @Test
+        void repeatedInput_appliesTheRuleOnce() {
+            Counting counting = new Counting();
+            Memo memo = Memo.bounded(100);
+            Rule<String> rule = counting.rule.memoized(memo);
+
+            assertThatValidation(rule.apply("EUR")).isValid();
+            assertThatValidation(rule.apply("EUR")).isValid();
+            assertThatValidation(rule.apply("EURO")).isInvalid().hasErrorMessages("must.have.length.3");
+            assertThatValidation(rule.apply("EURO")).isInvalid().hasErrorMessages("must.have.length.3");
+
+            assertThat(counting.calls).hasValue(2);
+            assertThat(memo.stats()).isEqualTo(new MemoStats(2, 2, 0, 2));
+            assertThat(memo.stats().hitRate()).isEqualTo(0.5);
+        }
+
+        @Test
+        void rule_returnsTheInputItself() {
+            Rule<String> rule = new Counting().rule.memoized(Memo.bounded(100));
+            String first = new String("EUR");
+            String second = new String("EUR");
+
+            assertThat(rule.apply(first).getOrElseThrow()).isSameAs(first);
+            assertThat(rule.apply(second).getOrElseThrow()).isSameAs(second);
+        }
+
+        @Test
+        void mappingRule_sharesTheResult() {
+            Counting counting = new Counting();
+            MappingRule<String, Integer> parse = counting.parse.memoized(Memo.bounded(100));
+
+            assertThat(parse.apply("42")).isEqualTo(Validation.valid(42));
+            assertThat(parse.apply("42")).isEqualTo(Validation.valid(42));
+            assertThatValidation(parse.apply("x")).isInvalid().hasErrorMessages("must.be.number");
+            assertThat(counting.calls).hasValue(2);
+        }
+
+        @Test
+        void null_isNotMemoized() {
+            Counting counting = new Counting();
+            Memo memo = Memo.bounded(100);
+            Rule<String> rule = counting.rule.memoized(memo);
+
+            assertThatValidation(rule.apply(null)).isInvalid().hasErrorMessages("must.not.be.null");
+            assertThat(memo.stats().requests()).isZero();
+        }
+
+        @Test
+        void throwingRule_isNotMemoized() {
+            AtomicInteger calls = new AtomicInteger();
+            Rule<String> throwing = Rule.of(s -> {
+                calls.incrementAndGet();
+                throw new IllegalStateException("boom");
+            }, "unused");
+            Rule<String> rule = throwing.memoized(Memo.bounded(10));
+
+            assertThatThrownBy(() -> rule.apply("a")).hasMessage("boom");
+            assertThatThrownBy(() -> rule.apply("a")).hasMessage("boom");
+            assertThat(calls).hasValue(2);
+        }
+
+        @Test
+        void full_evictsDownToTheMaximumSize() {
+            Memo memo = Memo.bounded(100);
+            Rule<String> rule = new Counting().rule.memoized(memo);
+
+            for (int i = 0; i < 1_000; i++) {
+                rule.apply("v" + i);
+            }
+
+            assertThat(memo.stats().size()).isEqualTo(100);
+            assertThat(memo.stats().evictions()).isEqualTo(900);
+        }
+
+        @Test
+        void frequentInputs_surviveAScanOfOneOffInputs() {
+            Counting counting = new Counting();
+            Memo memo = Memo.bounded(100);
+            Rule<String> rule = counting.rule.memoized(memo);
+            for (int round = 0; round < 10; round++) {
+                for (int i = 0; i < 50; i++) {
+                    rule.apply("hot" + i);
+                }
+            }
+
+            for (int i = 0; i < 2_000; i++) {
+                rule.apply("once" + i);
+            }
+            int before = counting.calls.get();
+            for (int i = 0; i < 50; i++) {
+                rule.apply("hot" + i);
+            }
+
+            assertThat(counting.calls.get() - before).isLessThanOrEqualTo(5);
+        }
+
+        @Test
+        void largeMaximumSize_growsTheFrequencySketchWithTheMemo() {
+            FrequencySketch sketch = new FrequencySketch(50_000_000);
+
+            assertThat(sketch.width()).isEqualTo(16);
+            sketch.ensureCapacity(1_000);
+            assertThat(sketch.width()).isEqualTo(1_024);
+            sketch.ensureCapacity(Integer.MAX_VALUE);
+            assertThat(sketch.width()).isEqualTo(1 << 26);
+            assertThat(new FrequencySketch(100).width()).isEqualTo(16);
+        }
+
+        @Test
+        void growingTheFrequencySketch_keepsTheCounts() {
+            FrequencySketch sketch = new FrequencySketch(10_000);
+            for (int i = 0; i < 5; i++) {
+                sketch.increment("hot");
+            }
+
+            sketch.ensureCapacity(10_000);
+
+            assertThat(sketch.width()).isEqualTo(16_384);
+            assertThat(sketch.frequency("hot")).isGreaterThanOrEqualTo(5);
+            assertThat(sketch.frequency("cold")).isLessThanOrEqualTo(sketch.frequency("hot"));
+        }
+
+        @Test
+        void expireAfterWrite_dropsOldResults() {
+            Counting counting = new Counting();
+            MutableClock clock = new MutableClock();
+            Memo memo = Memo.bounded(100).expireAfterWrite(Duration.ofMinutes(5)).withClock(clock);
+            Rule<String> rule = counting.rule.memoized(memo);
+
+            rule.apply("EUR");
+            clock.advance(Duration.ofMinutes(4));
+            rule.apply("EUR");
+            assertThat(counting.calls).hasValue(1);
+
+            clock.advance(Duration.ofMinutes(1));
+            rule.apply("EUR");
+            rule.apply("EUR");
+            assertThat(counting.calls).hasValue(2);
+            assertThat(memo.stats()).isEqualTo(new MemoStats(2, 2, 1, 1));
+        }
+
+        @Test
+        void clear_dropsAllResults() {
+            Counting counting = new Counting();
+            Memo memo = Memo.bounded(100);
+            Rule<String> rule = counting.rule.memoized(memo);
+
+            rule.apply("EUR");
+            memo.clear();
+            rule.apply("EUR");
+
+            assertThat(counting.calls).hasValue(2);
+            assertThat(memo.stats().size()).isEqualTo(1);
+        }
+
+        @Test
+        void manyThreads_sameResults() throws Exception {
+            Memo memo = Memo.bounded(64);
+            Rule<String> rule = new Counting().rule.memoized(memo);
+            try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+                List<Future<Boolean>> results = new ArrayList<>();
+                for (int t = 0; t < 8; t++) {
+                    int seed = t;
+                    results.add(executor.submit(() -> {
+                        boolean same = true;
+                        for (int i = 0; i < 20_000; i++) {
+                            String value = "x".repeat((i * 31 + seed) % 6);
+                            same &= rule.apply(value).isValid() == (value.length() == 3);
+                        }
+                        return same;
+                    }));
+                }
+                for (Future<Boolean> result : results) {
+                    assertThat(result.get()).isTrue();
+                }
+            }
+            assertThat(memo.stats().size()).isLessThanOrEqualTo(64);
+            assertThat(memo.stats().requests()).isEqualTo(8 * 20_000);
+        }
+    }
+
+    @Nested
+    class Identity {
+
+        @Test
+        void sameInstance_isMemoized_equalInstance_isNot() {
+            Counting counting = new Counting();
+            Memo memo = Memo.identity();
+            Rule<String> rule = counting.rule.memoized(memo);
+            String first = new String("EUR");
+
+            rule.apply(first);
+            rule.apply(first);
+            rule.apply(new String("EUR"));
+
+            assertThat(counting.calls).hasValue(2);
+            assertThat(memo.stats()).isEqualTo(new MemoStats(1, 2, 0, 2));
+        }
+
+        @Test
+        void cannotExpire() {
+            assertThatThrownBy(() -> Memo.identity().expireAfterWrite(Duration.ofSeconds(1))).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Nested
+    class Arguments {
+
+        @Test
+        void memo_belongsToASingleRule() {
+            Memo memo = Memo.bounded(10);
+            new Counting().rule.memoized(memo);
+
+            assertThatThrownBy(() -> new Counting().rule.memoized(memo)).isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        void invalidSettings_throw() {
+            assertThatThrownBy(() -> Memo.bounded(0)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> Memo.bounded(10).expireAfterWrite(Duration.ZERO)).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void stats_beforeUse_areZero() {
+            assertThat(Memo.bounded(10).stats()).isEqualTo(new MemoStats(0, 0, 0, 0));
+            assertThat(Memo.bounded(10).stats().hitRate()).isEqualTo(1.0);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package be.iffy.fv;
+
+import io.vavr.collection.LinkedHashMap;
+import io.vavr.collection.List;
+import io.vavr.collection.Map;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static be.iffy.fv.assertj.ValidationAssert.assertThatValidation;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParallelismTest {
+
+    private static final ForkJoinPool pool = new ForkJoinPool(4);
+    // small chunks, so that even the small inputs of the tests are split
+    private static final Parallelism parallel = Parallelism.on(pool).withThreshold(0).withChunkSize(3);
+
+    private static final Rule<Integer> positive = Rule.of(i -> i > 0, "must.be.positive");
+    private static final Rule<Integer> even = Rule.of(i -> (i & 1) == 0, "must.be.even");
+    private static final Rule<Integer> positiveAndEven = positive.and(even);
+    private static final MappingRule<Integer, String> toText = MappingRule.of(i -> positive.apply(i).map(Object::toString));
+
+    @AfterAll
+    static void shutdown() {
+        pool.shutdown();
+    }
+
+    private static java.util.List<Integer> values(int size, int invalidPercentage) {
+        Random random = new Random(size);
+        return IntStream.range(0, size)
+                .map(i -> random.nextInt(100) < invalidPercentage ? -2 * i - 1 : 2 * i + 2)
+                .boxed()
+                .toList();
+    }
+
+    @Nested
+    class Lists {
+
+        @Test
+        void toList_sameAsSequential() {
+            for (int size : new int[]{0, 1, 5, 6, 7, 100, 1_001}) {
+                for (int invalidPercentage : new int[]{0, 1, 50, 100}) {
+                    java.util.List<Integer> values = values(size, invalidPercentage);
+
+                    assertThat(positiveAndEven.lift().toList(parallel).apply(values))
+                            .isEqualTo(positiveAndEven.lift().toList().apply(values));
+                    assertThat(toText.lift().toList(parallel).apply(values))
+                            .isEqualTo(toText.lift().toList().apply(values));
+                }
+            }
+        }
+
+        @Test
+        void toList_listWithoutRandomAccess_sameAsSequential() {
+            LinkedList<Integer> values = new LinkedList<>(values(1_000, 10));
+
+            assertThat(positiveAndEven.lift().toList(parallel).apply(values))
+                    .isEqualTo(positiveAndEven.lift().toList().apply(values));
+        }
+
+        @Test
+        void toVavrList_sameAsSequential() {
+            for (int invalidPercentage : new int[]{0, 10, 100}) {
+                List<Integer> values = List.ofAll(values(1_000, invalidPercentage));
+
+                assertThat(positiveAndEven.lift().toVavrList(parallel).apply(values))
+                        .isEqualTo(positiveAndEven.lift().toVavrList().apply(values));
+                assertThat(toText.lift().toVavrList(parallel).apply(values))
+                        .isEqualTo(toText.lift().toVavrList().apply(values));
+            }
+        }
+
+        @Test
+        void toList_hasIndexedErrorsInOrder() {
+            java.util.List<Integer> values = new ArrayList<>(values(20, 0));
+            values.set(2, -1);
+            values.set(17, 3);
+
+            assertThatValidation(positiveAndEven.lift().toList(parallel).apply(values))
+                    .isInvalid()
+                    .hasErrorMessages("[2].must.be.positive", "[2].must.be.even", "[17].must.be.even");
+        }
+
+        @Test
+        void toList_null_isInvalid() {
+            assertThatValidation(positive.lift().toList(parallel).apply(null)).isInvalid().hasErrorMessages("must.not.be.null");
+        }
+    }
+
+    @Nested
+    class Maps {
+
+        @Test
+        void toVavrMap_sameAsSequential() {
+            for (int invalidPercentage : new int[]{0, 10, 100}) {
+                Map<String, Integer> values = LinkedHashMap.ofAll(values(1_000, invalidPercentage).stream(), i -> "k" + i, i -> i);
+
+                assertThat(positiveAndEven.lift().<String>toVavrMap(parallel).apply(values))
+                        .isEqualTo(positiveAndEven.lift().<String>toVavrMap().apply(values));
+                assertThat(toText.lift().<String>toVavrMap(k -> k.substring(1), parallel).apply(values))
+                        .isEqualTo(toText.lift().<String>toVavrMap(k -> k.substring(1)).apply(values));
+            }
+        }
+    }
+
+    @Nested
+    class Threads {
+
+        @Test
+        void belowThreshold_validatesOnTheCallingThread() {
+            Set<Thread> threads = ConcurrentHashMap.newKeySet();
+            Rule<Integer> recording = Rule.of(i -> threads.add(Thread.currentThread()) || true, "unused");
+
+            recording.lift().toList(Parallelism.on(pool)).apply(values(Parallelism.DEFAULT_THRESHOLD - 1, 0));
+
+            assertThat(threads).containsExactly(Thread.currentThread());
+        }
+
+        @Test
+        void aboveThreshold_validatesOnThePool() {
+            Set<Thread> threads = ConcurrentHashMap.newKeySet();
+            Rule<Integer> recording = Rule.of(i -> threads.add(Thread.currentThread()) || true, "unused");
+
+            recording.lift().toList(Parallelism.on(pool).withThreshold(100)).apply(values(100_000, 0));
+
+            assertThat(threads).contains(Thread.currentThread()).hasSizeGreaterThan(1);
+        }
+
+        @Test
+        void poolOfOneThread_validatesOnItAndTheCallingThread() {
+            Set<Thread> threads = ConcurrentHashMap.newKeySet();
+            Rule<Integer> recording = Rule.of(i -> threads.add(Thread.currentThread()) || true, "unused");
+
+            try (ForkJoinPool single = new ForkJoinPool(1)) {
+                recording.lift().toList(Parallelism.on(single).withThreshold(0).withChunkSize(10)).apply(values(100, 0));
+            }
+
+            assertThat(threads).contains(Thread.currentThread()).hasSize(2);
+        }
+
+        @Test
+        void virtualThreads_sameAsSequential() {
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                Parallelism virtual = Parallelism.on(executor, 8).withThreshold(0).withChunkSize(10);
+                java.util.List<Integer> values = values(1_000, 5);
+
+                assertThat(positiveAndEven.lift().toList(virtual).apply(values))
+                        .isEqualTo(positiveAndEven.lift().toList().apply(values));
+            }
+        }
+
+        @Test
+        void ruleThrows_exceptionIsRethrown() {
+            Rule<Integer> throwing = i -> {
+                if (i == 500) {
+                    throw new IllegalStateException("boom");
+                }
+                return Validation.valid(i);
+            };
+
+            assertThatThrownBy(() -> throwing.lift().toList(parallel).apply(IntStream.range(0, 1_000).boxed().toList()))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("boom");
+        }
+
+        @Test
+        void invalidSettings_throw() {
+            assertThatThrownBy(() -> Parallelism.on(pool, 0)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> Parallelism.commonPool().withThreshold(-1)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> Parallelism.commonPool().withChunkSize(0)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
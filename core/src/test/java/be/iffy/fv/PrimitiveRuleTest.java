@@ -0,0 +1,175 @@
+package be.iffy.fv;
+
+import io.vavr.collection.List;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static be.iffy.fv.assertj.ValidationAssert.assertThatValidation;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrimitiveRuleTest {
+
+    private static final IntRule positive = IntRule.of(i -> i > 0, "must.be.positive");
+    private static final IntRule even = IntRule.of(i -> (i & 1) == 0, "must.be.even");
+
+    @Nested
+    class IntRules {
+
+        @Test
+        void apply_boxedValue_sameAsTest() {
+            assertThatValidation(positive.apply(3)).isValid().isEqualTo(3);
+            assertThatValidation(positive.apply(-3)).isInvalid().hasErrorMessages("must.be.positive");
+            assertThat(positive.test(3)).isTrue();
+            assertThat(positive.test(-3)).isFalse();
+        }
+
+        @Test
+        void apply_null_isInvalid() {
+            assertThatValidation(positive.apply(null)).isInvalid().hasErrorMessages("must.not.be.null");
+        }
+
+        @Test
+        void and_accumulatesErrorsOfBothRules() {
+            IntRule rule = positive.and(even);
+
+            assertThatValidation(rule.apply(2)).isValid();
+            assertThatValidation(rule.apply(-2)).isInvalid().hasErrorMessages("must.be.positive");
+            assertThatValidation(rule.apply(3)).isInvalid().hasErrorMessages("must.be.even");
+            assertThatValidation(rule.apply(-3)).isInvalid().hasErrorMessages("must.be.positive", "must.be.even");
+        }
+
+        @Test
+        void or_passesWhenOneRulePasses() {
+            IntRule rule = positive.or(even);
+
+            assertThatValidation(rule.apply(3)).isValid();
+            assertThatValidation(rule.apply(-2)).isValid();
+            assertThatValidation(rule.apply(-3)).isInvalid().hasErrorMessages("must.be.positive", "must.be.even");
+        }
+
+        @Test
+        void negate_usesNegatedError() {
+            IntRule rule = positive.negate("must.not.be.positive");
+
+            assertThatValidation(rule.apply(-3)).isValid();
+            assertThatValidation(rule.apply(3)).isInvalid().hasErrorMessages("must.not.be.positive");
+        }
+
+        @Test
+        void combinedWithBoxedRule_isARegularRule() {
+            Rule<Integer> rule = positive.and(Rule.of(i -> i < 10, "must.be.small"));
+
+            assertThatValidation(rule.apply(20)).isInvalid().hasErrorMessages("must.be.small");
+        }
+    }
+
+    @Nested
+    class LiftToArray {
+
+        @Test
+        void toArray_allValid_returnsTheArray() {
+            int[] values = {2, 4, 6};
+
+            Validation<int[]> result = positive.and(even).lift().toArray().apply(values);
+
+            assertThatValidation(result).isValid();
+            assertThat(result.getOrElseThrow()).isSameAs(values);
+        }
+
+        @Test
+        void toArray_empty_isValid() {
+            assertThatValidation(positive.lift().toArray().apply(new int[0])).isValid();
+        }
+
+        @Test
+        void toArray_null_isInvalid() {
+            assertThatValidation(positive.lift().toArray().apply(null)).isInvalid().hasErrorMessages("must.not.be.null");
+        }
+
+        @Test
+        void toArray_someInvalid_hasTheErrorsOfToList() {
+            IntRule rule = positive.and(even);
+            Random random = new Random(42);
+            for (int run = 0; run < 200; run++) {
+                int[] values = random.ints(random.nextInt(20), -5, 6).toArray();
+
+                Validation<int[]> array = rule.lift().toArray().apply(values);
+                Validation<java.util.List<Integer>> list = rule.lift().toList().apply(Arrays.stream(values).boxed().toList());
+
+                assertThat(array.isValid()).isEqualTo(list.isValid());
+                assertThat(array.errors()).isEqualTo(list.errors());
+            }
+        }
+
+        @Test
+        void toArray_long_hasIndexedErrors() {
+            LongRule rule = LongRule.of(l -> l > 0, "must.be.positive");
+
+            assertThatValidation(rule.lift().toArray().apply(new long[]{1, -1, 2, 0}))
+                    .isInvalid()
+                    .hasErrorMessages("[1].must.be.positive", "[3].must.be.positive");
+        }
+
+        @Test
+        void toArray_double_hasIndexedErrors() {
+            DoubleRule rule = DoubleRule.of(Double::isFinite, "must.be.finite");
+
+            assertThatValidation(rule.lift().toArray().apply(new double[]{1.0, Double.NaN, Double.POSITIVE_INFINITY}))
+                    .isInvalid()
+                    .hasErrorMessages("[1].must.be.finite", "[2].must.be.finite");
+        }
+    }
+
+    @Nested
+    class LiftToStream {
+
+        @Test
+        void toIntStream_valid_returnsTheElements() {
+            Validation<int[]> result = positive.lift().toIntStream().apply(IntStream.rangeClosed(1, 3));
+
+            assertThatValidation(result).isValid();
+            assertThat(result.getOrElseThrow()).containsExactly(1, 2, 3);
+        }
+
+        @Test
+        void toIntStream_invalid_hasIndexedErrors() {
+            assertThatValidation(positive.lift().toIntStream().apply(IntStream.of(1, 0, 2)))
+                    .isInvalid()
+                    .hasErrorMessages("[1].must.be.positive");
+        }
+
+        @Test
+        void toLongStream_invalid_hasIndexedErrors() {
+            LongRule rule = LongRule.of(l -> l > 0, "must.be.positive");
+
+            assertThatValidation(rule.lift().toLongStream().apply(LongStream.of(-1, 1)))
+                    .isInvalid()
+                    .hasErrorMessages("[0].must.be.positive");
+        }
+
+        @Test
+        void toDoubleStream_valid_returnsTheElements() {
+            DoubleRule rule = DoubleRule.of(Double::isFinite, "must.be.finite");
+            Validation<double[]> result = rule.lift().toDoubleStream().apply(DoubleStream.of(0.5, 1.5));
+
+            assertThatValidation(result).isValid();
+            assertThat(result.getOrElseThrow()).containsExactly(0.5, 1.5);
+        }
+
+        @Test
+        void toIntStream_null_isInvalid() {
+            assertThatValidation(positive.lift().toIntStream().apply(null)).isInvalid().hasErrorMessages("must.not.be.null");
+        }
+    }
+
+    @Test
+    void errors_ofFactory_areShared() {
+        assertThat(positive.errors(-1)).isSameAs(positive.errors(-2)).isEqualTo(List.of(ErrorMessage.of("must.be.positive")));
+    }
+}
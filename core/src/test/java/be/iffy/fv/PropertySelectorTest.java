@@ -65,4 +65,24 @@ class PropertySelectorTest {
         assertThat(selector.getPropertyName()).isEqualTo("URL");
     }
 
+    @Test
+    void resolve_keepsTheNameAndTheSelector() {
+        PropertySelector<Person, String> selector = PropertySelector.resolve(Person::getName);
+        Person person = new Person("ignored");
+        person.name = "Alice";
+
+        assertThat(selector.getPropertyName()).isEqualTo("name");
+        assertThat(selector.apply(person)).isEqualTo("Alice");
+        assertThat(PropertySelector.resolve(selector)).isSameAs(selector);
+    }
+
+    @Test
+    void getPropertyName_sameMethodInAnotherSelector_isLookedUpPerSelector() {
+        PropertySelector<User, String> name = User::name;
+        PropertySelector<User, String> getter = User::getter;
+
+        assertThat(name.getPropertyName()).isEqualTo("name");
+        assertThat(getter.getPropertyName()).isEqualTo("getter");
+        assertThat(name.getPropertyName()).isEqualTo("name");
+    }
 }
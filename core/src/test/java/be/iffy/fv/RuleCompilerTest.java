@@ -0,0 +1,305 @@
+package be.iffy.fv;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static be.iffy.fv.assertj.ValidationAssert.assertThatValidation;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RuleCompilerTest {
+
+    static final Rule<String> notBlank = Rule.of(s -> !s.isBlank(), "must.not.be.blank");
+    static final Rule<String> maxLength5 = Rule.of(s -> s.length() <= 5, "max.length");
+    static final Rule<String> lowercase = Rule.of(s -> s.equals(s.toLowerCase()), "must.be.lowercase");
+    static final Rule<String> digits = Rule.of(s -> s.chars().allMatch(Character::isDigit), "must.be.digits");
+    static final MappingRule<String, Integer> parseInt = MappingRule.catching(Integer::parseInt, "must.be.int");
+
+    record Address(@Nullable String street, @Nullable String zip) {
+    }
+
+    record Person(@Nullable String name, @Nullable Address address) {
+    }
+
+    @SafeVarargs
+    private static <T> void assertSameResults(RuleLike<T, ? extends Validation<?>> rule, RuleLike<T, ? extends Validation<?>> compiled, @Nullable T... inputs) {
+        for (T input : inputs) {
+            assertThat(compiled.apply(input))
+                    .as("input %s", input)
+                    .isEqualTo(rule.apply(input));
+        }
+    }
+
+    @Nested
+    class Compile {
+
+        @Test
+        void compile_whenRuleIsNoCombinator_returnsSameRule() {
+            // Arrange
+            Rule<String> rule = s -> Validation.valid(s);
+
+            // Act
+            Rule<String> compiled = rule.compile();
+
+            // Assert
+            assertThat(compiled).isSameAs(rule);
+        }
+
+        @Test
+        void compile_whenAlreadyCompiled_returnsSameRule() {
+            // Arrange
+            Rule<String> compiled = notBlank.and(maxLength5).compile();
+
+            // Act
+            Rule<String> recompiled = compiled.compile();
+
+            // Assert
+            assertThat(recompiled).isSameAs(compiled);
+        }
+
+        @Test
+        void compile_whenValid_returnsSameInstance() {
+            // Arrange
+            Rule<String> compiled = notBlank.and(maxLength5).then(lowercase).compile();
+            String input = new String("abc");
+
+            // Act
+            Validation<String> result = compiled.apply(input);
+
+            // Assert
+            assertThatValidation(result)
+                    .isValid()
+                    .isSameAs(input);
+        }
+    }
+
+    @Nested
+    class RuleCombinators {
+
+        @Test
+        void and_whenCompiled_accumulatesSameErrorsInSameOrder() {
+            // Arrange
+            Rule<String> rule = notBlank.and(maxLength5).and(lowercase.and(digits));
+
+            // Act
+            Rule<String> compiled = rule.compile();
+
+            // Assert
+            assertSameResults(rule, compiled, "12", "abc", "ABCDEFG", "   ", null);
+            assertThatValidation(compiled.apply("ABCDEFG"))
+                    .isInvalid()
+                    .errorMessages()
+                    .containsExactly("max.length", "must.be.lowercase", "must.be.digits");
+        }
+
+        @Test
+        void all_whenCompiled_removesDuplicateErrors() {
+            // Arrange
+            Rule<String> rule = Rule.all(maxLength5, lowercase, maxLength5.and(lowercase), Rule.all(digits, maxLength5));
+
+            // Act
+            Rule<String> compiled = rule.compile();
+
+            // Assert
+            assertSameResults(rule, compiled, "12", "abc", "ABCDEFG", null);
+            assertThatValidation(compiled.apply("ABCDEFG"))
+                    .isInvalid()
+                    .errorMessages()
+                    .containsExactly("max.length", "must.be.lowercase", "must.be.digits");
+        }
+
+        @Test
+        void then_whenCompiled_stopsAtFirstFailure() {
+            // Arrange
+            AtomicInteger calls = new AtomicInteger();
+            Rule<String> counting = s -> {
+                calls.incrementAndGet();
+                return Validation.valid(s);
+            };
+            Rule<String> compiled = notBlank.then(maxLength5).then(counting).compile();
+
+            // Act
+            Validation<String> result = compiled.apply("abcdefg");
+
+            // Assert
+            assertThatValidation(result)
+                    .isInvalid()
+                    .hasErrorMessage("max.length");
+            assertThat(calls).hasValue(0);
+            assertSameResults(notBlank.then(maxLength5).then(counting), compiled, "abc", " ", "abcdefg", null);
+        }
+
+        @Test
+        void orAndAny_whenCompiled_stopAtFirstValidAndAccumulateOtherwise() {
+            // Arrange
+            AtomicInteger calls = new AtomicInteger();
+            Rule<String> counting = Rule.of(s -> calls.incrementAndGet() < 0, "never");
+            Rule<String> rule = digits.or(lowercase).or(Rule.any(maxLength5, counting));
+
+            // Act
+            Rule<String> compiled = rule.compile();
+
+            // Assert
+            assertSameResults(rule, compiled, "12", "abc", "ABC", "ABCDEFG", null);
+            calls.set(0);
+            compiled.apply("abc");
+            assertThat(calls).hasValue(0);
+            assertThatValidation(compiled.apply("ABCDEFG"))
+                    .isInvalid()
+                    .errorMessages()
+                    .containsExactly("must.be.digits", "must.be.lowercase", "max.length", "never");
+        }
+
+        @Test
+        void fallback_whenCompiled_onlyKeepsErrorsOfFallback() {
+            // Arrange
+            Rule<String> rule = digits.fallback(lowercase.and(maxLength5));
+
+            // Act
+            Rule<String> compiled = rule.compile();
+
+            // Assert
+            assertSameResults(rule, compiled, "12", "abc", "ABC", "ABCDEFG", null);
+        }
+
+        @Test
+        void onlyIf_whenCompiled_onlyAppliesRuleWhenConditionHolds() {
+            // Arrange
+            Rule<String> rule = digits.onlyIf(s -> s.length() > 2)
+                    .and(maxLength5.onlyIf(() -> true))
+                    .and(lowercase.onlyIf(false));
+
+            // Act
+            Rule<String> compiled = rule.compile();
+
+            // Assert
+            assertSameResults(rule, compiled, "12", "1A", "ABC", "ABCDEFG", null);
+        }
+
+        @Test
+        void onlyIf_whenSupplierReturnsNull_throwsLikeUncompiledRule() {
+            // Arrange
+            Rule<String> compiled = digits.onlyIf(() -> null).compile();
+
+            // Act & Assert
+            assertThatThrownBy(() -> compiled.apply("12"))
+                    .isInstanceOf(NullPointerException.class)
+                    .hasMessage("condition result cannot be null");
+        }
+
+        @Test
+        void on_whenCompiled_prefixesErrorsWithPropertyPath() {
+            // Arrange
+            Rule<Address> address = Rule.all(
+                    Rule.on(Address::street, notBlank),
+                    Rule.on(Address::zip, digits.and(maxLength5))
+            );
+            Rule<Person> rule = Rule.all(
+                    Rule.on(Person::name, notBlank.then(maxLength5)),
+                    Rule.on(Person::address, address)
+            );
+
+            // Act
+            Rule<Person> compiled = rule.compile();
+
+            // Assert
+            Person invalid = new Person("abcdefg", new Address(" ", "12AB345"));
+            assertSameResults(rule, compiled,
+                    new Person("abc", new Address("street", "1234")),
+                    invalid,
+                    new Person(null, null),
+                    null
+            );
+            assertThatValidation(compiled.apply(invalid))
+                    .isInvalid()
+                    .errorMessages()
+                    .containsExactly(
+                            "name.max.length",
+                            "address.street.must.not.be.blank",
+                            "address.zip.must.be.digits",
+                            "address.zip.max.length"
+                    );
+        }
+
+        @Test
+        void compile_whenTreeContainsCompiledAndPlainRules_returnsSameResults() {
+            // Arrange
+            Rule<String> plain = s -> s.startsWith("x") ? Validation.invalid("no.x") : Validation.valid(s);
+            Rule<String> compiledPart = notBlank.and(maxLength5).compile();
+            Rule<String> rule = compiledPart.and(plain).or(digits.then(Rule.of(plain)));
+
+            // Act
+            Rule<String> compiled = rule.compile();
+
+            // Assert
+            assertSameResults(rule, compiled, "abc", "xabc", "xabcdefg", "123", " ", null);
+        }
+    }
+
+    @Nested
+    class MappingRuleCombinators {
+
+        @Test
+        void then_whenCompiled_passesResultToNextRule() {
+            // Arrange
+            Rule<Integer> positive = Rule.of(i -> i > 0, "must.be.positive");
+            MappingRule<String, String> rule = notBlank.then(parseInt).then(positive).map(i -> i * 2).then(i -> Validation.valid("#" + i));
+
+            // Act
+            MappingRule<String, String> compiled = rule.compile();
+
+            // Assert
+            assertSameResults(rule, compiled, "21", "-1", "abc", " ", null);
+            assertThatValidation(compiled.apply("21")).isValid().isEqualTo("#42");
+        }
+
+        @Test
+        void orAndFallback_whenCompiled_returnResultOfRuleThatSucceeded() {
+            // Arrange
+            MappingRule<String, Integer> length = s -> Validation.valid(s.length());
+            MappingRule<String, Integer> or = parseInt.or(digits.then(length)).or(lowercase.then(length));
+            MappingRule<String, Integer> fallback = parseInt.fallback(lowercase.then(length));
+
+            // Act
+            MappingRule<String, Integer> compiledOr = or.compile();
+            MappingRule<String, Integer> compiledFallback = fallback.compile();
+
+            // Assert
+            assertSameResults(or, compiledOr, "12", "abc", "ABC", null);
+            assertSameResults(fallback, compiledFallback, "12", "abc", "ABC", null);
+        }
+
+        @Test
+        void on_whenCompiled_mapsPropertyAndPrefixesErrors() {
+            // Arrange
+            MappingRule<Address, Integer> rule = MappingRule.on(Address::zip, parseInt).map(zip -> zip + 1);
+
+            // Act
+            MappingRule<Address, Integer> compiled = rule.compile();
+
+            // Assert
+            assertSameResults(rule, compiled, new Address("street", "1000"), new Address("street", "abc"), new Address("street", null), null);
+            assertThatValidation(compiled.apply(new Address("street", "abc")))
+                    .isInvalid()
+                    .errorMessages()
+                    .containsExactly("zip.must.be.int");
+        }
+
+        @Test
+        void map_whenMapperReturnsNull_throwsLikeTheRule() {
+            // Arrange
+            MappingRule<String, Integer> rule = parseInt.map(i -> i > 0 ? i : null).then(Rule.notNull());
+
+            // Act
+            MappingRule<String, Integer> compiled = rule.compile();
+
+            // Assert
+            assertSameResults(rule, compiled, "1", "abc", null);
+            assertThatThrownBy(() -> rule.apply("-1")).isInstanceOf(NullPointerException.class).hasMessage("value cannot be null");
+            assertThatThrownBy(() -> compiled.apply("-1")).isInstanceOf(NullPointerException.class).hasMessage("value cannot be null");
+        }
+    }
+}
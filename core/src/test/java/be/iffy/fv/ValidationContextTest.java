@@ -0,0 +1,284 @@
+package be.iffy.fv;
+
+import io.vavr.Tuple;
+import io.vavr.collection.LinkedHashMap;
+import io.vavr.collection.List;
+import io.vavr.collection.Map;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static be.iffy.fv.assertj.ValidationAssert.assertThatValidation;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ValidationContextTest {
+
+    private static final ForkJoinPool pool = new ForkJoinPool(4);
+
+    private final AtomicInteger evaluated = new AtomicInteger();
+    private final Rule<Integer> positive = Rule.of(i -> {
+        evaluated.incrementAndGet();
+        return i > 0;
+    }, "must.be.positive");
+
+    @AfterAll
+    static void shutdown() {
+        pool.shutdown();
+    }
+
+    private static java.util.List<Integer> negatives(int size) {
+        return IntStream.range(0, size).map(i -> -i).boxed().toList();
+    }
+
+    private static List<String> messages(Validation<?> validation) {
+        return validation.errors().map(ErrorMessage::message);
+    }
+
+    @Nested
+    class MaxErrors {
+
+        @Test
+        void lifted_stopsValidatingWhenTheMaximumIsReached() {
+            Validation<java.util.List<Integer>> result = ValidationContext.maxErrors(3)
+                    .run(() -> positive.lift().toList().apply(negatives(1_000)));
+
+            assertThat(messages(result)).containsExactly("[0].must.be.positive", "[1].must.be.positive",
+                    "[2].must.be.positive", "validation.truncated");
+            assertThat(result.errors().last().parameters().get("reason")).contains("max.errors");
+            assertThat(ValidationContext.isTruncated(result)).isTrue();
+            assertThat(evaluated).hasValue(3);
+        }
+
+        @Test
+        void belowTheMaximum_isNotTruncated() {
+            Validation<java.util.List<Integer>> result = ValidationContext.maxErrors(3)
+                    .run(() -> positive.lift().toList().apply(java.util.List.of(1, -1, 2)));
+
+            assertThatValidation(result).isInvalid().hasErrorMessages("[1].must.be.positive");
+            assertThat(ValidationContext.isTruncated(result)).isFalse();
+        }
+
+        @Test
+        void valid_staysValid() {
+            Validation<java.util.List<Integer>> result = ValidationContext.maxErrors(1)
+                    .run(() -> positive.lift().toList().apply(java.util.List.of(1, 2, 3)));
+
+            assertThatValidation(result).isValid().isEqualTo(java.util.List.of(1, 2, 3));
+        }
+
+        @Test
+        void nestedCollections_countTheirErrorsOnce() {
+            Rule<java.util.List<Integer>> allPositive = Rule.of(positive.lift().toList());
+            java.util.List<java.util.List<Integer>> values = java.util.List.of(negatives(3), negatives(3), negatives(3));
+
+            Validation<java.util.List<java.util.List<Integer>>> result = ValidationContext.maxErrors(4)
+                    .run(() -> allPositive.lift().toList().apply(values));
+
+            assertThat(ValidationContext.isTruncated(result)).isTrue();
+            // all three of the first list and one of the second
+            assertThat(evaluated).hasValue(4);
+        }
+
+        @Test
+        void singleRuleWithMoreErrors_isCappedAtTheEnd() {
+            Rule<String> threeErrors = Rule.of(s -> Validation.invalid(
+                    List.of(ErrorMessage.of("a"), ErrorMessage.of("b"), ErrorMessage.of("c"))));
+
+            Validation<String> result = ValidationContext.maxErrors(2).run(() -> threeErrors.apply("x"));
+
+            assertThat(messages(result)).containsExactly("a", "b", "validation.truncated");
+        }
+
+        @Test
+        void all_stopsEvaluatingRules() {
+            Rule<Integer> rule = Rule.all(positive, positive, positive);
+
+            Validation<Integer> result = ValidationContext.maxErrors(2).run(() -> rule.apply(-1));
+
+            assertThat(ValidationContext.isTruncated(result)).isTrue();
+            assertThat(evaluated).hasValue(2);
+        }
+
+        @Test
+        void compiledAll_stopsEvaluatingRules() {
+            Rule<Integer> rule = Rule.all(positive, positive.and(positive), positive).compile();
+
+            Validation<Integer> result = ValidationContext.maxErrors(1).run(() -> rule.apply(-1));
+
+            assertThat(messages(result)).containsExactly("must.be.positive", "validation.truncated");
+            assertThat(evaluated).hasValue(1);
+        }
+
+        @Test
+        void sequence_keepsTheErrorsUpToTheMaximum() {
+            List<Validation<Integer>> validations = List.ofAll(negatives(5)).map(positive::apply);
+
+            Validation<List<Integer>> result = ValidationContext.maxErrors(2)
+                    .run(() -> Validations.sequence(validations, "values"));
+
+            assertThat(messages(result)).containsExactly("values[0].must.be.positive", "values[1].must.be.positive",
+                    "validation.truncated");
+        }
+
+        @Test
+        void map_stopsValidatingEntries() {
+            Map<String, Integer> values = LinkedHashMap.ofAll(negatives(10).stream(), i -> "k" + -i, i -> i);
+
+            Validation<Map<String, Integer>> result = ValidationContext.maxErrors(2)
+                    .run(() -> positive.lift().<String>toVavrMap().apply(values));
+
+            assertThat(messages(result)).containsExactly("[k0].must.be.positive", "[k1].must.be.positive",
+                    "validation.truncated");
+            assertThat(evaluated).hasValue(2);
+        }
+
+        @Test
+        void parallel_neverKeepsMoreThanTheMaximum() {
+            Parallelism parallel = Parallelism.on(pool).withThreshold(0).withChunkSize(10);
+
+            Validation<java.util.List<Integer>> result = ValidationContext.maxErrors(5)
+                    .run(() -> positive.lift().toList(parallel).apply(negatives(10_000)));
+
+            assertThat(result.errors()).hasSize(6);
+            assertThat(messages(result).take(5)).allMatch(m -> m.endsWith("].must.be.positive"));
+            assertThat(ValidationContext.isTruncated(result)).isTrue();
+            assertThat(evaluated.get()).isLessThan(10_000);
+        }
+    }
+
+    @Nested
+    class Deadline {
+
+        private final Clock clock = Clock.fixed(Instant.parse("2026-01-01T10:00:00Z"), ZoneOffset.UTC);
+
+        @Test
+        void passed_stopsBeforeTheFirstElement() {
+            ValidationContext context = ValidationContext.unlimited()
+                    .withDeadline(clock.instant().minusSeconds(1))
+                    .withClock(clock);
+
+            Validation<java.util.List<Integer>> result = context.run(() -> positive.lift().toList().apply(java.util.List.of(1, 2)));
+
+            assertThat(messages(result)).containsExactly("validation.truncated");
+            assertThat(result.errors().head().parameters().get("reason")).contains("deadline");
+            assertThat(evaluated).hasValue(0);
+        }
+
+        @Test
+        void notPassed_validatesEverything() {
+            ValidationContext context = ValidationContext.unlimited()
+                    .withDeadline(clock.instant().plusSeconds(60))
+                    .withClock(clock);
+
+            Validation<java.util.List<Integer>> result = context.run(() -> positive.lift().toList().apply(java.util.List.of(1, -2)));
+
+            assertThatValidation(result).isInvalid().hasErrorMessages("[1].must.be.positive");
+        }
+
+        @Test
+        void timeout_stopsAfterItPassed() {
+            Rule<Integer> slow = Rule.of(i -> {
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return positive.apply(i).isValid();
+            }, "must.be.positive");
+
+            Validation<java.util.List<Integer>> result = ValidationContext.unlimited().withTimeout(Duration.ofMillis(1))
+                    .run(() -> slow.lift().toList().apply(IntStream.range(1, 200).boxed().toList()));
+
+            assertThat(messages(result)).containsExactly("validation.truncated");
+            // the clock is read every 16 values
+            assertThat(evaluated.get()).isLessThan(200);
+        }
+    }
+
+    @Nested
+    class Memoized {
+
+        private final Rule<String> notBlank = Rule.of(s -> !s.isBlank(), "must.not.be.blank");
+        private final ValidationContext expired = ValidationContext.unlimited()
+                .withDeadline(Instant.parse("2026-01-01T09:00:00Z"))
+                .withClock(Clock.fixed(Instant.parse("2026-01-01T10:00:00Z"), ZoneOffset.UTC));
+
+        @Test
+        void truncatedResult_isNotMemoized() {
+            Rule<String> rule = Rule.all(notBlank, notBlank).memoized(Memo.bounded(100));
+
+            assertThat(ValidationContext.isTruncated(expired.run(() -> rule.apply("x")))).isTrue();
+
+            assertThatValidation(rule.apply("x")).isValid().isEqualTo("x");
+        }
+
+        @Test
+        void resultCutShortWithErrors_isNotMemoized() {
+            Rule<java.util.List<Integer>> rule = Rule.of(positive.lift().toList()).memoized(Memo.bounded(100));
+
+            ValidationContext.maxErrors(1).run(() -> rule.apply(negatives(3)));
+
+            assertThat(rule.apply(negatives(3)).errors()).hasSize(3);
+        }
+
+        @Test
+        void completeResult_isMemoizedWithinAContext() {
+            Rule<Integer> rule = positive.memoized(Memo.bounded(100));
+
+            ValidationContext.maxErrors(10).run(() -> rule.apply(-1));
+            rule.apply(-1);
+
+            assertThat(evaluated).hasValue(1);
+        }
+    }
+
+    @Nested
+    class Scope {
+
+        @Test
+        void withoutContext_nothingIsBounded() {
+            Validation<java.util.List<Integer>> result = positive.lift().toList().apply(negatives(100));
+
+            assertThat(result.errors()).hasSize(100);
+            assertThat(ValidationContext.budget()).isNull();
+        }
+
+        @Test
+        void afterRun_theContextIsGone() {
+            ValidationContext.maxErrors(1).run(() -> Validation.valid(1));
+
+            assertThat(ValidationContext.budget()).isNull();
+            assertThat(positive.lift().toList().apply(negatives(3)).errors()).hasSize(3);
+        }
+
+        @Test
+        void nestedRun_hasItsOwnBudget() {
+            Validation<Object> result = ValidationContext.maxErrors(10).run(() -> {
+                Validation<java.util.List<Integer>> inner = ValidationContext.maxErrors(1)
+                        .run(() -> positive.lift().toList().apply(negatives(5)));
+                return Validations.combine(inner, positive.lift().toList().apply(java.util.List.of(1, -1, -2)))
+                        .map(Tuple::of);
+            });
+
+            assertThat(messages(result)).containsExactly("[0].must.be.positive", "validation.truncated",
+                    "[1].must.be.positive", "[2].must.be.positive");
+        }
+
+        @Test
+        void arguments_areChecked() {
+            assertThatThrownBy(() -> ValidationContext.maxErrors(0)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> ValidationContext.unlimited().withTimeout(Duration.ZERO))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> ValidationContext.unlimited().run(() -> null)).isInstanceOf(NullPointerException.class);
+        }
+    }
+}
@@ -83,4 +83,83 @@ class ValidationExceptionTest {
                     .hasMessage("Errors must be non-empty");
         }
     }
+
+    @Nested
+    class StackTraces {
+
+        @Test
+        void byDefault_hasAStackTrace() {
+            assertThat(new ValidationException("field.required").getStackTrace()).isNotEmpty();
+        }
+
+        @Test
+        void stackless_hasNoStackTrace() {
+            ValidationException ex = ValidationException.stackless(ErrorMessage.of("field.required"));
+            assertThat(ex.getStackTrace()).isEmpty();
+            assertThat(ex.getMessage()).isEqualTo("field.required");
+        }
+
+        @Test
+        void stackless_emptyListThrows() {
+            assertThatThrownBy(() -> ValidationException.stackless(List.<ErrorMessage>of()))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void withoutStackTraces_onlyWhileRunning() {
+            ValidationException inside = ValidationException.withoutStackTraces(() ->
+                    ValidationException.withoutStackTraces(() -> new ValidationException("field.required")));
+            ValidationException after = new ValidationException("field.required");
+
+            assertThat(inside.getStackTrace()).isEmpty();
+            assertThat(after.getStackTrace()).isNotEmpty();
+        }
+
+        @Test
+        void withoutStackTraces_restoredWhenTheActionThrows() {
+            assertThatThrownBy(() -> ValidationException.withoutStackTraces(() -> {
+                throw new IllegalStateException("boom");
+            })).isInstanceOf(IllegalStateException.class);
+
+            assertThat(new ValidationException("field.required").getStackTrace()).isNotEmpty();
+        }
+
+        @Test
+        void catching_createsTheCaughtExceptionWithoutStackTrace() {
+            ValidationException[] thrown = new ValidationException[1];
+
+            Validation<Object> validation = Validation.from().catching(() -> {
+                thrown[0] = new ValidationException("field.required");
+                throw thrown[0];
+            });
+
+            assertThat(validation.errors()).containsExactly(ErrorMessage.of("field.required"));
+            assertThat(thrown[0].getStackTrace()).isEmpty();
+        }
+
+        @Test
+        void catching_wrappedExceptionHasNoStackTraceEither() {
+            assertThatThrownBy(() -> Validation.from().catching(() -> {
+                try {
+                    throw new ValidationException("field.required");
+                } catch (ValidationException e) {
+                    throw new IllegalStateException(e);
+                }
+            }))
+                    .isInstanceOf(IllegalStateException.class)
+                    .satisfies(e -> assertThat(e.getStackTrace()).isNotEmpty())
+                    .satisfies(e -> assertThat(e.getCause().getStackTrace()).isEmpty());
+        }
+
+        @Test
+        void disabledGlobally_hasNoStackTrace() {
+            ValidationException.setStackTracesEnabled(false);
+            try {
+                assertThat(ValidationException.isStackTracesEnabled()).isFalse();
+                assertThat(new ValidationException("field.required").getStackTrace()).isEmpty();
+            } finally {
+                ValidationException.setStackTracesEnabled(true);
+            }
+        }
+    }
 }
@@ -85,6 +85,41 @@ public class ValidationTest {
             assertThat(result.errors()).containsExactly(error1, error2);
         }
 
+        @Test
+        void invalid_whenGivenManyDuplicateErrors_makesThemUniqueWhileKeepingOrder() {
+            // Arrange
+            List<ErrorMessage> errors = List.range(0, 20).map(i -> ErrorMessage.of("Error " + (i % 10)));
+
+            // Act
+            Validation<String> result = Validation.invalid(errors);
+
+            // Assert
+            assertThat(result.errors()).containsExactlyElementsOf(errors.take(10));
+        }
+
+        @Test
+        void invalid_whenGivenUniqueErrors_keepsTheSameList() {
+            // Arrange
+            List<ErrorMessage> errors = List.range(0, 20).map(i -> ErrorMessage.of("Error " + i));
+
+            // Act
+            Validation<String> result = Validation.invalid(errors);
+
+            // Assert
+            assertThat(result.errors()).isSameAs(errors);
+        }
+
+        @Test
+        void invalid_whenGivenManyErrorsContainingNull_throwsNullPointerException() {
+            // Arrange
+            List<ErrorMessage> errors = List.range(0, 20).map(i -> i == 15 ? null : ErrorMessage.of("Error " + i));
+
+            // Act & Assert
+            assertThatCode(() -> Validation.invalid(errors))
+                    .isInstanceOf(NullPointerException.class)
+                    .hasMessage("errors cannot contain null");
+        }
+
     }
 
     @Nested
@@ -937,6 +972,61 @@ public class ValidationTest {
                     .hasErrorMessages("first[1].name.error 1", "first[2].name.error 2");
         }
 
+        @Test
+        void transpose_whenManyAreValid_keepsAllValuesInOrder() {
+            // Arrange
+            List<Validation<Integer>> validations = List.range(0, 200_000).map(Validation::valid);
+
+            // Act
+            Validation<List<Integer>> result = Validations.sequence(validations, "values");
+
+            // Assert
+            assertThatValidation(result)
+                    .isValid()
+                    .isEqualTo(List.range(0, 200_000));
+        }
+
+        @Test
+        void transpose_whenManyAreInvalid_keepsAllErrorsInOrderWithTheirIndex() {
+            // Arrange
+            List<Validation<Integer>> validations = List.range(0, 200_000)
+                    .map(i -> i % 2 == 0 ? Validation.valid(i) : Validation.invalid("odd"));
+
+            // Act
+            Validation<List<Integer>> result = Validations.sequence(validations, "values");
+
+            // Assert
+            assertThat(result.errors()).hasSize(100_000);
+            assertThat(result.errors().head().message()).isEqualTo("values[1].odd");
+            assertThat(result.errors().last().message()).isEqualTo("values[199999].odd");
+        }
+
+        @Test
+        void transpose_whenSameErrorAppearsTwice_keepsItOnce() {
+            // Arrange
+            Validation<Integer> invalid = Validation.<Integer>invalid(ErrorMessage.of("error")).atIndex(0);
+            List<Validation<Integer>> validations = List.of(invalid, Validation.valid(1), invalid.at("name"));
+
+            // Act
+            Validation<List<Integer>> result = Validations.sequence(validations);
+
+            // Assert
+            assertThatValidation(result)
+                    .isInvalid()
+                    .hasErrorMessages("[0].error", "[2].name[0].error");
+        }
+
+        @Test
+        void transpose_whenContainsNull_throwsNullPointerException() {
+            // Arrange
+            List<Validation<Integer>> validations = List.of(Validation.valid(1), null);
+
+            // Act & Assert
+            assertThatThrownBy(() -> Validations.sequence(validations))
+                    .isInstanceOf(NullPointerException.class)
+                    .hasMessage("validations cannot contain null");
+        }
+
         @Test
         void transpose_whenEmptyList_returnsValidValidationWithEmptyList() {
             // Arrange
@@ -3051,6 +3141,20 @@ public class ValidationTest {
                     .hasErrorMessages("duplicate.error", "first.error", "second.error");
         }
 
+        @Test
+        void anyOf_whenManyAreInvalidWithSeveralErrors_accumulatesAllErrorsInOrder() {
+            // Arrange
+            List<Validation<String>> validations = List.range(0, 50)
+                    .map(i -> Validation.invalid(ErrorMessage.of("error." + i), ErrorMessage.of("other." + i)));
+
+            // Act
+            Validation<String> result = Validations.anyOf(validations);
+
+            // Assert
+            assertThat(result.errors().map(ErrorMessage::errorKey))
+                    .containsExactlyElementsOf(List.range(0, 50).flatMap(i -> List.of("error." + i, "other." + i)));
+        }
+
         @Test
         void anyOf_whenEmptyVarargs_throwsIllegalArgumentException() {
             assertThatCode(() -> Validations.anyOf())
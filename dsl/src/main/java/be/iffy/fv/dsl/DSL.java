@@ -483,6 +483,7 @@ public final class DSL {
     /**
      * Starts a validation process for a single value with a logical name.
      * The PropertySelector will get converted to a name and will be prepended to any error messages.
+     * Use {@link PropertySelector#resolve(PropertySelector)} to look that name up only once.
      *
      * @param name a selector for the name of the value (e.g., Field::name).
      */
@@ -548,6 +549,114 @@ public final class DSL {
 
     //endregion
 
+    //region plan
+
+    /**
+     * Starts the checks of a field for a {@link #plan(PlanDSL.Field, PlanDSL.Field) plan}, named after the property.
+     * The name is looked up once, here.
+     *
+     * @param name a selector for the name of the field (e.g., Person::name).
+     */
+    @Contract(pure = true)
+    public static <S, T> PlanDSL.FieldBuilder<T, T> field(PropertySelector<S, T> name) {
+        Objects.requireNonNull(name, "name cannot be null");
+        return new PlanDSL.FieldBuilder<>(name.getPropertyName());
+    }
+
+    /**
+     * Starts the checks of a field for a {@link #plan(PlanDSL.Field, PlanDSL.Field) plan}. The type of the field can't
+     * be inferred from a name, so it has to be given, e.g. {@code DSL.<String>field("name")}.
+     *
+     * @param name the name of the field, prepended to its errors.
+     */
+    @Contract(pure = true)
+    public static <T> PlanDSL.FieldBuilder<T, T> field(String name) {
+        Objects.requireNonNull(name, "name cannot be null");
+        return new PlanDSL.FieldBuilder<>(name);
+    }
+
+    /**
+     * Prepares the checks of a constructor with a single field, see {@link PlanDSL}.
+     */
+    @Contract(pure = true)
+    public static <T1, R1> PlanDSL.Plan1<T1, R1> plan(PlanDSL.Field<T1, R1> field1) {
+        return new PlanDSL.Plan1<>(field1);
+    }
+
+    /**
+     * Prepares the checks of the fields of a constructor once, to run them for every instance with
+     * {@code asserting(...)}, which returns the same values and throws the same errors as
+     * {@code asserting(validateThat(...), ...)} without rebuilding the DSL on every call:
+     * {@snippet :
+     * record Person(String name, int age) {
+     *
+     *     private static final PlanDSL.Plan2<String, Integer, String, Integer> VALIDATION = plan(
+     *             field(Person::name).after(stringOps.trim()).is(strings.minLength(2)),
+     *             field(Person::age).is(ints.atLeast(18))
+     *     );
+     *
+     *     public Person {
+     *         var v = VALIDATION.asserting(name, age);
+     *         name = v._1;
+     *     }
+     * }
+     *}
+     */
+    @Contract(pure = true)
+    public static <T1, T2, R1, R2> PlanDSL.Plan2<T1, T2, R1, R2> plan(PlanDSL.Field<T1, R1> field1, PlanDSL.Field<T2, R2> field2) {
+        return new PlanDSL.Plan2<>(field1, field2);
+    }
+
+    /**
+     * Like {@link #plan(PlanDSL.Field)} but with 3 fields.
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3, R1, R2, R3> PlanDSL.Plan3<T1, T2, T3, R1, R2, R3> plan(PlanDSL.Field<T1, R1> field1, PlanDSL.Field<T2, R2> field2, PlanDSL.Field<T3, R3> field3) {
+        return new PlanDSL.Plan3<>(field1, field2, field3);
+    }
+
+    /**
+     * Like {@link #plan(PlanDSL.Field)} but with 4 fields.
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4, R1, R2, R3, R4> PlanDSL.Plan4<T1, T2, T3, T4, R1, R2, R3, R4> plan(PlanDSL.Field<T1, R1> field1, PlanDSL.Field<T2, R2> field2, PlanDSL.Field<T3, R3> field3, PlanDSL.Field<T4, R4> field4) {
+        return new PlanDSL.Plan4<>(field1, field2, field3, field4);
+    }
+
+    /**
+     * Like {@link #plan(PlanDSL.Field)} but with 5 fields.
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4, T5, R1, R2, R3, R4, R5> PlanDSL.Plan5<T1, T2, T3, T4, T5, R1, R2, R3, R4, R5> plan(PlanDSL.Field<T1, R1> field1, PlanDSL.Field<T2, R2> field2, PlanDSL.Field<T3, R3> field3, PlanDSL.Field<T4, R4> field4, PlanDSL.Field<T5, R5> field5) {
+        return new PlanDSL.Plan5<>(field1, field2, field3, field4, field5);
+    }
+
+    /**
+     * Like {@link #plan(PlanDSL.Field)} but with 6 fields.
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4, T5, T6, R1, R2, R3, R4, R5, R6> PlanDSL.Plan6<T1, T2, T3, T4, T5, T6, R1, R2, R3, R4, R5, R6> plan(PlanDSL.Field<T1, R1> field1, PlanDSL.Field<T2, R2> field2, PlanDSL.Field<T3, R3> field3, PlanDSL.Field<T4, R4> field4, PlanDSL.Field<T5, R5> field5, PlanDSL.Field<T6, R6> field6) {
+        return new PlanDSL.Plan6<>(field1, field2, field3, field4, field5, field6);
+    }
+
+    /**
+     * Like {@link #plan(PlanDSL.Field)} but with 7 fields.
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4, T5, T6, T7, R1, R2, R3, R4, R5, R6, R7> PlanDSL.Plan7<T1, T2, T3, T4, T5, T6, T7, R1, R2, R3, R4, R5, R6, R7> plan(PlanDSL.Field<T1, R1> field1, PlanDSL.Field<T2, R2> field2, PlanDSL.Field<T3, R3> field3, PlanDSL.Field<T4, R4> field4, PlanDSL.Field<T5, R5> field5, PlanDSL.Field<T6, R6> field6, PlanDSL.Field<T7, R7> field7) {
+        return new PlanDSL.Plan7<>(field1, field2, field3, field4, field5, field6, field7);
+    }
+
+    /**
+     * Like {@link #plan(PlanDSL.Field)} but with 8 fields.
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, R1, R2, R3, R4, R5, R6, R7, R8> PlanDSL.Plan8<T1, T2, T3, T4, T5, T6, T7, T8, R1, R2, R3, R4, R5, R6, R7, R8> plan(PlanDSL.Field<T1, R1> field1, PlanDSL.Field<T2, R2> field2, PlanDSL.Field<T3, R3> field3, PlanDSL.Field<T4, R4> field4, PlanDSL.Field<T5, R5> field5, PlanDSL.Field<T6, R6> field6, PlanDSL.Field<T7, R7> field7, PlanDSL.Field<T8, R8> field8) {
+        return new PlanDSL.Plan8<>(field1, field2, field3, field4, field5, field6, field7, field8);
+    }
+
+    //endregion
+
     //region anyOf
 
     /**
@@ -0,0 +1,562 @@
+package be.iffy.fv.dsl.impl;
+
+import be.iffy.fv.*;
+import io.vavr.*;
+import io.vavr.collection.List;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Validation plans for constructors: the checks of {@code asserting(validateThat(...))}, declared once in a constant
+ * instead of being rebuilt for every instance.
+ * {@snippet :
+ * record Person(String name, int age) {
+ *
+ *     private static final Plan2<String, Integer, String, Integer> VALIDATION = plan(
+ *             field(Person::name).after(stringOps.trim()).is(strings.minLength(2)),
+ *             field(Person::age).is(ints.atLeast(18))
+ *     );
+ *
+ *     public Person {
+ *         var v = VALIDATION.asserting(name, age);
+ *         name = v._1;
+ *     }
+ * }
+ *}
+ * A plan gives the same values and the same error paths as the equivalent {@code asserting(validateThat(...))}, but the
+ * names are looked up, the transformations composed and the rules narrowed only once. Per call, a valid value only
+ * costs the rules themselves and the returned tuple.
+ */
+public final class PlanDSL {
+
+    private PlanDSL() {
+    }
+
+    /**
+     * Builds the checks of a single field, like {@link ValidateThatDSL} but without a value.
+     */
+    public static final class FieldBuilder<T, V> {
+        private final @Nullable String name;
+        // the transformations so far, only while no mapper was added; null means V is T
+        private final @Nullable Function<? super T, ? extends V> transformation;
+        // the transformations and mappers so far, once a mapper was added
+        private final @Nullable RuleLike<? super T, ? extends Validation<? extends V>> mapping;
+
+        public FieldBuilder(@Nullable String name) {
+            this(name == null || name.isBlank() ? null : name, null, null);
+        }
+
+        private FieldBuilder(@Nullable String name,
+                             @Nullable Function<? super T, ? extends V> transformation,
+                             @Nullable RuleLike<? super T, ? extends Validation<? extends V>> mapping) {
+            this.name = name;
+            this.transformation = transformation;
+            this.mapping = mapping;
+        }
+
+        /**
+         * Transforms the value before it is checked, see {@link ValidateThatDSL#after(Transformation)}.
+         */
+        @Contract(pure = true)
+        public FieldBuilder<T, V> after(Transformation<V> transformation) {
+            Objects.requireNonNull(transformation, "transformation cannot be null");
+            Function<V, V> step = v -> Objects.requireNonNull(transformation.apply(v));
+            if (mapping != null) {
+                RuleLike<? super T, ? extends Validation<? extends V>> before = mapping;
+                return new FieldBuilder<>(name, null, (T value) -> Validation.narrow(before.apply(value)).map(step));
+            }
+            return new FieldBuilder<>(name, transformation().andThen(step), null);
+        }
+
+        /**
+         * Like {@link #after(Transformation)}, but takes multiple Transformations and applies them in sequence.
+         */
+        @SafeVarargs
+        @Contract(pure = true)
+        public final FieldBuilder<T, V> after(Transformation<V> first, Transformation<V>... rest) {
+            return after(Transformation.sequence(first, rest));
+        }
+
+        /**
+         * Maps the value from type V to type R, see {@link ValidateThatDSL#map(MappingRule)}.
+         */
+        @Contract(pure = true)
+        public <R> FieldBuilder<T, R> map(MappingRule<V, R> mapper) {
+            Objects.requireNonNull(mapper, "mapper cannot be null");
+            return new FieldBuilder<>(name, null, compose(mapper));
+        }
+
+        /**
+         * The checks of the field end with the given rule.
+         */
+        @Contract(pure = true)
+        public Field<T, V> is(Rule<? super V> rule) {
+            Objects.requireNonNull(rule, "rule cannot be null");
+            return new Field<>(name, compose(rule.<V>narrow()));
+        }
+
+        /**
+         * The checks of the field end with the given rule.
+         */
+        @Contract(pure = true)
+        public <R> Field<T, R> is(RuleLike<? super V, ? extends Validation<? extends R>> rule) {
+            Objects.requireNonNull(rule, "rule cannot be null");
+            return new Field<>(name, compose(rule));
+        }
+
+        /**
+         * The only check of the field is that it is not null.
+         */
+        @Contract(pure = true)
+        public Field<T, V> isNotNull() {
+            return new Field<>(name, compose(Validation::valid));
+        }
+
+        // the transformations so far, followed by the rule: a single call per value when there are no mappers
+        @SuppressWarnings("unchecked")
+        private <R> RuleLike<T, Validation<R>> compose(RuleLike<? super V, ? extends Validation<? extends R>> rule) {
+            if (mapping != null) {
+                RuleLike<? super T, ? extends Validation<? extends V>> before = mapping;
+                return value -> Validation.narrow(before.apply(value)).flatMap(v -> Validation.narrow(
+                        Objects.requireNonNull(rule.apply(v), "rule cannot return null Validation")));
+            }
+            if (transformation == null) {
+                // no transformations, so V is T
+                RuleLike<T, ? extends Validation<? extends R>> direct = (RuleLike<T, ? extends Validation<? extends R>>) rule;
+                return value -> Validation.narrow(Objects.requireNonNull(direct.apply(value), "rule cannot return null Validation"));
+            }
+            Function<? super T, ? extends V> before = transformation;
+            return value -> Validation.narrow(Objects.requireNonNull(rule.apply(before.apply(value)), "rule cannot return null Validation"));
+        }
+
+        @SuppressWarnings("unchecked")
+        private Function<T, V> transformation() {
+            return transformation == null ? value -> (V) value : value -> transformation.apply(value);
+        }
+    }
+
+    /**
+     * The prepared checks of a single field: a {@link MappingRule} that rejects {@code null}, applies the
+     * transformations and the rule, and puts the errors under the name of the field.
+     */
+    public static final class Field<T, R> implements MappingRule<T, R> {
+        private final RuleLike<T, Validation<R>> rule;
+        private final Validation<R> notNull;
+        private final @Nullable Function<List<ErrorMessage>, List<ErrorMessage>> atName;
+
+        Field(@Nullable String name, RuleLike<T, Validation<R>> rule) {
+            this.rule = rule;
+            if (name == null) {
+                this.notNull = Validation.Invalid.notNull();
+                this.atName = null;
+            } else {
+                ErrorMessage.Path path = ErrorMessage.Path.of(name);
+                this.notNull = Validation.Invalid.<R>notNull().at(name);
+                this.atName = errors -> errors.map(error -> error.prepend(path));
+            }
+        }
+
+        @Override
+        public Validation<R> apply(@Nullable T value) {
+            if (value == null) {
+                return notNull;
+            }
+            Validation<R> result = rule.apply(value);
+            return atName == null || result.isValid() ? result : result.mapErrors(atName);
+        }
+    }
+
+    /**
+     * The prepared checks of a constructor with a single field.
+     */
+    public static final class Plan1<T1, R1> {
+        private final Field<T1, R1> field1;
+
+        public Plan1(Field<T1, R1> field1) {
+            this.field1 = Objects.requireNonNull(field1, "field1 cannot be null");
+        }
+
+        /**
+         * Checks the value.
+         */
+        public Validation<R1> validate(@Nullable T1 t1) {
+            return field1.apply(t1);
+        }
+
+        /**
+         * Checks the value and returns it, transformed, or throws a {@link ValidationException}.
+         *
+         * @throws ValidationException if the value is invalid.
+         */
+        public R1 asserting(@Nullable T1 t1) throws ValidationException {
+            return field1.apply(t1).getOrElseThrow();
+        }
+    }
+
+    /**
+     * The prepared checks of a constructor with 2 fields.
+     */
+    public static final class Plan2<T1, T2, R1, R2> {
+        private final Field<T1, R1> field1;
+        private final Field<T2, R2> field2;
+
+        public Plan2(Field<T1, R1> field1, Field<T2, R2> field2) {
+            this.field1 = Objects.requireNonNull(field1, "field1 cannot be null");
+            this.field2 = Objects.requireNonNull(field2, "field2 cannot be null");
+        }
+
+        /**
+         * Checks the values, accumulating the errors of all of them in order.
+         */
+        public Validation<Tuple2<R1, R2>> validate(@Nullable T1 t1, @Nullable T2 t2) {
+            Validation<R1> v1 = field1.apply(t1);
+            Validation<R2> v2 = field2.apply(t2);
+            if (v1 instanceof Validation.Valid(var r1) && v2 instanceof Validation.Valid(var r2)) {
+                return Validation.valid(Tuple.of(r1, r2));
+            }
+            return Validations.combine(v1, v2).map(Tuple::of);
+        }
+
+        /**
+         * Checks the values and returns them, transformed, or throws a {@link ValidationException} with the errors of
+         * all of them.
+         *
+         * @throws ValidationException if any value is invalid.
+         */
+        public Tuple2<R1, R2> asserting(@Nullable T1 t1, @Nullable T2 t2) throws ValidationException {
+            Validation<R1> v1 = field1.apply(t1);
+            Validation<R2> v2 = field2.apply(t2);
+            if (v1 instanceof Validation.Valid(var r1) && v2 instanceof Validation.Valid(var r2)) {
+                return Tuple.of(r1, r2);
+            }
+            return Validations.combine(v1, v2).map(Tuple::of).getOrElseThrow();
+        }
+    }
+
+    /**
+     * The prepared checks of a constructor with 3 fields.
+     */
+    public static final class Plan3<T1, T2, T3, R1, R2, R3> {
+        private final Field<T1, R1> field1;
+        private final Field<T2, R2> field2;
+        private final Field<T3, R3> field3;
+
+        public Plan3(Field<T1, R1> field1, Field<T2, R2> field2, Field<T3, R3> field3) {
+            this.field1 = Objects.requireNonNull(field1, "field1 cannot be null");
+            this.field2 = Objects.requireNonNull(field2, "field2 cannot be null");
+            this.field3 = Objects.requireNonNull(field3, "field3 cannot be null");
+        }
+
+        /**
+         * Checks the values, accumulating the errors of all of them in order.
+         */
+        public Validation<Tuple3<R1, R2, R3>> validate(@Nullable T1 t1, @Nullable T2 t2, @Nullable T3 t3) {
+            Validation<R1> v1 = field1.apply(t1);
+            Validation<R2> v2 = field2.apply(t2);
+            Validation<R3> v3 = field3.apply(t3);
+            if (v1 instanceof Validation.Valid(var r1) && v2 instanceof Validation.Valid(var r2) && v3 instanceof Validation.Valid(var r3)) {
+                return Validation.valid(Tuple.of(r1, r2, r3));
+            }
+            return Validations.combine(v1, v2, v3).map(Tuple::of);
+        }
+
+        /**
+         * Checks the values and returns them, transformed, or throws a {@link ValidationException} with the errors of
+         * all of them.
+         *
+         * @throws ValidationException if any value is invalid.
+         */
+        public Tuple3<R1, R2, R3> asserting(@Nullable T1 t1, @Nullable T2 t2, @Nullable T3 t3) throws ValidationException {
+            Validation<R1> v1 = field1.apply(t1);
+            Validation<R2> v2 = field2.apply(t2);
+            Validation<R3> v3 = field3.apply(t3);
+            if (v1 instanceof Validation.Valid(var r1) && v2 instanceof Validation.Valid(var r2) && v3 instanceof Validation.Valid(var r3)) {
+                return Tuple.of(r1, r2, r3);
+            }
+            return Validations.combine(v1, v2, v3).map(Tuple::of).getOrElseThrow();
+        }
+    }
+
+    /**
+     * The prepared checks of a constructor with 4 fields.
+     */
+    public static final class Plan4<T1, T2, T3, T4, R1, R2, R3, R4> {
+        private final Field<T1, R1> field1;
+        private final Field<T2, R2> field2;
+        private final Field<T3, R3> field3;
+        private final Field<T4, R4> field4;
+
+        public Plan4(Field<T1, R1> field1, Field<T2, R2> field2, Field<T3, R3> field3, Field<T4, R4> field4) {
+            this.field1 = Objects.requireNonNull(field1, "field1 cannot be null");
+            this.field2 = Objects.requireNonNull(field2, "field2 cannot be null");
+            this.field3 = Objects.requireNonNull(field3, "field3 cannot be null");
+            this.field4 = Objects.requireNonNull(field4, "field4 cannot be null");
+        }
+
+        /**
+         * Checks the values, accumulating the errors of all of them in order.
+         */
+        public Validation<Tuple4<R1, R2, R3, R4>> validate(@Nullable T1 t1, @Nullable T2 t2, @Nullable T3 t3, @Nullable T4 t4) {
+            Validation<R1> v1 = field1.apply(t1);
+            Validation<R2> v2 = field2.apply(t2);
+            Validation<R3> v3 = field3.apply(t3);
+            Validation<R4> v4 = field4.apply(t4);
+            if (v1 instanceof Validation.Valid(var r1) && v2 instanceof Validation.Valid(var r2) && v3 instanceof Validation.Valid(var r3) && v4 instanceof Validation.Valid(var r4)) {
+                return Validation.valid(Tuple.of(r1, r2, r3, r4));
+            }
+            return Validations.combine(v1, v2, v3, v4).map(Tuple::of);
+        }
+
+        /**
+         * Checks the values and returns them, transformed, or throws a {@link ValidationException} with the errors of
+         * all of them.
+         *
+         * @throws ValidationException if any value is invalid.
+         */
+        public Tuple4<R1, R2, R3, R4> asserting(@Nullable T1 t1, @Nullable T2 t2, @Nullable T3 t3, @Nullable T4 t4) throws ValidationException {
+            Validation<R1> v1 = field1.apply(t1);
+            Validation<R2> v2 = field2.apply(t2);
+            Validation<R3> v3 = field3.apply(t3);
+            Validation<R4> v4 = field4.apply(t4);
+            if (v1 instanceof Validation.Valid(var r1) && v2 instanceof Validation.Valid(var r2) && v3 instanceof Validation.Valid(var r3) && v4 instanceof Validation.Valid(var r4)) {
+                return Tuple.of(r1, r2, r3, r4);
+            }
+            return Validations.combine(v1, v2, v3, v4).map(Tuple::of).getOrElseThrow();
+        }
+    }
+
+    /**
+     * The prepared checks of a constructor with 5 fields.
+     */
+    public static final class Plan5<T1, T2, T3, T4, T5, R1, R2, R3, R4, R5> {
+        private final Field<T1, R1> field1;
+        private final Field<T2, R2> field2;
+        private final Field<T3, R3> field3;
+        private final Field<T4, R4> field4;
+        private final Field<T5, R5> field5;
+
+        public Plan5(Field<T1, R1> field1, Field<T2, R2> field2, Field<T3, R3> field3, Field<T4, R4> field4, Field<T5, R5> field5) {
+            this.field1 = Objects.requireNonNull(field1, "field1 cannot be null");
+            this.field2 = Objects.requireNonNull(field2, "field2 cannot be null");
+            this.field3 = Objects.requireNonNull(field3, "field3 cannot be null");
+            this.field4 = Objects.requireNonNull(field4, "field4 cannot be null");
+            this.field5 = Objects.requireNonNull(field5, "field5 cannot be null");
+        }
+
+        /**
+         * Checks the values, accumulating the errors of all of them in order.
+         */
+        public Validation<Tuple5<R1, R2, R3, R4, R5>> validate(@Nullable T1 t1, @Nullable T2 t2, @Nullable T3 t3, @Nullable T4 t4, @Nullable T5 t5) {
+            Validation<R1> v1 = field1.apply(t1);
+            Validation<R2> v2 = field2.apply(t2);
+            Validation<R3> v3 = field3.apply(t3);
+            Validation<R4> v4 = field4.apply(t4);
+            Validation<R5> v5 = field5.apply(t5);
+            if (v1 instanceof Validation.Valid(var r1) && v2 instanceof Validation.Valid(var r2) && v3 instanceof Validation.Valid(var r3) && v4 instanceof Validation.Valid(var r4) && v5 instanceof Validation.Valid(var r5)) {
+                return Validation.valid(Tuple.of(r1, r2, r3, r4, r5));
+            }
+            return Validations.combine(v1, v2, v3, v4, v5).map(Tuple::of);
+        }
+
+        /**
+         * Checks the values and returns them, transformed, or throws a {@link ValidationException} with the errors of
+         * all of them.
+         *
+         * @throws ValidationException if any value is invalid.
+         */
+        public Tuple5<R1, R2, R3, R4, R5> asserting(@Nullable T1 t1, @Nullable T2 t2, @Nullable T3 t3, @Nullable T4 t4, @Nullable T5 t5) throws ValidationException {
+            Validation<R1> v1 = field1.apply(t1);
+            Validation<R2> v2 = field2.apply(t2);
+            Validation<R3> v3 = field3.apply(t3);
+            Validation<R4> v4 = field4.apply(t4);
+            Validation<R5> v5 = field5.apply(t5);
+            if (v1 instanceof Validation.Valid(var r1) && v2 instanceof Validation.Valid(var r2) && v3 instanceof Validation.Valid(var r3) && v4 instanceof Validation.Valid(var r4) && v5 instanceof Validation.Valid(var r5)) {
+                return Tuple.of(r1, r2, r3, r4, r5);
+            }
+            return Validations.combine(v1, v2, v3, v4, v5).map(Tuple::of).getOrElseThrow();
+        }
+    }
+
+    /**
+     * The prepared checks of a constructor with 6 fields.
+     */
+    public static final class Plan6<T1, T2, T3, T4, T5, T6, R1, R2, R3, R4, R5, R6> {
+        private final Field<T1, R1> field1;
+        private final Field<T2, R2> field2;
+        private final Field<T3, R3> field3;
+        private final Field<T4, R4> field4;
+        private final Field<T5, R5> field5;
+        private final Field<T6, R6> field6;
+
+        public Plan6(Field<T1, R1> field1, Field<T2, R2> field2, Field<T3, R3> field3, Field<T4, R4> field4, Field<T5, R5> field5, Field<T6, R6> field6) {
+            this.field1 = Objects.requireNonNull(field1, "field1 cannot be null");
+            this.field2 = Objects.requireNonNull(field2, "field2 cannot be null");
+            this.field3 = Objects.requireNonNull(field3, "field3 cannot be null");
+            this.field4 = Objects.requireNonNull(field4, "field4 cannot be null");
+            this.field5 = Objects.requireNonNull(field5, "field5 cannot be null");
+            this.field6 = Objects.requireNonNull(field6, "field6 cannot be null");
+        }
+
+        /**
+         * Checks the values, accumulating the errors of all of them in order.
+         */
+        public Validation<Tuple6<R1, R2, R3, R4, R5, R6>> validate(@Nullable T1 t1, @Nullable T2 t2, @Nullable T3 t3, @Nullable T4 t4, @Nullable T5 t5, @Nullable T6 t6) {
+            Validation<R1> v1 = field1.apply(t1);
+            Validation<R2> v2 = field2.apply(t2);
+            Validation<R3> v3 = field3.apply(t3);
+            Validation<R4> v4 = field4.apply(t4);
+            Validation<R5> v5 = field5.apply(t5);
+            Validation<R6> v6 = field6.apply(t6);
+            if (v1 instanceof Validation.Valid(var r1) && v2 instanceof Validation.Valid(var r2) && v3 instanceof Validation.Valid(var r3) && v4 instanceof Validation.Valid(var r4) && v5 instanceof Validation.Valid(var r5) && v6 instanceof Validation.Valid(var r6)) {
+                return Validation.valid(Tuple.of(r1, r2, r3, r4, r5, r6));
+            }
+            return Validations.combine(v1, v2, v3, v4, v5, v6).map(Tuple::of);
+        }
+
+        /**
+         * Checks the values and returns them, transformed, or throws a {@link ValidationException} with the errors of
+         * all of them.
+         *
+         * @throws ValidationException if any value is invalid.
+         */
+        public Tuple6<R1, R2, R3, R4, R5, R6> asserting(@Nullable T1 t1, @Nullable T2 t2, @Nullable T3 t3, @Nullable T4 t4, @Nullable T5 t5, @Nullable T6 t6) throws ValidationException {
+            Validation<R1> v1 = field1.apply(t1);
+            Validation<R2> v2 = field2.apply(t2);
+            Validation<R3> v3 = field3.apply(t3);
+            Validation<R4> v4 = field4.apply(t4);
+            Validation<R5> v5 = field5.apply(t5);
+            Validation<R6> v6 = field6.apply(t6);
+            if (v1 instanceof Validation.Valid(var r1) && v2 instanceof Validation.Valid(var r2) && v3 instanceof Validation.Valid(var r3) && v4 instanceof Validation.Valid(var r4) && v5 instanceof Validation.Valid(var r5) && v6 instanceof Validation.Valid(var r6)) {
+                return Tuple.of(r1, r2, r3, r4, r5, r6);
+            }
+            return Validations.combine(v1, v2, v3, v4, v5, v6).map(Tuple::of).getOrElseThrow();
+        }
+    }
+
+    /**
+     * The prepared checks of a constructor with 7 fields.
+     */
+    public static final class Plan7<T1, T2, T3, T4, T5, T6, T7, R1, R2, R3, R4, R5, R6, R7> {
+        private final Field<T1, R1> field1;
+        private final Field<T2, R2> field2;
+        private final Field<T3, R3> field3;
+        private final Field<T4, R4> field4;
+        private final Field<T5, R5> field5;
+        private final Field<T6, R6> field6;
+        private final Field<T7, R7> field7;
+
+        public Plan7(Field<T1, R1> field1, Field<T2, R2> field2, Field<T3, R3> field3, Field<T4, R4> field4, Field<T5, R5> field5, Field<T6, R6> field6, Field<T7, R7> field7) {
+            this.field1 = Objects.requireNonNull(field1, "field1 cannot be null");
+            this.field2 = Objects.requireNonNull(field2, "field2 cannot be null");
+            this.field3 = Objects.requireNonNull(field3, "field3 cannot be null");
+            this.field4 = Objects.requireNonNull(field4, "field4 cannot be null");
+            this.field5 = Objects.requireNonNull(field5, "field5 cannot be null");
+            this.field6 = Objects.requireNonNull(field6, "field6 cannot be null");
+            this.field7 = Objects.requireNonNull(field7, "field7 cannot be null");
+        }
+
+        /**
+         * Checks the values, accumulating the errors of all of them in order.
+         */
+        public Validation<Tuple7<R1, R2, R3, R4, R5, R6, R7>> validate(@Nullable T1 t1, @Nullable T2 t2, @Nullable T3 t3, @Nullable T4 t4, @Nullable T5 t5, @Nullable T6 t6, @Nullable T7 t7) {
+            Validation<R1> v1 = field1.apply(t1);
+            Validation<R2> v2 = field2.apply(t2);
+            Validation<R3> v3 = field3.apply(t3);
+            Validation<R4> v4 = field4.apply(t4);
+            Validation<R5> v5 = field5.apply(t5);
+            Validation<R6> v6 = field6.apply(t6);
+            Validation<R7> v7 = field7.apply(t7);
+            if (v1 instanceof Validation.Valid(var r1) && v2 instanceof Validation.Valid(var r2) && v3 instanceof Validation.Valid(var r3) && v4 instanceof Validation.Valid(var r4) && v5 instanceof Validation.Valid(var r5) && v6 instanceof Validation.Valid(var r6) && v7 instanceof Validation.Valid(var r7)) {
+                return Validation.valid(Tuple.of(r1, r2, r3, r4, r5, r6, r7));
+            }
+            return Validations.combine(v1, v2, v3, v4, v5, v6, v7).map(Tuple::of);
+        }
+
+        /**
+         * Checks the values and returns them, transformed, or throws a {@link ValidationException} with the errors of
+         * all of them.
+         *
+         * @throws ValidationException if any value is invalid.
+         */
+        public Tuple7<R1, R2, R3, R4, R5, R6, R7> asserting(@Nullable T1 t1, @Nullable T2 t2, @Nullable T3 t3, @Nullable T4 t4, @Nullable T5 t5, @Nullable T6 t6, @Nullable T7 t7) throws ValidationException {
+            Validation<R1> v1 = field1.apply(t1);
+            Validation<R2> v2 = field2.apply(t2);
+            Validation<R3> v3 = field3.apply(t3);
+            Validation<R4> v4 = field4.apply(t4);
+            Validation<R5> v5 = field5.apply(t5);
+            Validation<R6> v6 = field6.apply(t6);
+            Validation<R7> v7 = field7.apply(t7);
+            if (v1 instanceof Validation.Valid(var r1) && v2 instanceof Validation.Valid(var r2) && v3 instanceof Validation.Valid(var r3) && v4 instanceof Validation.Valid(var r4) && v5 instanceof Validation.Valid(var r5) && v6 instanceof Validation.Valid(var r6) && v7 instanceof Validation.Valid(var r7)) {
+                return Tuple.of(r1, r2, r3, r4, r5, r6, r7);
+            }
+            return Validations.combine(v1, v2, v3, v4, v5, v6, v7).map(Tuple::of).getOrElseThrow();
+        }
+    }
+
+    /**
+     * The prepared checks of a constructor with 8 fields.
+     */
+    public static final class Plan8<T1, T2, T3, T4, T5, T6, T7, T8, R1, R2, R3, R4, R5, R6, R7, R8> {
+        private final Field<T1, R1> field1;
+        private final Field<T2, R2> field2;
+        private final Field<T3, R3> field3;
+        private final Field<T4, R4> field4;
+        private final Field<T5, R5> field5;
+        private final Field<T6, R6> field6;
+        private final Field<T7, R7> field7;
+        private final Field<T8, R8> field8;
+
+        public Plan8(Field<T1, R1> field1, Field<T2, R2> field2, Field<T3, R3> field3, Field<T4, R4> field4, Field<T5, R5> field5, Field<T6, R6> field6, Field<T7, R7> field7, Field<T8, R8> field8) {
+            this.field1 = Objects.requireNonNull(field1, "field1 cannot be null");
+            this.field2 = Objects.requireNonNull(field2, "field2 cannot be null");
+            this.field3 = Objects.requireNonNull(field3, "field3 cannot be null");
+            this.field4 = Objects.requireNonNull(field4, "field4 cannot be null");
+            this.field5 = Objects.requireNonNull(field5, "field5 cannot be null");
+            this.field6 = Objects.requireNonNull(field6, "field6 cannot be null");
+            this.field7 = Objects.requireNonNull(field7, "field7 cannot be null");
+            this.field8 = Objects.requireNonNull(field8, "field8 cannot be null");
+        }
+
+        /**
+         * Checks the values, accumulating the errors of all of them in order.
+         */
+        public Validation<Tuple8<R1, R2, R3, R4, R5, R6, R7, R8>> validate(@Nullable T1 t1, @Nullable T2 t2, @Nullable T3 t3, @Nullable T4 t4, @Nullable T5 t5, @Nullable T6 t6, @Nullable T7 t7, @Nullable T8 t8) {
+            Validation<R1> v1 = field1.apply(t1);
+            Validation<R2> v2 = field2.apply(t2);
+            Validation<R3> v3 = field3.apply(t3);
+            Validation<R4> v4 = field4.apply(t4);
+            Validation<R5> v5 = field5.apply(t5);
+            Validation<R6> v6 = field6.apply(t6);
+            Validation<R7> v7 = field7.apply(t7);
+            Validation<R8> v8 = field8.apply(t8);
+            if (v1 instanceof Validation.Valid(var r1) && v2 instanceof Validation.Valid(var r2) && v3 instanceof Validation.Valid(var r3) && v4 instanceof Validation.Valid(var r4) && v5 instanceof Validation.Valid(var r5) && v6 instanceof Validation.Valid(var r6) && v7 instanceof Validation.Valid(var r7) && v8 instanceof Validation.Valid(var r8)) {
+                return Validation.valid(Tuple.of(r1, r2, r3, r4, r5, r6, r7, r8));
+            }
+            return Validations.combine(v1, v2, v3, v4, v5, v6, v7, v8).map(Tuple::of);
+        }
+
+        /**
+         * Checks the values and returns them, transformed, or throws a {@link ValidationException} with the errors of
+         * all of them.
+         *
+         * @throws ValidationException if any value is invalid.
+         */
+        public Tuple8<R1, R2, R3, R4, R5, R6, R7, R8> asserting(@Nullable T1 t1, @Nullable T2 t2, @Nullable T3 t3, @Nullable T4 t4, @Nullable T5 t5, @Nullable T6 t6, @Nullable T7 t7, @Nullable T8 t8) throws ValidationException {
+            Validation<R1> v1 = field1.apply(t1);
+            Validation<R2> v2 = field2.apply(t2);
+            Validation<R3> v3 = field3.apply(t3);
+            Validation<R4> v4 = field4.apply(t4);
+            Validation<R5> v5 = field5.apply(t5);
+            Validation<R6> v6 = field6.apply(t6);
+            Validation<R7> v7 = field7.apply(t7);
+            Validation<R8> v8 = field8.apply(t8);
+            if (v1 instanceof Validation.Valid(var r1) && v2 instanceof Validation.Valid(var r2) && v3 instanceof Validation.Valid(var r3) && v4 instanceof Validation.Valid(var r4) && v5 instanceof Validation.Valid(var r5) && v6 instanceof Validation.Valid(var r6) && v7 instanceof Validation.Valid(var r7) && v8 instanceof Validation.Valid(var r8)) {
+                return Tuple.of(r1, r2, r3, r4, r5, r6, r7, r8);
+            }
+            return Validations.combine(v1, v2, v3, v4, v5, v6, v7, v8).map(Tuple::of).getOrElseThrow();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package be.iffy.fv.dsl.impl;
+
+import be.iffy.fv.*;
+import be.iffy.fv.dsl.DSL;
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.Tuple3;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static be.iffy.fv.assertj.ValidationAssert.assertThatValidation;
+import static be.iffy.fv.dsl.DSL.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PlanDSLTest {
+
+    record Person(String name, int age) {
+    }
+
+    private static final PlanDSL.Plan2<String, Integer, String, Integer> PERSON = plan(
+            field(Person::name).after(stringOps.trim()).is(strings.minLength(2)),
+            field(Person::age).is(ints.atLeast(18))
+    );
+
+    @Nested
+    class Fields {
+
+        @Test
+        void field_transformsAndChecksTheValue() {
+            PlanDSL.Field<String, String> name = field(Person::name).after(stringOps.trim()).is(strings.minLength(2));
+
+            assertThatValidation(name.apply("  Alice ")).isValid().isEqualTo("Alice");
+            assertThatValidation(name.apply(" A ")).isInvalid().hasErrorMessages("name.must.have.min.length");
+        }
+
+        @Test
+        void field_null_isInvalidUnderTheName() {
+            PlanDSL.Field<String, String> name = field(Person::name).after(stringOps.trim()).is(strings.minLength(2));
+
+            assertThatValidation(name.apply(null)).isInvalid().hasErrorMessages("name.must.not.be.null");
+        }
+
+        @Test
+        void field_withStringName() {
+            PlanDSL.Field<String, String> name = DSL.<String>field("name").is(strings.notBlank());
+
+            assertThatValidation(name.apply(" ")).isInvalid().hasErrorMessages("name.must.not.be.blank");
+        }
+
+        @Test
+        void field_withBlankName_hasNoPath() {
+            PlanDSL.Field<String, String> name = DSL.<String>field(" ").is(strings.notBlank());
+
+            assertThat(name.apply(" ").errors().head().message()).isEqualTo("must.not.be.blank");
+        }
+
+        @Test
+        void map_changesTheType_andLaterTransformationsApplyToTheMappedValue() {
+            PlanDSL.Field<String, Integer> age = field(Person::name)
+                    .after(stringOps.trim())
+                    .map(strings.asInteger())
+                    .after(i -> i * 2)
+                    .is(ints.atLeast(18));
+
+            assertThatValidation(age.apply(" 10 ")).isValid().isEqualTo(20);
+            assertThatValidation(age.apply(" 8 ")).isInvalid().hasErrorMessages("name.must.be.at.least");
+            assertThatValidation(age.apply("x")).isInvalid().hasErrorMessages("name.must.be.integer");
+        }
+
+        @Test
+        void is_mappingRule_returnsTheMappedValue() {
+            MappingRule<String, Integer> length = MappingRule.of((String s) -> Validation.valid(s.length()));
+
+            assertThatValidation(DSL.<String>field("name").is(length).apply("abc")).isValid().isEqualTo(3);
+        }
+
+        @Test
+        void isNotNull_onlyRejectsNull() {
+            PlanDSL.Field<String, String> name = field(Person::name).isNotNull();
+
+            assertThatValidation(name.apply("")).isValid().isEqualTo("");
+            assertThatValidation(name.apply(null)).isInvalid().hasErrorMessages("name.must.not.be.null");
+        }
+    }
+
+    @Nested
+    class Plans {
+
+        @Test
+        void asserting_valid_returnsTheTransformedValues() {
+            assertThat(PERSON.asserting("  Alice  ", 30)).isEqualTo(Tuple.of("Alice", 30));
+        }
+
+        @Test
+        void asserting_invalid_throwsTheErrorsOfAllFields() {
+            assertThatThrownBy(() -> PERSON.asserting(" A ", 16))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessage("name.must.have.min.length, age.must.be.at.least");
+        }
+
+        @Test
+        void plan_sameResultAsAssertingValidateThat() {
+            for (String name : new String[]{"  Alice  ", " A ", null}) {
+                for (Integer age : new Integer[]{30, 16, null}) {
+                    Validation<Tuple2<String, Integer>> expected = Validation.from().catching(() -> asserting(
+                            validateThat(name, Person::name).after(stringOps.trim()).is(strings.minLength(2)),
+                            validateThat(age, Person::age).is(ints.atLeast(18))));
+
+                    assertThat(PERSON.validate(name, age)).isEqualTo(expected);
+                }
+            }
+        }
+
+        @Test
+        void plan1_returnsTheValue() {
+            PlanDSL.Plan1<String, String> plan = plan(field(Person::name).after(stringOps.trim()).is(strings.minLength(2)));
+
+            assertThat(plan.asserting(" Al ")).isEqualTo("Al");
+            assertThatValidation(plan.validate("A")).isInvalid().hasErrorMessages("name.must.have.min.length");
+        }
+
+        @Test
+        void plan3_validate_accumulatesInOrder() {
+            PlanDSL.Plan3<String, Integer, String, String, Integer, String> plan = plan(
+                    field(Person::name).is(strings.notBlank()),
+                    field(Person::age).is(ints.atLeast(18)),
+                    field(Person::name).is(strings.notBlank()));
+
+            assertThat(plan.validate("a", 18, "b")).isEqualTo(Validation.valid(Tuple.of("a", 18, "b")));
+            Validation<Tuple3<String, Integer, String>> invalid = plan.validate(" ", 1, "b");
+            assertThat(invalid.errors().map(ErrorMessage::message)).containsExactly("name.must.not.be.blank", "age.must.be.at.least");
+        }
+    }
+}
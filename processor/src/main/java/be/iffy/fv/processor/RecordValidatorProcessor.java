@@ -0,0 +1,331 @@
+package be.iffy.fv.processor;
+
+import org.jspecify.annotations.Nullable;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Generates, for every record annotated with {@code be.iffy.fv.RecordValidator}:
+ * <ul>
+ *     <li>{@code <Record>Properties}, a {@code PropertySelector} constant per component, named with
+ *     {@code PropertySelector.named}, so looking up their names needs no reflection;</li>
+ *     <li>{@code <Record>Validator}, a {@code Rule} of the record that applies the {@code be.iffy.fv.CheckWith} rule of
+ *     each annotated component, one statement per component, without reflection, varargs or intermediate
+ *     collections when the record is valid.</li>
+ * </ul>
+ * The annotations are read by name, so the processor does not depend on the core module. Mistakes, such as a rule
+ * field that does not exist or has the wrong type, are reported on the component that refers to it.
+ */
+@SupportedAnnotationTypes(RecordValidatorProcessor.RECORD_VALIDATOR)
+public class RecordValidatorProcessor extends AbstractProcessor {
+
+    static final String RECORD_VALIDATOR = "be.iffy.fv.RecordValidator";
+    static final String CHECK_WITH = "be.iffy.fv.CheckWith";
+    private static final String RULE_LIKE = "be.iffy.fv.RuleLike";
+    private static final String VALIDATION = "be.iffy.fv.Validation";
+
+    private Elements elements;
+    private Types types;
+    private Messager messager;
+    private Filer filer;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        this.messager = processingEnv.getMessager();
+        this.filer = processingEnv.getFiler();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.RECORD) {
+                    error(element, "@RecordValidator can only be used on a record");
+                } else if (!((TypeElement) element).getTypeParameters().isEmpty()) {
+                    error(element, "@RecordValidator cannot be used on a generic record");
+                } else if (!accessible((TypeElement) element)) {
+                    error(element, "@RecordValidator cannot be used on a private record, or one nested in a private type");
+                } else {
+                    generate((TypeElement) element);
+                }
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement record) {
+        List<Component> components = new ArrayList<>();
+        boolean ok = true;
+        for (RecordComponentElement component : record.getRecordComponents()) {
+            AnnotationMirror checkWith = findAnnotation(component, CHECK_WITH);
+            @Nullable String rule = null;
+            if (checkWith != null) {
+                rule = ruleReference(component, checkWith);
+                ok &= rule != null;
+            }
+            components.add(new Component(component.getSimpleName().toString(), render(component.asType()), rule));
+        }
+        if (!ok) {
+            return;
+        }
+        String packageName = elements.getPackageOf(record).getQualifiedName().toString();
+        String prefix = flatName(record);
+        String recordType = render(record.asType());
+        boolean isPublic = record.getModifiers().contains(Modifier.PUBLIC);
+        write(record, packageName, prefix + "Properties", properties(packageName, prefix + "Properties", recordType, isPublic, components));
+        write(record, packageName, prefix + "Validator", validator(packageName, prefix + "Validator", recordType, isPublic, components));
+    }
+
+    /**
+     * The expression that reads the rule of a {@code CheckWith}, or {@code null} after reporting why it can't be used.
+     */
+    private @Nullable String ruleReference(RecordComponentElement component, AnnotationMirror checkWith) {
+        @Nullable TypeMirror on = null;
+        @Nullable String fieldName = null;
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : checkWith.getElementValues().entrySet()) {
+            String name = entry.getKey().getSimpleName().toString();
+            if (name.equals("on")) {
+                on = (TypeMirror) entry.getValue().getValue();
+            } else if (name.equals("field")) {
+                fieldName = (String) entry.getValue().getValue();
+            }
+        }
+        if (on == null || on.getKind() != TypeKind.DECLARED || fieldName == null) {
+            error(component, checkWith, "@CheckWith needs a class and a field name");
+            return null;
+        }
+        TypeElement owner = (TypeElement) types.asElement(on);
+        @Nullable VariableElement field = null;
+        for (VariableElement candidate : ElementFilter.fieldsIn(elements.getAllMembers(owner))) {
+            if (candidate.getSimpleName().contentEquals(fieldName)) {
+                field = candidate;
+                break;
+            }
+        }
+        String where = owner.getQualifiedName() + "." + fieldName;
+        if (field == null) {
+            error(component, checkWith, "@CheckWith refers to " + where + ", which does not exist");
+            return null;
+        }
+        if (!field.getModifiers().contains(Modifier.STATIC)) {
+            error(component, checkWith, "@CheckWith refers to " + where + ", which is not static");
+            return null;
+        }
+        if (field.getModifiers().contains(Modifier.PRIVATE)
+                || !field.getModifiers().contains(Modifier.PUBLIC) && !elements.getPackageOf(owner).equals(elements.getPackageOf(component))) {
+            error(component, checkWith, "@CheckWith refers to " + where + ", which is not accessible from the record");
+            return null;
+        }
+        TypeMirror expected = ruleOf(component.asType());
+        if (!types.isAssignable(field.asType(), expected)) {
+            error(component, checkWith, "@CheckWith refers to " + where + ", which is not a Rule or MappingRule of "
+                    + render(component.asType()));
+            return null;
+        }
+        return render(types.erasure(on)) + "." + fieldName;
+    }
+
+    // RuleLike<? super C, ? extends Validation<?>>
+    private TypeMirror ruleOf(TypeMirror component) {
+        TypeElement ruleLike = elements.getTypeElement(RULE_LIKE);
+        TypeElement validation = elements.getTypeElement(VALIDATION);
+        DeclaredType anyValidation = types.getDeclaredType(validation, types.getWildcardType(null, null));
+        return types.getDeclaredType(ruleLike,
+                types.getWildcardType(null, boxed(component)),
+                types.getWildcardType(anyValidation, null));
+    }
+
+    private String properties(String packageName, String className, String recordType, boolean isPublic, List<Component> components) {
+        StringBuilder source = header(packageName);
+        source.append(isPublic ? "public " : "").append("final class ").append(className).append(" {\n\n");
+        for (Component component : components) {
+            source.append("    public static final be.iffy.fv.PropertySelector<").append(recordType).append(", ")
+                    .append(component.type).append("> ").append(component.name)
+                    .append(" = be.iffy.fv.PropertySelector.named(\"").append(component.name).append("\", ")
+                    .append(recordType).append("::").append(component.name).append(");\n\n");
+        }
+        source.append("    private ").append(className).append("() {\n    }\n}\n");
+        return source.toString();
+    }
+
+    private String validator(String packageName, String className, String recordType, boolean isPublic, List<Component> components) {
+        List<Component> checked = components.stream().filter(c -> c.rule != null).toList();
+        StringBuilder source = header(packageName);
+        source.append(isPublic ? "public " : "").append("final class ").append(className)
+                .append(" implements be.iffy.fv.Rule<").append(recordType).append("> {\n\n");
+        source.append("    public static final ").append(className).append(" instance = new ").append(className).append("();\n\n");
+        source.append("    private ").append(className).append("() {\n    }\n\n");
+        source.append("    @Override\n");
+        source.append("    public be.iffy.fv.Validation<").append(recordType).append("> apply(").append(recordType).append(" input) {\n");
+        source.append("        if (input == null) {\n");
+        source.append("            return be.iffy.fv.Validation.Invalid.notNull();\n");
+        source.append("        }\n");
+        for (Component component : checked) {
+            source.append("        be.iffy.fv.Validation<?> ").append(component.name).append("Validation = ")
+                    .append(component.rule).append(".apply(input.").append(component.name).append("());\n");
+        }
+        if (!checked.isEmpty()) {
+            source.append("        if (");
+            for (int i = 0; i < checked.size(); i++) {
+                source.append(i == 0 ? "" : "\n                || ").append("!").append(checked.get(i).name).append("Validation.isValid()");
+            }
+            source.append(") {\n");
+            source.append("            io.vavr.collection.List<be.iffy.fv.ErrorMessage> errors = io.vavr.collection.List.empty();\n");
+            for (Component component : checked) {
+                String validation = component.name + "Validation";
+                source.append("            if (!").append(validation).append(".isValid()) {\n");
+                source.append("                errors = errors.appendAll(").append(validation).append(".at(\"")
+                        .append(component.name).append("\").errors());\n");
+                source.append("            }\n");
+            }
+            source.append("            return be.iffy.fv.Validation.invalid(errors);\n");
+            source.append("        }\n");
+        }
+        source.append("        return be.iffy.fv.Validation.valid(input);\n");
+        source.append("    }\n}\n");
+        return source.toString();
+    }
+
+    private StringBuilder header(String packageName) {
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n");
+        return source;
+    }
+
+    private void write(TypeElement record, String packageName, String className, String source) {
+        String name = packageName.isEmpty() ? className : packageName + "." + className;
+        try (Writer writer = filer.createSourceFile(name, record).openWriter()) {
+            writer.write(source);
+        } catch (IOException e) {
+            error(record, "could not write " + name + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Whether the generated classes, in the package of the record, can refer to it: neither the record nor a type it is
+     * nested in is private.
+     */
+    private static boolean accessible(TypeElement record) {
+        Element type = record;
+        while (!(type instanceof PackageElement)) {
+            if (!(type instanceof TypeElement) || type.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            type = type.getEnclosingElement();
+        }
+        return true;
+    }
+
+    /**
+     * The name of the type without its package, with the names of enclosing types joined by {@code _}.
+     */
+    private static String flatName(TypeElement type) {
+        String name = type.getSimpleName().toString();
+        Element enclosing = type.getEnclosingElement();
+        while (!(enclosing instanceof PackageElement)) {
+            name = enclosing.getSimpleName() + "_" + name;
+            enclosing = enclosing.getEnclosingElement();
+        }
+        return name;
+    }
+
+    private TypeMirror boxed(TypeMirror type) {
+        return type.getKind().isPrimitive() ? types.boxedClass(types.getPrimitiveType(type.getKind())).asType() : type;
+    }
+
+    /**
+     * The type as source: fully qualified, primitives boxed so the type can be a type argument, and without type
+     * annotations, which {@code TypeMirror.toString()} would include.
+     */
+    private String render(TypeMirror type) {
+        return switch (type.getKind()) {
+            case BOOLEAN, BYTE, SHORT, INT, LONG, CHAR, FLOAT, DOUBLE -> render(boxed(type));
+            case ARRAY -> renderComponent(((ArrayType) type).getComponentType()) + "[]";
+            case WILDCARD -> {
+                WildcardType wildcard = (WildcardType) type;
+                if (wildcard.getExtendsBound() != null) {
+                    yield "? extends " + render(wildcard.getExtendsBound());
+                }
+                yield wildcard.getSuperBound() != null ? "? super " + render(wildcard.getSuperBound()) : "?";
+            }
+            case DECLARED -> {
+                DeclaredType declared = (DeclaredType) type;
+                String name = ((TypeElement) declared.asElement()).getQualifiedName().toString();
+                if (declared.getTypeArguments().isEmpty()) {
+                    yield name;
+                }
+                yield name + declared.getTypeArguments().stream().map(this::render).collect(Collectors.joining(", ", "<", ">"));
+            }
+            default -> type.toString();
+        };
+    }
+
+    // arrays of primitives stay primitive
+    private String renderComponent(TypeMirror type) {
+        return type.getKind().isPrimitive() ? type.getKind().name().toLowerCase(Locale.ROOT) : render(type);
+    }
+
+    private static @Nullable AnnotationMirror findAnnotation(Element element, String name) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(name)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private void error(Element element, String message) {
+        messager.printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private void error(Element element, AnnotationMirror annotation, String message) {
+        messager.printMessage(Diagnostic.Kind.ERROR, message, element, annotation);
+    }
+
+    private record Component(String name, String type, @Nullable String rule) {
+    }
+}
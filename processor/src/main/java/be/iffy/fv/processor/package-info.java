@@ -0,0 +1,4 @@
+@NullMarked
+package be.iffy.fv.processor;
+
+import org.jspecify.annotations.NullMarked;
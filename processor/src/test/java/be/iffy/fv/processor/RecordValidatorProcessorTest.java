@@ -0,0 +1,253 @@
+package be.iffy.fv.processor;
+
+import be.iffy.fv.PropertySelector;
+import be.iffy.fv.Rule;
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.JavaFileObjects;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import static be.iffy.fv.assertj.ValidationAssert.assertThatValidation;
+import static com.google.testing.compile.Compiler.javac;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecordValidatorProcessorTest {
+
+    private static final JavaFileObject RULES = JavaFileObjects.forSourceLines("com.example.PersonRules",
+            "package com.example;",
+            "",
+            "import be.iffy.fv.Rule;",
+            "import be.iffy.fv.MappingRule;",
+            "import be.iffy.fv.Validation;",
+            "",
+            "public class PersonRules {",
+            "    public static final Rule<String> NAME = Rule.of(s -> !s.isBlank(), \"must.not.be.blank\");",
+            "    static final Rule<Integer> AGE = Rule.of(i -> i >= 18, \"must.be.adult\");",
+            "    static final MappingRule<CharSequence, Integer> LENGTH = s -> Validation.valid(s.length());",
+            "    static final Rule<Integer> WRONG_TYPE = AGE;",
+            "    final Rule<String> instanceRule = NAME;",
+            "    private static final Rule<String> HIDDEN = NAME;",
+            "}");
+
+    private static JavaFileObject person(String... components) {
+        return JavaFileObjects.forSourceLines("com.example.Person",
+                "package com.example;",
+                "",
+                "import be.iffy.fv.CheckWith;",
+                "import be.iffy.fv.RecordValidator;",
+                "",
+                "@RecordValidator",
+                "public record Person(" + String.join(", ", components) + ") {",
+                "}");
+    }
+
+    private static Compilation compile(JavaFileObject... sources) {
+        return javac().withProcessors(new RecordValidatorProcessor()).compile(sources);
+    }
+
+    private static String errors(Compilation compilation) {
+        return String.join("\n", compilation.errors().stream().map(d -> d.getMessage(null)).toList());
+    }
+
+    @Nested
+    class Generated {
+
+        @Test
+        void properties_areNamedSelectors() throws Exception {
+            Compilation compilation = compile(RULES, person(
+                    "@CheckWith(on = PersonRules.class, field = \"NAME\") String name",
+                    "int age"));
+
+            assertThat(compilation.status()).isEqualTo(Compilation.Status.SUCCESS);
+            ClassLoader loader = new GeneratedClassLoader(compilation);
+            Class<?> properties = loader.loadClass("com.example.PersonProperties");
+            PropertySelector<Object, Object> name = selector(properties, "name");
+            PropertySelector<Object, Object> age = selector(properties, "age");
+
+            assertThat(name.getPropertyName()).isEqualTo("name");
+            assertThat(age.getPropertyName()).isEqualTo("age");
+            assertThat(age.apply(newPerson(loader, "Alice", 30))).isEqualTo(30);
+        }
+
+        @Test
+        void validator_appliesTheRulesOfTheComponents() throws Exception {
+            Compilation compilation = compile(RULES, person(
+                    "@CheckWith(on = PersonRules.class, field = \"NAME\") String name",
+                    "@CheckWith(on = PersonRules.class, field = \"AGE\") int age",
+                    "@CheckWith(on = PersonRules.class, field = \"LENGTH\") String nickname",
+                    "String unchecked"));
+
+            assertThat(compilation.status()).isEqualTo(Compilation.Status.SUCCESS);
+            ClassLoader loader = new GeneratedClassLoader(compilation);
+            Rule<Object> validator = validator(loader);
+            Object valid = newPerson(loader, "Alice", 30, "Al", "x");
+
+            assertThatValidation(validator.apply(valid)).isValid().isSameAs(valid);
+            assertThatValidation(validator.apply(newPerson(loader, " ", 12, "", "x")))
+                    .isInvalid()
+                    .hasErrorMessages("name.must.not.be.blank", "age.must.be.adult");
+            assertThatValidation(validator.apply(null)).isInvalid().hasErrorMessages("must.not.be.null");
+        }
+
+        @Test
+        void nestedRecord_isPrefixedWithTheEnclosingType() {
+            Compilation compilation = compile(JavaFileObjects.forSourceLines("com.example.Order",
+                    "package com.example;",
+                    "",
+                    "class Order {",
+                    "    @be.iffy.fv.RecordValidator",
+                    "    record Line(String product, java.util.List<String> tags, int[] counts) {",
+                    "    }",
+                    "}"));
+
+            assertThat(compilation.status()).isEqualTo(Compilation.Status.SUCCESS);
+            assertThat(compilation.generatedSourceFile("com.example.Order_LineProperties")).isPresent();
+            assertThat(compilation.generatedSourceFile("com.example.Order_LineValidator")).isPresent();
+        }
+
+        @SuppressWarnings("unchecked")
+        private PropertySelector<Object, Object> selector(Class<?> properties, String name) throws Exception {
+            return (PropertySelector<Object, Object>) properties.getField(name).get(null);
+        }
+
+        @SuppressWarnings("unchecked")
+        private Rule<Object> validator(ClassLoader loader) throws Exception {
+            return (Rule<Object>) loader.loadClass("com.example.PersonValidator").getField("instance").get(null);
+        }
+
+        private Object newPerson(ClassLoader loader, Object... values) throws Exception {
+            return loader.loadClass("com.example.Person").getDeclaredConstructors()[0].newInstance(values);
+        }
+    }
+
+    @Nested
+    class Errors {
+
+        @Test
+        void notARecord() {
+            Compilation compilation = compile(JavaFileObjects.forSourceLines("com.example.Person",
+                    "package com.example;",
+                    "",
+                    "@be.iffy.fv.RecordValidator",
+                    "class Person {",
+                    "}"));
+
+            assertThat(compilation.status()).isEqualTo(Compilation.Status.FAILURE);
+            assertThat(errors(compilation)).isEqualTo("@RecordValidator can only be used on a record");
+        }
+
+        @Test
+        void genericRecord() {
+            Compilation compilation = compile(JavaFileObjects.forSourceLines("com.example.Box",
+                    "package com.example;",
+                    "",
+                    "@be.iffy.fv.RecordValidator",
+                    "record Box<T>(T value) {",
+                    "}"));
+
+            assertThat(errors(compilation)).isEqualTo("@RecordValidator cannot be used on a generic record");
+        }
+
+        @Test
+        void privateRecord() {
+            Compilation compilation = compile(JavaFileObjects.forSourceLines("com.example.Order",
+                    "package com.example;",
+                    "",
+                    "class Order {",
+                    "    @be.iffy.fv.RecordValidator",
+                    "    private record Line(String product) {",
+                    "    }",
+                    "}"));
+
+            assertThat(compilation.status()).isEqualTo(Compilation.Status.FAILURE);
+            assertThat(errors(compilation)).isEqualTo("@RecordValidator cannot be used on a private record, or one nested in a private type");
+        }
+
+        @Test
+        void recordInAPrivateType() {
+            Compilation compilation = compile(JavaFileObjects.forSourceLines("com.example.Order",
+                    "package com.example;",
+                    "",
+                    "public class Order {",
+                    "    private static class Lines {",
+                    "        @be.iffy.fv.RecordValidator",
+                    "        public record Line(String product) {",
+                    "        }",
+                    "    }",
+                    "}"));
+
+            assertThat(errors(compilation)).isEqualTo("@RecordValidator cannot be used on a private record, or one nested in a private type");
+        }
+
+        @Test
+        void missingField() {
+            Compilation compilation = compile(RULES, person("@CheckWith(on = PersonRules.class, field = \"NAMES\") String name"));
+
+            assertThat(errors(compilation)).isEqualTo("@CheckWith refers to com.example.PersonRules.NAMES, which does not exist");
+        }
+
+        @Test
+        void instanceField() {
+            Compilation compilation = compile(RULES, person("@CheckWith(on = PersonRules.class, field = \"instanceRule\") String name"));
+
+            assertThat(errors(compilation)).isEqualTo("@CheckWith refers to com.example.PersonRules.instanceRule, which is not static");
+        }
+
+        @Test
+        void privateField() {
+            Compilation compilation = compile(RULES, person("@CheckWith(on = PersonRules.class, field = \"HIDDEN\") String name"));
+
+            assertThat(errors(compilation)).isEqualTo("@CheckWith refers to com.example.PersonRules.HIDDEN, which is not accessible from the record");
+        }
+
+        @Test
+        void ruleOfAnotherType() {
+            Compilation compilation = compile(RULES, person("@CheckWith(on = PersonRules.class, field = \"WRONG_TYPE\") String name"));
+
+            assertThat(errors(compilation)).isEqualTo("@CheckWith refers to com.example.PersonRules.WRONG_TYPE, which is not a Rule or MappingRule of java.lang.String");
+            assertThat(compilation.errors()).allMatch(d -> d.getKind() == Diagnostic.Kind.ERROR);
+        }
+    }
+
+    /**
+     * Loads the classes the compilation generated, delegating everything else to the test's class loader.
+     */
+    private static final class GeneratedClassLoader extends ClassLoader {
+
+        private final Map<String, JavaFileObject> classes = new HashMap<>();
+
+        GeneratedClassLoader(Compilation compilation) {
+            super(RecordValidatorProcessorTest.class.getClassLoader());
+            for (JavaFileObject file : compilation.generatedFiles()) {
+                if (file.getKind() == JavaFileObject.Kind.CLASS) {
+                    // /CLASS_OUTPUT/com/example/Person.class
+                    String path = file.toUri().getPath();
+                    String name = path.substring(path.indexOf('/', 1) + 1, path.length() - ".class".length()).replace('/', '.');
+                    classes.put(name, file);
+                }
+            }
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            JavaFileObject file = classes.get(name);
+            if (file == null) {
+                throw new ClassNotFoundException(name);
+            }
+            try (InputStream in = file.openInputStream()) {
+                byte[] bytes = in.readAllBytes();
+                return defineClass(name, bytes, 0, bytes.length);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -72,7 +72,9 @@ public final class ObjectRules implements IObjectRules<Object> {
     /**
      * Fails if the passed constructor Function doesn't apply successfully.
      * Will catch all possible exceptions thrown by the function.
-     * If the function throws ValidationException, its errors will be used instead of the passed error.
+     * If the function throws ValidationException, its errors will be used instead of the passed error. The
+     * ValidationExceptions the function creates have no stack trace, see
+     * {@link be.iffy.fv.ValidationException#withoutStackTraces(java.util.function.Supplier)}.
      */
     public <T,R> MappingRule<T, R> construct(Function<T,R> constructor, ErrorMessage errorMessage) {
         Objects.requireNonNull(constructor, "constructor cannot be null");
@@ -1,13 +1,14 @@
 package be.iffy.fv.rules.collections;
 
 import be.iffy.fv.ErrorMessage;
+import be.iffy.fv.Parallelism;
 import be.iffy.fv.Rule;
 import be.iffy.fv.Validation;
-import be.iffy.fv.Validations;
 import io.vavr.Function1;
 import io.vavr.Tuple;
 import io.vavr.collection.*;
 
+import java.util.ArrayList;
 import java.util.Objects;
 import java.util.function.Predicate;
 
@@ -367,17 +368,32 @@ abstract class BaseCollectionRules<T, C extends Iterable<T>> {
      */
     public Rule<C> validateValuesWith(Rule<? super T> rule) {
         Objects.requireNonNull(rule, "rule cannot be null");
-        return Rule.of(collection -> {
+        Rule<T> castedRule = rule.narrow();
+        // lifted, so that rules that look up their values in batches get all values at once
+        return validateValuesAsList(castedRule.lift().toList());
+    }
 
-            Rule<T> castedRule = rule.narrow();
+    /**
+     * Like {@link #validateValuesWith(Rule)}, validating the values of large collections on several threads, see
+     * {@link Parallelism}. The result is the same, the rule has to be safe to apply from several threads at once.
+     */
+    public Rule<C> validateValuesWith(Rule<? super T> rule, Parallelism parallelism) {
+        Objects.requireNonNull(rule, "rule cannot be null");
+        Objects.requireNonNull(parallelism, "parallelism cannot be null");
+        Rule<T> castedRule = rule.narrow();
+        return validateValuesAsList(castedRule.lift().toList(parallelism));
+    }
 
-            io.vavr.collection.List<Validation<T>> validations = io.vavr.collection.List.ofAll(collection).map(castedRule::apply);
-            Validation<List<T>> sequenced = Validations.sequence(validations);
+    private Rule<C> validateValuesAsList(Rule<java.util.List<T>> lifted) {
+        return Rule.of(collection -> {
+            java.util.List<T> values = new ArrayList<>(getSize(collection));
+            collection.forEach(values::add);
+            Validation<java.util.List<T>> validated = lifted.apply(values);
 
-            if (sequenced.errors().isEmpty()) {
+            if (validated.isValid()) {
                 return Validation.valid(collection);
             } else {
-                return Validation.invalid(sequenced.errors());
+                return Validation.invalid(validated.errors());
             }
         });
     }
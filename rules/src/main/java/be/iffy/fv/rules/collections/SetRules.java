@@ -1,6 +1,7 @@
 package be.iffy.fv.rules.collections;
 
 import be.iffy.fv.ErrorMessage;
+import be.iffy.fv.Parallelism;
 import be.iffy.fv.Rule;
 import io.vavr.Function1;
 import io.vavr.collection.Map;
@@ -267,4 +268,12 @@ public final class SetRules {
         return InnerRules.<T>inner().validateValuesWith(rule);
     }
 
+    /**
+     * Like {@link #validateValuesWith(Rule)}, validating the values of large collections on several threads, see
+     * {@link Parallelism}. The result is the same, the rule has to be safe to apply from several threads at once.
+     */
+    public <T> Rule<Set<T>> validateValuesWith(Rule<? super T> rule, Parallelism parallelism) {
+        return InnerRules.<T>inner().validateValuesWith(rule, parallelism);
+    }
+
 }
@@ -290,4 +290,13 @@ public final class VavrListRules {
         return tRule.lift().toVavrList();
     }
 
+    /**
+     * Like {@link #validateValuesWith(Rule)}, validating the values of large lists on several threads, see
+     * {@link Parallelism}. The result is the same, the rule has to be safe to apply from several threads at once.
+     */
+    public <T> Rule<List<T>> validateValuesWith(Rule<? super T> rule, Parallelism parallelism) {
+        Rule<T> tRule = rule.narrow();
+        return tRule.lift().toVavrList(parallelism);
+    }
+
 }
@@ -1,9 +1,11 @@
 package be.iffy.fv.rules.numbers;
 
+import be.iffy.fv.DoubleRule;
 import be.iffy.fv.ErrorMessage;
 import be.iffy.fv.Rule;
 import be.iffy.fv.rules.ComparableRules;
 import be.iffy.fv.rules.IObjectRules;
+import io.vavr.collection.HashMap;
 
 /**
  * Validation rules for {@link Double} values.
@@ -21,11 +23,11 @@ public final class DoubleRules implements ComparableRules<Double>, NumberRules<D
      * <p>
      * Error key: {@code must.be.positive}
      *
-     * @return a {@link Rule} checking for positive values.
+     * @return a {@link DoubleRule} checking for positive values.
      */
     @Override
-    public Rule<Double> positive() {
-        return Rule.of(d -> d > 0.0, "must.be.positive");
+    public DoubleRule positive() {
+        return DoubleRule.of(d -> d > 0.0, "must.be.positive");
     }
 
     /**
@@ -33,11 +35,11 @@ public final class DoubleRules implements ComparableRules<Double>, NumberRules<D
      * <p>
      * Error key: {@code must.be.non.negative}
      *
-     * @return a {@link Rule} checking for non-negative values.
+     * @return a {@link DoubleRule} checking for non-negative values.
      */
     @Override
-    public Rule<Double> nonNegative() {
-        return Rule.of(d -> d >= 0.0, "must.be.non.negative");
+    public DoubleRule nonNegative() {
+        return DoubleRule.of(d -> d >= 0.0, "must.be.non.negative");
     }
 
     /**
@@ -45,11 +47,11 @@ public final class DoubleRules implements ComparableRules<Double>, NumberRules<D
      * <p>
      * Error key: {@code must.be.negative}
      *
-     * @return a {@link Rule} checking for negative values.
+     * @return a {@link DoubleRule} checking for negative values.
      */
     @Override
-    public Rule<Double> negative() {
-        return Rule.of(d -> d < 0.0, "must.be.negative");
+    public DoubleRule negative() {
+        return DoubleRule.of(d -> d < 0.0, "must.be.negative");
     }
 
     /**
@@ -57,11 +59,11 @@ public final class DoubleRules implements ComparableRules<Double>, NumberRules<D
      * <p>
      * Error key: {@code must.be.non.positive}
      *
-     * @return a {@link Rule} checking for non-positive values.
+     * @return a {@link DoubleRule} checking for non-positive values.
      */
     @Override
-    public Rule<Double> nonPositive() {
-        return Rule.of(d -> d <= 0.0, "must.be.non.positive");
+    public DoubleRule nonPositive() {
+        return DoubleRule.of(d -> d <= 0.0, "must.be.non.positive");
     }
 
     /**
@@ -69,11 +71,11 @@ public final class DoubleRules implements ComparableRules<Double>, NumberRules<D
      * <p>
      * Error key: {@code must.be.zero}
      *
-     * @return a {@link Rule} checking for zero values.
+     * @return a {@link DoubleRule} checking for zero values.
      */
     @Override
-    public Rule<Double> zero() {
-        return Rule.of(d -> d == 0.0, "must.be.zero");
+    public DoubleRule zero() {
+        return DoubleRule.of(d -> d == 0.0, "must.be.zero");
     }
 
     /**
@@ -81,11 +83,11 @@ public final class DoubleRules implements ComparableRules<Double>, NumberRules<D
      * <p>
      * Error key: {@code must.not.be.zero}
      *
-     * @return a {@link Rule} checking for non-zero values.
+     * @return a {@link DoubleRule} checking for non-zero values.
      */
     @Override
-    public Rule<Double> nonZero() {
-        return Rule.of(d -> d != 0.0, "must.not.be.zero");
+    public DoubleRule nonZero() {
+        return DoubleRule.of(d -> d != 0.0, "must.not.be.zero");
     }
     //endregion
 
@@ -98,7 +100,14 @@ public final class DoubleRules implements ComparableRules<Double>, NumberRules<D
      * @return a {@link Rule} checking for finite values.
      */
     public Rule<Double> finite() {
-        return Rule.of(Double::isFinite, "must.be.finite");
+        return finiteDouble();
+    }
+
+    /**
+     * Same as {@link #finite()}, as {@link DoubleRule}.
+     */
+    public DoubleRule finiteDouble() {
+        return DoubleRule.of(Double::isFinite, "must.be.finite");
     }
 
     /**
@@ -109,7 +118,14 @@ public final class DoubleRules implements ComparableRules<Double>, NumberRules<D
      * @return a {@link Rule} checking for NaN values.
      */
     public Rule<Double> nan() {
-        return Rule.of(d -> Double.isNaN(d), "must.be.nan");
+        return nanDouble();
+    }
+
+    /**
+     * Same as {@link #nan()}, as {@link DoubleRule}.
+     */
+    public DoubleRule nanDouble() {
+        return DoubleRule.of(d -> Double.isNaN(d), "must.be.nan");
     }
 
     /**
@@ -120,7 +136,14 @@ public final class DoubleRules implements ComparableRules<Double>, NumberRules<D
      * @return a {@link Rule} checking for non-NaN values.
      */
     public Rule<Double> nonNan() {
-        return Rule.of(d -> !Double.isNaN(d), "must.not.be.nan");
+        return nonNanDouble();
+    }
+
+    /**
+     * Same as {@link #nonNan()}, as {@link DoubleRule}.
+     */
+    public DoubleRule nonNanDouble() {
+        return DoubleRule.of(d -> !Double.isNaN(d), "must.not.be.nan");
     }
     //endregion
 
@@ -139,7 +162,14 @@ public final class DoubleRules implements ComparableRules<Double>, NumberRules<D
      * @return a {@link Rule} checking the minimum value.
      */
     public Rule<Double> min(double minInclusive) {
-        return Rule.of(
+        return minDouble(minInclusive);
+    }
+
+    /**
+     * Same as {@link #min(double)}, as {@link DoubleRule}.
+     */
+    public DoubleRule minDouble(double minInclusive) {
+        return DoubleRule.of(
                 d -> d >= minInclusive,
                 ErrorMessage.of("must.be.at.least", "min", minInclusive)
         );
@@ -147,7 +177,7 @@ public final class DoubleRules implements ComparableRules<Double>, NumberRules<D
 
     @Override
     public Rule<Double> min(Double minInclusive) {
-        return min(minInclusive.doubleValue());
+        return minDouble(minInclusive.doubleValue());
     }
 
     /**
@@ -164,7 +194,14 @@ public final class DoubleRules implements ComparableRules<Double>, NumberRules<D
      * @return a {@link Rule} checking the maximum value.
      */
     public Rule<Double> max(double maxInclusive) {
-        return Rule.of(
+        return maxDouble(maxInclusive);
+    }
+
+    /**
+     * Same as {@link #max(double)}, as {@link DoubleRule}.
+     */
+    public DoubleRule maxDouble(double maxInclusive) {
+        return DoubleRule.of(
                 d -> d <= maxInclusive,
                 ErrorMessage.of("must.be.at.most", "max", maxInclusive)
         );
@@ -172,7 +209,78 @@ public final class DoubleRules implements ComparableRules<Double>, NumberRules<D
 
     @Override
     public Rule<Double> max(Double maxInclusive) {
-        return max(maxInclusive.doubleValue());
+        return maxDouble(maxInclusive.doubleValue());
+    }
+
+    /**
+     * Same as {@link ComparableRules#between}, as {@link DoubleRule}.
+     * <p>
+     * The bounds are compared like {@link Double#compareTo}: {@code NaN} is above every other value, and
+     * {@code -0.0} is below {@code 0.0}.
+     */
+    @Override
+    public DoubleRule between(Double minInclusive, Double maxInclusive) {
+        if (Double.compare(maxInclusive, minInclusive) < 0) {
+            throw new IllegalArgumentException("maxInclusive must be >= minInclusive");
+        }
+        double min = minInclusive;
+        double max = maxInclusive;
+        return DoubleRule.of(
+                d -> Double.compare(d, min) >= 0 && Double.compare(d, max) <= 0,
+                ErrorMessage.of("must.be.between", HashMap.of("min", minInclusive, "max", maxInclusive))
+        );
+    }
+
+    /**
+     * Same as {@link ComparableRules#betweenExclusive}, as {@link DoubleRule}.
+     */
+    @Override
+    public DoubleRule betweenExclusive(Double minExclusive, Double maxExclusive) {
+        if (Double.compare(maxExclusive, minExclusive) <= 0) {
+            throw new IllegalArgumentException("maxExclusive must be > minExclusive");
+        }
+        double min = minExclusive;
+        double max = maxExclusive;
+        return DoubleRule.of(
+                d -> Double.compare(d, min) > 0 && Double.compare(d, max) < 0,
+                ErrorMessage.of("must.be.between.exclusive", HashMap.of("min", minExclusive, "max", maxExclusive))
+        );
+    }
+
+    /**
+     * Same as {@link ComparableRules#greaterThan}, as {@link DoubleRule}.
+     */
+    @Override
+    public DoubleRule greaterThan(Double minExclusive) {
+        double min = minExclusive;
+        return DoubleRule.of(d -> Double.compare(d, min) > 0, ErrorMessage.of("must.be.greater.than", "min", minExclusive));
+    }
+
+    /**
+     * Same as {@link ComparableRules#atLeast}, as {@link DoubleRule}.
+     */
+    @Override
+    public DoubleRule atLeast(Double minInclusive) {
+        double min = minInclusive;
+        return DoubleRule.of(d -> Double.compare(d, min) >= 0, ErrorMessage.of("must.be.at.least", "min", minInclusive));
+    }
+
+    /**
+     * Same as {@link ComparableRules#lessThan}, as {@link DoubleRule}.
+     */
+    @Override
+    public DoubleRule lessThan(Double maxExclusive) {
+        double max = maxExclusive;
+        return DoubleRule.of(d -> Double.compare(d, max) < 0, ErrorMessage.of("must.be.less.than", "max", maxExclusive));
+    }
+
+    /**
+     * Same as {@link ComparableRules#atMost}, as {@link DoubleRule}.
+     */
+    @Override
+    public DoubleRule atMost(Double maxInclusive) {
+        double max = maxInclusive;
+        return DoubleRule.of(d -> Double.compare(d, max) <= 0, ErrorMessage.of("must.be.at.most", "max", maxInclusive));
     }
     //endregion
 
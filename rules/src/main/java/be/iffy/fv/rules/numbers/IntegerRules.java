@@ -1,9 +1,11 @@
 package be.iffy.fv.rules.numbers;
 
 import be.iffy.fv.ErrorMessage;
+import be.iffy.fv.IntRule;
 import be.iffy.fv.Rule;
 import be.iffy.fv.rules.ComparableRules;
 import be.iffy.fv.rules.IObjectRules;
+import io.vavr.collection.HashMap;
 
 import java.util.Objects;
 
@@ -25,8 +27,8 @@ public final class IntegerRules implements ComparableRules<Integer>, NumberRules
      * Error key: {@code must.be.positive}
      */
     @Override
-    public Rule<Integer> positive() {
-        return Rule.of(
+    public IntRule positive() {
+        return IntRule.of(
                 i -> i > 0,
                 "must.be.positive"
         );
@@ -38,8 +40,8 @@ public final class IntegerRules implements ComparableRules<Integer>, NumberRules
      * Error key: {@code must.be.non.negative}
      */
     @Override
-    public Rule<Integer> nonNegative() {
-        return Rule.of(
+    public IntRule nonNegative() {
+        return IntRule.of(
                 i -> i >= 0,
                 "must.be.non.negative"
         );
@@ -51,8 +53,8 @@ public final class IntegerRules implements ComparableRules<Integer>, NumberRules
      * Error key: {@code must.be.negative}
      */
     @Override
-    public Rule<Integer> negative() {
-        return Rule.of(
+    public IntRule negative() {
+        return IntRule.of(
                 i -> i < 0,
                 "must.be.negative"
         );
@@ -64,8 +66,8 @@ public final class IntegerRules implements ComparableRules<Integer>, NumberRules
      * Error key: {@code must.be.non.positive}
      */
     @Override
-    public Rule<Integer> nonPositive() {
-        return Rule.of(
+    public IntRule nonPositive() {
+        return IntRule.of(
                 i -> i <= 0,
                 "must.be.non.positive"
         );
@@ -77,8 +79,8 @@ public final class IntegerRules implements ComparableRules<Integer>, NumberRules
      * Error key: {@code must.be.zero}
      */
     @Override
-    public Rule<Integer> zero() {
-        return Rule.of(
+    public IntRule zero() {
+        return IntRule.of(
                 i -> i == 0,
                 "must.be.zero"
         );
@@ -90,8 +92,8 @@ public final class IntegerRules implements ComparableRules<Integer>, NumberRules
      * Error key: {@code must.not.be.zero}
      */
     @Override
-    public Rule<Integer> nonZero() {
-        return Rule.of(
+    public IntRule nonZero() {
+        return IntRule.of(
                 i -> i != 0,
                 "must.not.be.zero"
         );
@@ -106,7 +108,14 @@ public final class IntegerRules implements ComparableRules<Integer>, NumberRules
      * Error key: {@code must.be.odd}
      */
     public Rule<Integer> odd() {
-        return Rule.of(
+        return oddInt();
+    }
+
+    /**
+     * Same as {@link #odd()}, as {@link IntRule}.
+     */
+    public IntRule oddInt() {
+        return IntRule.of(
                 i -> (i & 1) != 0,
                 "must.be.odd"
         );
@@ -118,7 +127,14 @@ public final class IntegerRules implements ComparableRules<Integer>, NumberRules
      * Error key: {@code must.be.even}
      */
     public Rule<Integer> even() {
-        return Rule.of(
+        return evenInt();
+    }
+
+    /**
+     * Same as {@link #even()}, as {@link IntRule}.
+     */
+    public IntRule evenInt() {
+        return IntRule.of(
                 i -> (i & 1) == 0,
                 "must.be.even"
         );
@@ -140,7 +156,14 @@ public final class IntegerRules implements ComparableRules<Integer>, NumberRules
      * @param minInclusive the minimum allowed value (inclusive).
      */
     public Rule<Integer> min(int minInclusive) {
-        return Rule.of(
+        return minInt(minInclusive);
+    }
+
+    /**
+     * Same as {@link #min(int)}, as {@link IntRule}.
+     */
+    public IntRule minInt(int minInclusive) {
+        return IntRule.of(
                 i -> i >= minInclusive,
                 ErrorMessage.of("must.be.at.least", "min", minInclusive)
         );
@@ -149,7 +172,7 @@ public final class IntegerRules implements ComparableRules<Integer>, NumberRules
     @Override
     public Rule<Integer> min(Integer minInclusive) {
         Objects.requireNonNull(minInclusive, "minInclusive cannot be null");
-        return min(minInclusive.intValue());
+        return minInt(minInclusive.intValue());
     }
 
     /**
@@ -165,7 +188,14 @@ public final class IntegerRules implements ComparableRules<Integer>, NumberRules
      * @param maxInclusive the maximum allowed value (inclusive).
      */
     public Rule<Integer> max(int maxInclusive) {
-        return Rule.of(
+        return maxInt(maxInclusive);
+    }
+
+    /**
+     * Same as {@link #max(int)}, as {@link IntRule}.
+     */
+    public IntRule maxInt(int maxInclusive) {
+        return IntRule.of(
                 i -> i <= maxInclusive,
                 ErrorMessage.of("must.be.at.most", "max", maxInclusive)
         );
@@ -174,7 +204,75 @@ public final class IntegerRules implements ComparableRules<Integer>, NumberRules
     @Override
     public Rule<Integer> max(Integer maxInclusive) {
         Objects.requireNonNull(maxInclusive, "maxInclusive cannot be null");
-        return max(maxInclusive.intValue());
+        return maxInt(maxInclusive.intValue());
+    }
+
+    /**
+     * Same as {@link ComparableRules#between}, as {@link IntRule}.
+     */
+    @Override
+    public IntRule between(Integer minInclusive, Integer maxInclusive) {
+        if (maxInclusive < minInclusive) {
+            throw new IllegalArgumentException("maxInclusive must be >= minInclusive");
+        }
+        int min = minInclusive;
+        int max = maxInclusive;
+        return IntRule.of(
+                i -> i >= min && i <= max,
+                ErrorMessage.of("must.be.between", HashMap.of("min", minInclusive, "max", maxInclusive))
+        );
+    }
+
+    /**
+     * Same as {@link ComparableRules#betweenExclusive}, as {@link IntRule}.
+     */
+    @Override
+    public IntRule betweenExclusive(Integer minExclusive, Integer maxExclusive) {
+        if (maxExclusive <= minExclusive) {
+            throw new IllegalArgumentException("maxExclusive must be > minExclusive");
+        }
+        int min = minExclusive;
+        int max = maxExclusive;
+        return IntRule.of(
+                i -> i > min && i < max,
+                ErrorMessage.of("must.be.between.exclusive", HashMap.of("min", minExclusive, "max", maxExclusive))
+        );
+    }
+
+    /**
+     * Same as {@link ComparableRules#greaterThan}, as {@link IntRule}.
+     */
+    @Override
+    public IntRule greaterThan(Integer minExclusive) {
+        int min = minExclusive;
+        return IntRule.of(i -> i > min, ErrorMessage.of("must.be.greater.than", "min", minExclusive));
+    }
+
+    /**
+     * Same as {@link ComparableRules#atLeast}, as {@link IntRule}.
+     */
+    @Override
+    public IntRule atLeast(Integer minInclusive) {
+        int min = minInclusive;
+        return IntRule.of(i -> i >= min, ErrorMessage.of("must.be.at.least", "min", minInclusive));
+    }
+
+    /**
+     * Same as {@link ComparableRules#lessThan}, as {@link IntRule}.
+     */
+    @Override
+    public IntRule lessThan(Integer maxExclusive) {
+        int max = maxExclusive;
+        return IntRule.of(i -> i < max, ErrorMessage.of("must.be.less.than", "max", maxExclusive));
+    }
+
+    /**
+     * Same as {@link ComparableRules#atMost}, as {@link IntRule}.
+     */
+    @Override
+    public IntRule atMost(Integer maxInclusive) {
+        int max = maxInclusive;
+        return IntRule.of(i -> i <= max, ErrorMessage.of("must.be.at.most", "max", maxInclusive));
     }
     //endregion
 
@@ -1,9 +1,11 @@
 package be.iffy.fv.rules.numbers;
 
 import be.iffy.fv.ErrorMessage;
+import be.iffy.fv.LongRule;
 import be.iffy.fv.Rule;
 import be.iffy.fv.rules.ComparableRules;
 import be.iffy.fv.rules.IObjectRules;
+import io.vavr.collection.HashMap;
 
 import java.util.Objects;
 
@@ -24,8 +26,8 @@ public final class LongRules implements ComparableRules<Long>, NumberRules<Long>
      * Error key: {@code must.be.positive}
      */
     @Override
-    public Rule<Long> positive() {
-        return Rule.of(
+    public LongRule positive() {
+        return LongRule.of(
                 l -> l > 0,
                 "must.be.positive"
         );
@@ -37,8 +39,8 @@ public final class LongRules implements ComparableRules<Long>, NumberRules<Long>
      * Error key: {@code must.be.non.negative}
      */
     @Override
-    public Rule<Long> nonNegative() {
-        return Rule.of(
+    public LongRule nonNegative() {
+        return LongRule.of(
                 l -> l >= 0,
                 "must.be.non.negative"
         );
@@ -50,8 +52,8 @@ public final class LongRules implements ComparableRules<Long>, NumberRules<Long>
      * Error key: {@code must.be.negative}
      */
     @Override
-    public Rule<Long> negative() {
-        return Rule.of(
+    public LongRule negative() {
+        return LongRule.of(
                 l -> l < 0,
                 "must.be.negative"
         );
@@ -63,8 +65,8 @@ public final class LongRules implements ComparableRules<Long>, NumberRules<Long>
      * Error key: {@code must.be.non.positive}
      */
     @Override
-    public Rule<Long> nonPositive() {
-        return Rule.of(
+    public LongRule nonPositive() {
+        return LongRule.of(
                 l -> l <= 0,
                 "must.be.non.positive"
         );
@@ -76,8 +78,8 @@ public final class LongRules implements ComparableRules<Long>, NumberRules<Long>
      * Error key: {@code must.be.zero}
      */
     @Override
-    public Rule<Long> zero() {
-        return Rule.of(
+    public LongRule zero() {
+        return LongRule.of(
                 l -> l == 0,
                 "must.be.zero"
         );
@@ -89,8 +91,8 @@ public final class LongRules implements ComparableRules<Long>, NumberRules<Long>
      * Error key: {@code must.not.be.zero}
      */
     @Override
-    public Rule<Long> nonZero() {
-        return Rule.of(
+    public LongRule nonZero() {
+        return LongRule.of(
                 l -> l != 0,
                 "must.not.be.zero"
         );
@@ -104,7 +106,14 @@ public final class LongRules implements ComparableRules<Long>, NumberRules<Long>
      * Error key: {@code must.be.odd}
      */
     public Rule<Long> odd() {
-        return Rule.of(
+        return oddLong();
+    }
+
+    /**
+     * Same as {@link #odd()}, as {@link LongRule}.
+     */
+    public LongRule oddLong() {
+        return LongRule.of(
                 l -> (l & 1) != 0,
                 "must.be.odd"
         );
@@ -116,7 +125,14 @@ public final class LongRules implements ComparableRules<Long>, NumberRules<Long>
      * Error key: {@code must.be.even}
      */
     public Rule<Long> even() {
-        return Rule.of(
+        return evenLong();
+    }
+
+    /**
+     * Same as {@link #even()}, as {@link LongRule}.
+     */
+    public LongRule evenLong() {
+        return LongRule.of(
                 l -> (l & 1) == 0,
                 "must.be.even"
         );
@@ -137,7 +153,14 @@ public final class LongRules implements ComparableRules<Long>, NumberRules<Long>
      * @param minInclusive the minimum allowed value (inclusive).
      */
     public Rule<Long> min(long minInclusive) {
-        return Rule.of(
+        return minLong(minInclusive);
+    }
+
+    /**
+     * Same as {@link #min(long)}, as {@link LongRule}.
+     */
+    public LongRule minLong(long minInclusive) {
+        return LongRule.of(
                 l -> l >= minInclusive,
                 ErrorMessage.of("must.be.at.least", "min", minInclusive)
         );
@@ -146,7 +169,7 @@ public final class LongRules implements ComparableRules<Long>, NumberRules<Long>
     @Override
     public Rule<Long> min(Long minInclusive) {
         Objects.requireNonNull(minInclusive, "minInclusive cannot be null");
-        return min(minInclusive.longValue());
+        return minLong(minInclusive.longValue());
     }
 
     /**
@@ -162,7 +185,14 @@ public final class LongRules implements ComparableRules<Long>, NumberRules<Long>
      * @param maxInclusive the maximum allowed value (inclusive).
      */
     public Rule<Long> max(long maxInclusive) {
-        return Rule.of(
+        return maxLong(maxInclusive);
+    }
+
+    /**
+     * Same as {@link #max(long)}, as {@link LongRule}.
+     */
+    public LongRule maxLong(long maxInclusive) {
+        return LongRule.of(
                 l -> l <= maxInclusive,
                 ErrorMessage.of("must.be.at.most", "max", maxInclusive)
         );
@@ -171,7 +201,75 @@ public final class LongRules implements ComparableRules<Long>, NumberRules<Long>
     @Override
     public Rule<Long> max(Long maxInclusive) {
         Objects.requireNonNull(maxInclusive, "maxInclusive cannot be null");
-        return max(maxInclusive.longValue());
+        return maxLong(maxInclusive.longValue());
+    }
+
+    /**
+     * Same as {@link ComparableRules#between}, as {@link LongRule}.
+     */
+    @Override
+    public LongRule between(Long minInclusive, Long maxInclusive) {
+        if (maxInclusive < minInclusive) {
+            throw new IllegalArgumentException("maxInclusive must be >= minInclusive");
+        }
+        long min = minInclusive;
+        long max = maxInclusive;
+        return LongRule.of(
+                l -> l >= min && l <= max,
+                ErrorMessage.of("must.be.between", HashMap.of("min", minInclusive, "max", maxInclusive))
+        );
+    }
+
+    /**
+     * Same as {@link ComparableRules#betweenExclusive}, as {@link LongRule}.
+     */
+    @Override
+    public LongRule betweenExclusive(Long minExclusive, Long maxExclusive) {
+        if (maxExclusive <= minExclusive) {
+            throw new IllegalArgumentException("maxExclusive must be > minExclusive");
+        }
+        long min = minExclusive;
+        long max = maxExclusive;
+        return LongRule.of(
+                l -> l > min && l < max,
+                ErrorMessage.of("must.be.between.exclusive", HashMap.of("min", minExclusive, "max", maxExclusive))
+        );
+    }
+
+    /**
+     * Same as {@link ComparableRules#greaterThan}, as {@link LongRule}.
+     */
+    @Override
+    public LongRule greaterThan(Long minExclusive) {
+        long min = minExclusive;
+        return LongRule.of(l -> l > min, ErrorMessage.of("must.be.greater.than", "min", minExclusive));
+    }
+
+    /**
+     * Same as {@link ComparableRules#atLeast}, as {@link LongRule}.
+     */
+    @Override
+    public LongRule atLeast(Long minInclusive) {
+        long min = minInclusive;
+        return LongRule.of(l -> l >= min, ErrorMessage.of("must.be.at.least", "min", minInclusive));
+    }
+
+    /**
+     * Same as {@link ComparableRules#lessThan}, as {@link LongRule}.
+     */
+    @Override
+    public LongRule lessThan(Long maxExclusive) {
+        long max = maxExclusive;
+        return LongRule.of(l -> l < max, ErrorMessage.of("must.be.less.than", "max", maxExclusive));
+    }
+
+    /**
+     * Same as {@link ComparableRules#atMost}, as {@link LongRule}.
+     */
+    @Override
+    public LongRule atMost(Long maxInclusive) {
+        long max = maxInclusive;
+        return LongRule.of(l -> l <= max, ErrorMessage.of("must.be.at.most", "max", maxInclusive));
     }
     //endregion
 
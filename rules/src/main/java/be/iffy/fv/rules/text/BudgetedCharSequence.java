@@ -0,0 +1,51 @@
+package be.iffy.fv.rules.text;
+
+/**
+ * The input of a {@link java.util.regex.Matcher} that counts the characters it reads, and aborts the match once it read
+ * more than its budget, for {@link StringRules#matchesWithin(java.util.regex.Pattern, int)}.
+ */
+final class BudgetedCharSequence implements CharSequence {
+
+    private final String text;
+    private int remaining;
+
+    BudgetedCharSequence(String text, int budget) {
+        this.text = text;
+        this.remaining = budget;
+    }
+
+    @Override
+    public int length() {
+        return text.length();
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (--remaining < 0) {
+            throw new BudgetExceededException();
+        }
+        return text.charAt(index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return text.subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+
+    /**
+     * Thrown from {@link #charAt(int)} to unwind the matcher, without a stack trace.
+     */
+    static final class BudgetExceededException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        BudgetExceededException() {
+            super("regex budget exceeded", null, false, false);
+        }
+    }
+}
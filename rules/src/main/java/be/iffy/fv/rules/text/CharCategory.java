@@ -8,40 +8,48 @@ package be.iffy.fv.rules.text;
 public enum CharCategory {
 
     /** ASCII digits 0–9 only. Unicode digits (e.g. Arabic-Indic) are excluded. */
-    ASCII_DIGITS("0-9"),
+    ASCII_DIGITS(CharMatcher.asciiRange('0', '9')),
 
     /** ASCII letters A–Z and a–z only. Accented or non-Latin letters are excluded. */
-    ASCII_LETTERS("A-Za-z"),
+    ASCII_LETTERS(CharMatcher.asciiRange('A', 'Z').or(CharMatcher.asciiRange('a', 'z'))),
 
     /** ASCII whitespace: space, tab, {@code \n}, {@code \r}, form feed, vertical tab ({@code \s}). */
-    ASCII_WHITESPACE("\\s"),
+    ASCII_WHITESPACE(CharMatcher.anyOf(" \t\n\u000B\f\r")),
 
     /** Decimal digit characters from any Unicode script (Unicode category {@code Nd}, e.g. Arabic-Indic digits). */
-    DIGITS("\\p{Nd}"),
+    DIGITS(CharMatcher.ofTypes(Character.DECIMAL_DIGIT_NUMBER)),
 
     /** Letter characters from any Unicode script (Unicode category {@code L}). */
-    LETTERS("\\p{L}"),
+    LETTERS(CharMatcher.ofTypes(
+        Character.UPPERCASE_LETTER, Character.LOWERCASE_LETTER, Character.TITLECASE_LETTER,
+        Character.MODIFIER_LETTER, Character.OTHER_LETTER
+    )),
 
     /** Combining marks / diacritics (Unicode category {@code M}).
      *  Useful with {@code strip(MARKS)} after NFD normalization to remove accents composably. */
-    MARKS("\\p{M}"),
+    MARKS(CharMatcher.ofTypes(Character.NON_SPACING_MARK, Character.ENCLOSING_MARK, Character.COMBINING_SPACING_MARK)),
 
     /** ASCII punctuation: {@code !"#$%&'()*+,-./:;<=>?@[\]^_`{|}~} (POSIX {@code Punct} class). */
-    ASCII_PUNCTUATION("\\p{Punct}"),
+    ASCII_PUNCTUATION(CharMatcher.anyOf("!\"#$%&'()*+,-./:;<=>?@[\\]^_`{|}~")),
 
     /** Punctuation from any Unicode script (Unicode category {@code P}).
      *  Superset of {@link #ASCII_PUNCTUATION} — includes e.g. guillemets «», ellipsis …, etc. */
-    PUNCTUATION("\\p{P}"),
+    PUNCTUATION(CharMatcher.ofTypes(
+        Character.CONNECTOR_PUNCTUATION, Character.DASH_PUNCTUATION, Character.START_PUNCTUATION,
+        Character.END_PUNCTUATION, Character.INITIAL_QUOTE_PUNCTUATION, Character.FINAL_QUOTE_PUNCTUATION,
+        Character.OTHER_PUNCTUATION
+    )),
 
     /** Literal space character U+0020 only. */
-    SPACE(" "),
+    SPACE(CharMatcher.anyOf(" ")),
 
     /** All Unicode whitespace characters (Unicode {@code White_Space} property). Superset of {@link #ASCII_WHITESPACE}. */
-    WHITESPACE("\\p{IsWhite_Space}");
+    WHITESPACE(CharMatcher.ofTypes(Character.SPACE_SEPARATOR, Character.LINE_SEPARATOR, Character.PARAGRAPH_SEPARATOR)
+        .or(CharMatcher.anyOf("\t\n\u000B\f\r\u0085")));
 
-    final String fragment;
+    final CharMatcher matcher;
 
-    CharCategory(String fragment) {
-        this.fragment = fragment;
+    CharCategory(CharMatcher matcher) {
+        this.matcher = matcher;
     }
 }
@@ -0,0 +1,196 @@
+package be.iffy.fv.rules.text;
+
+import java.util.Arrays;
+
+/**
+ * An immutable set of code points, for the character class checks and transformations of {@link StringRules} and
+ * {@link StringOps}.
+ * <p>
+ * ASCII is looked up in two {@code long} bitsets. Other code points are matched on their Unicode category, with a
+ * single {@link Character#getType(int)} lookup against a precomputed mask of categories, or against a sorted array of
+ * explicit code points. So unlike a {@link java.util.regex.Pattern}, matching never allocates, and the text is only
+ * copied once there turns out to be something to remove.
+ */
+final class CharMatcher {
+
+    private static final int[] NO_CODE_POINTS = new int[0];
+
+    // ASCII 0-63 and 64-127
+    private final long low;
+    private final long high;
+    // bit n is set when code points of Character.getType n match
+    private final int types;
+    // sorted non ASCII code points that match regardless of their category
+    private final int[] codePoints;
+
+    private CharMatcher(long low, long high, int types, int[] codePoints) {
+        this.low = low;
+        this.high = high;
+        this.types = types;
+        this.codePoints = codePoints;
+    }
+
+    /**
+     * Matches the ASCII characters from {@code first} to {@code last}, both inclusive.
+     */
+    static CharMatcher asciiRange(char first, char last) {
+        long low = 0;
+        long high = 0;
+        for (char c = first; c <= last; c++) {
+            if (c < 64) {
+                low |= 1L << c;
+            } else {
+                high |= 1L << (c - 64);
+            }
+        }
+        return new CharMatcher(low, high, 0, NO_CODE_POINTS);
+    }
+
+    /**
+     * Matches all code points of the given Unicode categories, as returned by {@link Character#getType(int)}.
+     */
+    static CharMatcher ofTypes(int... categories) {
+        int types = 0;
+        for (int category : categories) {
+            types |= 1 << category;
+        }
+        long low = 0;
+        long high = 0;
+        for (int c = 0; c < 128; c++) {
+            if ((types >>> Character.getType(c) & 1) != 0) {
+                if (c < 64) {
+                    low |= 1L << c;
+                } else {
+                    high |= 1L << (c - 64);
+                }
+            }
+        }
+        return new CharMatcher(low, high, types, NO_CODE_POINTS);
+    }
+
+    /**
+     * Matches the code points of the string, taken literally.
+     */
+    static CharMatcher anyOf(String chars) {
+        long low = 0;
+        long high = 0;
+        int[] codePoints = chars.codePoints().filter(c -> c >= 128).sorted().distinct().toArray();
+        for (int i = 0; i < chars.length(); i++) {
+            char c = chars.charAt(i);
+            if (c < 64) {
+                low |= 1L << c;
+            } else if (c < 128) {
+                high |= 1L << (c - 64);
+            }
+        }
+        return new CharMatcher(low, high, 0, codePoints);
+    }
+
+    /**
+     * Matches the code points of any of the categories.
+     */
+    static CharMatcher anyOf(CharCategory... categories) {
+        CharMatcher result = new CharMatcher(0, 0, 0, NO_CODE_POINTS);
+        for (CharCategory category : categories) {
+            result = result.or(category.matcher);
+        }
+        return result;
+    }
+
+    /**
+     * Matches the code points matched by this or the other matcher.
+     */
+    CharMatcher or(CharMatcher other) {
+        int[] merged = codePoints;
+        if (other.codePoints.length > 0) {
+            merged = Arrays.copyOf(codePoints, codePoints.length + other.codePoints.length);
+            System.arraycopy(other.codePoints, 0, merged, codePoints.length, other.codePoints.length);
+            merged = Arrays.stream(merged).sorted().distinct().toArray();
+        }
+        return new CharMatcher(low | other.low, high | other.high, types | other.types, merged);
+    }
+
+    boolean matches(int codePoint) {
+        if (codePoint < 64) {
+            return (low >>> codePoint & 1) != 0;
+        }
+        if (codePoint < 128) {
+            return (high >>> (codePoint - 64) & 1) != 0;
+        }
+        return (types >>> Character.getType(codePoint) & 1) != 0
+            || (codePoints.length > 0 && Arrays.binarySearch(codePoints, codePoint) >= 0);
+    }
+
+    /**
+     * Whether every code point of the text matches, {@code true} for the empty string.
+     */
+    boolean matchesAllOf(CharSequence s) {
+        return indexIn(s, false) == s.length();
+    }
+
+    /**
+     * The text without the matching code points, or the text itself when none match.
+     */
+    String removeFrom(String s) {
+        int start = indexIn(s, true);
+        if (start == s.length()) {
+            return s;
+        }
+        char[] chars = s.toCharArray();
+        return new String(chars, 0, filter(chars, start, chars.length, false));
+    }
+
+    /**
+     * The index of the first code point that matches, or that doesn't match when not {@code matching}, or the length
+     * of the text.
+     */
+    int indexIn(CharSequence s, boolean matching) {
+        int length = s.length();
+        int i = 0;
+        while (i < length) {
+            char c = s.charAt(i);
+            if (c < 128) {
+                if (matches(c) == matching) {
+                    return i;
+                }
+                i++;
+            } else {
+                int codePoint = Character.codePointAt(s, i);
+                if (matches(codePoint) == matching) {
+                    return i;
+                }
+                i += Character.charCount(codePoint);
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Keeps only the matching code points from {@code start} until {@code length}, or only those that don't match
+     * when not {@code keep}, moving them to the left in place.
+     *
+     * @return the new length.
+     */
+    int filter(char[] chars, int start, int length, boolean keep) {
+        int write = start;
+        int i = start;
+        while (i < length) {
+            char c = chars[i];
+            if (c < 128) {
+                if (matches(c) == keep) {
+                    chars[write++] = c;
+                }
+                i++;
+            } else {
+                int codePoint = Character.codePointAt(chars, i, length);
+                int count = Character.charCount(codePoint);
+                if (matches(codePoint) == keep) {
+                    System.arraycopy(chars, i, chars, write, count);
+                    write += count;
+                }
+                i += count;
+            }
+        }
+        return write;
+    }
+}
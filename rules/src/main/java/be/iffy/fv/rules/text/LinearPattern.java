@@ -0,0 +1,404 @@
+package be.iffy.fv.rules.text;
+
+import be.iffy.fv.rules.text.LinearPatternCompiler.Program;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import static be.iffy.fv.rules.text.LinearPatternCompiler.ASSERT;
+import static be.iffy.fv.rules.text.LinearPatternCompiler.BEGIN;
+import static be.iffy.fv.rules.text.LinearPatternCompiler.CHAR;
+import static be.iffy.fv.rules.text.LinearPatternCompiler.END;
+import static be.iffy.fv.rules.text.LinearPatternCompiler.END_OF_LINE;
+import static be.iffy.fv.rules.text.LinearPatternCompiler.JUMP;
+import static be.iffy.fv.rules.text.LinearPatternCompiler.MATCH;
+import static be.iffy.fv.rules.text.LinearPatternCompiler.SPLIT;
+import static be.iffy.fv.rules.text.LinearPatternCompiler.WORD_BOUNDARY;
+
+/**
+ * A regular expression that is matched in time linear in the length of the input, whatever the expression, for
+ * untrusted input against expressions that could make {@link Pattern} backtrack for a very long time (ReDoS), like
+ * {@code (a+)+b}.
+ * <p>
+ * The syntax is that of {@link Pattern}, without the constructs that need backtracking: back references, lookarounds,
+ * atomic groups, possessive quantifiers, character class intersections and inline flags, and anchors or word
+ * boundaries inside a repeated group. {@link #compile(String)} rejects those. Everything else matches exactly like {@link Pattern} with its default flags; lazy quantifiers and
+ * capturing groups are accepted, but as there are no groups to report, they make no difference.
+ * <p>
+ * The expression is compiled to a Thompson NFA, which is simulated on all possible paths at once, so each code point
+ * of the input is looked at once. Expressions without anchors or word boundaries are also compiled to a DFA for ASCII
+ * input, so matching ASCII is a single table lookup per character.
+ *
+ * @see StringRules#matches(LinearPattern)
+ * @see StringRules#containsPattern(LinearPattern)
+ */
+public final class LinearPattern {
+
+    // beyond this many states, the NFA is simulated instead
+    private static final int MAX_DFA_STATES = 1024;
+
+    private final String regex;
+    private final Program program;
+    private final Dfa anchored;
+    private final Dfa unanchored;
+
+    private LinearPattern(String regex, Program program) {
+        this.regex = regex;
+        this.program = program;
+        this.anchored = program.hasAssertions() ? null : Dfa.build(program, true);
+        this.unanchored = program.hasAssertions() ? null : Dfa.build(program, false);
+    }
+
+    /**
+     * Compiles the regular expression.
+     *
+     * @param regex the regular expression, in the syntax of {@link Pattern}.
+     * @return the compiled expression.
+     * @throws PatternSyntaxException if the expression is invalid, or uses a construct that needs backtracking.
+     */
+    public static LinearPattern compile(String regex) {
+        Objects.requireNonNull(regex, "regex cannot be null");
+        Pattern.compile(regex);
+        return new LinearPattern(regex, LinearPatternCompiler.compile(regex));
+    }
+
+    /**
+     * The regular expression this pattern was compiled from.
+     */
+    public String pattern() {
+        return regex;
+    }
+
+    /**
+     * Whether the entire input matches, like {@link java.util.regex.Matcher#matches()}.
+     */
+    public boolean matches(CharSequence input) {
+        return anchored != null ? anchored.run(input, true, program) : Nfa.run(program, input, 0, null, true);
+    }
+
+    /**
+     * Whether a part of the input matches, like {@link java.util.regex.Matcher#find()}.
+     */
+    public boolean find(CharSequence input) {
+        return unanchored != null ? unanchored.run(input, false, program) : Nfa.run(program, input, 0, null, false);
+    }
+
+    @Override
+    public String toString() {
+        return regex;
+    }
+
+    /**
+     * The simulation of the NFA, following all threads of the program in lockstep.
+     */
+    private static final class Nfa {
+
+        private final Program program;
+        // the pcs reached at the current position, in a sparse set
+        private int[] current;
+        private int currentSize;
+        private int[] next;
+        private int nextSize;
+        private final int[] sparse;
+        private final int[] stack;
+
+        private Nfa(Program program) {
+            this.program = program;
+            this.current = new int[program.size()];
+            this.next = new int[program.size()];
+            this.sparse = new int[program.size()];
+            this.stack = new int[program.size() * 2 + 1];
+        }
+
+        /**
+         * Runs the program from position {@code start}, with the threads at {@code pcs}, or from its first instruction.
+         */
+        static boolean run(Program program, CharSequence s, int start, int[] pcs, boolean anchored) {
+            Nfa nfa = new Nfa(program);
+            int match = program.size() - 1;
+            if (pcs == null) {
+                nfa.add(0, s, start);
+            } else {
+                for (int pc : pcs) {
+                    nfa.add(pc, s, start);
+                }
+            }
+            nfa.swap();
+            int i = start;
+            while (i < s.length()) {
+                if (anchored ? nfa.currentSize == 0 : nfa.contains(match)) {
+                    return !anchored;
+                }
+                int codePoint = Character.codePointAt(s, i);
+                i += Character.charCount(codePoint);
+                nfa.step(codePoint, s, i);
+                if (!anchored) {
+                    nfa.add(0, s, i);
+                }
+                nfa.swap();
+            }
+            return nfa.contains(match);
+        }
+
+        /**
+         * Advances the current threads over the code point into the next threads, at position {@code i}.
+         */
+        void step(int codePoint, CharSequence s, int i) {
+            for (int k = 0; k < currentSize; k++) {
+                int pc = current[k];
+                if (program.ops()[pc] == CHAR && program.predicates()[pc].test(codePoint)) {
+                    add(pc + 1, s, i);
+                }
+            }
+        }
+
+        /**
+         * Adds the thread at pc and all threads reachable from it without consuming input to the next threads.
+         */
+        void add(int pc, CharSequence s, int i) {
+            int top = 0;
+            stack[top++] = pc;
+            while (top > 0) {
+                int p = stack[--top];
+                int index = sparse[p];
+                if (index < nextSize && next[index] == p) {
+                    continue;
+                }
+                sparse[p] = nextSize;
+                next[nextSize++] = p;
+                switch (program.ops()[p]) {
+                    case SPLIT -> {
+                        stack[top++] = program.y()[p];
+                        stack[top++] = program.x()[p];
+                    }
+                    case JUMP -> stack[top++] = program.x()[p];
+                    case ASSERT -> {
+                        if (holds(program.x()[p], s, i)) {
+                            stack[top++] = p + 1;
+                        }
+                    }
+                    default -> {
+                        // CHAR and MATCH wait for the next step
+                    }
+                }
+            }
+        }
+
+        private boolean contains(int pc) {
+            int index = sparse[pc];
+            return index < currentSize && current[index] == pc;
+        }
+
+        private void swap() {
+            int[] swap = current;
+            current = next;
+            currentSize = nextSize;
+            next = swap;
+            nextSize = 0;
+        }
+
+        /**
+         * The pcs of the current threads that consume input or match, sorted.
+         */
+        int[] state() {
+            return Arrays.stream(current, 0, currentSize)
+                .filter(pc -> program.ops()[pc] == CHAR || program.ops()[pc] == MATCH)
+                .sorted()
+                .toArray();
+        }
+
+        /**
+         * Whether the assertion holds at position {@code i}, like the equivalent {@link Pattern} node with the
+         * default flags.
+         */
+        private static boolean holds(int assertion, CharSequence s, int i) {
+            int length = s.length();
+            return switch (assertion) {
+                case BEGIN -> i == 0;
+                case END -> i == length;
+                case END_OF_LINE -> {
+                    if (i == length) {
+                        yield true;
+                    }
+                    if (i == length - 2) {
+                        yield s.charAt(i) == '\r' && s.charAt(i + 1) == '\n';
+                    }
+                    if (i == length - 1) {
+                        char c = s.charAt(i);
+                        yield c == '\n' ? i == 0 || s.charAt(i - 1) != '\r'
+                            : c == '\r' || c == '\u0085' || (c | 1) == '\u2029';
+                    }
+                    yield false;
+                }
+                case WORD_BOUNDARY -> isWordBefore(s, i) != isWordAt(s, i);
+                default -> isWordBefore(s, i) == isWordAt(s, i);
+            };
+        }
+
+        private static boolean isWordBefore(CharSequence s, int i) {
+            if (i == 0) {
+                return false;
+            }
+            int c = Character.codePointBefore(s, i);
+            return isWord(c) || (Character.getType(c) == Character.NON_SPACING_MARK && hasBaseCharacter(s, i - 1));
+        }
+
+        private static boolean isWordAt(CharSequence s, int i) {
+            if (i == s.length()) {
+                return false;
+            }
+            int c = Character.codePointAt(s, i);
+            return isWord(c) || (Character.getType(c) == Character.NON_SPACING_MARK && hasBaseCharacter(s, i));
+        }
+
+        private static boolean isWord(int c) {
+            return c == '_' || (c < 128 && Character.isLetterOrDigit(c));
+        }
+
+        /**
+         * Non spacing marks are part of a word when they follow a letter or digit.
+         */
+        private static boolean hasBaseCharacter(CharSequence s, int i) {
+            for (int k = i; k >= 0; k--) {
+                int c = Character.codePointAt(s, k);
+                if (Character.isLetterOrDigit(c)) {
+                    return true;
+                }
+                if (Character.getType(c) != Character.NON_SPACING_MARK) {
+                    return false;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * The NFA of a program without assertions, compiled to a DFA for ASCII input. Each state is a set of NFA threads.
+     * ASCII characters that no instruction tells apart share their transitions.
+     */
+    private static final class Dfa {
+
+        private final int[] classOf = new int[128];
+        private final int classes;
+        private final int[] transitions;
+        private final boolean[] accepting;
+        private final int[][] states;
+        private final int dead;
+
+        private Dfa(int classes, int[] transitions, boolean[] accepting, int[][] states, int dead) {
+            this.classes = classes;
+            this.transitions = transitions;
+            this.accepting = accepting;
+            this.states = states;
+            this.dead = dead;
+        }
+
+        /**
+         * The DFA, or {@code null} when it has too many states.
+         *
+         * @param anchored whether the match starts at the beginning of the input, or anywhere.
+         */
+        static Dfa build(Program program, boolean anchored) {
+            // the ASCII characters that are accepted by the same instructions behave the same
+            int[] classOf = new int[128];
+            List<Integer> representatives = new ArrayList<>();
+            Map<List<Boolean>, Integer> signatures = new HashMap<>();
+            for (int c = 0; c < 128; c++) {
+                List<Boolean> signature = new ArrayList<>();
+                for (int pc = 0; pc < program.size(); pc++) {
+                    if (program.ops()[pc] == CHAR) {
+                        signature.add(program.predicates()[pc].test(c));
+                    }
+                }
+                int character = c;
+                classOf[c] = signatures.computeIfAbsent(signature, key -> {
+                    representatives.add(character);
+                    return representatives.size() - 1;
+                });
+            }
+            int classes = representatives.size();
+
+            int match = program.size() - 1;
+            Nfa nfa = new Nfa(program);
+            nfa.add(0, "", 0);
+            nfa.swap();
+            List<int[]> states = new ArrayList<>();
+            Map<List<Integer>, Integer> ids = new HashMap<>();
+            states.add(nfa.state());
+            ids.put(key(states.get(0)), 0);
+            int[] transitions = new int[16 * classes];
+            for (int state = 0; state < states.size(); state++) {
+                if (transitions.length < (state + 1) * classes) {
+                    transitions = Arrays.copyOf(transitions, transitions.length * 2);
+                }
+                for (int k = 0; k < classes; k++) {
+                    for (int pc : states.get(state)) {
+                        nfa.add(pc, "", 0);
+                    }
+                    nfa.swap();
+                    nfa.step(representatives.get(k), "", 0);
+                    if (!anchored) {
+                        nfa.add(0, "", 0);
+                    }
+                    nfa.swap();
+                    int[] next = nfa.state();
+                    Integer id = ids.get(key(next));
+                    if (id == null) {
+                        if (states.size() == MAX_DFA_STATES) {
+                            return null;
+                        }
+                        id = states.size();
+                        states.add(next);
+                        ids.put(key(next), id);
+                    }
+                    transitions[state * classes + k] = id;
+                }
+            }
+            boolean[] accepting = new boolean[states.size()];
+            int dead = -1;
+            for (int state = 0; state < states.size(); state++) {
+                int[] pcs = states.get(state);
+                accepting[state] = pcs.length > 0 && pcs[pcs.length - 1] == match;
+                if (pcs.length == 0) {
+                    dead = state;
+                }
+            }
+            Dfa dfa = new Dfa(classes, Arrays.copyOf(transitions, states.size() * classes), accepting,
+                states.toArray(int[][]::new), dead);
+            System.arraycopy(classOf, 0, dfa.classOf, 0, 128);
+            return dfa;
+        }
+
+        private static List<Integer> key(int[] pcs) {
+            return Arrays.stream(pcs).boxed().toList();
+        }
+
+        /**
+         * Runs the DFA over the ASCII prefix of the input, and the NFA from the first other character on.
+         */
+        boolean run(CharSequence s, boolean anchored, Program program) {
+            int state = 0;
+            int length = s.length();
+            for (int i = 0; i < length; i++) {
+                if (!anchored && accepting[state]) {
+                    return true;
+                }
+                char c = s.charAt(i);
+                if (c >= 128) {
+                    return Nfa.run(program, s, i, states[state], anchored);
+                }
+                state = transitions[state * classes + classOf[c]];
+                if (state == dead) {
+                    return false;
+                }
+            }
+            return accepting[state];
+        }
+    }
+}
@@ -0,0 +1,542 @@
+package be.iffy.fv.rules.text;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Compiles a regular expression, in the syntax of {@link Pattern}, to the program of a {@link LinearPattern}: a
+ * Thompson NFA, as a list of instructions.
+ * <p>
+ * Only the constructs that can be matched without backtracking are supported. The expression is expected to be valid
+ * for {@link Pattern#compile(String)} already, so the syntax is only checked where the constructs differ.
+ */
+final class LinearPatternCompiler {
+
+    // instructions
+    static final int CHAR = 0;
+    static final int SPLIT = 1;
+    static final int JUMP = 2;
+    static final int ASSERT = 3;
+    static final int MATCH = 4;
+
+    // assertions
+    static final int BEGIN = 0;
+    static final int END = 1;
+    static final int END_OF_LINE = 2;
+    static final int WORD_BOUNDARY = 3;
+    static final int NOT_WORD_BOUNDARY = 4;
+
+    private static final int MAX_PROGRAM_SIZE = 10_000;
+
+    private static final IntPredicate DOT = c -> c != '\n' && c != '\r' && (c | 1) != '\u2029' && c != '\u0085';
+    private static final IntPredicate DIGIT = c -> c >= '0' && c <= '9';
+    private static final IntPredicate WORD = c -> c < 128 && (Character.isLetterOrDigit(c) || c == '_');
+    private static final IntPredicate SPACE = c -> c == ' ' || (c >= '\t' && c <= '\r');
+    private static final IntPredicate HORIZONTAL_SPACE = c -> c == 0x09 || c == 0x20 || c == 0xa0 || c == 0x1680
+        || c == 0x180e || (c >= 0x2000 && c <= 0x200a) || c == 0x202f || c == 0x205f || c == 0x3000;
+    private static final IntPredicate VERTICAL_SPACE = c -> (c >= 0x0a && c <= 0x0d) || c == 0x85 || c == 0x2028
+        || c == 0x2029;
+
+    /**
+     * The instructions: {@code ops[pc]} is the kind of instruction, {@code CHAR} consumes a code point matching
+     * {@code predicates[pc]} and continues at {@code pc + 1}, {@code SPLIT} continues at both {@code x[pc]} and
+     * {@code y[pc]}, {@code JUMP} at {@code x[pc]}, {@code ASSERT} checks the assertion {@code x[pc]} and continues at
+     * {@code pc + 1}. The last instruction is the only {@code MATCH}.
+     */
+    record Program(int[] ops, int[] x, int[] y, IntPredicate[] predicates, boolean hasAssertions) {
+
+        int size() {
+            return ops.length;
+        }
+    }
+
+    //region syntax tree
+
+    private sealed interface Node permits Chars, Assertion, Sequence, Alternation, Repetition {
+    }
+
+    private record Chars(IntPredicate predicate) implements Node {
+    }
+
+    private record Assertion(int kind) implements Node {
+    }
+
+    private record Sequence(List<Node> nodes) implements Node {
+    }
+
+    private record Alternation(List<Node> alternatives) implements Node {
+    }
+
+    /**
+     * {@code max} is -1 when unbounded.
+     */
+    private record Repetition(Node node, int min, int max) implements Node {
+    }
+
+    //endregion
+
+    private final String regex;
+    private int pos;
+
+    private int[] ops = new int[16];
+    private int[] x = new int[16];
+    private int[] y = new int[16];
+    private IntPredicate[] predicates = new IntPredicate[16];
+    private int size;
+    private boolean hasAssertions;
+
+    private LinearPatternCompiler(String regex) {
+        this.regex = regex;
+    }
+
+    /**
+     * @throws PatternSyntaxException when the expression uses a construct that needs backtracking, like a back
+     *                                reference or a lookaround, or when it is too large.
+     */
+    static Program compile(String regex) {
+        LinearPatternCompiler compiler = new LinearPatternCompiler(regex);
+        Node root = compiler.alternation();
+        if (compiler.pos < regex.length()) {
+            throw compiler.error("Unmatched closing ')'");
+        }
+        compiler.emit(root);
+        compiler.add(MATCH, null);
+        int size = compiler.size;
+        return new Program(
+            Arrays.copyOf(compiler.ops, size),
+            Arrays.copyOf(compiler.x, size),
+            Arrays.copyOf(compiler.y, size),
+            Arrays.copyOf(compiler.predicates, size),
+            compiler.hasAssertions
+        );
+    }
+
+    //region parsing
+
+    private Node alternation() {
+        List<Node> alternatives = new ArrayList<>();
+        alternatives.add(sequence());
+        while (peek() == '|') {
+            pos++;
+            alternatives.add(sequence());
+        }
+        return alternatives.size() == 1 ? alternatives.get(0) : new Alternation(alternatives);
+    }
+
+    private Node sequence() {
+        List<Node> nodes = new ArrayList<>();
+        while (pos < regex.length() && peek() != '|' && peek() != ')') {
+            if (regex.startsWith("\\Q", pos)) {
+                quoted(nodes);
+            } else {
+                nodes.add(atom());
+            }
+            if (!nodes.isEmpty()) {
+                nodes.add(quantifier(nodes.remove(nodes.size() - 1)));
+            }
+        }
+        return nodes.size() == 1 ? nodes.get(0) : new Sequence(nodes);
+    }
+
+    /**
+     * The characters between {@code \Q} and {@code \E} taken literally, as separate nodes so a quantifier only
+     * applies to the last one.
+     */
+    private void quoted(List<Node> nodes) {
+        pos += 2;
+        int end = regex.indexOf("\\E", pos);
+        if (end < 0) {
+            end = regex.length();
+        }
+        while (pos < end) {
+            nodes.add(literal(nextCodePoint()));
+        }
+        pos = Math.min(regex.length(), end + 2);
+    }
+
+    private Node atom() {
+        int c = nextCodePoint();
+        return switch (c) {
+            case '(' -> group();
+            case '[' -> new Chars(charClass());
+            case '.' -> new Chars(DOT);
+            case '^' -> assertion(BEGIN);
+            case '$' -> assertion(END_OF_LINE);
+            case '\\' -> escape();
+            default -> literal(c);
+        };
+    }
+
+    private Node group() {
+        if (peek() == '?') {
+            if (regex.startsWith("?:", pos)) {
+                pos += 2;
+            } else if (regex.startsWith("?<", pos) && pos + 2 < regex.length() && Character.isLetter(regex.charAt(pos + 2))) {
+                pos = regex.indexOf('>', pos) + 1;
+            } else {
+                throw unsupported("Lookarounds, atomic groups and flags are");
+            }
+        }
+        Node node = alternation();
+        pos++; // ')'
+        return node;
+    }
+
+    private Node escape() {
+        char c = regex.charAt(pos++);
+        return switch (c) {
+            case 'A' -> assertion(BEGIN);
+            case 'z' -> assertion(END);
+            case 'Z' -> assertion(END_OF_LINE);
+            case 'b' -> {
+                if (regex.startsWith("{g}", pos)) {
+                    throw unsupported("Grapheme boundaries are");
+                }
+                yield assertion(WORD_BOUNDARY);
+            }
+            case 'B' -> assertion(NOT_WORD_BOUNDARY);
+            default -> {
+                IntPredicate predefined = predefined(c);
+                if (predefined != null) {
+                    yield new Chars(predefined);
+                }
+                yield literal(escapedCodePoint(c));
+            }
+        };
+    }
+
+    /**
+     * The predefined character classes, or {@code null}.
+     */
+    private IntPredicate predefined(char c) {
+        return switch (c) {
+            case 'd' -> DIGIT;
+            case 'D' -> DIGIT.negate();
+            case 'w' -> WORD;
+            case 'W' -> WORD.negate();
+            case 's' -> SPACE;
+            case 'S' -> SPACE.negate();
+            case 'h' -> HORIZONTAL_SPACE;
+            case 'H' -> HORIZONTAL_SPACE.negate();
+            case 'v' -> VERTICAL_SPACE;
+            case 'V' -> VERTICAL_SPACE.negate();
+            case 'p', 'P' -> property(c);
+            default -> null;
+        };
+    }
+
+    /**
+     * A Unicode property like {@code \p{L}} or {@code \pL}, looked up by {@link Pattern} itself, once per ASCII
+     * character up front and per code point for the others.
+     */
+    private IntPredicate property(char p) {
+        int start = pos - 2;
+        if (peek() == '{') {
+            pos = regex.indexOf('}', pos) + 1;
+        } else {
+            pos += Character.charCount(regex.codePointAt(pos));
+        }
+        Pattern property = Pattern.compile(regex.substring(start, pos));
+        boolean[] ascii = new boolean[128];
+        for (int c = 0; c < 128; c++) {
+            ascii[c] = property.matcher(String.valueOf((char) c)).matches();
+        }
+        return c -> c < 128 ? ascii[c] : property.matcher(new String(Character.toChars(c))).matches();
+    }
+
+    /**
+     * The code point of an escape sequence that stands for a single character.
+     */
+    private int escapedCodePoint(char c) {
+        return switch (c) {
+            case 't' -> '\t';
+            case 'n' -> '\n';
+            case 'r' -> '\r';
+            case 'f' -> '\f';
+            case 'a' -> '\u0007';
+            case 'e' -> '\u001B';
+            case 'c' -> regex.charAt(pos++) ^ 64;
+            case '0' -> octal();
+            case 'x' -> hexadecimal();
+            case 'u' -> unicode();
+            case 'N' -> {
+                int end = regex.indexOf('}', pos);
+                int codePoint = Character.codePointOf(regex.substring(pos + 1, end));
+                pos = end + 1;
+                yield codePoint;
+            }
+            default -> {
+                if (c < 128 && Character.isLetterOrDigit(c)) {
+                    throw unsupported("\\" + c + " is");
+                }
+                pos--;
+                yield nextCodePoint();
+            }
+        };
+    }
+
+    private int octal() {
+        int value = 0;
+        int digits = 0;
+        while (digits < 3 && pos < regex.length() && regex.charAt(pos) >= '0' && regex.charAt(pos) <= '7') {
+            if (digits == 2 && value > 037) {
+                break;
+            }
+            value = value * 8 + regex.charAt(pos++) - '0';
+            digits++;
+        }
+        return value;
+    }
+
+    private int hexadecimal() {
+        if (peek() == '{') {
+            int end = regex.indexOf('}', pos);
+            int value = Integer.parseInt(regex, pos + 1, end, 16);
+            pos = end + 1;
+            return value;
+        }
+        pos += 2;
+        return Integer.parseInt(regex, pos - 2, pos, 16);
+    }
+
+    private int unicode() {
+        char c = (char) Integer.parseInt(regex, pos, pos + 4, 16);
+        pos += 4;
+        if (Character.isHighSurrogate(c) && regex.startsWith("\\u", pos) && pos + 6 <= regex.length()) {
+            char low = (char) Integer.parseInt(regex, pos + 2, pos + 6, 16);
+            if (Character.isLowSurrogate(low)) {
+                pos += 6;
+                return Character.toCodePoint(c, low);
+            }
+        }
+        return c;
+    }
+
+    /**
+     * A bracketed character class, after its {@code [}.
+     */
+    private IntPredicate charClass() {
+        boolean negated = false;
+        if (peek() == '^') {
+            pos++;
+            negated = true;
+        }
+        List<IntPredicate> items = new ArrayList<>();
+        while (true) {
+            int c = peek();
+            if (c == '[') {
+                pos++;
+                items.add(charClass());
+            } else if (c == '&' && regex.startsWith("&&", pos)) {
+                throw unsupported("Character class intersections are");
+            } else if (c == ']' && !items.isEmpty()) {
+                pos++;
+                break;
+            } else {
+                items.add(range());
+            }
+        }
+        IntPredicate[] union = items.toArray(IntPredicate[]::new);
+        IntPredicate predicate = union.length == 1 ? union[0] : codePoint -> {
+            for (IntPredicate item : union) {
+                if (item.test(codePoint)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+        return negated ? predicate.negate() : predicate;
+    }
+
+    /**
+     * A single character, a range or an escaped class inside a character class.
+     */
+    private IntPredicate range() {
+        int first;
+        if (peek() == '\\') {
+            pos++;
+            char c = regex.charAt(pos++);
+            if (c == 'Q') {
+                throw unsupported("Quoting inside a character class is");
+            }
+            if (c == 'v' || c == 'V') {
+                throw unsupported("\\" + c + " inside a character class is");
+            }
+            IntPredicate predefined = predefined(c);
+            if (predefined != null) {
+                return predefined;
+            }
+            first = escapedCodePoint(c);
+        } else {
+            first = nextCodePoint();
+        }
+        if (peek() == '-' && pos + 1 < regex.length() && regex.charAt(pos + 1) != '[' && regex.charAt(pos + 1) != ']') {
+            pos++;
+            int last;
+            if (peek() == '\\') {
+                pos++;
+                last = escapedCodePoint(regex.charAt(pos++));
+            } else {
+                last = nextCodePoint();
+            }
+            return c -> c >= first && c <= last;
+        }
+        return c -> c == first;
+    }
+
+    private Node quantifier(Node node) {
+        int c = peek();
+        int min;
+        int max;
+        if (c == '?') {
+            min = 0;
+            max = 1;
+        } else if (c == '*') {
+            min = 0;
+            max = -1;
+        } else if (c == '+') {
+            min = 1;
+            max = -1;
+        } else if (c == '{') {
+            int end = regex.indexOf('}', pos);
+            int comma = regex.indexOf(',', pos);
+            if (comma < 0 || comma > end) {
+                min = Integer.parseInt(regex, pos + 1, end, 10);
+                max = min;
+            } else {
+                min = Integer.parseInt(regex, pos + 1, comma, 10);
+                max = comma + 1 == end ? -1 : Integer.parseInt(regex, comma + 1, end, 10);
+            }
+            pos = end;
+        } else {
+            return node;
+        }
+        if (Math.max(min, max) > MAX_PROGRAM_SIZE) {
+            throw new PatternSyntaxException("Repetition too large for a linear time pattern", regex, pos);
+        }
+        pos++;
+        if (peek() == '+') {
+            throw unsupported("Possessive quantifiers are");
+        }
+        if (peek() == '?') {
+            // lazy: the same for a match without groups
+            pos++;
+        }
+        if (max != 1 && hasAssertion(node)) {
+            // Pattern ends a repetition after an iteration that matched nothing, an automaton does not
+            throw unsupported("Anchors and word boundaries inside a repetition are");
+        }
+        return new Repetition(node, min, max);
+    }
+
+    private static boolean hasAssertion(Node node) {
+        return switch (node) {
+            case Chars chars -> false;
+            case Assertion assertion -> true;
+            case Sequence sequence -> sequence.nodes().stream().anyMatch(LinearPatternCompiler::hasAssertion);
+            case Alternation alternation -> alternation.alternatives().stream().anyMatch(LinearPatternCompiler::hasAssertion);
+            case Repetition repetition -> hasAssertion(repetition.node());
+        };
+    }
+
+    private Node assertion(int kind) {
+        return new Assertion(kind);
+    }
+
+    private static Node literal(int codePoint) {
+        return new Chars(c -> c == codePoint);
+    }
+
+    private int peek() {
+        return pos < regex.length() ? regex.charAt(pos) : -1;
+    }
+
+    private int nextCodePoint() {
+        int codePoint = regex.codePointAt(pos);
+        pos += Character.charCount(codePoint);
+        return codePoint;
+    }
+
+    private PatternSyntaxException unsupported(String construct) {
+        return error(construct + " not supported in a linear time pattern");
+    }
+
+    private PatternSyntaxException error(String description) {
+        return new PatternSyntaxException(description, regex, pos - 1);
+    }
+
+    //endregion
+
+    //region program
+
+    private void emit(Node node) {
+        switch (node) {
+            case Chars chars -> add(CHAR, chars.predicate());
+            case Assertion assertion -> {
+                int pc = add(ASSERT, null);
+                x[pc] = assertion.kind();
+                hasAssertions = true;
+            }
+            case Sequence sequence -> sequence.nodes().forEach(this::emit);
+            case Alternation alternation -> {
+                List<Node> alternatives = alternation.alternatives();
+                int[] jumps = new int[alternatives.size() - 1];
+                for (int i = 0; i < jumps.length; i++) {
+                    int split = add(SPLIT, null);
+                    x[split] = split + 1;
+                    emit(alternatives.get(i));
+                    jumps[i] = add(JUMP, null);
+                    y[split] = size;
+                }
+                emit(alternatives.get(jumps.length));
+                for (int jump : jumps) {
+                    x[jump] = size;
+                }
+            }
+            case Repetition repetition -> {
+                for (int i = 0; i < repetition.min(); i++) {
+                    emit(repetition.node());
+                }
+                if (repetition.max() < 0) {
+                    int split = add(SPLIT, null);
+                    x[split] = split + 1;
+                    emit(repetition.node());
+                    int jump = add(JUMP, null);
+                    x[jump] = split;
+                    y[split] = size;
+                } else {
+                    int[] splits = new int[repetition.max() - repetition.min()];
+                    for (int i = 0; i < splits.length; i++) {
+                        splits[i] = add(SPLIT, null);
+                        x[splits[i]] = splits[i] + 1;
+                        emit(repetition.node());
+                    }
+                    for (int split : splits) {
+                        y[split] = size;
+                    }
+                }
+            }
+        }
+    }
+
+    private int add(int op, IntPredicate predicate) {
+        if (size == MAX_PROGRAM_SIZE) {
+            throw new PatternSyntaxException("Pattern too large for a linear time pattern", regex, -1);
+        }
+        if (size == ops.length) {
+            ops = Arrays.copyOf(ops, size * 2);
+            x = Arrays.copyOf(x, size * 2);
+            y = Arrays.copyOf(y, size * 2);
+            predicates = Arrays.copyOf(predicates, size * 2);
+        }
+        ops[size] = op;
+        predicates[size] = predicate;
+        return size++;
+    }
+
+    //endregion
+}
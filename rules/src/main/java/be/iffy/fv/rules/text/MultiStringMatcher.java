@@ -0,0 +1,343 @@
+package be.iffy.fv.rules.text;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Finds any of a dictionary of strings at the start, at the end or anywhere in a text, in a single scan of the text,
+ * whatever the size of the dictionary. Used by the prefix, suffix and contains rules of {@link StringRules}.
+ * <p>
+ * The dictionary is stored in a trie, with Aho-Corasick failure links to find entries anywhere in the text. For
+ * suffixes, the entries are stored reversed and the text is scanned from the end. Small dictionaries, for which looping
+ * over the entries is cheaper, are not put in a trie at all.
+ * <p>
+ * Ignoring case has the semantics of {@link String#regionMatches(boolean, int, String, int, int)}: both the entries
+ * and the text are folded code point by code point with {@link Character#toUpperCase(int)} followed by
+ * {@link Character#toLowerCase(int)}.
+ */
+final class MultiStringMatcher {
+
+    // below this number of entries, looping over them is faster than walking a trie
+    private static final int MIN_TRIE_SIZE = 16;
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+
+    private final String[] entries;
+    private final boolean ignoreCase;
+    private final boolean reversed;
+
+    // the trie, null for small dictionaries. Node n's child for char c is found in an open addressing table,
+    // keyed on (n << 16 | c).
+    private long[] keys;
+    private int[] children;
+    // whether a node is the end of an entry
+    private boolean[] terminal;
+    // the index of the entry a terminal node is the end of
+    private int[] entryOf;
+    // the node of the longest proper suffix of a node's path that is also a path in the trie
+    private int[] fail;
+    // whether a node's path ends with an entry: it is terminal, or its failure node is
+    private boolean[] found;
+    private int size;
+
+    private MultiStringMatcher(String[] entries, boolean ignoreCase, boolean reversed) {
+        this.entries = entries;
+        this.ignoreCase = ignoreCase;
+        this.reversed = reversed;
+        if (entries.length >= MIN_TRIE_SIZE) {
+            buildTrie();
+            if (!reversed) {
+                buildFailureLinks();
+            }
+        }
+    }
+
+    /**
+     * A matcher for {@link #matchesStartOf(String)} and {@link #isFoundIn(String)}.
+     */
+    static MultiStringMatcher of(Iterable<String> entries, boolean ignoreCase) {
+        return new MultiStringMatcher(toArray(entries), ignoreCase, false);
+    }
+
+    /**
+     * A matcher for {@link #matchesEndOf(String)}.
+     */
+    static MultiStringMatcher reversed(Iterable<String> entries, boolean ignoreCase) {
+        return new MultiStringMatcher(toArray(entries), ignoreCase, true);
+    }
+
+    private static String[] toArray(Iterable<String> entries) {
+        List<String> list = new ArrayList<>();
+        for (String entry : entries) {
+            list.add(Objects.requireNonNull(entry, "entries cannot contain null"));
+        }
+        return list.toArray(String[]::new);
+    }
+
+    /**
+     * Whether the text starts with any of the entries.
+     */
+    boolean matchesStartOf(String s) {
+        if (keys == null) {
+            for (String entry : entries) {
+                if (s.regionMatches(ignoreCase, 0, entry, 0, entry.length())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        int node = ROOT;
+        int i = 0;
+        while (!terminal[node] && i < s.length()) {
+            int codePoint = s.codePointAt(i);
+            i += Character.charCount(codePoint);
+            node = step(node, codePoint(codePoint));
+            if (node == NONE) {
+                return false;
+            }
+        }
+        return terminal[node];
+    }
+
+    /**
+     * Whether the text ends with any of the entries, for a {@link #reversed(Iterable, boolean)} matcher.
+     */
+    boolean matchesEndOf(String s) {
+        if (keys == null) {
+            for (String entry : entries) {
+                int start = s.length() - entry.length();
+                if (start >= 0 && s.regionMatches(ignoreCase, start, entry, 0, entry.length())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        int node = ROOT;
+        int i = s.length();
+        while (!terminal[node] && i > 0) {
+            int codePoint = s.codePointBefore(i);
+            i -= Character.charCount(codePoint);
+            node = step(node, codePoint(codePoint));
+            if (node == NONE) {
+                return false;
+            }
+        }
+        return terminal[node];
+    }
+
+    /**
+     * Whether the text contains any of the entries.
+     */
+    boolean isFoundIn(String s) {
+        return findIn(s) != null;
+    }
+
+    /**
+     * An entry the text contains, as it was given, or {@code null} if it contains none. Of a trie, the entry that ends
+     * first in the text, otherwise the first entry that is found.
+     */
+    String findIn(String s) {
+        if (keys == null) {
+            for (String entry : entries) {
+                if (indexOf(s, entry) >= 0) {
+                    return entry;
+                }
+            }
+            return null;
+        }
+        int node = ROOT;
+        int i = 0;
+        while (!found[node] && i < s.length()) {
+            int codePoint = s.codePointAt(i);
+            i += Character.charCount(codePoint);
+            codePoint = codePoint(codePoint);
+            if (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+                node = follow(node, (char) codePoint);
+            } else {
+                node = follow(follow(node, Character.highSurrogate(codePoint)), Character.lowSurrogate(codePoint));
+            }
+        }
+        if (!found[node]) {
+            return null;
+        }
+        // the entry ends here, or at one of the failure nodes
+        while (!terminal[node]) {
+            node = fail[node];
+        }
+        return entries[entryOf[node]];
+    }
+
+    private int indexOf(String s, String entry) {
+        if (!ignoreCase) {
+            return s.indexOf(entry);
+        }
+        for (int i = 0; i <= s.length() - entry.length(); i++) {
+            if (s.regionMatches(true, i, entry, 0, entry.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    //region trie
+
+    private int codePoint(int codePoint) {
+        return ignoreCase ? Character.toLowerCase(Character.toUpperCase(codePoint)) : codePoint;
+    }
+
+    /**
+     * The child of the node for the code point, or {@link #NONE}.
+     */
+    private int step(int node, int codePoint) {
+        if (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+            return child(node, (char) codePoint);
+        }
+        char first = reversed ? Character.lowSurrogate(codePoint) : Character.highSurrogate(codePoint);
+        char second = reversed ? Character.highSurrogate(codePoint) : Character.lowSurrogate(codePoint);
+        int next = child(node, first);
+        return next == NONE ? NONE : child(next, second);
+    }
+
+    /**
+     * The next node of the automaton: the child of the node for the char, or else the child of its failure node, ...
+     */
+    private int follow(int node, char c) {
+        int current = node;
+        while (true) {
+            int next = child(current, c);
+            if (next != NONE) {
+                return next;
+            }
+            if (current == ROOT) {
+                return ROOT;
+            }
+            current = fail[current];
+        }
+    }
+
+    private void buildTrie() {
+        int capacity = 1;
+        for (String entry : entries) {
+            capacity += entry.length();
+        }
+        int tableSize = Integer.highestOneBit(Math.max(4, capacity * 2 - 1)) << 1;
+        keys = new long[tableSize];
+        Arrays.fill(keys, NONE);
+        children = new int[tableSize];
+        terminal = new boolean[capacity];
+        entryOf = new int[capacity];
+        size = 1;
+        for (int e = 0; e < entries.length; e++) {
+            String entry = entries[e];
+            int node = ROOT;
+            String folded = fold(entry);
+            for (int i = 0; i < folded.length(); i++) {
+                char c = folded.charAt(reversed ? folded.length() - 1 - i : i);
+                int next = child(node, c);
+                if (next == NONE) {
+                    next = size++;
+                    put(node, c, next);
+                }
+                node = next;
+            }
+            if (!terminal[node]) {
+                terminal[node] = true;
+                entryOf[node] = e;
+            }
+        }
+    }
+
+    /**
+     * Computes the failure links breadth first, as a node's failure node is always less deep than the node itself.
+     */
+    private void buildFailureLinks() {
+        int[] parent = new int[size];
+        char[] label = new char[size];
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != NONE) {
+                parent[children[slot]] = (int) (keys[slot] >>> 16);
+                label[children[slot]] = (char) keys[slot];
+            }
+        }
+        int[] order = breadthFirst(parent);
+        fail = new int[size];
+        found = new boolean[size];
+        found[ROOT] = terminal[ROOT];
+        for (int i = 1; i < size; i++) {
+            int node = order[i];
+            int failure = ROOT;
+            if (parent[node] != ROOT) {
+                failure = follow(fail[parent[node]], label[node]);
+            }
+            fail[node] = failure;
+            found[node] = terminal[node] || found[failure];
+        }
+    }
+
+    /**
+     * The nodes sorted on their depth.
+     */
+    private int[] breadthFirst(int[] parent) {
+        // nodes are always created after their parent
+        int[] depth = new int[size];
+        int maxDepth = 0;
+        for (int node = 1; node < size; node++) {
+            depth[node] = depth[parent[node]] + 1;
+            maxDepth = Math.max(maxDepth, depth[node]);
+        }
+        int[] start = new int[maxDepth + 2];
+        for (int node = 0; node < size; node++) {
+            start[depth[node] + 1]++;
+        }
+        for (int d = 1; d < start.length; d++) {
+            start[d] += start[d - 1];
+        }
+        int[] order = new int[size];
+        for (int node = 0; node < size; node++) {
+            order[start[depth[node]]++] = node;
+        }
+        return order;
+    }
+
+    private String fold(String entry) {
+        if (!ignoreCase) {
+            return entry;
+        }
+        StringBuilder folded = new StringBuilder(entry.length());
+        entry.codePoints().map(this::codePoint).forEach(folded::appendCodePoint);
+        return folded.toString();
+    }
+
+    private int child(int node, char c) {
+        long key = (long) node << 16 | c;
+        int mask = keys.length - 1;
+        for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return children[slot];
+            }
+            if (keys[slot] == NONE) {
+                return NONE;
+            }
+        }
+    }
+
+    private void put(int node, char c, int child) {
+        long key = (long) node << 16 | c;
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (keys[slot] != NONE) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        children[slot] = child;
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E37_79B9_7F4A_7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    //endregion
+}
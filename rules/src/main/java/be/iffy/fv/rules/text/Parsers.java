@@ -0,0 +1,292 @@
+package be.iffy.fv.rules.text;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.UUID;
+
+/**
+ * Parsers for the conversions of {@link StringRules} that return {@code null} for invalid input instead of throwing.
+ * <p>
+ * They accept exactly the same inputs as the JDK methods they stand in for ({@link Integer#parseInt(String)},
+ * {@link Double#parseDouble(String)}, {@link UUID#fromString(String)}, ...), so rejecting garbage doesn't cost an
+ * exception and its stack trace. The floating point and big number parsers only check the syntax, and leave the
+ * actual conversion of valid input to the JDK.
+ */
+final class Parsers {
+
+    private Parsers() {
+    }
+
+    /**
+     * Same as {@link Integer#parseInt(String)}, or {@code null}.
+     */
+    static Integer parseInt(String s) {
+        int length = s.length();
+        int i = 0;
+        boolean negative = false;
+        if (length > 0 && (s.charAt(0) == '-' || s.charAt(0) == '+')) {
+            negative = s.charAt(0) == '-';
+            i++;
+        }
+        if (i == length) {
+            return null;
+        }
+        // accumulate negatively, Integer.MIN_VALUE has no positive counterpart
+        int limit = negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+        int multmin = limit / 10;
+        int result = 0;
+        for (; i < length; i++) {
+            int digit = Character.digit(s.charAt(i), 10);
+            if (digit < 0 || result < multmin) {
+                return null;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return null;
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    /**
+     * Same as {@link Long#parseLong(String)}, or {@code null}.
+     */
+    static Long parseLong(String s) {
+        int length = s.length();
+        int i = 0;
+        boolean negative = false;
+        if (length > 0 && (s.charAt(0) == '-' || s.charAt(0) == '+')) {
+            negative = s.charAt(0) == '-';
+            i++;
+        }
+        if (i == length) {
+            return null;
+        }
+        // accumulate negatively, Long.MIN_VALUE has no positive counterpart
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multmin = limit / 10;
+        long result = 0;
+        for (; i < length; i++) {
+            int digit = Character.digit(s.charAt(i), 10);
+            if (digit < 0 || result < multmin) {
+                return null;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return null;
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    /**
+     * Same as {@link Double#parseDouble(String)}, or {@code null}.
+     */
+    static Double parseDouble(String s) {
+        return isFloatingPoint(s) ? Double.parseDouble(s) : null;
+    }
+
+    /**
+     * Same as {@link Float#parseFloat(String)}, or {@code null}.
+     */
+    static Float parseFloat(String s) {
+        return isFloatingPoint(s) ? Float.parseFloat(s) : null;
+    }
+
+    /**
+     * Same as {@link BigInteger#BigInteger(String)}, or {@code null}.
+     */
+    static BigInteger parseBigInteger(String s) {
+        int length = s.length();
+        int i = length > 0 && (s.charAt(0) == '-' || s.charAt(0) == '+') ? 1 : 0;
+        if (i == length) {
+            return null;
+        }
+        for (; i < length; i++) {
+            if (Character.digit(s.charAt(i), 10) < 0) {
+                return null;
+            }
+        }
+        return new BigInteger(s);
+    }
+
+    /**
+     * Same as {@link BigDecimal#BigDecimal(String)}, or {@code null}.
+     */
+    static BigDecimal parseBigDecimal(String s) {
+        int length = s.length();
+        int i = length > 0 && (s.charAt(0) == '-' || s.charAt(0) == '+') ? 1 : 0;
+        int digits = 0;
+        boolean point = false;
+        for (; i < length; i++) {
+            char c = s.charAt(i);
+            if (Character.isDigit(c)) {
+                digits++;
+            } else if (c == '.' && !point) {
+                point = true;
+            } else {
+                break;
+            }
+        }
+        if (digits == 0) {
+            return null;
+        }
+        if (i < length && (s.charAt(i) == 'e' || s.charAt(i) == 'E')) {
+            i = skipSign(s, i + 1, length);
+            int exponentStart = i;
+            while (i < length && Character.digit(s.charAt(i), 10) >= 0) {
+                i++;
+            }
+            if (i == exponentStart) {
+                return null;
+            }
+        }
+        if (i != length) {
+            return null;
+        }
+        try {
+            return new BigDecimal(s);
+        } catch (NumberFormatException e) {
+            // the syntax is fine, but the exponent or the resulting scale doesn't fit in an int
+            return null;
+        }
+    }
+
+    /**
+     * Same as {@link UUID#fromString(String)}, or {@code null}.
+     * <p>
+     * Just like {@link UUID#fromString(String)}, this accepts any 5 dash separated groups of hex digits, of up to
+     * 36 characters in total, not only the canonical {@code 8-4-4-4-12} form.
+     */
+    static UUID parseUUID(String s) {
+        int length = s.length();
+        if (length > 36) {
+            return null;
+        }
+        int dash1 = s.indexOf('-');
+        int dash2 = s.indexOf('-', dash1 + 1);
+        int dash3 = s.indexOf('-', dash2 + 1);
+        int dash4 = s.indexOf('-', dash3 + 1);
+        int dash5 = s.indexOf('-', dash4 + 1);
+        if (dash4 < 0 || dash5 >= 0) {
+            return null;
+        }
+        long group1 = parseHexGroup(s, 0, dash1);
+        long group2 = parseHexGroup(s, dash1 + 1, dash2);
+        long group3 = parseHexGroup(s, dash2 + 1, dash3);
+        long group4 = parseHexGroup(s, dash3 + 1, dash4);
+        long group5 = parseHexGroup(s, dash4 + 1, length);
+        if ((group1 | group2 | group3 | group4 | group5) < 0) {
+            return null;
+        }
+        return new UUID(
+            (group1 & 0xffffffffL) << 32 | (group2 & 0xffffL) << 16 | group3 & 0xffffL,
+            (group4 & 0xffffL) << 48 | group5 & 0xffffffffffffL
+        );
+    }
+
+    /**
+     * Whether the string is {@code true}, {@code 1}, {@code yes} or {@code y}, ignoring case.
+     */
+    static boolean isTrue(String s) {
+        return switch (s.length()) {
+            case 1 -> s.charAt(0) == '1' || s.equalsIgnoreCase("Y");
+            case 3 -> s.equalsIgnoreCase("YES");
+            case 4 -> s.equalsIgnoreCase("TRUE");
+            default -> false;
+        };
+    }
+
+    /**
+     * A group of a UUID, as parsed by {@link Long#parseLong(CharSequence, int, int, int)} in radix 16.
+     * The group can't contain a minus sign, so a negative result signals an invalid group.
+     */
+    private static long parseHexGroup(String s, int begin, int end) {
+        int i = begin < end && s.charAt(begin) == '+' ? begin + 1 : begin;
+        if (i == end) {
+            return -1;
+        }
+        long result = 0;
+        for (; i < end; i++) {
+            int digit = Character.digit(s.charAt(i), 16);
+            if (digit < 0 || result > (Long.MAX_VALUE - digit) / 16) {
+                return -1;
+            }
+            result = result * 16 + digit;
+        }
+        return result;
+    }
+
+    /**
+     * The grammar of {@link Double#valueOf(String)}: surrounding whitespace, an optional sign and either {@code NaN},
+     * {@code Infinity}, a hexadecimal or a decimal number with an optional {@code f}, {@code F}, {@code d} or
+     * {@code D} suffix.
+     */
+    private static boolean isFloatingPoint(String s) {
+        int begin = 0;
+        int end = s.length();
+        while (begin < end && s.charAt(begin) <= ' ') {
+            begin++;
+        }
+        while (end > begin && s.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        int i = skipSign(s, begin, end);
+        if (i == end) {
+            return false;
+        }
+        char first = s.charAt(i);
+        if (first == 'N') {
+            return end - i == 3 && s.startsWith("NaN", i);
+        }
+        if (first == 'I') {
+            return end - i == 8 && s.startsWith("Infinity", i);
+        }
+        boolean hex = first == '0' && i + 1 < end && (s.charAt(i + 1) == 'x' || s.charAt(i + 1) == 'X');
+        if (hex) {
+            i += 2;
+        }
+        int digits = 0;
+        boolean point = false;
+        for (; i < end; i++) {
+            char c = s.charAt(i);
+            if (hex ? Character.digit(c, 16) >= 0 && c < 128 : c >= '0' && c <= '9') {
+                digits++;
+            } else if (c == '.' && !point) {
+                point = true;
+            } else {
+                break;
+            }
+        }
+        if (digits == 0) {
+            return false;
+        }
+        // the exponent is mandatory for hexadecimal numbers
+        boolean exponent = i < end && (hex
+            ? s.charAt(i) == 'p' || s.charAt(i) == 'P'
+            : s.charAt(i) == 'e' || s.charAt(i) == 'E');
+        if (exponent) {
+            i = skipSign(s, i + 1, end);
+            int exponentStart = i;
+            while (i < end && s.charAt(i) >= '0' && s.charAt(i) <= '9') {
+                i++;
+            }
+            if (i == exponentStart) {
+                return false;
+            }
+        } else if (hex) {
+            return false;
+        }
+        if (i < end && i == end - 1) {
+            char suffix = s.charAt(i);
+            return suffix == 'f' || suffix == 'F' || suffix == 'd' || suffix == 'D';
+        }
+        return i == end;
+    }
+
+    private static int skipSign(String s, int i, int end) {
+        return i < end && (s.charAt(i) == '-' || s.charAt(i) == '+') ? i + 1 : i;
+    }
+}
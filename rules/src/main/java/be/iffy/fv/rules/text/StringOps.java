@@ -4,12 +4,9 @@ import be.iffy.fv.MappingRule;
 import be.iffy.fv.Transformation;
 
 import java.text.Normalizer;
-import java.util.Arrays;
 import java.util.Locale;
 import java.util.Objects;
-import java.util.function.Function;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 public final class StringOps {
 
@@ -23,7 +20,7 @@ public final class StringOps {
      * Example: {@code "  hello  " ->  "hello"}.
      */
     public Transformation<String> trim() {
-        return nullSafe(String::trim);
+        return StringPipeline.of(StringOps::trim);
     }
 
     /**
@@ -32,7 +29,7 @@ public final class StringOps {
      * Example: {@code "hello\nworld" -> "hello world"}.
      */
     public Transformation<String> stripNewlines() {
-        return nullSafe(s -> s.replaceAll("\\R", " ").trim());
+        return StringPipeline.of(StringOps::newlinesToSpaces, StringOps::trim);
     }
 
     /**
@@ -42,8 +39,7 @@ public final class StringOps {
      * Example: {@code " a \n\t b" -> " a b"}.
      */
     public Transformation<String> collapseWhitespace() {
-        // Collapse any consecutive whitespace (including newlines and tabs) to a single space
-        return nullSafe(s -> s.replaceAll("\\s+", " "));
+        return StringPipeline.of(StringOps::collapseWhitespace);
     }
 
     /**
@@ -69,9 +65,8 @@ public final class StringOps {
      * @see CharCategory
      */
     public Transformation<String> keep(CharCategory... categories) {
-        String joined = Arrays.stream(categories).map(c -> c.fragment).collect(Collectors.joining());
-        Pattern pattern = Pattern.compile("[^" + joined + "]+");
-        return nullSafe(s -> pattern.matcher(s).replaceAll(""));
+        CharMatcher matcher = CharMatcher.anyOf(categories);
+        return StringPipeline.of(buffer -> filter(buffer, matcher, true));
     }
 
     /**
@@ -87,9 +82,8 @@ public final class StringOps {
      * @see CharCategory
      */
     public Transformation<String> strip(CharCategory... categories) {
-        String joined = Arrays.stream(categories).map(c -> c.fragment).collect(Collectors.joining());
-        Pattern pattern = Pattern.compile("[" + joined + "]+");
-        return nullSafe(s -> pattern.matcher(s).replaceAll(""));
+        CharMatcher matcher = CharMatcher.anyOf(categories);
+        return StringPipeline.of(buffer -> filter(buffer, matcher, false));
     }
 
     /**
@@ -98,7 +92,7 @@ public final class StringOps {
      * Example: {@code "HeLLo" -> "hello"}.
      */
     public Transformation<String> toLowercase() {
-        return nullSafe(s -> s.toLowerCase(Locale.ROOT));
+        return toLowercase(Locale.ROOT);
     }
 
     /**
@@ -107,7 +101,8 @@ public final class StringOps {
      * Example: {@code "HeLLo" -> "hello"} (actual output may depend on the locale).
      */
     public Transformation<String> toLowercase(Locale locale) {
-        return nullSafe(s -> s.toLowerCase(locale));
+        boolean asciiSafe = hasAsciiCaseMapping(locale);
+        return StringPipeline.of(buffer -> changeCase(buffer, locale, asciiSafe, 'A', 'Z', 'a' - 'A'));
     }
 
     /**
@@ -116,7 +111,7 @@ public final class StringOps {
      * Example: {@code "HeLLo" -> "HELLO"}.
      */
     public Transformation<String> toUppercase() {
-        return nullSafe(s -> s.toUpperCase(Locale.ROOT));
+        return toUppercase(Locale.ROOT);
     }
 
     /**
@@ -125,14 +120,15 @@ public final class StringOps {
      * Example: {@code "HeLLo" -> "HELLO"} (actual output may depend on the locale).
      */
     public Transformation<String> toUppercase(Locale locale) {
-        return nullSafe(s -> s.toUpperCase(locale));
+        boolean asciiSafe = hasAsciiCaseMapping(locale);
+        return StringPipeline.of(buffer -> changeCase(buffer, locale, asciiSafe, 'a', 'z', 'A' - 'a'));
     }
 
     /**
      * Removes all occurrences of the given characters from the input.
      * <p>
-     * The set of characters to remove is taken as-is (no regex), but internally escaped
-     * to form a character class. If {@code chars} is {@code null} or empty, the input is returned unchanged.
+     * The set of characters to remove is taken as-is (no regex). If {@code chars} is {@code null} or empty, the input
+     * is returned unchanged.
      * <p>
      * Example: {@code removeCharacters("-").apply("a-b-c") -> "abc"}.
      *
@@ -141,25 +137,10 @@ public final class StringOps {
     public Transformation<String> removeCharacters(String chars) {
         final String toRemove = Objects.requireNonNullElse(chars, "");
         if (toRemove.isEmpty()) {
-            return input -> input;
+            return StringPipeline.of();
         }
-        // Build a character class from the provided characters, escaping regex metacharacters
-        final String characterClass = toRemove
-                .chars()
-                .mapToObj(c -> {
-                    char ch = (char) c;
-                    if (ch == '-' || ch == ']' || ch == '^' || ch == '\\') {
-                        return "\\" + ch;
-                    }
-                    return String.valueOf(ch);
-                })
-                .reduce(new StringBuilder("["), StringBuilder::append, StringBuilder::append)
-                .append("]+")
-                .toString();
-
-        Pattern pattern = Pattern.compile(characterClass);
-
-        return input -> input != null ? pattern.matcher(input).replaceAll("") : null;
+        final CharMatcher matcher = CharMatcher.anyOf(toRemove);
+        return StringPipeline.of(buffer -> filter(buffer, matcher, false));
     }
 
     /**
@@ -178,21 +159,14 @@ public final class StringOps {
         final String rx = Objects.requireNonNullElse(regex, "");
         final String repl = Objects.requireNonNullElse(replacement, "");
         final Pattern pattern = Pattern.compile(rx);
-        return input -> {
-            if (input != null) {
-                return pattern.matcher(input).replaceAll(repl);
-            } else {
-                return null;
-            }
-        };
+        return StringPipeline.ofFunction(s -> pattern.matcher(s).replaceAll(repl));
     }
 
     /**
      * Keeps only the characters that are present in the supplied {@code allowed} set and removes all others.
      * <p>
-     * The {@code allowed} string is treated as a literal set of characters (not a regex). Internally, it is escaped
-     * to form a character class. If {@code allowed} is {@code null} or empty, the result will always be the empty
-     * string for non-null inputs.
+     * The {@code allowed} string is treated as a literal set of characters (not a regex). If {@code allowed} is
+     * {@code null} or empty, the result will always be the empty string for non-null inputs.
      * <p>
      * Examples:
      * <ul>
@@ -208,49 +182,29 @@ public final class StringOps {
 
         if (toKeep.isEmpty()) {
             // For any non-null input, return empty string
-            return input -> input != null ? "" : null;
+            return StringPipeline.of(buffer -> buffer.setLength(0));
         }
 
-        // Build a safe character class content from the provided characters
-        final StringBuilder allowedClassContent = new StringBuilder();
-        toKeep.chars().forEach(c -> {
-            char ch = (char) c;
-            // Escape regex metacharacters inside a character class: - ] ^ \ [
-            if (ch == '-' || ch == ']' || ch == '^' || ch == '\\' || ch == '[') {
-                allowedClassContent.append('\\').append(ch);
-            } else {
-                allowedClassContent.append(ch);
-            }
-        });
-
-        // We want to remove everything NOT in the allowed class
-        final Pattern notAllowed = Pattern.compile("[^" + allowedClassContent + "]+");
-
-        return input -> {
-            if (input != null) {
-                return notAllowed.matcher(input).replaceAll("");
-            } else {
-                return null;
-            }
-        };
+        final CharMatcher matcher = CharMatcher.anyOf(toKeep);
+        return StringPipeline.of(buffer -> filter(buffer, matcher, true));
     }
 
     /**
      * Removes diacritical marks (accents/combining marks) from the input while preserving base characters.
      * <p>
      * Implementation detail: normalizes to {@link java.text.Normalizer.Form#NFD}, removes all combining marks (\p{M}+), then
-     * re-normalizes to {@link java.text.Normalizer.Form#NFC}.
+     * re-normalizes to {@link java.text.Normalizer.Form#NFC}. ASCII input has no diacritics and is returned as is.
      * <p>
      * Example: {@code "Café naïve" -> "Cafe naive"}.
      */
     public Transformation<String> stripDiacritics() {
-        return nullSafe(s -> {
-            String nfd = Normalizer.normalize(s, Normalizer.Form.NFD);
-            String stripped = nfd.replaceAll("\\p{M}+", "");
-            return Normalizer.normalize(stripped, Normalizer.Form.NFC);
-        });
+        return StringPipeline.of(StringOps::stripDiacritics);
     }
 
+    // \p{Cc}: control chars, and zero-width/formatting characters
+    private static final CharMatcher CONTROL_CHARS =
+        CharMatcher.ofTypes(Character.CONTROL).or(CharMatcher.anyOf("\u200B\u200C\u200D\u2060\uFEFF"));
+
     /**
      * Removes control characters and common zero-width/format characters from the input.
      * <p>
@@ -262,8 +216,7 @@ public final class StringOps {
      * Note: This will also remove line breaks since they are control characters.
      */
     public Transformation<String> stripControlChars() {
-        // \p{Cc}: control chars. Additionally strip zero-width/formatting characters.
-        return nullSafe(s -> s.replaceAll("[\\p{Cc}\\u200B-\\u200D\\u2060\\uFEFF]+", ""));
+        return StringPipeline.of(buffer -> filter(buffer, CONTROL_CHARS, false));
     }
 
     /**
@@ -280,10 +233,10 @@ public final class StringOps {
         if (maxLen < 0) {
             throw new IllegalArgumentException("maxLen must be >= 0");
         }
-        return nullSafe(s -> {
-            if (s.length() <= maxLen) return s;
-            int cut = safeCutIndex(s, maxLen);
-            return s.substring(0, cut);
+        return StringPipeline.of(buffer -> {
+            if (buffer.length() > maxLen) {
+                buffer.retain(0, safeCutIndex(buffer, maxLen));
+            }
         });
     }
 
@@ -307,7 +260,7 @@ public final class StringOps {
         }
         final String ellipsis = "…";
         final String asciiDots = "...";
-        return nullSafe(s -> {
+        return StringPipeline.ofFunction(s -> {
             if (s.length() <= maxLen) return s;
 
             switch(maxLen) {
@@ -347,7 +300,7 @@ public final class StringOps {
         });
     }
 
-    private int safeCutIndex(String s, int maxUnits) {
+    private static int safeCutIndex(CharSequence s, int maxUnits) {
         if (maxUnits <= 0) return 0;
         int len = s.length();
         int cut = Math.min(maxUnits, len);
@@ -362,13 +315,154 @@ public final class StringOps {
         return cut;
     }
 
-    private <T> Transformation<T> nullSafe(Function<T,T> op) {
-        return input -> {
-            if (input != null) {
-                return op.apply(input);
+    //region pipeline steps
+
+    private static void trim(StringPipeline.Buffer buffer) {
+        // same as String.trim()
+        int length = buffer.length();
+        int begin = 0;
+        int end = length;
+        while (begin < end && buffer.charAt(begin) <= ' ') {
+            begin++;
+        }
+        while (end > begin && buffer.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (begin > 0 || end < length) {
+            buffer.retain(begin, end);
+        }
+    }
+
+    /**
+     * Replaces every line break ({@code \R}, so {@code \r\n} counts as one) with a space.
+     */
+    private static void newlinesToSpaces(StringPipeline.Buffer buffer) {
+        int length = buffer.length();
+        int i = 0;
+        while (i < length && !isLineBreak(buffer.charAt(i))) {
+            i++;
+        }
+        if (i == length) {
+            return;
+        }
+        char[] chars = buffer.array();
+        int write = i;
+        for (; i < length; i++) {
+            char c = chars[i];
+            if (c == '\r' && i + 1 < length && chars[i + 1] == '\n') {
+                i++;
+            }
+            chars[write++] = isLineBreak(c) ? ' ' : c;
+        }
+        buffer.setLength(write);
+    }
+
+    /**
+     * Replaces every run of whitespace ({@code \s+}) with a single space.
+     */
+    private static void collapseWhitespace(StringPipeline.Buffer buffer) {
+        int length = buffer.length();
+        int i = 0;
+        while (i < length) {
+            char c = buffer.charAt(i);
+            boolean collapses = isWhitespace(c) && (c != ' ' || (i + 1 < length && isWhitespace(buffer.charAt(i + 1))));
+            if (collapses) {
+                break;
+            }
+            i++;
+        }
+        if (i == length) {
+            return;
+        }
+        char[] chars = buffer.array();
+        int write = i;
+        while (i < length) {
+            if (isWhitespace(chars[i])) {
+                chars[write++] = ' ';
+                while (i < length && isWhitespace(chars[i])) {
+                    i++;
+                }
             } else {
-                return null;
+                chars[write++] = chars[i++];
+            }
+        }
+        buffer.setLength(write);
+    }
+
+    private static void filter(StringPipeline.Buffer buffer, CharMatcher matcher, boolean keep) {
+        int start = matcher.indexIn(buffer, !keep);
+        if (start < buffer.length()) {
+            buffer.setLength(matcher.filter(buffer.array(), start, buffer.length(), keep));
+        }
+    }
+
+    /**
+     * Maps the ASCII letters from {@code first} to {@code last} by adding {@code shift} in place. Text with other
+     * characters, or a locale with its own rules for ASCII letters, is left to {@link String#toLowerCase(Locale)} or
+     * {@link String#toUpperCase(Locale)}.
+     */
+    private static void changeCase(StringPipeline.Buffer buffer, Locale locale, boolean asciiSafe, char first, char last, int shift) {
+        int length = buffer.length();
+        int firstChange = -1;
+        for (int i = 0; i < length; i++) {
+            char c = buffer.charAt(i);
+            if (c >= 128 || !asciiSafe) {
+                String current = buffer.toString();
+                String changed = shift > 0 ? current.toLowerCase(locale) : current.toUpperCase(locale);
+                if (!changed.equals(current)) {
+                    buffer.set(changed);
+                }
+                return;
+            }
+            if (firstChange < 0 && c >= first && c <= last) {
+                firstChange = i;
+            }
+        }
+        if (firstChange < 0) {
+            return;
+        }
+        char[] chars = buffer.array();
+        for (int i = firstChange; i < length; i++) {
+            if (chars[i] >= first && chars[i] <= last) {
+                chars[i] = (char) (chars[i] + shift);
             }
-        };
+        }
+    }
+
+    /**
+     * Whether ASCII letters map to their ASCII counterpart in the locale, which isn't the case for the dotted and
+     * dotless i in Turkish and Azerbaijani. Lithuanian only differs for text that isn't ASCII.
+     */
+    private static boolean hasAsciiCaseMapping(Locale locale) {
+        String language = locale.getLanguage();
+        return !language.equals("tr") && !language.equals("az");
+    }
+
+    private static void stripDiacritics(StringPipeline.Buffer buffer) {
+        int length = buffer.length();
+        int i = 0;
+        while (i < length && buffer.charAt(i) < 128) {
+            i++;
+        }
+        if (i == length) {
+            return;
+        }
+        String current = buffer.toString();
+        String nfd = Normalizer.normalize(current, Normalizer.Form.NFD);
+        String stripped = CharCategory.MARKS.matcher.removeFrom(nfd);
+        String result = Normalizer.normalize(stripped, Normalizer.Form.NFC);
+        if (!result.equals(current)) {
+            buffer.set(result);
+        }
+    }
+
+    private static boolean isLineBreak(char c) {
+        return (c >= '\n' && c <= '\r') || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || (c >= '\t' && c <= '\r');
     }
+
+    //endregion
 }
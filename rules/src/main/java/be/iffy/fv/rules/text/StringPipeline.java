@@ -0,0 +1,148 @@
+package be.iffy.fv.rules.text;
+
+import be.iffy.fv.Transformation;
+
+import java.util.Arrays;
+import java.util.function.UnaryOperator;
+
+/**
+ * The {@link Transformation}s of {@link StringOps}.
+ * <p>
+ * A pipeline is a list of steps that edit a shared {@link Buffer}. Chaining two pipelines with
+ * {@link #andThen(Transformation)}, and so with {@link Transformation#sequence}, concatenates their steps, so
+ * {@code sequence(trim(), collapseWhitespace(), toLowercase())} copies the input into a char array once and
+ * edits it in place, instead of creating a {@link String} per step. When nothing changed, the input itself is
+ * returned.
+ */
+final class StringPipeline implements Transformation<String> {
+
+    /**
+     * A single transformation, editing the buffer in place.
+     */
+    @FunctionalInterface
+    interface Step {
+        void apply(Buffer buffer);
+    }
+
+    private final Step[] steps;
+
+    private StringPipeline(Step[] steps) {
+        this.steps = steps;
+    }
+
+    static StringPipeline of(Step... steps) {
+        return new StringPipeline(steps.clone());
+    }
+
+    /**
+     * A pipeline of a transformation that works on strings instead of on the buffer, for the transformations that
+     * can't be done in place. The function should return its argument when it doesn't change anything.
+     */
+    static StringPipeline ofFunction(UnaryOperator<String> function) {
+        return of(buffer -> {
+            String current = buffer.toString();
+            String transformed = function.apply(current);
+            if (!transformed.equals(current)) {
+                buffer.set(transformed);
+            }
+        });
+    }
+
+    @Override
+    public String apply(String value) {
+        if (value == null) {
+            return null;
+        }
+        Buffer buffer = new Buffer(value);
+        for (Step step : steps) {
+            step.apply(buffer);
+        }
+        return buffer.result();
+    }
+
+    @Override
+    public Transformation<String> andThen(Transformation<String> after) {
+        if (after instanceof StringPipeline other) {
+            Step[] fused = Arrays.copyOf(steps, steps.length + other.steps.length);
+            System.arraycopy(other.steps, 0, fused, steps.length, other.steps.length);
+            return new StringPipeline(fused);
+        }
+        return Transformation.super.andThen(after);
+    }
+
+    /**
+     * The text being transformed, in a char array that is copied from the input once and then edited in place.
+     */
+    static final class Buffer implements CharSequence {
+
+        private final String input;
+        private char[] chars;
+        private int length;
+
+        Buffer(String input) {
+            this.input = input;
+            this.chars = input.toCharArray();
+            this.length = chars.length;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return chars[index];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new String(chars, start, end - start);
+        }
+
+        /**
+         * The chars, to edit in place. Edits can only shrink the text, see {@link #setLength(int)}.
+         */
+        char[] array() {
+            return chars;
+        }
+
+        /**
+         * Cuts the text to the given length.
+         */
+        void setLength(int length) {
+            this.length = length;
+        }
+
+        /**
+         * Only keeps the chars from {@code begin} to {@code end}.
+         */
+        void retain(int begin, int end) {
+            System.arraycopy(chars, begin, chars, 0, end - begin);
+            length = end - begin;
+        }
+
+        /**
+         * Replaces the text.
+         */
+        void set(String text) {
+            chars = text.toCharArray();
+            length = chars.length;
+        }
+
+        /**
+         * The text, as the input itself when it is unchanged.
+         */
+        String result() {
+            if (length == input.length() && input.contentEquals(this)) {
+                return input;
+            }
+            return toString();
+        }
+
+        @Override
+        public String toString() {
+            return new String(chars, 0, length);
+        }
+    }
+}
@@ -4,10 +4,9 @@ import be.iffy.fv.*;
 import be.iffy.fv.rules.ComparableRules;
 import be.iffy.fv.rules.IObjectRules;
 import io.vavr.collection.HashMap;
-import io.vavr.collection.HashSet;
 import io.vavr.collection.List;
 import io.vavr.collection.Set;
-import io.vavr.control.Try;
+import io.vavr.collection.SortedSet;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -16,14 +15,16 @@ import java.net.URL;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 /**
  * Validation rules for {@link String} values.
@@ -50,7 +51,7 @@ public final class StringRules implements ComparableRules<String>, IObjectRules<
      * @return a {@link MappingRule} that transforms a String into an {@link Integer}.
      */
     public MappingRule<String, Integer> asInteger() {
-        return MappingRule.catching(Integer::parseInt, (input, e) -> ErrorMessage.of("must.be.integer", "value", input));
+        return parsing(Parsers::parseInt, "must.be.integer");
     }
 
     /**
@@ -64,7 +65,7 @@ public final class StringRules implements ComparableRules<String>, IObjectRules<
      * </ul>
      */
     public MappingRule<String, Long> asLong() {
-        return MappingRule.catching(Long::parseLong, (input, e) -> ErrorMessage.of("must.be.long", "value", input));
+        return parsing(Parsers::parseLong, "must.be.long");
     }
 
     /**
@@ -78,7 +79,7 @@ public final class StringRules implements ComparableRules<String>, IObjectRules<
      * </ul>
      */
     public MappingRule<String, Double> asDouble() {
-        return MappingRule.catching(Double::parseDouble, (input, e) -> ErrorMessage.of("must.be.double", "value", input));
+        return parsing(Parsers::parseDouble, "must.be.double");
     }
 
     /**
@@ -92,7 +93,7 @@ public final class StringRules implements ComparableRules<String>, IObjectRules<
      * </ul>
      */
     public MappingRule<String, Float> asFloat() {
-        return MappingRule.catching(Float::parseFloat, (input, e) -> ErrorMessage.of("must.be.float", "value", input));
+        return parsing(Parsers::parseFloat, "must.be.float");
     }
 
     /**
@@ -106,7 +107,7 @@ public final class StringRules implements ComparableRules<String>, IObjectRules<
      * </ul>
      */
     public MappingRule<String, BigInteger> asBigInteger() {
-        return MappingRule.catching(BigInteger::new, (input, e) -> ErrorMessage.of("must.be.biginteger", "value", input));
+        return parsing(Parsers::parseBigInteger, "must.be.biginteger");
     }
 
     /**
@@ -120,11 +121,9 @@ public final class StringRules implements ComparableRules<String>, IObjectRules<
      * </ul>
      */
     public MappingRule<String, BigDecimal> asBigDecimal() {
-        return MappingRule.catching(BigDecimal::new, (input, e) -> ErrorMessage.of("must.be.bigdecimal", "value", input));
+        return parsing(Parsers::parseBigDecimal, "must.be.bigdecimal");
     }
 
-    static final Set<String> TRUES = HashSet.of("TRUE", "1", "YES", "Y");
-
     /**
      * Converts a String into a boolean. Doesn't have any fail conditions.
      * Will consider "true","1","YES","Y" to be true values, anything else is considered false.
@@ -135,7 +134,7 @@ public final class StringRules implements ComparableRules<String>, IObjectRules<
      * </ul>
      */
     public MappingRule<String, Boolean> asBoolean() {
-        return MappingRule.catching(input -> TRUES.contains(input.toUpperCase()), "must.be.boolean");
+        return input -> input == null ? Validation.Invalid.notNull() : Validation.valid(Parsers.isTrue(input));
     }
 
     /**
@@ -149,7 +148,28 @@ public final class StringRules implements ComparableRules<String>, IObjectRules<
      * </ul>
      */
     public MappingRule<String, UUID> asUUID() {
-        return MappingRule.catching(UUID::fromString, (input, e) -> ErrorMessage.of("must.be.uuid", "value", input));
+        return parsing(Parsers::parseUUID, "must.be.uuid");
+    }
+
+    /**
+     * A conversion that fails with the given error key, and the input as {@code value} parameter, when the parser
+     * returns {@code null}. Unlike {@link MappingRule#catching(Function, BiFunction)}, rejecting an input never costs
+     * an exception.
+     */
+    private static <R> MappingRule<String, R> parsing(Function<String, R> parser, String errorKey) {
+        return parsing(parser, input -> ErrorMessage.of(errorKey, "value", input));
+    }
+
+    private static <R> MappingRule<String, R> parsing(Function<String, R> parser, Function<String, ErrorMessage> errorMessageMaker) {
+        return input -> {
+            if (input == null) {
+                return Validation.Invalid.notNull();
+            }
+            R result = parser.apply(input);
+            return result == null
+                ? Validation.invalid(errorMessageMaker.apply(input))
+                : Validation.valid(result);
+        };
     }
 
     /**
@@ -163,7 +183,7 @@ public final class StringRules implements ComparableRules<String>, IObjectRules<
      * </ul>
      */
     public MappingRule<String, URL> asURL() {
-        return MappingRule.fromTry(input -> Try.of(() -> URI.create(input).toURL()), (input, e) -> ErrorMessage.of("must.be.url", "value", input));
+        return parsing(UriParsers::parseURL, "must.be.url");
     }
 
     /**
@@ -181,10 +201,34 @@ public final class StringRules implements ComparableRules<String>, IObjectRules<
      * @see DateTimeFormatter#ofPattern(String)
      */
     public MappingRule<String, LocalDateTime> asLocalDateTime(String format) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(format);
-        return MappingRule.catching(
-            input -> LocalDateTime.parse(input, formatter),
-            (input, exception) -> ErrorMessage.of("must.be.localdatetime", HashMap.of("value", input, "format", format))
+        DateTimeFormatter[] formatters = {DateTimeFormatter.ofPattern(format)};
+        return parsing(
+            input -> TemporalParsers.parse(input, formatters, LocalDateTime::from),
+            input -> ErrorMessage.of("must.be.localdatetime", HashMap.of("value", input, "format", format))
+        );
+    }
+
+    /**
+     * Fails if the string is not a valid LocalDateTime in any of the specified formats, which are tried in order.
+     * <p>
+     * Error key: {@code must.be.localdatetime}
+     * <p>
+     * Parameters:
+     * <ul>
+     *     <li>{@code value}: the input string ({@link String})</li>
+     *     <li>{@code formats}: the accepted formats ({@link List} of {@link String})</li>
+     * </ul>
+     *
+     * @param format       the first accepted date time format.
+     * @param otherFormats the other accepted date time formats.
+     * @see DateTimeFormatter#ofPattern(String)
+     */
+    public MappingRule<String, LocalDateTime> asLocalDateTime(String format, String... otherFormats) {
+        List<String> formats = List.of(otherFormats).prepend(format);
+        DateTimeFormatter[] formatters = formats.map(DateTimeFormatter::ofPattern).toJavaArray(DateTimeFormatter[]::new);
+        return parsing(
+            input -> TemporalParsers.parse(input, formatters, LocalDateTime::from),
+            input -> ErrorMessage.of("must.be.localdatetime", HashMap.of("value", input, "formats", formats))
         );
     }
 
@@ -202,10 +246,7 @@ public final class StringRules implements ComparableRules<String>, IObjectRules<
      * @see LocalDateTime#parse(CharSequence)
      */
     public MappingRule<String, LocalDateTime> asLocalDateTime() {
-        return MappingRule.catching(
-            LocalDateTime::parse,
-            (input, exception) -> ErrorMessage.of("must.be.localdatetime", "value", input)
-        );
+        return parsing(TemporalParsers::parseLocalDateTime, "must.be.localdatetime");
     }
 
     /**
@@ -223,10 +264,35 @@ public final class StringRules implements ComparableRules<String>, IObjectRules<
      * @see DateTimeFormatter#ofPattern(String)
      */
     public MappingRule<String, LocalDate> asLocalDate(String format) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(format);
-        return MappingRule.catching(
-            input -> LocalDate.parse(input, formatter),
-            (input, exception) -> ErrorMessage.of("must.be.localdate", HashMap.of("value", input, "format", format))
+        DateTimeFormatter[] formatters = {DateTimeFormatter.ofPattern(format)};
+        return parsing(
+            input -> TemporalParsers.parse(input, formatters, LocalDate::from),
+            input -> ErrorMessage.of("must.be.localdate", HashMap.of("value", input, "format", format))
+        );
+    }
+
+    /**
+     * Fails if the string is not a valid LocalDate in any of the specified formats, which are tried in order.
+     * Useful for sources that mix formats, e.g. {@code asLocalDate("yyyy-MM-dd", "dd/MM/yyyy")}.
+     * <p>
+     * Error key: {@code must.be.localdate}
+     * <p>
+     * Parameters:
+     * <ul>
+     *     <li>{@code value}: the input string ({@link String})</li>
+     *     <li>{@code formats}: the accepted formats ({@link List} of {@link String})</li>
+     * </ul>
+     *
+     * @param format       the first accepted date format.
+     * @param otherFormats the other accepted date formats.
+     * @see DateTimeFormatter#ofPattern(String)
+     */
+    public MappingRule<String, LocalDate> asLocalDate(String format, String... otherFormats) {
+        List<String> formats = List.of(otherFormats).prepend(format);
+        DateTimeFormatter[] formatters = formats.map(DateTimeFormatter::ofPattern).toJavaArray(DateTimeFormatter[]::new);
+        return parsing(
+            input -> TemporalParsers.parse(input, formatters, LocalDate::from),
+            input -> ErrorMessage.of("must.be.localdate", HashMap.of("value", input, "formats", formats))
         );
     }
 
@@ -244,10 +310,7 @@ public final class StringRules implements ComparableRules<String>, IObjectRules<
      * @see LocalDateTime#parse(CharSequence)
      */
     public MappingRule<String, LocalDate> asLocalDate() {
-        return MappingRule.catching(
-            LocalDate::parse,
-            (input, exception) -> ErrorMessage.of("must.be.localdate", "value", input)
-        );
+        return parsing(TemporalParsers::parseLocalDate, "must.be.localdate");
     }
 
     /**
@@ -265,10 +328,10 @@ public final class StringRules implements ComparableRules<String>, IObjectRules<
      * @see DateTimeFormatter#ofPattern(String)
      */
     public MappingRule<String, Instant> asInstant(String format) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(format).withZone(java.time.ZoneOffset.UTC);
-        return MappingRule.catching(
-            input -> Instant.from(formatter.parse(input)),
-            (input, exception) -> ErrorMessage.of("must.be.instant", HashMap.of("value", input, "format", format))
+        DateTimeFormatter[] formatters = {DateTimeFormatter.ofPattern(format).withZone(java.time.ZoneOffset.UTC)};
+        return parsing(
+            input -> TemporalParsers.parse(input, formatters, Instant::from),
+            input -> ErrorMessage.of("must.be.instant", HashMap.of("value", input, "format", format))
         );
     }
 
@@ -286,10 +349,24 @@ public final class StringRules implements ComparableRules<String>, IObjectRules<
      * @see LocalDateTime#parse(CharSequence)
      */
     public MappingRule<String, Instant> asInstant() {
-        return MappingRule.catching(
-            Instant::parse,
-            (input, exception) -> ErrorMessage.of("must.be.instant", "value", input)
-        );
+        return parsing(TemporalParsers::parseInstant, "must.be.instant");
+    }
+
+    /**
+     * Fails if the string is not a valid OffsetDateTime in ISO format (e.g. 2011-12-03T10:15:30+01:00)
+     * <p>
+     * Error key: {@code must.be.offsetdatetime}
+     * <p>
+     * Parameters:
+     * <ul>
+     *     <li>{@code value}: the input string ({@link String})</li>
+     * </ul>
+     *
+     * @see java.time.format.DateTimeFormatter#ISO_OFFSET_DATE_TIME
+     * @see OffsetDateTime#parse(CharSequence)
+     */
+    public MappingRule<String, OffsetDateTime> asOffsetDateTime() {
+        return parsing(TemporalParsers::parseOffsetDateTime, "must.be.offsetdatetime");
     }
 
     /**
@@ -303,10 +380,7 @@ public final class StringRules implements ComparableRules<String>, IObjectRules<
      * </ul>
      */
     public MappingRule<String, URI> asURI() {
-        return MappingRule.catching(
-            URI::create,
-            (input, exception) -> ErrorMessage.of("must.be.uri", "value", input)
-        );
+        return parsing(UriParsers::parseURI, "must.be.uri");
     }
 
     /**
@@ -322,12 +396,14 @@ public final class StringRules implements ComparableRules<String>, IObjectRules<
      */
     public <E extends Enum<E>> MappingRule<String, E> asEnum(Class<E> enumClass) {
         Objects.requireNonNull(enumClass, "enumClass must not be null");
+        E[] constants = enumClass.getEnumConstants();
+        StringSet names = StringSet.of(List.of(constants).map(Enum::name));
         return MappingRule.of(s -> {
-                try {
-                    return Validation.valid(Enum.valueOf(enumClass, s));
-                } catch (IllegalArgumentException e) {
+                int index = names.indexOf(s);
+                if (index < 0) {
                     return Validation.invalid(ErrorMessage.of("must.be.valid.enum.value", "value", s));
                 }
+                return Validation.valid(constants[index]);
             }
         );
     }
@@ -344,13 +420,15 @@ public final class StringRules implements ComparableRules<String>, IObjectRules<
      */
     public <E extends Enum<E>> MappingRule<String, E> asEnumIgnoreCase(Class<E> enumClass) {
         Objects.requireNonNull(enumClass, "enumClass must not be null");
+        // of constants that only differ in case, the first one is kept
+        StringSet names = StringSet.ofIgnoreCase(List.of(enumClass.getEnumConstants()).map(Enum::name));
+        List<E> constants = List.range(0, names.size()).map(i -> Enum.valueOf(enumClass, names.get(i)));
         return MappingRule.of(s -> {
-                for (E constant : enumClass.getEnumConstants()) {
-                    if (constant.name().equalsIgnoreCase(s)) {
-                        return Validation.valid(constant);
-                    }
+                int index = names.indexOf(s);
+                if (index < 0) {
+                    return Validation.invalid(ErrorMessage.of("must.be.valid.enum.value", "value", s));
                 }
-                return Validation.invalid(ErrorMessage.of("must.be.valid.enum.value", "value", s));
+                return Validation.valid(constants.get(index));
             }
         );
     }
@@ -834,9 +912,9 @@ public final class StringRules implements ComparableRules<String>, IObjectRules<
      */
     public Rule<String> startsWith(String... prefixes) {
         Objects.requireNonNull(prefixes, "prefixes cannot be null");
-
+        MultiStringMatcher matcher = MultiStringMatcher.of(Arrays.asList(prefixes), false);
         return Rule.of(
-            s -> Arrays.stream(prefixes).anyMatch(s::startsWith),
+            matcher::matchesStartOf,
             ErrorMessage.of("must.start.with", "prefixes", List.of(prefixes))
         );
     }
@@ -856,8 +934,9 @@ public final class StringRules implements ComparableRules<String>, IObjectRules<
      */
     public Rule<String> startsWithIgnoreCase(String... prefixes) {
         Objects.requireNonNull(prefixes, "prefixes cannot be null");
+        MultiStringMatcher matcher = MultiStringMatcher.of(Arrays.asList(prefixes), true);
         return Rule.of(
-            s -> Arrays.stream(prefixes).anyMatch(prefix -> s.regionMatches(true, 0, prefix, 0, prefix.length())),
+            matcher::matchesStartOf,
             ErrorMessage.of("must.start.with.ignorecase", "prefixes", List.of(prefixes))
         );
     }
@@ -877,9 +956,9 @@ public final class StringRules implements ComparableRules<String>, IObjectRules<
      */
     public Rule<String> endsWith(String... suffixes) {
         Objects.requireNonNull(suffixes, "suffixes cannot be null");
-
+        MultiStringMatcher matcher = MultiStringMatcher.reversed(Arrays.asList(suffixes), false);
         return Rule.of(
-            s -> Arrays.stream(suffixes).anyMatch(s::endsWith),
+            matcher::matchesEndOf,
             ErrorMessage.of("must.end.with", "suffixes", List.of(suffixes))
         );
     }
@@ -899,8 +978,9 @@ public final class StringRules implements ComparableRules<String>, IObjectRules<
      */
     public Rule<String> doesNotStartWith(String... prefixes) {
         Objects.requireNonNull(prefixes, "prefixes cannot be null");
+        MultiStringMatcher matcher = MultiStringMatcher.of(Arrays.asList(prefixes), false);
         return Rule.of(
-            s -> Arrays.stream(prefixes).noneMatch(s::startsWith),
+            s -> !matcher.matchesStartOf(s),
             ErrorMessage.of("must.not.start.with", "prefixes", List.of(prefixes))
         );
     }
@@ -920,8 +1000,9 @@ public final class StringRules implements ComparableRules<String>, IObjectRules<
      */
     public Rule<String> doesNotStartWithIgnoreCase(String... prefixes) {
         Objects.requireNonNull(prefixes, "prefixes cannot be null");
+        MultiStringMatcher matcher = MultiStringMatcher.of(Arrays.asList(prefixes), true);
         return Rule.of(
-            s -> Arrays.stream(prefixes).noneMatch(prefix -> s.regionMatches(true, 0, prefix, 0, prefix.length())),
+            s -> !matcher.matchesStartOf(s),
             ErrorMessage.of("must.not.start.with.ignorecase", "prefixes", List.of(prefixes))
         );
     }
@@ -938,9 +1019,9 @@ public final class StringRules implements ComparableRules<String>, IObjectRules<
      */
     public Rule<String> endsWithIgnoreCase(String... suffixes) {
         Objects.requireNonNull(suffixes, "suffixes cannot be null");
+        MultiStringMatcher matcher = MultiStringMatcher.reversed(Arrays.asList(suffixes), true);
         return Rule.of(
-            s -> Arrays.stream(suffixes).anyMatch(suffix -> s.length() >= suffix.length()
-                && s.regionMatches(true, s.length() - suffix.length(), suffix, 0, suffix.length())),
+            matcher::matchesEndOf,
             ErrorMessage.of("must.end.with.ignorecase", "suffixes", List.of(suffixes))
         );
     }
@@ -960,8 +1041,9 @@ public final class StringRules implements ComparableRules<String>, IObjectRules<
      */
     public Rule<String> doesNotEndWith(String... suffixes) {
         Objects.requireNonNull(suffixes, "suffixes cannot be null");
+        MultiStringMatcher matcher = MultiStringMatcher.reversed(Arrays.asList(suffixes), false);
         return Rule.of(
-            s -> Arrays.stream(suffixes).noneMatch(s::endsWith),
+            s -> !matcher.matchesEndOf(s),
             ErrorMessage.of("must.not.end.with", "suffixes", List.of(suffixes))
         );
     }
@@ -981,9 +1063,9 @@ public final class StringRules implements ComparableRules<String>, IObjectRules<
      */
     public Rule<String> doesNotEndWithIgnoreCase(String... suffixes) {
         Objects.requireNonNull(suffixes, "suffixes cannot be null");
+        MultiStringMatcher matcher = MultiStringMatcher.reversed(Arrays.asList(suffixes), true);
         return Rule.of(
-            s -> Arrays.stream(suffixes).noneMatch(suffix -> s.length() >= suffix.length()
-                && s.regionMatches(true, s.length() - suffix.length(), suffix, 0, suffix.length())),
+            s -> !matcher.matchesEndOf(s),
             ErrorMessage.of("must.not.end.with.ignorecase", "suffixes", List.of(suffixes))
         );
     }
@@ -1064,6 +1146,23 @@ public final class StringRules implements ComparableRules<String>, IObjectRules<
         );
     }
 
+    /**
+     * Fails if the string does not contain a match for the specified pattern, found in linear time.
+     * <p>
+     * Error key: {@code must.contain.regex}
+     *
+     * @param pattern the pattern to find.
+     * @return a {@link Rule} checking if the pattern is found.
+     * @see LinearPattern
+     */
+    public Rule<String> containsPattern(LinearPattern pattern) {
+        Objects.requireNonNull(pattern, "pattern cannot be null");
+        return Rule.of(
+            pattern::find,
+            ErrorMessage.of("must.contain.regex", "regex", pattern.pattern())
+        );
+    }
+
     /**
      * Fails if the string contains the specified fragment.
      * <p>
@@ -1085,6 +1184,116 @@ public final class StringRules implements ComparableRules<String>, IObjectRules<
         );
     }
 
+    /**
+     * Fails if the string does not contain any of the specified fragments.
+     * <p>
+     * The string is scanned once, however many fragments there are, so this is suited for large dictionaries.
+     * <p>
+     * Error key: {@code must.contain.any.of}
+     * <p>
+     * Parameters:
+     * <ul>
+     *     <li>{@code count}: the number of required fragments ({@link Integer})</li>
+     * </ul>
+     *
+     * @param fragments the fragments, of which at least one is required.
+     * @return a {@link Rule} checking if any of the fragments is present.
+     */
+    public Rule<String> containsAnyOf(Collection<String> fragments) {
+        Objects.requireNonNull(fragments, "fragments cannot be null");
+        MultiStringMatcher matcher = MultiStringMatcher.of(fragments, false);
+        // not the fragments themselves, a dictionary can be far too large to put in every error
+        return Rule.of(
+            matcher::isFoundIn,
+            ErrorMessage.of("must.contain.any.of", "count", fragments.size())
+        );
+    }
+
+    /**
+     * Fails if the string does not contain any of the specified fragments (ignoring case).
+     * <p>
+     * The string is scanned once, however many fragments there are, so this is suited for large dictionaries.
+     * <p>
+     * Error key: {@code must.contain.any.of.ignorecase}
+     * <p>
+     * Parameters:
+     * <ul>
+     *     <li>{@code count}: the number of required fragments ({@link Integer})</li>
+     * </ul>
+     *
+     * @param fragments the fragments, of which at least one is required.
+     * @return a {@link Rule} checking if any of the fragments is present (ignoring case).
+     */
+    public Rule<String> containsAnyOfIgnoreCase(Collection<String> fragments) {
+        Objects.requireNonNull(fragments, "fragments cannot be null");
+        MultiStringMatcher matcher = MultiStringMatcher.of(fragments, true);
+        // not the fragments themselves, a dictionary can be far too large to put in every error
+        return Rule.of(
+            matcher::isFoundIn,
+            ErrorMessage.of("must.contain.any.of.ignorecase", "count", fragments.size())
+        );
+    }
+
+    /**
+     * Fails if the string contains any of the specified fragments, for example a denylist of words.
+     * <p>
+     * The string is scanned once, however many fragments there are, so this is suited for large dictionaries.
+     * <p>
+     * Error key: {@code must.not.contain.any.of}
+     * <p>
+     * Parameters:
+     * <ul>
+     *     <li>{@code fragment}: the forbidden fragment that was found, as it was given ({@link String})</li>
+     * </ul>
+     *
+     * @param fragments the forbidden fragments.
+     * @return a {@link Rule} checking if all fragments are absent.
+     */
+    public Rule<String> doesNotContainAnyOf(Collection<String> fragments) {
+        Objects.requireNonNull(fragments, "fragments cannot be null");
+        MultiStringMatcher matcher = MultiStringMatcher.of(fragments, false);
+        // only the fragment that was found, a denylist is too large to put in every error, and isn't for the client
+        return s -> {
+            if (s == null) {
+                return Validation.Invalid.notNull();
+            }
+            String found = matcher.findIn(s);
+            return found == null
+                ? Validation.valid(s)
+                : Validation.invalid(ErrorMessage.of("must.not.contain.any.of", "fragment", found));
+        };
+    }
+
+    /**
+     * Fails if the string contains any of the specified fragments (ignoring case), for example a denylist of words.
+     * <p>
+     * The string is scanned once, however many fragments there are, so this is suited for large dictionaries.
+     * <p>
+     * Error key: {@code must.not.contain.any.of.ignorecase}
+     * <p>
+     * Parameters:
+     * <ul>
+     *     <li>{@code fragment}: the forbidden fragment that was found, as it was given ({@link String})</li>
+     * </ul>
+     *
+     * @param fragments the forbidden fragments.
+     * @return a {@link Rule} checking if all fragments are absent (ignoring case).
+     */
+    public Rule<String> doesNotContainAnyOfIgnoreCase(Collection<String> fragments) {
+        Objects.requireNonNull(fragments, "fragments cannot be null");
+        MultiStringMatcher matcher = MultiStringMatcher.of(fragments, true);
+        // only the fragment that was found, a denylist is too large to put in every error, and isn't for the client
+        return s -> {
+            if (s == null) {
+                return Validation.Invalid.notNull();
+            }
+            String found = matcher.findIn(s);
+            return found == null
+                ? Validation.valid(s)
+                : Validation.invalid(ErrorMessage.of("must.not.contain.any.of.ignorecase", "fragment", found));
+        };
+    }
+
     /**
      * Fails if the string is in the specified set of forbidden values.
      * <p>
@@ -1099,9 +1308,9 @@ public final class StringRules implements ComparableRules<String>, IObjectRules<
      */
     public Rule<String> notIn(Set<String> forbidden) {
         Objects.requireNonNull(forbidden, "forbidden cannot be null");
-
+        Predicate<String> contains = membership(forbidden);
         return Rule.of(
-            s -> !forbidden.contains(s),
+            contains.negate(),
             ErrorMessage.of("must.not.be.in", "forbidden", forbidden)
         );
     }
@@ -1121,11 +1330,64 @@ public final class StringRules implements ComparableRules<String>, IObjectRules<
     public Rule<String> isIn(Set<String> allowed) {
         Objects.requireNonNull(allowed, "allowed cannot be null");
         return Rule.of(
-            allowed::contains,
+            membership(allowed),
             ErrorMessage.of("must.be.in", "allowed", allowed)
         );
     }
 
+    /**
+     * Fails if the string is in the specified set of forbidden values, ignoring case.
+     * <p>
+     * Error key: {@code must.not.be.in.ignorecase}
+     * <p>
+     * Parameters:
+     * <ul>
+     *     <li>{@code forbidden}: the set of forbidden values ({@link Set})</li>
+     * </ul>
+     *
+     * @param forbidden the set of forbidden values.
+     */
+    public Rule<String> notInIgnoreCase(Set<String> forbidden) {
+        Objects.requireNonNull(forbidden, "forbidden cannot be null");
+        StringSet set = StringSet.ofIgnoreCase(forbidden);
+        return Rule.of(
+            s -> !set.contains(s),
+            ErrorMessage.of("must.not.be.in.ignorecase", "forbidden", forbidden)
+        );
+    }
+
+    /**
+     * Fails if the string is not in the specified set of allowed values, ignoring case.
+     * <p>
+     * Error key: {@code must.be.in.ignorecase}
+     * <p>
+     * Parameters:
+     * <ul>
+     *     <li>{@code allowed}: the set of allowed values ({@link Set})</li>
+     * </ul>
+     *
+     * @param allowed the set of allowed values.
+     */
+    public Rule<String> isInIgnoreCase(Set<String> allowed) {
+        Objects.requireNonNull(allowed, "allowed cannot be null");
+        StringSet set = StringSet.ofIgnoreCase(allowed);
+        return Rule.of(
+            set::contains,
+            ErrorMessage.of("must.be.in.ignorecase", "allowed", allowed)
+        );
+    }
+
+    /**
+     * Membership of the set, copied into a {@link StringSet} unless it is sorted, as a sorted set can have its own
+     * notion of equality.
+     */
+    private static Predicate<String> membership(Set<String> set) {
+        if (set instanceof SortedSet) {
+            return set::contains;
+        }
+        return StringSet.of(set)::contains;
+    }
+
     /**
      * Fails if the string does not match the specified regular expression.
      * <p>
@@ -1167,6 +1429,79 @@ public final class StringRules implements ComparableRules<String>, IObjectRules<
         );
     }
 
+    /**
+     * Fails if the string does not match the specified regular expression, matched in linear time.
+     * <p>
+     * Error key: {@code must.match.regex}
+     * <p>
+     * Parameters:
+     * <ul>
+     *     <li>{@code regex}: the regular expression ({@link String})</li>
+     * </ul>
+     *
+     * @param regex the regular expression.
+     * @see LinearPattern
+     */
+    public Rule<String> matches(LinearPattern regex) {
+        Objects.requireNonNull(regex, "regex cannot be null");
+        return Rule.of(
+            regex::matches,
+            ErrorMessage.of("must.match.regex", "regex", regex.pattern())
+        );
+    }
+
+    /**
+     * Fails if the string does not match the specified regular expression, or if matching takes more than
+     * {@code budget} steps. A step is a character read by the {@link java.util.regex.Matcher}, so backtracking costs
+     * steps, and the budget bounds the time spent on an input that makes the expression backtrack excessively.
+     * <p>
+     * Error keys:
+     * <ul>
+     *     <li>{@code must.match.regex}: the string does not match, with parameter {@code regex}
+     *     ({@link String})</li>
+     *     <li>{@code must.match.regex.within.budget}: matching was aborted, with parameters {@code regex}
+     *     ({@link String}) and {@code budget} ({@link Integer})</li>
+     * </ul>
+     *
+     * @param regex  the regular expression.
+     * @param budget the maximum number of steps.
+     */
+    public Rule<String> matchesWithin(Pattern regex, int budget) {
+        Objects.requireNonNull(regex, "regex cannot be null");
+        if (budget < 0) {
+            throw new IllegalArgumentException("budget must be >= 0");
+        }
+        ErrorMessage noMatch = ErrorMessage.of("must.match.regex", "regex", regex.pattern());
+        ErrorMessage exceeded = ErrorMessage.of(
+            "must.match.regex.within.budget",
+            HashMap.of("regex", regex.pattern(), "budget", budget)
+        );
+        return s -> {
+            if (s == null) {
+                return Validation.Invalid.notNull();
+            }
+            try {
+                return regex.matcher(new BudgetedCharSequence(s, budget)).matches()
+                    ? Validation.valid(s)
+                    : Validation.invalid(noMatch);
+            } catch (BudgetedCharSequence.BudgetExceededException e) {
+                return Validation.invalid(exceeded);
+            }
+        };
+    }
+
+    /**
+     * Fails if the string does not match the specified regular expression, or if matching takes more than
+     * {@code budget} steps. See {@link #matchesWithin(Pattern, int)}.
+     *
+     * @param regex  the regular expression.
+     * @param budget the maximum number of steps.
+     */
+    public Rule<String> matchesWithin(String regex, int budget) {
+        Objects.requireNonNull(regex, "regex cannot be null");
+        return matchesWithin(Pattern.compile(regex), budget);
+    }
+
     /**
      * Fails if the string is not equal ignoring case the specified value.
      * <p>
@@ -1200,6 +1535,9 @@ public final class StringRules implements ComparableRules<String>, IObjectRules<
         );
     }
 
+    private static final CharMatcher ASCII_ALPHANUMERIC = CharCategory.ASCII_LETTERS.matcher.or(CharCategory.ASCII_DIGITS.matcher);
+    private static final CharMatcher ALPHANUMERIC = CharCategory.LETTERS.matcher.or(CharCategory.DIGITS.matcher);
+
     /**
      * Fails if the string contains anything other than letters.
      * Uses {@link Character#isLetter(int)} so it supports Unicode letters (not just A-Z).
@@ -1208,7 +1546,7 @@ public final class StringRules implements ComparableRules<String>, IObjectRules<
      */
     public Rule<String> onlyLetters() {
         return Rule.of(
-            s -> s.codePoints().allMatch(Character::isLetter),
+            CharCategory.LETTERS.matcher::matchesAllOf,
             "must.be.letters.only"
         );
     }
@@ -1220,7 +1558,7 @@ public final class StringRules implements ComparableRules<String>, IObjectRules<
      */
     public Rule<String> onlyLettersAscii() {
         return Rule.of(
-            s -> s.codePoints().allMatch(c -> (c >= 65 && c <= 90) || (c >= 97 && c <= 122)),
+            CharCategory.ASCII_LETTERS.matcher::matchesAllOf,
             "must.be.ascii.letters.only"
         );
     }
@@ -1232,14 +1570,7 @@ public final class StringRules implements ComparableRules<String>, IObjectRules<
      */
     public Rule<String> onlyAlphaNumericAscii() {
         return Rule.of(
-            s -> s.codePoints().allMatch(c ->
-                // ‘0–9’
-                (c >= 48 && c <= 57) ||
-                    // ‘A–Z’
-                    (c >= 65 && c <= 90) ||
-                    // ‘a–z’
-                    (c >= 97 && c <= 122)
-            ),
+            ASCII_ALPHANUMERIC::matchesAllOf,
             "must.be.ascii.alphanumeric.only"
         );
     }
@@ -1252,7 +1583,7 @@ public final class StringRules implements ComparableRules<String>, IObjectRules<
      */
     public Rule<String> onlyAlphaNumeric() {
         return Rule.of(
-            s -> s.codePoints().allMatch(Character::isLetterOrDigit),
+            ALPHANUMERIC::matchesAllOf,
             "must.be.alphanumeric.only"
         );
     }
@@ -1265,7 +1596,7 @@ public final class StringRules implements ComparableRules<String>, IObjectRules<
      */
     public Rule<String> onlyDigits() {
         return Rule.of(
-            s -> s.codePoints().allMatch(Character::isDigit),
+            CharCategory.DIGITS.matcher::matchesAllOf,
             "must.be.digits.only"
         );
     }
@@ -1279,10 +1610,7 @@ public final class StringRules implements ComparableRules<String>, IObjectRules<
      */
     public Rule<String> onlyDigitsAscii() {
         return Rule.of(
-            s -> s.codePoints().allMatch(c ->
-                // ‘0–9’
-                (c >= 48 && c <= 57)
-            ),
+            CharCategory.ASCII_DIGITS.matcher::matchesAllOf,
             "must.be.ascii.digits.only"
         );
     }
@@ -1299,16 +1627,17 @@ public final class StringRules implements ComparableRules<String>, IObjectRules<
      * </ul>
      */
     public Rule<String> containsOnly(CharCategory... categories) {
-        String joined = Arrays.stream(categories).map(c -> c.fragment).collect(Collectors.joining());
-        Pattern pattern = Pattern.compile("[" + joined + "]*");
+        CharMatcher matcher = CharMatcher.anyOf(categories);
         return Rule.of(
-            s -> pattern.matcher(s).matches(),
+            matcher::matchesAllOf,
             ErrorMessage.of("must.contain.only.allowed.characters", "categories",
                 List.of(categories).map(Enum::name))
         );
     }
 
-    private static final Pattern HEXADECIMAL_PATTERN = Pattern.compile("[0-9a-f]*", Pattern.CASE_INSENSITIVE);
+    private static final CharMatcher HEXADECIMAL = CharMatcher.asciiRange('0', '9')
+        .or(CharMatcher.asciiRange('a', 'f'))
+        .or(CharMatcher.asciiRange('A', 'F'));
 
     /**
      * Fails if the string contains anything other than hexadecimal characters.
@@ -1320,18 +1649,16 @@ public final class StringRules implements ComparableRules<String>, IObjectRules<
      */
     public Rule<String> hexadecimal() {
         return Rule.of(
-            s -> HEXADECIMAL_PATTERN.matcher(s).matches(),
+            HEXADECIMAL::matchesAllOf,
             ErrorMessage.of("must.be.hexadecimal")
         );
     }
 
-    // Regex for standard Base64
-    private static final Pattern STANDARD_BASE64_PATTERN =
-        Pattern.compile("^(?:[A-Za-z0-9+/]{4})*(?:[A-Za-z0-9+/]{2}==|[A-Za-z0-9+/]{3}=)?$");
+    // Alphabet for standard Base64
+    private static final CharMatcher STANDARD_BASE64 = ASCII_ALPHANUMERIC.or(CharMatcher.anyOf("+/"));
 
-    // Regex for URL-safe Base64 (uses - and _ instead of + and /)
-    private static final Pattern URL_SAFE_BASE64_PATTERN =
-        Pattern.compile("^(?:[A-Za-z0-9-_]{4})*(?:[A-Za-z0-9-_]{2}==|[A-Za-z0-9-_]{3}=)?$");
+    // Alphabet for URL-safe Base64 (uses - and _ instead of + and /)
+    private static final CharMatcher URL_SAFE_BASE64 = ASCII_ALPHANUMERIC.or(CharMatcher.anyOf("-_"));
 
     /**
      * Fails if the string is not valid Base64.
@@ -1343,7 +1670,7 @@ public final class StringRules implements ComparableRules<String>, IObjectRules<
      */
     public Rule<String> base64() {
         return Rule.of(
-            s -> STANDARD_BASE64_PATTERN.matcher(s).matches(),
+            s -> isBase64(s, STANDARD_BASE64),
             ErrorMessage.of("must.be.base64")
         );
     }
@@ -1358,11 +1685,91 @@ public final class StringRules implements ComparableRules<String>, IObjectRules<
      */
     public Rule<String> base64UrlSafe() {
         return Rule.of(
-            s -> URL_SAFE_BASE64_PATTERN.matcher(s).matches(),
+            s -> isBase64(s, URL_SAFE_BASE64),
             ErrorMessage.of("must.be.base64.urlsafe")
         );
     }
 
+    /**
+     * Groups of 4 characters of the alphabet, where the last group can end in {@code =} or {@code ==}.
+     */
+    private static boolean isBase64(String s, CharMatcher alphabet) {
+        int length = s.length();
+        if (length % 4 != 0) {
+            return false;
+        }
+        int end = length;
+        while (end > 0 && length - end < 2 && s.charAt(end - 1) == '=') {
+            end--;
+        }
+        for (int i = 0; i < end; i++) {
+            if (!alphabet.matches(s.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Fails if the string is not a host name as in RFC 1123: dot separated labels of 1 to 63 ASCII letters, digits
+     * and hyphens, that don't start or end with a hyphen, of at most 253 characters, with an optional trailing dot.
+     * The last label cannot be all digits, so IPv4 addresses are not host names.
+     * <p>
+     * Error key: {@code must.be.hostname}
+     *
+     * @return a {@link Rule} checking if the string is a host name.
+     */
+    public Rule<String> hostname() {
+        return Rule.of(UriParsers::isHostname, ErrorMessage.of("must.be.hostname"));
+    }
+
+    /**
+     * Fails if the string is not a {@link #hostname() host name} of at least two labels, of which the last, the top
+     * level domain, is at least 2 characters and starts with a letter, like {@code example.com}.
+     * <p>
+     * Error key: {@code must.be.domain.name}
+     *
+     * @return a {@link Rule} checking if the string is a domain name.
+     */
+    public Rule<String> domainName() {
+        return Rule.of(UriParsers::isDomainName, ErrorMessage.of("must.be.domain.name"));
+    }
+
+    /**
+     * Fails if the string is not an IPv4 address in dotted decimal notation, like {@code 192.168.0.1}. Leading zeros
+     * are not allowed, as some parsers read them as octal.
+     * <p>
+     * Error key: {@code must.be.ipv4}
+     *
+     * @return a {@link Rule} checking if the string is an IPv4 address.
+     */
+    public Rule<String> ipv4() {
+        return Rule.of(UriParsers::isIpv4, ErrorMessage.of("must.be.ipv4"));
+    }
+
+    /**
+     * Fails if the string is not an IPv6 address in the text form of RFC 4291, like {@code 2001:db8::1} or
+     * {@code ::ffff:192.168.0.1}. Brackets and zone ids are not allowed.
+     * <p>
+     * Error key: {@code must.be.ipv6}
+     *
+     * @return a {@link Rule} checking if the string is an IPv6 address.
+     */
+    public Rule<String> ipv6() {
+        return Rule.of(UriParsers::isIpv6, ErrorMessage.of("must.be.ipv6"));
+    }
+
+    /**
+     * Fails if the string is not a port number: 0 to 65535, in decimal digits without a sign.
+     * <p>
+     * Error key: {@code must.be.port}
+     *
+     * @return a {@link Rule} checking if the string is a port number.
+     */
+    public Rule<String> port() {
+        return Rule.of(UriParsers::isPort, ErrorMessage.of("must.be.port"));
+    }
+
     private static final Pattern IS_EMAIL_PATTERN = Pattern.compile(
         // local part
         "^[A-Za-z0-9+_.-]+@" +
@@ -0,0 +1,121 @@
+package be.iffy.fv.rules.text;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An immutable set of strings, for the allowlists and denylists of {@link StringRules} and the enum conversions.
+ * <p>
+ * The strings and their hashes are stored in two flat arrays, in an open addressing table that is at most half full,
+ * so a lookup usually is a single hash comparison followed by a single {@link String#equals(Object)}, and a miss
+ * rarely compares any string at all.
+ * <p>
+ * When ignoring case, the hash is computed over the characters folded as {@link String#equalsIgnoreCase(String)} does,
+ * code point by code point with {@link Character#toUpperCase(int)} followed by {@link Character#toLowerCase(int)}, so
+ * the input is never lower-cased into a new string.
+ */
+final class StringSet {
+
+    private final boolean ignoreCase;
+    // the distinct entries in the order they were added
+    private final String[] entries;
+    private int size;
+    // the table, with the index of an entry in entries, or -1 for an empty slot
+    private final int[] slots;
+    private final int[] hashes;
+
+    private StringSet(Iterable<String> strings, boolean ignoreCase) {
+        this.ignoreCase = ignoreCase;
+        List<String> all = new ArrayList<>();
+        strings.forEach(all::add);
+        entries = new String[all.size()];
+        int tableSize = Integer.highestOneBit(Math.max(2, all.size()) * 2 - 1) << 1;
+        slots = new int[tableSize];
+        Arrays.fill(slots, -1);
+        hashes = new int[tableSize];
+        for (String s : all) {
+            if (s != null && indexOf(s) < 0) {
+                int hash = hash(s);
+                int slot = hash & (tableSize - 1);
+                while (slots[slot] >= 0) {
+                    slot = (slot + 1) & (tableSize - 1);
+                }
+                slots[slot] = size;
+                hashes[slot] = hash;
+                entries[size++] = s;
+            }
+        }
+    }
+
+    /**
+     * The set of the strings, {@code null} is skipped.
+     */
+    static StringSet of(Iterable<String> strings) {
+        return new StringSet(strings, false);
+    }
+
+    /**
+     * The set of the strings, ignoring case. Of strings that are equal ignoring case, only the first is kept.
+     */
+    static StringSet ofIgnoreCase(Iterable<String> strings) {
+        return new StringSet(strings, true);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * The entry at the position, as returned by {@link #indexOf(String)}.
+     */
+    String get(int index) {
+        return entries[index];
+    }
+
+    boolean contains(String s) {
+        return indexOf(s) >= 0;
+    }
+
+    /**
+     * The position of the string in the iteration order of the strings the set was created from, counting only the
+     * strings that were kept, or -1 when it is not in the set.
+     */
+    int indexOf(String s) {
+        int hash = hash(s);
+        int mask = slots.length - 1;
+        for (int slot = hash & mask; slots[slot] >= 0; slot = (slot + 1) & mask) {
+            if (hashes[slot] == hash) {
+                String entry = entries[slots[slot]];
+                if (ignoreCase ? entry.equalsIgnoreCase(s) : entry.equals(s)) {
+                    return slots[slot];
+                }
+            }
+        }
+        return -1;
+    }
+
+    private int hash(String s) {
+        if (!ignoreCase) {
+            return spread(s.hashCode());
+        }
+        int hash = 0;
+        int i = 0;
+        while (i < s.length()) {
+            char c = s.charAt(i);
+            if (c < 128) {
+                hash = 31 * hash + (c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c);
+                i++;
+            } else {
+                int codePoint = s.codePointAt(i);
+                hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(codePoint));
+                i += Character.charCount(codePoint);
+            }
+        }
+        return spread(hash);
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,284 @@
+package be.iffy.fv.rules.text;
+
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.OffsetDateTime;
+import java.time.Year;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalQuery;
+import java.util.function.Function;
+
+/**
+ * Parsers for the temporal conversions of {@link StringRules} that return {@code null} for invalid input instead of
+ * throwing.
+ * <p>
+ * The ISO parsers scan the text by hand, and accept exactly what {@link LocalDate#parse(CharSequence)},
+ * {@link LocalDateTime#parse(CharSequence)}, {@link Instant#parse(CharSequence)} and
+ * {@link OffsetDateTime#parse(CharSequence)} accept. Only years with a sign ({@code +10000-01-01}, {@code -0001-01-01}),
+ * which are rare, are still handed to the JDK.
+ * <p>
+ * The pattern based parsers first check the syntax with {@link DateTimeFormatter#parseUnresolved(CharSequence, ParsePosition)},
+ * which doesn't throw, so only text that matches a pattern, but isn't a valid date (like {@code 2023-02-29}), costs an exception.
+ */
+final class TemporalParsers {
+
+    private static final int SECONDS_PER_DAY = 86_400;
+    private static final int MAX_OFFSET_SECONDS = 18 * 3600;
+    private static final long DAYS_0000_TO_1970 = 719_528L;
+
+    private TemporalParsers() {
+    }
+
+    /**
+     * Same as {@link LocalDate#parse(CharSequence)}, or {@code null}.
+     */
+    static LocalDate parseLocalDate(String s) {
+        if (hasSignedYear(s)) {
+            return fallback(s, LocalDate::parse);
+        }
+        return s.length() == 10 && isDate(s) ? LocalDate.of(year(s), month(s), day(s)) : null;
+    }
+
+    /**
+     * Same as {@link LocalDateTime#parse(CharSequence)}, or {@code null}.
+     */
+    static LocalDateTime parseLocalDateTime(String s) {
+        if (hasSignedYear(s)) {
+            return fallback(s, LocalDateTime::parse);
+        }
+        Time time = parseDateTime(s, false);
+        return time != null && time.end == s.length() ? time.toLocalDateTime(s) : null;
+    }
+
+    /**
+     * Same as {@link OffsetDateTime#parse(CharSequence)}, or {@code null}.
+     */
+    static OffsetDateTime parseOffsetDateTime(String s) {
+        if (hasSignedYear(s)) {
+            return fallback(s, OffsetDateTime::parse);
+        }
+        Time time = parseDateTime(s, false);
+        if (time == null) {
+            return null;
+        }
+        int offset = parseOffset(s, time.end, true);
+        return offset == Integer.MIN_VALUE ? null : OffsetDateTime.of(time.toLocalDateTime(s), ZoneOffset.ofTotalSeconds(offset));
+    }
+
+    /**
+     * Same as {@link Instant#parse(CharSequence)}, or {@code null}.
+     */
+    static Instant parseInstant(String s) {
+        if (hasSignedYear(s)) {
+            return fallback(s, Instant::parse);
+        }
+        Time time = parseDateTime(s, true);
+        if (time == null) {
+            return null;
+        }
+        int offset = parseOffset(s, time.end, false);
+        if (offset == Integer.MIN_VALUE) {
+            return null;
+        }
+        int hour = time.hour;
+        int second = time.second;
+        int days = 0;
+        // just like DateTimeFormatter.ISO_INSTANT: 24:00 is the start of the next day, and a leap second is smeared
+        if (hour == 24 && time.minute == 0 && second == 0 && time.nano == 0) {
+            hour = 0;
+            days = 1;
+        } else if (hour == 23 && time.minute == 59 && second == 60) {
+            second = 59;
+        }
+        if (hour > 23 || second > 59) {
+            return null;
+        }
+        long epochDay = epochDay(year(s), month(s), day(s)) + days;
+        long epochSecond = epochDay * SECONDS_PER_DAY + hour * 3600L + time.minute * 60L + second - offset;
+        return Instant.ofEpochSecond(epochSecond, time.nano);
+    }
+
+    /**
+     * Parses the text with the first of the formatters it fully matches, or returns {@code null}.
+     */
+    static <T> T parse(String s, DateTimeFormatter[] formatters, TemporalQuery<T> query) {
+        for (DateTimeFormatter formatter : formatters) {
+            ParsePosition position = new ParsePosition(0);
+            if (formatter.parseUnresolved(s, position) == null || position.getIndex() != s.length()) {
+                continue;
+            }
+            try {
+                return formatter.parse(s, query);
+            } catch (DateTimeException e) {
+                // the text has the right format, but isn't a valid date, try the next format
+            }
+        }
+        return null;
+    }
+
+    //region ISO scanning
+
+    /**
+     * The time part of an ISO date time, after a valid date, and the index right after it.
+     */
+    private record Time(int hour, int minute, int second, int nano, int end) {
+
+        LocalDateTime toLocalDateTime(String s) {
+            return LocalDateTime.of(year(s), month(s), day(s), hour, minute, second, nano);
+        }
+    }
+
+    private static boolean hasSignedYear(String s) {
+        return !s.isEmpty() && (s.charAt(0) == '+' || s.charAt(0) == '-');
+    }
+
+    private static <T> T fallback(String s, Function<String, T> parser) {
+        try {
+            return parser.apply(s);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * {@code yyyy-MM-dd} at the start of the text, and a valid date.
+     */
+    private static boolean isDate(String s) {
+        if (s.length() < 10 || s.charAt(4) != '-' || s.charAt(7) != '-'
+            || !areDigits(s, 0, 4) || !areDigits(s, 5, 7) || !areDigits(s, 8, 10)) {
+            return false;
+        }
+        int month = month(s);
+        int day = day(s);
+        return month >= 1 && month <= 12 && day >= 1 && day <= Month.of(month).length(Year.isLeap(year(s)));
+    }
+
+    /**
+     * {@code yyyy-MM-ddTHH:mm}, followed by {@code :ss} and an optional fraction. The seconds are optional, unless
+     * {@code instant}. The hour, minute and second are checked against their range, except for the 24th hour and the
+     * 60th second when parsing an {@link Instant}, which are handled separately.
+     */
+    private static Time parseDateTime(String s, boolean instant) {
+        int length = s.length();
+        if (length < 16 || !isDate(s) || (s.charAt(10) != 'T' && s.charAt(10) != 't')
+            || s.charAt(13) != ':' || !areDigits(s, 11, 13) || !areDigits(s, 14, 16)) {
+            return null;
+        }
+        int hour = number(s, 11, 13);
+        int minute = number(s, 14, 16);
+        int second = 0;
+        int nano = 0;
+        int i = 16;
+        if (i < length && s.charAt(i) == ':' && i + 3 <= length && areDigits(s, i + 1, i + 3)) {
+            second = number(s, i + 1, i + 3);
+            i += 3;
+            if (i < length && s.charAt(i) == '.') {
+                int start = ++i;
+                while (i < length && i - start < 10 && isDigit(s.charAt(i))) {
+                    i++;
+                }
+                if (i - start > 9) {
+                    return null;
+                }
+                nano = number(s, start, i);
+                for (int digits = i - start; digits < 9; digits++) {
+                    nano *= 10;
+                }
+            }
+        } else if (instant) {
+            return null;
+        }
+        boolean validHour = hour <= 23 || (instant && hour == 24);
+        boolean validSecond = second <= 59 || (instant && second == 60);
+        return validHour && minute <= 59 && validSecond ? new Time(hour, minute, second, nano, i) : null;
+    }
+
+    /**
+     * The offset at {@code start} until the end of the text, in seconds, or {@link Integer#MIN_VALUE} when invalid.
+     * {@code Z} or {@code +HH:MM} with optional {@code :ss}. When {@code lenient}, the minutes are optional too.
+     */
+    private static int parseOffset(String s, int start, boolean lenient) {
+        int length = s.length();
+        if (start == length - 1 && (s.charAt(start) == 'Z' || s.charAt(start) == 'z')) {
+            return 0;
+        }
+        int remaining = length - start;
+        boolean validLength = remaining == 6 || remaining == 9 || (lenient && remaining == 3);
+        if (!validLength || (s.charAt(start) != '+' && s.charAt(start) != '-') || !areDigits(s, start + 1, start + 3)) {
+            return Integer.MIN_VALUE;
+        }
+        int hours = number(s, start + 1, start + 3);
+        int minutes = 0;
+        int seconds = 0;
+        if (remaining >= 6) {
+            if (s.charAt(start + 3) != ':' || !areDigits(s, start + 4, start + 6)) {
+                return Integer.MIN_VALUE;
+            }
+            minutes = number(s, start + 4, start + 6);
+        }
+        if (remaining == 9) {
+            if (s.charAt(start + 6) != ':' || !areDigits(s, start + 7, start + 9)) {
+                return Integer.MIN_VALUE;
+            }
+            seconds = number(s, start + 7, start + 9);
+        }
+        int total = hours * 3600 + minutes * 60 + seconds;
+        if (minutes > 59 || seconds > 59 || total > MAX_OFFSET_SECONDS) {
+            return Integer.MIN_VALUE;
+        }
+        return s.charAt(start) == '-' ? -total : total;
+    }
+
+    private static int year(String s) {
+        return number(s, 0, 4);
+    }
+
+    private static int month(String s) {
+        return number(s, 5, 7);
+    }
+
+    private static int day(String s) {
+        return number(s, 8, 10);
+    }
+
+    /**
+     * Days since 1970-01-01 of a valid date, the same computation as {@link LocalDate#toEpochDay()}.
+     */
+    private static long epochDay(int year, int month, int day) {
+        long y = year;
+        long total = 365 * y + (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400;
+        total += (367L * month - 362) / 12 + day - 1;
+        if (month > 2) {
+            total -= Year.isLeap(year) ? 1 : 2;
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    private static boolean areDigits(String s, int begin, int end) {
+        for (int i = begin; i < end; i++) {
+            if (!isDigit(s.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int number(String s, int begin, int end) {
+        int result = 0;
+        for (int i = begin; i < end; i++) {
+            result = result * 10 + (s.charAt(i) - '0');
+        }
+        return result;
+    }
+
+    //endregion
+}
@@ -0,0 +1,549 @@
+package be.iffy.fv.rules.text;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+
+/**
+ * Parsers for the URI and URL conversions of {@link StringRules} that return {@code null} for invalid input instead of
+ * throwing, and the checks of the host name, IP address and port rules.
+ * <p>
+ * {@link #isUri(String)} follows the grammar of the parser of {@link URI#URI(String)}, RFC 2396 with its documented
+ * deviations, step by step, so it accepts exactly what {@link URI#create(String)} accepts, without the exception and the
+ * substrings of the components. Only valid input is handed to the JDK to create the {@link URI}.
+ * <p>
+ * All scans are over the characters of the input, with the ASCII character classes of {@link URI} as pairs of 64 bit
+ * masks, so checking a string allocates nothing.
+ */
+final class UriParsers {
+
+    // character classes as in java.net.URI, a bit per ASCII character: low for 0-63, high for 64-127
+    private static final long L_DIGIT = 0x3FF000000000000L;
+    private static final long H_ALPHA = 0x7FFFFFE07FFFFFEL;
+    private static final long L_ALPHANUM = L_DIGIT;
+    private static final long H_ALPHANUM = H_ALPHA;
+    private static final long H_HEX = 0x7E0000007EL;
+    private static final long L_MARK = 0x678200000000L;
+    private static final long H_MARK = 0x4000000080000000L;
+    private static final long L_UNRESERVED = L_ALPHANUM | L_MARK;
+    private static final long H_UNRESERVED = H_ALPHANUM | H_MARK;
+    private static final long L_RESERVED = 0xAC00985000000000L;
+    private static final long H_RESERVED = 0x28000001L;
+    // not a character: the class allows escaped octets and non-ASCII characters
+    private static final long L_ESCAPED = 1L;
+    private static final long L_URIC = L_RESERVED | L_UNRESERVED | L_ESCAPED;
+    private static final long H_URIC = H_RESERVED | H_UNRESERVED;
+    private static final long L_PATH = L_UNRESERVED | L_ESCAPED | 0x2400185000000000L | 0x800800000000000L;
+    private static final long H_PATH = H_UNRESERVED | 0x1L;
+    private static final long L_DASH = 0x200000000000L;
+    private static final long L_DOT = 0x400000000000L;
+    private static final long L_USERINFO = L_UNRESERVED | L_ESCAPED | 0x2C00185000000000L;
+    private static final long H_USERINFO = H_UNRESERVED;
+    private static final long L_REG_NAME = L_UNRESERVED | L_ESCAPED | 0x2C00185000000000L;
+    private static final long H_REG_NAME = H_UNRESERVED | 0x1L;
+    private static final long L_SERVER = L_USERINFO | L_ALPHANUM | L_DASH | 0x400400000000000L;
+    private static final long H_SERVER = H_USERINFO | H_ALPHANUM | 0x28000001L;
+    private static final long L_SERVER_PERCENT = L_SERVER | 0x2000000000L;
+    private static final long L_SCHEME = L_ALPHANUM | 0x680000000000L;
+    private static final long L_SCOPE_ID = L_ALPHANUM | 0x400000000000L;
+    private static final long H_SCOPE_ID = H_ALPHANUM | 0x80000000L;
+    // the characters that end a component, all below 64
+    private static final long END_OF_PATH = 1L << '?' | 1L << '#';
+    private static final long END_OF_AUTHORITY = END_OF_PATH | 1L << '/';
+
+    // a position that marks invalid input
+    private static final int FAIL = -2;
+    // no hex sequence at a position, see hexSequence
+    private static final int NONE = -1;
+
+    private static final int MAX_HOSTNAME_LENGTH = 253;
+    private static final int MAX_LABEL_LENGTH = 63;
+
+    private UriParsers() {
+    }
+
+    /**
+     * Same as {@link URI#create(String)}, or {@code null}.
+     */
+    static URI parseURI(String s) {
+        return isUri(s) ? URI.create(s) : null;
+    }
+
+    /**
+     * Same as {@code URI.create(s).toURL()}, or {@code null}.
+     * <p>
+     * Input that is no URI, or a relative one, is rejected without an exception. An absolute URI is handed to the
+     * {@link URL} protocol handler, which only throws for an unknown protocol or a URI its protocol doesn't accept.
+     */
+    static URL parseURL(String s) {
+        int colon = schemeEnd(s, s.length());
+        if (colon < 0 || colon == s.length() || !isUri(s)) {
+            return null;
+        }
+        try {
+            return URI.create(s).toURL();
+        } catch (MalformedURLException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Whether {@link URI#create(String)} accepts the string:
+     * {@code [scheme:]scheme-specific-part[#fragment]}.
+     */
+    static boolean isUri(String s) {
+        int n = s.length();
+        int p = schemeEnd(s, n);
+        if (p >= 0 && at(s, p, n, ':')) {
+            if (p == 0 || !match(s.charAt(0), 0L, H_ALPHA) || scan(s, 1, p, L_SCHEME, H_ALPHANUM) != p) {
+                return false;
+            }
+            p++;
+            if (at(s, p, n, '/')) {
+                p = hierarchical(s, p, n);
+            } else {
+                // opaque
+                int q = scanTo(s, p, n, '#');
+                if (q <= p || scan(s, p, q, L_URIC, H_URIC) != q) {
+                    return false;
+                }
+                p = q;
+            }
+        } else {
+            p = hierarchical(s, 0, n);
+        }
+        if (at(s, p, n, '#')) {
+            p = scan(s, p + 1, n, L_URIC, H_URIC);
+        }
+        return p == n;
+    }
+
+    /**
+     * Whether the string is a host name as in RFC 1123: dot separated labels of at most 63 ASCII letters, digits and
+     * hyphens, that don't start or end with a hyphen, with an optional trailing dot, and of at most 253 characters.
+     * The last label is not all digits, so an IPv4 address is not a host name.
+     */
+    static boolean isHostname(String s) {
+        return hostnameLabels(s) > 0;
+    }
+
+    /**
+     * Whether the string is a host name of at least two labels, with a top level label of at least two characters
+     * that starts with a letter.
+     */
+    static boolean isDomainName(String s) {
+        if (hostnameLabels(s) < 2) {
+            return false;
+        }
+        int end = s.endsWith(".") ? s.length() - 1 : s.length();
+        int top = s.lastIndexOf('.', end - 1) + 1;
+        return end - top >= 2 && match(s.charAt(top), 0L, H_ALPHA);
+    }
+
+    /**
+     * Whether the string is an IPv4 address in dotted decimal notation: four numbers from 0 to 255, without leading
+     * zeros, as they are octal for some parsers.
+     */
+    static boolean isIpv4(String s) {
+        return isIpv4(s, 0, s.length());
+    }
+
+    private static boolean isIpv4(String s, int start, int n) {
+        int p = start;
+        for (int part = 0; part < 4; part++) {
+            if (part > 0) {
+                if (!at(s, p, n, '.')) {
+                    return false;
+                }
+                p++;
+            }
+            int q = scan(s, p, Math.min(n, p + 3), L_DIGIT, 0L);
+            if (q == p || q - p > 1 && s.charAt(p) == '0' || number(s, p, q) > 255) {
+                return false;
+            }
+            p = q;
+        }
+        return p == n;
+    }
+
+    /**
+     * Whether the string is an IPv6 address in the text form of RFC 4291: eight groups of one to four hex digits,
+     * with {@code ::} for one or more groups of zeros, and optionally the last two groups as an IPv4 address. Zone ids
+     * and brackets are not allowed.
+     */
+    static boolean isIpv6(String s) {
+        int n = s.length();
+        int dot = scanTo(s, 0, n, '.');
+        if (dot == n) {
+            return ipv6(s, 0, n, 0);
+        }
+        // the last two groups as an IPv4 address, after a single colon or after ::
+        int start = s.lastIndexOf(':', dot) + 1;
+        if (start == 0 || !isIpv4(s, start, n)) {
+            return false;
+        }
+        return ipv6(s, 0, start > 1 && s.charAt(start - 2) == ':' ? start : start - 1, 4);
+    }
+
+    /**
+     * Whether the string is a port number, from 0 to 65535 in decimal digits, without a sign.
+     */
+    static boolean isPort(String s) {
+        int n = s.length();
+        return n > 0 && n <= 5 && scan(s, 0, n, L_DIGIT, 0L) == n && number(s, 0, n) <= 65_535;
+    }
+
+    //region URI
+
+    // [//authority]path[?query]
+    private static int hierarchical(String s, int start, int n) {
+        int p = start;
+        if (at(s, p, n, '/') && at(s, p + 1, n, '/')) {
+            p += 2;
+            int q = scanTo(s, p, n, END_OF_AUTHORITY);
+            if (q > p) {
+                if (!authority(s, p, q)) {
+                    return FAIL;
+                }
+                p = q;
+            } else if (q == n) {
+                // an empty authority needs a path, query or fragment
+                return FAIL;
+            }
+        }
+        int q = scanTo(s, p, n, END_OF_PATH);
+        if (scan(s, p, q, L_PATH, H_PATH) != q) {
+            return FAIL;
+        }
+        p = q;
+        if (at(s, p, n, '?')) {
+            p++;
+            q = scanTo(s, p, n, '#');
+            if (scan(s, p, q, L_URIC, H_URIC) != q) {
+                return FAIL;
+            }
+            p = q;
+        }
+        return p;
+    }
+
+    // a registry name, or [userinfo@]host[:port]
+    private static boolean authority(String s, int p, int n) {
+        int server = s.charAt(p) != ']'
+            ? scan(s, p, n, L_SERVER_PERCENT, H_SERVER)
+            : scan(s, p, n, L_SERVER, H_SERVER);
+        int registry = scan(s, p, n, L_REG_NAME, H_REG_NAME);
+        if (server == FAIL || registry == FAIL) {
+            // URI throws on a malformed escape, even if it would parse the other way
+            return false;
+        }
+        return registry == n || server == n && server(s, p, n);
+    }
+
+    private static boolean server(String s, int start, int n) {
+        int p = start;
+        int q = scanTo(s, p, n, '@');
+        if (q < n) {
+            if (scan(s, p, q, L_USERINFO, H_USERINFO) != q) {
+                return false;
+            }
+            p = q + 1;
+        }
+        if (at(s, p, n, '[')) {
+            p++;
+            q = scanTo(s, p, n, ']');
+            if (q == p || q == n) {
+                return false;
+            }
+            int r = scanTo(s, p, q, '%');
+            if (r > p) {
+                if (!ipv6(s, p, r, 0)) {
+                    return false;
+                }
+                if (r < q && (r + 1 == q || scan(s, r + 1, q, L_SCOPE_ID, H_SCOPE_ID) != q)) {
+                    return false;
+                }
+            } else if (!ipv6(s, p, q, 0)) {
+                return false;
+            }
+            p = q + 1;
+        } else {
+            q = ipv4Host(s, p, n);
+            if (q <= p) {
+                q = hostname(s, p, n);
+            }
+            if (q < 0) {
+                return false;
+            }
+            p = q;
+        }
+        if (at(s, p, n, ':')) {
+            p++;
+            q = scan(s, p, n, L_DIGIT, 0L);
+            if (q != n || number(s, p, q) > Integer.MAX_VALUE) {
+                return false;
+            }
+            p = q;
+        }
+        return p == n;
+    }
+
+    // an IPv4 address followed by nothing or a port, -1 if there is none
+    private static int ipv4Host(String s, int start, int n) {
+        int end = scan(s, start, n, L_DIGIT | L_DOT, 0L);
+        if (end <= start) {
+            return -1;
+        }
+        int p = ipv4(s, start, end);
+        return p == end && (p == n || s.charAt(p) == ':') ? p : -1;
+    }
+
+    // an IPv4 address that fills [start, end) exactly, or FAIL; leading zeros are fine
+    private static int ipv4(String s, int start, int end) {
+        int p = start;
+        for (int part = 0; part < 4; part++) {
+            if (part > 0) {
+                if (!at(s, p, end, '.')) {
+                    return FAIL;
+                }
+                p++;
+            }
+            int q = scan(s, p, end, L_DIGIT, 0L);
+            if (q == p || number(s, p, q) > 255) {
+                return FAIL;
+            }
+            p = q;
+        }
+        return p == end ? p : FAIL;
+    }
+
+    // hostname = domainlabel [ "." ] | 1*( domainlabel "." ) toplabel [ "." ], followed by nothing or a port
+    private static int hostname(String s, int start, int n) {
+        int p = start;
+        int last = -1;
+        do {
+            int q = scan(s, p, n, L_ALPHANUM, H_ALPHANUM);
+            if (q <= p) {
+                break;
+            }
+            last = p;
+            p = q;
+            q = scan(s, p, n, L_ALPHANUM | L_DASH, H_ALPHANUM);
+            if (q > p) {
+                if (s.charAt(q - 1) == '-') {
+                    return FAIL;
+                }
+                p = q;
+            }
+            if (!at(s, p, n, '.')) {
+                break;
+            }
+            p++;
+        } while (p < n);
+        if (p < n && s.charAt(p) != ':' || last < 0 || last > start && !match(s.charAt(last), 0L, H_ALPHA)) {
+            return FAIL;
+        }
+        return p;
+    }
+
+    /*
+     * IPv6 address as java.net.URI parses it, RFC 2373 with addresses like ::1.2.3.4:
+     *
+     *   IPv6address = hexseq [ ":" IPv4address ] | hexseq [ "::" [ hexpost ] ] | "::" [ hexpost ]
+     *   hexpost     = hexseq | hexseq ":" IPv4address | IPv4address
+     *
+     * Without :: the address is 16 bytes, with :: less. bytes counts those of an IPv4 address already checked.
+     */
+    private static boolean ipv6(String s, int start, int n, int bytes) {
+        int p = start;
+        boolean compressed = false;
+        int q = hexSequence(s, p, n);
+        if (q == FAIL) {
+            return false;
+        }
+        if (q > p) {
+            bytes += groups(s, p, q) * 2;
+            p = q;
+            if (at(s, p, n, ':') && at(s, p + 1, n, ':')) {
+                compressed = true;
+                p += 2;
+            } else if (at(s, p, n, ':')) {
+                q = ipv4(s, p + 1, n);
+                if (q < 0) {
+                    return false;
+                }
+                bytes += 4;
+                p = q;
+            }
+        } else if (at(s, p, n, ':') && at(s, p + 1, n, ':')) {
+            compressed = true;
+            p += 2;
+        }
+        if (compressed && p < n) {
+            q = hexSequence(s, p, n);
+            if (q == FAIL) {
+                return false;
+            }
+            if (q > p) {
+                bytes += groups(s, p, q) * 2;
+                p = q;
+                if (at(s, p, n, ':')) {
+                    p = ipv4(s, p + 1, n);
+                    bytes += 4;
+                }
+            } else {
+                p = ipv4(s, p, n);
+                bytes += 4;
+            }
+        }
+        return p == n && (compressed ? bytes < 16 : bytes == 16);
+    }
+
+    // hex4 *( ":" hex4 ), stopping before a "::" or before the ":" of an IPv4 address; NONE if there is none here
+    private static int hexSequence(String s, int start, int n) {
+        int q = scan(s, start, n, L_DIGIT, H_HEX);
+        if (q <= start || at(s, q, n, '.')) {
+            return NONE;
+        }
+        if (q > start + 4) {
+            return FAIL;
+        }
+        int p = q;
+        while (at(s, p, n, ':') && !at(s, p + 1, n, ':')) {
+            q = scan(s, p + 1, n, L_DIGIT, H_HEX);
+            if (q <= p + 1) {
+                return FAIL;
+            }
+            if (at(s, q, n, '.')) {
+                break;
+            }
+            if (q > p + 5) {
+                return FAIL;
+            }
+            p = q;
+        }
+        return p;
+    }
+
+    private static int groups(String s, int start, int end) {
+        int groups = 1;
+        for (int i = start; i < end; i++) {
+            if (s.charAt(i) == ':') {
+                groups++;
+            }
+        }
+        return groups;
+    }
+
+    //endregion
+
+    //region host names
+
+    // the number of labels of a host name, or 0 if it is none
+    private static int hostnameLabels(String s) {
+        int n = s.endsWith(".") ? s.length() - 1 : s.length();
+        if (n == 0 || n > MAX_HOSTNAME_LENGTH) {
+            return 0;
+        }
+        int labels = 0;
+        int p = 0;
+        boolean numeric = false;
+        while (p <= n) {
+            int q = scan(s, p, n, L_ALPHANUM | L_DASH, H_ALPHANUM);
+            if (q == p || q - p > MAX_LABEL_LENGTH || s.charAt(p) == '-' || s.charAt(q - 1) == '-'
+                || q < n && s.charAt(q) != '.') {
+                return 0;
+            }
+            numeric = scan(s, p, q, L_DIGIT, 0L) == q;
+            labels++;
+            p = q + 1;
+        }
+        return numeric ? 0 : labels;
+    }
+
+    //endregion
+
+    //region scanning
+
+    private static boolean match(char c, long lowMask, long highMask) {
+        if (c == 0) {
+            return false;
+        }
+        if (c < 64) {
+            return (1L << c & lowMask) != 0;
+        }
+        if (c < 128) {
+            return (1L << c - 64 & highMask) != 0;
+        }
+        return false;
+    }
+
+    private static boolean at(String s, int p, int n, char c) {
+        return p >= 0 && p < n && s.charAt(p) == c;
+    }
+
+    // the position of the first character of the class after start, or FAIL for a malformed escape
+    private static int scan(String s, int start, int n, long lowMask, long highMask) {
+        int p = start;
+        while (p < n) {
+            char c = s.charAt(p);
+            if (match(c, lowMask, highMask)) {
+                p++;
+            } else if ((lowMask & L_ESCAPED) == 0) {
+                break;
+            } else if (c == '%') {
+                if (p + 3 > n || !match(s.charAt(p + 1), L_DIGIT, H_HEX) || !match(s.charAt(p + 2), L_DIGIT, H_HEX)) {
+                    return FAIL;
+                }
+                p += 3;
+            } else if (c > 128 && !Character.isSpaceChar(c) && !Character.isISOControl(c)) {
+                // visible non-ASCII characters are allowed unescaped
+                p++;
+            } else {
+                break;
+            }
+        }
+        return p;
+    }
+
+    // the position of the colon after the scheme, n if there is none, or -1 if a '/', '?' or '#' comes first
+    private static int schemeEnd(String s, int n) {
+        for (int p = 0; p < n; p++) {
+            char c = s.charAt(p);
+            if (c < 64 && (1L << c & END_OF_AUTHORITY) != 0) {
+                return -1;
+            }
+            if (c == ':') {
+                return p;
+            }
+        }
+        return n;
+    }
+
+    // the position of the first of the stop characters, which are all below 64, or n
+    private static int scanTo(String s, int start, int n, long stops) {
+        for (int p = start; p < n; p++) {
+            char c = s.charAt(p);
+            if (c < 64 && (1L << c & stops) != 0) {
+                return p;
+            }
+        }
+        return n;
+    }
+
+    private static int scanTo(String s, int start, int n, char stop) {
+        int p = s.indexOf(stop, start);
+        return p < 0 || p > n ? n : p;
+    }
+
+    // the value of the digits in [start, end), saturating above Integer.MAX_VALUE
+    private static long number(String s, int start, int end) {
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            value = Math.min(value * 10 + s.charAt(i) - '0', Integer.MAX_VALUE + 1L);
+        }
+        return value;
+    }
+
+    //endregion
+}
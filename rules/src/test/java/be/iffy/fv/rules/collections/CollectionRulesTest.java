@@ -2,8 +2,11 @@ package be.iffy.fv.rules.collections;
 
 import io.vavr.collection.HashMap;
 import io.vavr.collection.HashSet;
+import be.iffy.fv.BatchLookup;
 import be.iffy.fv.ErrorMessage;
+import be.iffy.fv.Parallelism;
 import be.iffy.fv.Rule;
+import be.iffy.fv.ValidationContext;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
@@ -11,13 +14,16 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
 
 import static be.iffy.fv.assertj.ValidationAssert.assertThatValidation;
 import static be.iffy.fv.rules.collections.CollectionRules.*;
 import static be.iffy.fv.rules.RulesTest.invalidTest;
 import static be.iffy.fv.rules.RulesTest.validTest;
 import static be.iffy.fv.rules.numbers.IntegerRules.ints;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class CollectionRulesTest {
@@ -435,5 +441,46 @@ class CollectionRulesTest {
                     .isInvalid()
                     .hasErrorMessages("value[0].must.be.positive", "value[2].must.be.positive");
         }
+
+        @Test
+        void parallel_sameAsSequential() {
+            Rule<Number> rule = Rule.of(n -> n.doubleValue() > 0, "must.be.positive");
+            List<Integer> input = IntStream.range(-10, 90).map(i -> i % 7 == 0 ? -i : i).boxed().toList();
+
+            // a pool of its own, the common pool may have a single thread on the machine running the tests
+            try (ForkJoinPool pool = new ForkJoinPool(4)) {
+                Parallelism parallelism = Parallelism.on(pool).withThreshold(0).withChunkSize(4);
+
+                assertThat(collections.<Integer>validateValuesWith(rule, parallelism).apply(input))
+                        .isEqualTo(collections.<Integer>validateValuesWith(rule).apply(input));
+                assertThatValidation(collections.<Integer>validateValuesWith(rule, parallelism).apply(List.of(1, 2))).isValid();
+            }
+        }
+
+        @Test
+        void withinValidationContext_stopsAtTheMaximumNumberOfErrors() {
+            Rule<Number> rule = Rule.of(n -> n.doubleValue() > 0, "must.be.positive");
+            List<Integer> input = IntStream.range(0, 1_000).map(i -> -i).boxed().toList();
+
+            var result = ValidationContext.maxErrors(2).run(() -> collections.<Integer>validateValuesWith(rule).apply(input));
+
+            assertThatValidation(result)
+                    .isInvalid()
+                    .hasErrorMessages("[0].must.be.positive", "[1].must.be.positive", "validation.truncated");
+        }
+
+        @Test
+        void batchLookup_loadsAllValuesAtOnce() {
+            List<java.util.Set<Integer>> batches = new ArrayList<>();
+            Rule<Integer> known = BatchLookup.of((java.util.Set<Integer> keys) -> {
+                batches.add(keys);
+                return java.util.Map.of(1, "one", 2, "two");
+            }).asRule();
+
+            assertThatValidation(collections.<Integer>validateValuesWith(known).apply(List.of(1, 3, 2, 1)))
+                    .isInvalid()
+                    .hasErrorMessages("[1].must.exist");
+            assertThat(batches).containsExactly(java.util.Set.of(1, 3, 2));
+        }
     }
 }
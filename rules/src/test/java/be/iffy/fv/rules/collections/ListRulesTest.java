@@ -2,6 +2,7 @@ package be.iffy.fv.rules.collections;
 
 import be.iffy.fv.ErrorMessage;
 import be.iffy.fv.MappingRule;
+import be.iffy.fv.Parallelism;
 import be.iffy.fv.Rule;
 import io.vavr.collection.HashMap;
 import io.vavr.collection.HashSet;
@@ -11,13 +12,16 @@ import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
 
 import static be.iffy.fv.assertj.ValidationAssert.assertThatValidation;
 import static be.iffy.fv.rules.RulesTest.invalidTest;
 import static be.iffy.fv.rules.RulesTest.validTest;
 import static be.iffy.fv.rules.collections.ListRules.lists;
 import static be.iffy.fv.rules.numbers.IntegerRules.ints;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class ListRulesTest {
@@ -475,5 +479,20 @@ class ListRulesTest {
                     .isInvalid()
                     .hasErrorMessages("value[0].must.be.positive", "value[2].must.be.positive");
         }
+
+        @Test
+        void parallel_sameAsSequential() {
+            Rule<Number> rule = Rule.of(n -> n.doubleValue() > 0, "must.be.positive");
+            List<Integer> input = IntStream.range(-10, 90).map(i -> i % 7 == 0 ? -i : i).boxed().toList();
+
+            // a pool of its own, the common pool may have a single thread on the machine running the tests
+            try (ForkJoinPool pool = new ForkJoinPool(4)) {
+                Parallelism parallelism = Parallelism.on(pool).withThreshold(0).withChunkSize(4);
+
+                assertThat(lists.<Integer>validateValuesWith(rule, parallelism).apply(input))
+                        .isEqualTo(lists.<Integer>validateValuesWith(rule).apply(input));
+                assertThatValidation(lists.<Integer>validateValuesWith(rule, parallelism).apply(List.of(1, 2))).isValid();
+            }
+        }
     }
 }
\ No newline at end of file
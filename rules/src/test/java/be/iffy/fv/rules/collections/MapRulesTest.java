@@ -5,6 +5,7 @@ import io.vavr.collection.HashMap;
 import io.vavr.collection.HashSet;
 import be.iffy.fv.Rule;
 import be.iffy.fv.Validation;
+import be.iffy.fv.ValidationContext;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
@@ -16,6 +17,7 @@ import static be.iffy.fv.assertj.ValidationAssert.assertThatValidation;
 import static be.iffy.fv.rules.collections.MapRules.*;
 import static be.iffy.fv.rules.RulesTest.invalidTest;
 import static be.iffy.fv.rules.RulesTest.validTest;
+import static org.assertj.core.api.Assertions.assertThat;
 
 class MapRulesTest {
 
@@ -304,6 +306,22 @@ class MapRulesTest {
             assertThatValidation(result).isInvalid().hasErrorMessage("value[a].must.be.positive");
             assertThatValidation(result).isInvalid().hasErrorMessage("value[c].must.be.positive");
         }
+
+        @Test
+        void validateValuesWith_withinValidationContext_stopsAtTheMaximumNumberOfErrors() {
+            Rule<Number> rule = Rule.of(b -> b.doubleValue() > 0, "must.be.positive");
+            Map<String, BigDecimal> input = Map.of(
+                    "a", BigDecimal.valueOf(-1),
+                    "b", BigDecimal.valueOf(-2),
+                    "c", BigDecimal.ZERO
+            );
+
+            Validation<Map<String, BigDecimal>> result = ValidationContext.maxErrors(1)
+                    .run(() -> maps.<String, BigDecimal>validateValuesWith(rule).apply(input));
+
+            assertThat(ValidationContext.isTruncated(result)).isTrue();
+            assertThat(result.errors()).hasSize(2);
+        }
     }
 
 
@@ -1,13 +1,20 @@
 package be.iffy.fv.rules.numbers;
 
+import be.iffy.fv.Rule;
+import be.iffy.fv.Validation;
+import be.iffy.fv.rules.ComparableRules;
 import io.vavr.collection.HashMap;
 import io.vavr.collection.HashSet;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.stream.DoubleStream;
+
+import static be.iffy.fv.assertj.ValidationAssert.assertThatValidation;
 import static be.iffy.fv.rules.numbers.DoubleRules.doubles;
 import static be.iffy.fv.rules.RulesTest.invalidTest;
 import static be.iffy.fv.rules.RulesTest.validTest;
+import static org.assertj.core.api.Assertions.assertThat;
 
 class DoubleRulesTest {
 
@@ -296,4 +303,57 @@ class DoubleRulesTest {
             invalidTest(1.0, doubles.notOneOf(1.0, 2.0, 3.0), "must.not.be.one.of", HashMap.of("values", HashSet.of(1.0, 2.0, 3.0)));
         }
     }
+
+    @Nested
+    class Comparisons {
+
+        private final ComparableRules<Double> comparable = new ComparableRules<>() {
+        };
+        private final double[] values = {Double.NEGATIVE_INFINITY, -1.0, -0.0, 0.0, 1.0, Double.POSITIVE_INFINITY, Double.NaN};
+
+        @Test
+        void sameAsComparableRules() {
+            for (double a : values) {
+                for (double b : values) {
+                    sameAs(comparable.greaterThan(a), doubles.greaterThan(a));
+                    sameAs(comparable.atLeast(a), doubles.atLeast(a));
+                    sameAs(comparable.lessThan(a), doubles.lessThan(a));
+                    sameAs(comparable.atMost(a), doubles.atMost(a));
+                    if (Double.compare(a, b) <= 0) {
+                        sameAs(comparable.between(a, b), doubles.between(a, b));
+                    }
+                    if (Double.compare(a, b) < 0) {
+                        sameAs(comparable.betweenExclusive(a, b), doubles.betweenExclusive(a, b));
+                    }
+                }
+            }
+        }
+
+        private void sameAs(Rule<Double> expected, Rule<Double> actual) {
+            for (double value : values) {
+                assertThat(actual.apply(value)).as("%s", value).isEqualTo(expected.apply(value));
+            }
+        }
+    }
+
+    @Nested
+    class Lifted {
+
+        @Test
+        void toArray() {
+            assertThatValidation(doubles.finiteDouble().and(doubles.nonNegative()).lift().toArray().apply(new double[]{0.0, 1.5}))
+                    .isValid();
+            assertThatValidation(doubles.finiteDouble().and(doubles.nonNegative()).lift().toArray().apply(new double[]{0.0, -1.0, Double.NaN}))
+                    .isInvalid()
+                    .hasErrorMessages("[1].must.be.non.negative", "[2].must.be.finite", "[2].must.be.non.negative");
+        }
+
+        @Test
+        void toDoubleStream() {
+            Validation<double[]> result = doubles.between(0.0, 1.0).lift().toDoubleStream().apply(DoubleStream.of(0.25, 0.75));
+
+            assertThatValidation(result).isValid();
+            assertThat(result.getOrElseThrow()).containsExactly(0.25, 0.75);
+        }
+    }
 }
@@ -1,13 +1,19 @@
 package be.iffy.fv.rules.numbers;
 
+import be.iffy.fv.IntRule;
+import be.iffy.fv.Rule;
 import io.vavr.collection.HashMap;
 import io.vavr.collection.HashSet;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.stream.IntStream;
+
+import static be.iffy.fv.assertj.ValidationAssert.assertThatValidation;
 import static be.iffy.fv.rules.numbers.IntegerRules.ints;
 import static be.iffy.fv.rules.RulesTest.invalidTest;
 import static be.iffy.fv.rules.RulesTest.validTest;
+import static org.assertj.core.api.Assertions.assertThat;
 
 class IntegerRulesTest {
 
@@ -330,4 +336,35 @@ class IntegerRulesTest {
             );
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class Lifted {
+
+        @Test
+        void toArray() {
+            validTest(new int[]{0, 2, 4094}, ints.nonNegative().and(ints.evenInt()).lift().toArray());
+            assertThatValidation(ints.nonNegative().and(ints.maxInt(4095)).lift().toArray().apply(new int[]{0, -1, 4096}))
+                    .isInvalid()
+                    .hasErrorMessages("[1].must.be.non.negative", "[2].must.be.at.most");
+        }
+
+        @Test
+        void toIntStream() {
+            assertThatValidation(ints.between(1, 3).lift().toIntStream().apply(IntStream.rangeClosed(0, 4)))
+                    .isInvalid()
+                    .hasErrorMessages("[0].must.be.between", "[4].must.be.between");
+        }
+
+        @Test
+        void rulesWithoutBridgeMethods_keepTheirRuleSignature() throws NoSuchMethodException {
+            // callers compiled against an older version link against these return types
+            assertThat(IntegerRules.class.getMethod("odd").getReturnType()).isEqualTo(Rule.class);
+            assertThat(IntegerRules.class.getMethod("even").getReturnType()).isEqualTo(Rule.class);
+            assertThat(IntegerRules.class.getMethod("min", int.class).getReturnType()).isEqualTo(Rule.class);
+            assertThat(IntegerRules.class.getMethod("max", int.class).getReturnType()).isEqualTo(Rule.class);
+            assertThat(IntegerRules.class.getMethod("min", Integer.class).getReturnType()).isEqualTo(Rule.class);
+            assertThat(IntegerRules.class.getMethod("max", Integer.class).getReturnType()).isEqualTo(Rule.class);
+            assertThat(IntegerRules.class.getMethod("minInt", int.class).getReturnType()).isEqualTo(IntRule.class);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package be.iffy.fv.rules.text;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class LinearPatternTest {
+
+    @Nested
+    class Compile {
+
+        @Test
+        void compile_whenBacktrackingConstruct_throwsException() {
+            for (String regex : new String[]{"(a)\\1", "(?<x>a)\\k<x>", "a(?=b)", "a(?!b)", "(?<=a)b", "(?<!a)b",
+                "(?>a)", "a*+", "a++", "(?i)a", "[a-z&&[^b]]", "\\G", "\\R", "\\X", "(?:^a)*", "\\b{2}"}) {
+                assertThatThrownBy(() -> LinearPattern.compile(regex))
+                    .as(regex)
+                    .isInstanceOf(PatternSyntaxException.class);
+            }
+        }
+
+        @Test
+        void compile_whenInvalid_throwsLikePattern() {
+            assertThatThrownBy(() -> LinearPattern.compile("a{2"))
+                .isInstanceOf(PatternSyntaxException.class);
+            assertThatThrownBy(() -> LinearPattern.compile("(a"))
+                .isInstanceOf(PatternSyntaxException.class);
+        }
+
+        @Test
+        void compile_whenTooLarge_throwsException() {
+            assertThatThrownBy(() -> LinearPattern.compile("(a{1000}){1000}"))
+                .isInstanceOf(PatternSyntaxException.class);
+        }
+
+        @Test
+        void pattern_returnsTheRegex() {
+            assertThat(LinearPattern.compile("a+b").pattern()).isEqualTo("a+b");
+            assertThat(LinearPattern.compile("a+b")).hasToString("a+b");
+        }
+    }
+
+    @Nested
+    class Matching {
+
+        @Test
+        void matches_whenPathologicalPattern_runsInLinearTime() {
+            // Arrange
+            LinearPattern nested = LinearPattern.compile("(a+)+b");
+            LinearPattern alternation = LinearPattern.compile("(a|aa)*c");
+            LinearPattern repeated = LinearPattern.compile("(.*a){12}");
+            String input = "a".repeat(100_000);
+
+            // Act & Assert
+            assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+                assertThat(nested.matches(input)).isFalse();
+                assertThat(nested.find(input)).isFalse();
+                assertThat(alternation.matches(input)).isFalse();
+                assertThat(repeated.matches(input + "!")).isFalse();
+                assertThat(nested.matches(input + "b")).isTrue();
+            });
+        }
+
+        @Test
+        void matches_whenNonAsciiInput_continuesWithoutDfa() {
+            LinearPattern pattern = LinearPattern.compile("[a-z]+\\p{L}*\\d");
+            assertThat(pattern.matches("abc\u00e9\u00e81")).isTrue();
+            assertThat(pattern.matches("abc\u00e9\u00e8")).isFalse();
+            assertThat(pattern.find("\ud83d\ude00x1")).isTrue();
+        }
+
+        @Test
+        void anchors_matchLikePattern() {
+            LinearPattern dollar = LinearPattern.compile("a$");
+            assertThat(dollar.find("a")).isTrue();
+            assertThat(dollar.find("a\n")).isTrue();
+            assertThat(dollar.find("a\r\n")).isTrue();
+            assertThat(dollar.find("a\n\n")).isFalse();
+            assertThat(LinearPattern.compile("\\r$").find("a\r\n")).isFalse(); // no end of line between \r and \n
+            assertThat(LinearPattern.compile("a\\z").find("a\n")).isFalse();
+            assertThat(LinearPattern.compile("^b").find("ab")).isFalse();
+            assertThat(LinearPattern.compile("\\bcat\\b").find("a cat!")).isTrue();
+            assertThat(LinearPattern.compile("\\bcat\\b").find("concat")).isFalse();
+        }
+
+        @Test
+        void quoting_isLiteral() {
+            assertThat(LinearPattern.compile(Pattern.quote("a.b*")).matches("a.b*")).isTrue();
+            assertThat(LinearPattern.compile(Pattern.quote("a.b*")).matches("axb")).isFalse();
+            assertThat(LinearPattern.compile("\\Qab\\E+").matches("abbb")).isTrue();
+        }
+    }
+
+    /**
+     * Random expressions of the supported constructs, matched against random input, give the same result as
+     * {@link Pattern}.
+     */
+    @Nested
+    class SameAsPattern {
+
+        private static final String[] ATOMS = {
+            "a", "b", "c", ".", "[ab]", "[^a]", "[a-c\\d]", "[]a]", "[^[ab]c]", "\\d", "\\w", "\\s", "\\S", "\\W",
+            "\\.", "\\x41", "\\u00e9", "\u00e9", "\ud83d\ude00", "\\p{L}", "\\P{Lu}", "\\h", "\\v", "\\t", "\\n",
+            "^", "$", "\\b", "\\B", "\\A", "\\z", "\\Z", "\\Qa.\\E", "(?:ab)", "(?<name>b)"
+        };
+        private static final String[] QUANTIFIERS = {"", "", "", "?", "*", "+", "{2}", "{0,2}", "{1,}", "*?", "+?"};
+        private static final String INPUT = "abcA1 _.\n\r\t\u00e9\u0301\ud83d\ude00";
+
+        private final Random random = new Random(42);
+
+        private String randomRegex(int depth) {
+            StringBuilder regex = new StringBuilder();
+            int atoms = 1 + random.nextInt(4);
+            for (int i = 0; i < atoms; i++) {
+                int choice = random.nextInt(10);
+                if (depth > 0 && choice == 0) {
+                    regex.append('(').append(randomRegex(depth - 1)).append('|').append(randomRegex(depth - 1)).append(')');
+                } else if (depth > 0 && choice == 1) {
+                    regex.append("(?:").append(randomRegex(depth - 1)).append(')');
+                } else {
+                    regex.append(ATOMS[random.nextInt(ATOMS.length)]);
+                }
+                regex.append(QUANTIFIERS[random.nextInt(QUANTIFIERS.length)]);
+            }
+            return regex.toString();
+        }
+
+        private String randomInput() {
+            StringBuilder input = new StringBuilder();
+            int length = random.nextInt(8);
+            for (int i = 0; i < length; i++) {
+                int index = random.nextInt(INPUT.length() - 1);
+                if (Character.isHighSurrogate(INPUT.charAt(index))) {
+                    input.append(INPUT, index, index + 2);
+                } else if (Character.isLowSurrogate(INPUT.charAt(index))) {
+                    input.append(INPUT, index - 1, index + 1);
+                } else {
+                    input.append(INPUT.charAt(index));
+                }
+            }
+            return input.toString();
+        }
+
+        @Test
+        void randomExpressions_matchLikePattern() {
+            int compared = 0;
+            for (int i = 0; i < 3000; i++) {
+                String regex = randomRegex(2);
+                Pattern pattern;
+                try {
+                    pattern = Pattern.compile(regex);
+                } catch (PatternSyntaxException e) {
+                    continue;
+                }
+                LinearPattern linear;
+                try {
+                    linear = LinearPattern.compile(regex);
+                } catch (PatternSyntaxException e) {
+                    // an anchor or word boundary inside a repetition
+                    assertThat(regex).containsAnyOf("^", "$", "\\b", "\\B", "\\A", "\\z", "\\Z");
+                    continue;
+                }
+                for (int j = 0; j < 30; j++) {
+                    String input = randomInput();
+                    assertThat(linear.matches(input))
+                        .as("%s matches %s", regex, input)
+                        .isEqualTo(pattern.matcher(input).matches());
+                    assertThat(linear.find(input))
+                        .as("%s found in %s", regex, input)
+                        .isEqualTo(pattern.matcher(input).find());
+                }
+                compared++;
+            }
+            assertThat(compared).isGreaterThan(1500);
+        }
+    }
+}
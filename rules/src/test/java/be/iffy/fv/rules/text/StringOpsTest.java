@@ -5,6 +5,12 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Random;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static be.iffy.fv.rules.text.CharCategory.*;
 import static be.iffy.fv.rules.text.StringOps.stringOps;
@@ -287,6 +293,12 @@ class StringOpsTest {
             transform(nfd, "́", stringOps.keep(MARKS));
         }
 
+        @Test
+        void keep_whenNothingToRemove_returnsSameInstance() {
+            String input = "abc123";
+            assertThat(stringOps.keep(ASCII_LETTERS, ASCII_DIGITS).apply(input)).isSameAs(input);
+        }
+
         @Test
         void keep_nullInputReturnsNull() {
             whenNull(stringOps.keep(ASCII_DIGITS));
@@ -341,6 +353,18 @@ class StringOpsTest {
             transform("abc 123", "abc", stringOps.strip(ASCII_DIGITS, ASCII_WHITESPACE));
         }
 
+        @Test
+        void strip_whenNothingToRemove_returnsSameInstance() {
+            String input = "héllo wörld";
+            assertThat(stringOps.strip(DIGITS, PUNCTUATION).apply(input)).isSameAs(input);
+        }
+
+        @Test
+        void strip_removesSupplementaryCodePoints() {
+            // MATHEMATICAL BOLD CAPITAL A is a letter outside the BMP
+            transform("1\uD835\uDC002", "12", stringOps.strip(LETTERS));
+        }
+
         @Test
         void strip_nullInputReturnsNull() {
             whenNull(stringOps.strip(DIGITS));
@@ -374,6 +398,32 @@ class StringOpsTest {
             assertThatCode(() -> stringOps.strip(WHITESPACE, ASCII_PUNCTUATION)).doesNotThrowAnyException();
         }
 
+        @Test
+        void eachCategory_matchesSameCodePointsAsRegexCharacterClass() {
+            Map<CharCategory, String> regexes = new EnumMap<>(CharCategory.class);
+            regexes.put(ASCII_DIGITS, "[0-9]");
+            regexes.put(ASCII_LETTERS, "[A-Za-z]");
+            regexes.put(ASCII_WHITESPACE, "\\s");
+            regexes.put(DIGITS, "\\p{Nd}");
+            regexes.put(LETTERS, "\\p{L}");
+            regexes.put(MARKS, "\\p{M}");
+            regexes.put(ASCII_PUNCTUATION, "\\p{Punct}");
+            regexes.put(PUNCTUATION, "\\p{P}");
+            regexes.put(SPACE, " ");
+            regexes.put(WHITESPACE, "\\p{IsWhite_Space}");
+            for (CharCategory category : CharCategory.values()) {
+                Matcher regex = Pattern.compile(regexes.get(category)).matcher("");
+                for (int codePoint = 0; codePoint <= Character.MAX_CODE_POINT; codePoint++) {
+                    boolean expected = regex.reset(Character.toString(codePoint)).matches();
+                    if (category.matcher.matches(codePoint) != expected) {
+                        assertThat(category.matcher.matches(codePoint))
+                            .as("%s matches U+%04X", category, codePoint)
+                            .isEqualTo(expected);
+                    }
+                }
+            }
+        }
+
         @Test
         void whitespace_unicodePropertyDistinguishedFromAscii() {
             // \p{IsWhite_Space} must match no-break space (U+00A0) and em space (U+2003) — Unicode White_Space property
@@ -391,6 +441,12 @@ class StringOpsTest {
             transform("HeLLo", "hello", stringOps.toLowercase());
         }
 
+        @Test
+        void lowercase_withLocale_usesLocaleRulesForAsciiLetters() {
+            transform("TITLE", "tıtle", stringOps.toLowercase(Locale.forLanguageTag("tr")));
+            transform("ÉCOLE", "école", stringOps.toLowercase(Locale.FRENCH));
+        }
+
         @Test
         void lowercase_nullInputReturnsNull() {
             whenNull(stringOps.toLowercase());
@@ -405,6 +461,12 @@ class StringOpsTest {
             transform("HeLLo", "HELLO", stringOps.toUppercase());
         }
 
+        @Test
+        void uppercase_withLocale_usesLocaleRulesForAsciiLetters() {
+            transform("title", "TİTLE", stringOps.toUppercase(Locale.forLanguageTag("tr")));
+            transform("straße", "STRASSE", stringOps.toUppercase(Locale.GERMAN));
+        }
+
         @Test
         void uppercase_nullInputReturnsNull() {
             whenNull(stringOps.toUppercase());
@@ -424,6 +486,11 @@ class StringOpsTest {
             transform("abc", "abc", stringOps.removeCharacters(null));
         }
 
+        @Test
+        void removeCharacters_treatsRegexMetaCharsLiterally() {
+            transform("a[b]c&&d^e\\f-g", "abcdefg", stringOps.removeCharacters("[]&^\\-"));
+        }
+
         @Test
         void removeCharacters_nullInputReturnsNull() {
             whenNull(stringOps.removeCharacters("-"));
@@ -537,4 +604,90 @@ class StringOpsTest {
             whenNull(stringOps.stripControlChars());
         }
     }
+
+    @Nested
+    class Sequence {
+
+        private static final String ALPHABET = "aZ \t\n\r\u000B\f\u0085\u2028\u00A0é\u0301İßx-.\uD835\uDC00\u0000\u200B";
+
+        private static String reference(String s) {
+            String result = s.replaceAll("\\R", " ").trim();
+            result = result.replaceAll("\\s+", " ");
+            result = result.replaceAll("[^\\p{L}\\p{M} ]+", "");
+            result = Normalizer.normalize(result, Normalizer.Form.NFD).replaceAll("\\p{M}+", "");
+            result = Normalizer.normalize(result, Normalizer.Form.NFC);
+            return result.toUpperCase(Locale.ROOT).trim();
+        }
+
+        @Test
+        void sequence_whenFused_returnsSameResultAsApplyingEachTransformationInTurn() {
+            // Arrange
+            Transformation<String> fused = Transformation.sequence(
+                stringOps.stripNewlines(),
+                stringOps.collapseWhitespace(),
+                stringOps.keep(LETTERS, MARKS, SPACE),
+                stringOps.stripDiacritics(),
+                stringOps.toUppercase(),
+                stringOps.trim()
+            );
+            Random random = new Random(42);
+
+            // Act & Assert
+            for (int i = 0; i < 10_000; i++) {
+                StringBuilder input = new StringBuilder();
+                int length = random.nextInt(12);
+                for (int j = 0; j < length; j++) {
+                    input.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+                }
+                assertThat(fused.apply(input.toString()))
+                    .as("input '%s'", input)
+                    .isEqualTo(reference(input.toString()));
+            }
+        }
+
+        @Test
+        void sequence_whenNothingChanges_returnsSameInstance() {
+            // Arrange
+            Transformation<String> fused = Transformation.sequence(
+                stringOps.normalizeSpace(),
+                stringOps.toLowercase(),
+                stringOps.stripDiacritics(),
+                stringOps.stripControlChars()
+            );
+            String input = "already clean input";
+
+            // Act
+            String result = fused.apply(input);
+
+            // Assert
+            assertThat(result).isSameAs(input);
+        }
+
+        @Test
+        void sequence_whenChangesCancelOut_returnsSameInstance() {
+            // Arrange
+            Transformation<String> fused = Transformation.sequence(stringOps.toUppercase(), stringOps.toLowercase());
+            String input = "lowercase";
+
+            // Act
+            String result = fused.apply(input);
+
+            // Assert
+            assertThat(result).isSameAs(input);
+        }
+
+        @Test
+        void sequence_withOtherTransformations_appliesAllInOrder() {
+            // Arrange
+            Transformation<String> fused = Transformation.sequence(
+                stringOps.trim(),
+                s -> s + "!",
+                stringOps.toUppercase(),
+                stringOps.truncateWithEllipsis(5)
+            );
+
+            // Act & Assert
+            transform("  hello ", "HELL…", fused);
+        }
+    }
 }
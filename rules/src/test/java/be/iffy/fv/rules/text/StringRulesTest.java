@@ -1,10 +1,12 @@
 package be.iffy.fv.rules.text;
 
 import be.iffy.fv.ErrorMessage;
+import be.iffy.fv.MappingRule;
 import be.iffy.fv.ValidationException;
 import io.vavr.collection.HashMap;
 import io.vavr.collection.HashSet;
 import io.vavr.collection.List;
+import io.vavr.collection.TreeSet;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
@@ -12,13 +14,19 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.MalformedURLException;
 import java.net.URI;
+import java.net.URL;
 import java.text.Normalizer;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.regex.Pattern;
+import java.util.stream.IntStream;
 
 import static be.iffy.fv.assertj.ValidationAssert.assertThatValidation;
 import static be.iffy.fv.rules.RulesTest.invalidTest;
@@ -26,10 +34,36 @@ import static be.iffy.fv.rules.RulesTest.validTest;
 import static be.iffy.fv.rules.text.CharCategory.*;
 import static be.iffy.fv.rules.text.StringRules.strings;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class StringRulesTest {
 
+    /**
+     * The conversions don't throw on invalid input, but must still accept exactly the same inputs as the JDK parsers.
+     */
+    private static <R> void sameAsJdkParser(MappingRule<String, R> rule, Function<String, R> jdkParser, String... inputs) {
+        for (String input : inputs) {
+            R expected;
+            try {
+                expected = jdkParser.apply(input);
+            } catch (RuntimeException e) {
+                expected = null;
+            }
+            if (expected == null) {
+                assertThatValidation(rule.apply(input))
+                        .as("input '%s'", input)
+                        .isInvalid();
+            } else {
+                assertThatValidation(rule.apply(input))
+                        .as("input '%s'", input)
+                        .isValid()
+                        .isEqualTo(expected);
+            }
+        }
+    }
+
     @Nested
     class NotEmpty {
 
@@ -335,7 +369,19 @@ class StringRulesTest {
 
         @Test
         void nullPattern_throwsException() {
-            assertThrows(NullPointerException.class, () -> strings.containsPattern(null));
+            assertThrows(NullPointerException.class, () -> strings.containsPattern((Pattern) null));
+        }
+
+        @Test
+        void valid_linearPattern() {
+            validTest("abc123def", strings.containsPattern(LinearPattern.compile("\\d+")));
+        }
+
+        @Test
+        void invalid_linearPattern() {
+            LinearPattern pattern = LinearPattern.compile("\\d+");
+            invalidTest("abc", strings.containsPattern(pattern), "must.contain.regex", HashMap.of("regex", "\\d+"));
+            invalidTest(null, strings.containsPattern(pattern), "must.not.be.null");
         }
     }
 
@@ -639,6 +685,47 @@ class StringRulesTest {
         void nullPattern_throwsException() {
             assertThrows(NullPointerException.class, () -> strings.matches((Pattern) null));
         }
+
+        @Test
+        void valid_linearPattern() {
+            validTest("12345", strings.matches(LinearPattern.compile("\\d+")));
+            validTest("a".repeat(10_000) + "b", strings.matches(LinearPattern.compile("(a+)+b")));
+        }
+
+        @Test
+        void invalid_linearPattern() {
+            LinearPattern pattern = LinearPattern.compile("(a+)+b");
+            invalidTest("a".repeat(10_000), strings.matches(pattern), "must.match.regex", HashMap.of("regex", "(a+)+b"));
+            invalidTest(null, strings.matches(pattern), "must.not.be.null");
+        }
+    }
+
+    @Nested
+    class MatchesWithin {
+
+        @Test
+        void valid() {
+            validTest("12345", strings.matchesWithin("\\d+", 100));
+            validTest("aaab", strings.matchesWithin(Pattern.compile("(a+)+b"), 100));
+        }
+
+        @Test
+        void invalid_whenNoMatch() {
+            invalidTest("12a", strings.matchesWithin("\\d+", 100), "must.match.regex", HashMap.of("regex", "\\d+"));
+            invalidTest(null, strings.matchesWithin("\\d+", 100), "must.not.be.null");
+        }
+
+        @Test
+        void invalid_whenBudgetExceeded() {
+            // millions of steps for java.util.regex
+            invalidTest("a".repeat(20) + "!", strings.matchesWithin("(.*a){12}", 10_000), "must.match.regex.within.budget",
+                HashMap.of("regex", "(.*a){12}", "budget", 10_000));
+        }
+
+        @Test
+        void negativeBudget_throwsException() {
+            assertThrows(IllegalArgumentException.class, () -> strings.matchesWithin("a", -1));
+        }
     }
 
     @Nested
@@ -890,6 +977,8 @@ class StringRulesTest {
             invalidTest("SGVsbG8==", strings.base64(), "must.be.base64"); // invalid padding (only 1 or 2 '=' allowed at end)
             invalidTest("=SGVsbG8", strings.base64(), "must.be.base64"); // padding at start
             invalidTest("SGVz-G8", strings.base64(), "must.be.base64"); // URL-safe char in standard Base64
+            invalidTest("S===", strings.base64(), "must.be.base64"); // at most 2 padding characters
+            invalidTest("SGV=bG8=", strings.base64(), "must.be.base64"); // padding in the middle
             invalidTest(null, strings.base64(), "must.not.be.null");
         }
     }
@@ -967,6 +1056,10 @@ class StringRulesTest {
             validTest("n", false, strings.asBoolean());
             validTest("anything-else", false, strings.asBoolean());
             validTest("", false, strings.asBoolean());
+            validTest("yES", true, strings.asBoolean());
+            validTest("ye", false, strings.asBoolean());
+            validTest("truee", false, strings.asBoolean());
+            validTest("2", false, strings.asBoolean());
         }
 
         @Test
@@ -997,6 +1090,11 @@ class StringRulesTest {
         void asInteger_whenNull_returnsInvalid() {
             invalidTest(null, strings.asInteger(), "must.not.be.null");
         }
+
+        @Test
+        void asInteger_acceptsExactlyWhatTheJdkParserAccepts() {
+            sameAsJdkParser(strings.asInteger(), Integer::parseInt, "0", "+7", "-0", "007", "2147483647", "-2147483648", "2147483648", "-2147483649", "+", "-", "--1", "+-1", "1_000", " 1", "1 ", "\u0661\u0662\u0663", "\uFF11\uFF12", "99999999999");
+        }
     }
 
     @Nested
@@ -1021,6 +1119,11 @@ class StringRulesTest {
         void asLong_whenNull_returnsInvalid() {
             invalidTest(null, strings.asLong(), "must.not.be.null");
         }
+
+        @Test
+        void asLong_acceptsExactlyWhatTheJdkParserAccepts() {
+            sameAsJdkParser(strings.asLong(), Long::parseLong, "0", "+7", "9223372036854775807", "-9223372036854775808", "-9223372036854775809", "+", "", "12L", "\u0661\u0662", "1e3");
+        }
     }
 
     @Nested
@@ -1045,6 +1148,11 @@ class StringRulesTest {
         void asDouble_whenNull_returnsInvalid() {
             invalidTest(null, strings.asDouble(), "must.not.be.null");
         }
+
+        @Test
+        void asDouble_acceptsExactlyWhatTheJdkParserAccepts() {
+            sameAsJdkParser(strings.asDouble(), Double::parseDouble, "1", "1.", ".5", ".", "-.5e-3", "1e", "1e+", "1E10", "1.5f", "1.5D", "1.5fd", "  2.5 \t", "NaN", "+NaN", "-Infinity", "Infinityx", "nan", "0x1p3", "0X1.8P-2d", "0x.8p1", "0x1", "0x1.p", "0xp1", "1..2", "\u0661", "1e99999", "+", "e5");
+        }
     }
 
     @Nested
@@ -1069,6 +1177,11 @@ class StringRulesTest {
         void asFloat_whenNull_returnsInvalid() {
             invalidTest(null, strings.asFloat(), "must.not.be.null");
         }
+
+        @Test
+        void asFloat_acceptsExactlyWhatTheJdkParserAccepts() {
+            sameAsJdkParser(strings.asFloat(), Float::parseFloat, "1", "-.5e-3", "3.4e39", "1.5F", "0x1.fffffeP+127", "Infinity", "1.5x", " ", "--1");
+        }
     }
 
     @Nested
@@ -1093,6 +1206,11 @@ class StringRulesTest {
         void asBigInteger_whenNull_returnsInvalid() {
             invalidTest(null, strings.asBigInteger(), "must.not.be.null");
         }
+
+        @Test
+        void asBigInteger_acceptsExactlyWhatTheJdkParserAccepts() {
+            sameAsJdkParser(strings.asBigInteger(), BigInteger::new, "0", "+12", "-12", "+-12", "1-2", "\u0661\u0662", "", "-", "12345678901234567890123", "1.0", " 1");
+        }
     }
 
     @Nested
@@ -1117,6 +1235,11 @@ class StringRulesTest {
         void asBigDecimal_whenNull_returnsInvalid() {
             invalidTest(null, strings.asBigDecimal(), "must.not.be.null");
         }
+
+        @Test
+        void asBigDecimal_acceptsExactlyWhatTheJdkParserAccepts() {
+            sameAsJdkParser(strings.asBigDecimal(), BigDecimal::new, "0", "+1.5", "-.5", "5.", ".", "1e5", "1E-5", "1e", "1e+", "1.2.3", "\u0661.\u0662", "1e\u0663", "1e2147483648", "1e-2147483648", "1e00000000000000000005", "Infinity", "1f", " 1");
+        }
     }
 
     @Nested
@@ -1142,6 +1265,11 @@ class StringRulesTest {
         void asUUID_whenNull_returnsInvalid() {
             invalidTest(null, strings.asUUID(), "must.not.be.null");
         }
+
+        @Test
+        void asUUID_acceptsExactlyWhatTheJdkParserAccepts() {
+            sameAsJdkParser(strings.asUUID(), UUID::fromString, "550E8400-E29B-41D4-A716-446655440000", "0-0-0-0-0", "+1-2-3-4-5", "1-2-3-4", "1-2-3-4-5-6", "1--3-4-5", "-1-2-3-4", "550e8400-e29b-41d4-a716-44665544000g", "550e8400-e29b-41d4-a716-4466554400000", "fffffffffffffffff-1-1-1-1", "\uFF11-2-3-4-5");
+        }
     }
 
     @Nested
@@ -1167,6 +1295,21 @@ class StringRulesTest {
         void asURL_whenNull_returnsInvalid() {
             invalidTest(null, strings.asURL(), "must.not.be.null");
         }
+
+        @Test
+        void asURL_acceptsTheSameAsTheJdk() {
+            sameAsJdkParser(strings.asURL(), StringRulesTest::toURL, "http://host/x", "https://[::1]:8443/", "ftp://a@b/c",
+                "file:///tmp/x", "jar:file:/a.jar!/b", "mailto:jean@example.com", "/relative", "relative", "unknown://x",
+                "javascript:alert(1)", "http://h:99999/", "http://h/p a", "http:x");
+        }
+    }
+
+    private static URL toURL(String s) {
+        try {
+            return URI.create(s).toURL();
+        } catch (MalformedURLException e) {
+            return null;
+        }
     }
 
     @Nested
@@ -1205,6 +1348,24 @@ class StringRulesTest {
         void asLocalDateTime_whenNull_returnsInvalid() {
             invalidTest(null, strings.asLocalDateTime(), "must.not.be.null");
         }
+
+        @Test
+        void asLocalDateTime_withFormats_whenMatchesAnyFormat_returnsValidLocalDateTime() {
+            MappingRule<String, LocalDateTime> rule = strings.asLocalDateTime("yyyy-MM-dd HH:mm", "dd/MM/yyyy HH:mm:ss");
+            validTest("2023-10-27 10:15", LocalDateTime.of(2023, 10, 27, 10, 15), rule);
+            validTest("27/10/2023 10:15:30", LocalDateTime.of(2023, 10, 27, 10, 15, 30), rule);
+        }
+
+        @Test
+        void asLocalDateTime_withFormats_whenMatchesNoFormat_returnsInvalid() {
+            MappingRule<String, LocalDateTime> rule = strings.asLocalDateTime("yyyy-MM-dd HH:mm", "dd/MM/yyyy HH:mm:ss");
+            invalidTest("27/10/2023 25:15:30", rule, "must.be.localdatetime", HashMap.of("value", "27/10/2023 25:15:30", "formats", List.of("yyyy-MM-dd HH:mm", "dd/MM/yyyy HH:mm:ss")));
+        }
+
+        @Test
+        void asLocalDateTime_acceptsExactlyWhatTheJdkParserAccepts() {
+            sameAsJdkParser(strings.asLocalDateTime(), LocalDateTime::parse, "2023-10-27T10:15", "2023-10-27t10:15:30", "2023-10-27T10:15:30.", "2023-10-27T10:15:30.1", "2023-10-27T10:15:30.123456789", "2023-10-27T10:15:30.1234567890", "2024-02-29T00:00", "2023-02-29T00:00", "2023-10-27T24:00", "2023-10-27T23:60", "2023-10-27T23:59:60", "2023-10-27T10:15:3", "2023-10-27 10:15", "2023-10-27T10:15Z", "+12023-10-27T10:15", "-0001-01-01T00:00", "2023-1-27T10:15", "２023-10-27T10:15");
+        }
     }
 
     @Nested
@@ -1243,6 +1404,25 @@ class StringRulesTest {
         void asLocalDate_whenNull_returnsInvalid() {
             invalidTest(null, strings.asLocalDate(), "must.not.be.null");
         }
+
+        @Test
+        void asLocalDate_withFormats_whenMatchesAnyFormat_returnsValidLocalDate() {
+            MappingRule<String, LocalDate> rule = strings.asLocalDate("yyyy-MM-dd", "dd/MM/yyyy");
+            validTest("2023-10-27", LocalDate.of(2023, 10, 27), rule);
+            validTest("27/10/2023", LocalDate.of(2023, 10, 27), rule);
+        }
+
+        @Test
+        void asLocalDate_withFormats_whenMatchesNoFormat_returnsInvalid() {
+            MappingRule<String, LocalDate> rule = strings.asLocalDate("yyyy-MM-dd", "dd/MM/yyyy");
+            invalidTest("32/10/2023", rule, "must.be.localdate", HashMap.of("value", "32/10/2023", "formats", List.of("yyyy-MM-dd", "dd/MM/yyyy")));
+            invalidTest("2023-10-27T10:15", rule, "must.be.localdate", HashMap.of("value", "2023-10-27T10:15", "formats", List.of("yyyy-MM-dd", "dd/MM/yyyy")));
+        }
+
+        @Test
+        void asLocalDate_acceptsExactlyWhatTheJdkParserAccepts() {
+            sameAsJdkParser(strings.asLocalDate(), LocalDate::parse, "0000-01-01", "9999-12-31", "2024-02-29", "2023-02-29", "1900-02-29", "2000-02-29", "2023-04-31", "2023-00-10", "2023-13-10", "2023-10-00", "2023-10-27 ", "23-10-27", "+10000-01-01", "+2023-10-27", "-0001-01-01", "-999999999-01-01", "2023/10/27", "٢023-10-27");
+        }
     }
 
     @Nested
@@ -1281,6 +1461,41 @@ class StringRulesTest {
         void asInstant_whenNull_returnsInvalid() {
             invalidTest(null, strings.asInstant(), "must.not.be.null");
         }
+
+        @Test
+        void asInstant_acceptsExactlyWhatTheJdkParserAccepts() {
+            sameAsJdkParser(strings.asInstant(), Instant::parse, "2023-10-27T10:15:30Z", "2023-10-27t10:15:30z", "2023-10-27T10:15Z", "2023-10-27T10:15:30.123456789Z", "2023-10-27T10:15:30+02:00", "2023-10-27T10:15:30-02:30:15", "2023-10-27T10:15:30+02", "2023-10-27T10:15:30+18:00", "2023-10-27T10:15:30+18:01", "2023-10-27T10:15:30+02:60", "2023-12-31T24:00:00Z", "2023-12-31T24:00:01Z", "2023-12-31T23:59:60Z", "2023-12-31T22:59:60Z", "2023-10-27T10:15:30", "1970-01-01T00:00:00Z", "0000-01-01T00:00:00Z", "+10000-01-01T00:00:00Z", "-0001-01-01T00:00:00Z");
+        }
+    }
+
+    @Nested
+    class AsOffsetDateTime {
+
+        @Test
+        void asOffsetDateTime_whenValidOffsetDateTimeString_returnsValidOffsetDateTime() {
+            String odtStr = "2023-10-27T10:15:30+02:00";
+            validTest(odtStr, OffsetDateTime.parse(odtStr), strings.asOffsetDateTime());
+        }
+
+        @Test
+        void asOffsetDateTime_whenInvalidOffsetDateTimeString_returnsInvalid() {
+            invalidTest("2023-10-27T10:15:30", strings.asOffsetDateTime(), "must.be.offsetdatetime", HashMap.of("value", "2023-10-27T10:15:30"));
+        }
+
+        @Test
+        void asOffsetDateTime_whenEmptyString_returnsInvalid() {
+            invalidTest("", strings.asOffsetDateTime(), "must.be.offsetdatetime", HashMap.of("value", ""));
+        }
+
+        @Test
+        void asOffsetDateTime_whenNull_returnsInvalid() {
+            invalidTest(null, strings.asOffsetDateTime(), "must.not.be.null");
+        }
+
+        @Test
+        void asOffsetDateTime_acceptsExactlyWhatTheJdkParserAccepts() {
+            sameAsJdkParser(strings.asOffsetDateTime(), OffsetDateTime::parse, "2023-10-27T10:15Z", "2023-10-27t10:15:30z", "2023-10-27T10:15:30.5+02:00", "2023-10-27T10:15+02", "2023-10-27T10:15:30-02:30:15", "2023-10-27T10:15:30+18:00", "2023-10-27T10:15:30-18:00:01", "2023-10-27T10:15:30+2:00", "2023-10-27T10:15:30+02:0", "2023-10-27T10:15:30+0200", "2023-10-27T24:00Z", "2023-10-27T23:59:60Z", "2023-10-27T10:15:30", "+10000-01-01T00:00Z", "-0001-01-01T00:00+01:00");
+        }
     }
 
     @Nested
@@ -1307,6 +1522,144 @@ class StringRulesTest {
         void asURI_whenNull_returnsInvalid() {
             invalidTest(null, strings.asURI(), "must.not.be.null");
         }
+
+        @Test
+        void asURI_acceptsTheSameAsTheJdk() {
+            sameAsJdkParser(strings.asURI(), URI::create, "", "#", "?", "//", "///", "a:", ":a", "a:b", "1a:b", "a+b-c.d:x",
+                "mailto:jean@example.com", "urn:isbn:0451450523", "http://", "http:///path", "file:///tmp/x", "//host",
+                "http://host:80", "http://host:", "http://host:8o", "http://host:99999999999", "http://user:pw@host/",
+                "http://us er@host", "http://a@b@c", "http://[::1]", "http://[::1]:8080/x", "http://[::1%eth0]",
+                "http://[::1%]", "http://[::1", "http://[1:2:3:4:5:6:7:8]", "http://[1:2:3:4:5:6:7]", "http://[::1.2.3.4]",
+                "http://[1::2:3.4.5.6]", "http://[12345::]", "http://[::ffff:256.1.1.1]", "http://[1:2:3:4:5:6:7:8:9]",
+                "http://1.2.3.4", "http://1.2.3.4:80", "http://1.2.3.256", "http://1.2.3.4.5", "http://001.2.3.4",
+                "http://-host", "http://host-", "http://a.-b", "http://a.1b", "http://a.b1", "http://host.", "http://h_st",
+                "http://h%41st", "http://h%4st", "http://h%zz", "http://\u00e9t\u00e9.fr", "http://]x", "http://]%zz",
+                "http://h/p a", "http://h/p%20a", "http://h/p%2", "http://h/p\u00e9", "http://h/p\u00a0", "http://h?q=1&r",
+                "http://h?q=%", "http://h#f#g", "http://h#f%20", "http://h/[x]", "a:b#c", "a:#c", "a b:c", "/p:q", "?a:b",
+                "http://h\u0000", "\ud83d\ude00:x", "x:\ud83d\ude00", "http://h/\u0080", "http://h/\u0081");
+        }
+
+        @Test
+        void asURI_whenRandomInput_acceptsTheSameAsTheJdk() {
+            String[] parts = {"http", "a", "1", ":", "/", "//", "?", "#", "@", "[", "]", "::", "%", "%4f", ".", "-", "_",
+                "~", "255", "256", "1.2.3.4", "ff", "12345", " ", "\u00e9", "\u00a0", "+", "$", ",", ";", "=", "&", "!"};
+            Random random = new Random(42);
+            String[] inputs = new String[20_000];
+            for (int i = 0; i < inputs.length; i++) {
+                StringBuilder input = new StringBuilder();
+                int length = random.nextInt(12);
+                for (int j = 0; j < length; j++) {
+                    input.append(parts[random.nextInt(parts.length)]);
+                }
+                inputs[i] = input.toString();
+            }
+            sameAsJdkParser(strings.asURI(), URI::create, inputs);
+        }
+    }
+
+    @Nested
+    class Hostname {
+
+        @Test
+        void valid() {
+            validTest("localhost", strings.hostname());
+            validTest("www.example.com", strings.hostname());
+            validTest("www.example.com.", strings.hostname());
+            validTest("xn--bcher-kva.example", strings.hostname());
+            validTest("1-2.a3", strings.hostname());
+            validTest("a".repeat(63) + ".b", strings.hostname());
+            validTest(("a".repeat(63) + ".").repeat(3) + "a".repeat(61), strings.hostname());
+        }
+
+        @Test
+        void invalid() {
+            for (String input : new String[]{"", ".", "a..b", ".a", "-a", "a-", "a.-b.c", "a_b", "h\u00e9", "a b",
+                "1.2.3.4", "a.123", "a".repeat(64), ("a".repeat(63) + ".").repeat(3) + "a".repeat(62), "a.."}) {
+                invalidTest(input, strings.hostname(), "must.be.hostname");
+            }
+            invalidTest(null, strings.hostname(), "must.not.be.null");
+        }
+    }
+
+    @Nested
+    class DomainName {
+
+        @Test
+        void valid() {
+            validTest("example.com", strings.domainName());
+            validTest("www.example.co.uk.", strings.domainName());
+            validTest("example.xn--p1ai", strings.domainName());
+        }
+
+        @Test
+        void invalid() {
+            for (String input : new String[]{"localhost", "example.c", "example.1com", "example..com", "1.2.3.4", ""}) {
+                invalidTest(input, strings.domainName(), "must.be.domain.name");
+            }
+            invalidTest(null, strings.domainName(), "must.not.be.null");
+        }
+    }
+
+    @Nested
+    class Ipv4 {
+
+        @Test
+        void valid() {
+            for (String input : new String[]{"0.0.0.0", "127.0.0.1", "192.168.10.255", "255.255.255.255"}) {
+                validTest(input, strings.ipv4());
+            }
+        }
+
+        @Test
+        void invalid() {
+            for (String input : new String[]{"", "1.2.3", "1.2.3.4.5", "1.2.3.256", "01.2.3.4", "1.2.3.04", "1.2..3",
+                "1.2.3.4.", " 1.2.3.4", "1.2.3.1000", "a.b.c.d", "1.2.3.-4"}) {
+                invalidTest(input, strings.ipv4(), "must.be.ipv4");
+            }
+            invalidTest(null, strings.ipv4(), "must.not.be.null");
+        }
+    }
+
+    @Nested
+    class Ipv6 {
+
+        @Test
+        void valid() {
+            for (String input : new String[]{"::", "::1", "1::", "2001:db8::1", "2001:0DB8:0000:0000:0000:ff00:0042:8329",
+                "1:2:3:4:5:6:7::", "::2:3:4:5:6:7:8", "::ffff:192.168.0.1", "1:2:3:4:5:6:1.2.3.4", "1::1.2.3.4",
+                "::1.2.3.4"}) {
+                validTest(input, strings.ipv6());
+            }
+        }
+
+        @Test
+        void invalid() {
+            for (String input : new String[]{"", ":", ":::", "1:2:3:4:5:6:7", "1:2:3:4:5:6:7:8:9", "1::2::3", "12345::",
+                "1:2:3:4:5:6:7:8::", "::g", "[::1]", "::1%eth0", "1:2:3:4:5:6:7:1.2.3.4", "::1.2.3", "::01.2.3.4",
+                "1.2.3.4", ":1::", "1:", "::ffff:1.2.3.4:1", "1:2:3:4:5:6:7::1.2.3.4"}) {
+                invalidTest(input, strings.ipv6(), "must.be.ipv6");
+            }
+            invalidTest(null, strings.ipv6(), "must.not.be.null");
+        }
+    }
+
+    @Nested
+    class Port {
+
+        @Test
+        void valid() {
+            for (String input : new String[]{"0", "80", "8080", "65535"}) {
+                validTest(input, strings.port());
+            }
+        }
+
+        @Test
+        void invalid() {
+            for (String input : new String[]{"", "65536", "-1", "+80", "8o", "123456", " 80"}) {
+                invalidTest(input, strings.port(), "must.be.port");
+            }
+            invalidTest(null, strings.port(), "must.not.be.null");
+        }
     }
 
     @Nested
@@ -1377,6 +1730,20 @@ class StringRulesTest {
         void asEnumIgnoreCase_whenNull_returnsInvalid() {
             invalidTest(null, strings.asEnumIgnoreCase(TestEnum.class), "must.not.be.null");
         }
+
+        enum CaseEnum {
+            foo, FOO, bar
+        }
+
+        @Test
+        void asEnumIgnoreCase_whenConstantsDifferInCase_returnsFirst() {
+            assertThatValidation(strings.asEnumIgnoreCase(CaseEnum.class).apply("Foo"))
+                    .isValid()
+                    .isEqualTo(CaseEnum.foo);
+            assertThatValidation(strings.asEnumIgnoreCase(CaseEnum.class).apply("BAR"))
+                    .isValid()
+                    .isEqualTo(CaseEnum.bar);
+        }
     }
 
     @Nested
@@ -1594,6 +1961,157 @@ class StringRulesTest {
         }
     }
 
+    @Nested
+    class ContainsAnyOf {
+
+        @Test
+        void valid() {
+            validTest("hello world", strings.containsAnyOf(Arrays.asList("xyz", "world")));
+            validTest("hello", strings.containsAnyOf(Arrays.asList("")));
+            validTest("ushers", strings.containsAnyOf(Arrays.asList("he", "she", "his", "hers")));
+        }
+
+        @Test
+        void invalid() {
+            invalidTest("hello", strings.containsAnyOf(Arrays.asList("xyz", "HELLO")), "must.contain.any.of", HashMap.of("count", 2));
+            invalidTest("", strings.containsAnyOf(Arrays.asList("x")), "must.contain.any.of", HashMap.of("count", 1));
+            invalidTest("hello", strings.containsAnyOf(Arrays.asList()), "must.contain.any.of", HashMap.of("count", 0));
+            invalidTest(null, strings.containsAnyOf(Arrays.asList("x")), "must.not.be.null");
+        }
+
+        @Test
+        void ignoreCase() {
+            validTest("Hello World", strings.containsAnyOfIgnoreCase(Arrays.asList("xyz", "WORLD")));
+            validTest("STRASSE", strings.containsAnyOfIgnoreCase(Arrays.asList("straße", "strasse")));
+            invalidTest("hello", strings.containsAnyOfIgnoreCase(Arrays.asList("xyz")), "must.contain.any.of.ignorecase", HashMap.of("count", 1));
+        }
+
+        @Test
+        void containsAnyOf_whenNullFragment_throwsException() {
+            assertThrows(NullPointerException.class, () -> strings.containsAnyOf(null));
+            assertThrows(NullPointerException.class, () -> strings.containsAnyOf(Arrays.asList("a", null)));
+        }
+    }
+
+    @Nested
+    class DoesNotContainAnyOf {
+
+        @Test
+        void valid() {
+            validTest("hello", strings.doesNotContainAnyOf(Arrays.asList("xyz", "HELLO")));
+            validTest("", strings.doesNotContainAnyOf(Arrays.asList("x")));
+            validTest("hello", strings.doesNotContainAnyOf(Arrays.asList()));
+        }
+
+        @Test
+        void invalid() {
+            invalidTest("hello world", strings.doesNotContainAnyOf(Arrays.asList("xyz", "world")), "must.not.contain.any.of", HashMap.of("fragment", "world"));
+            invalidTest("hello", strings.doesNotContainAnyOf(Arrays.asList("")), "must.not.contain.any.of", HashMap.of("fragment", ""));
+            invalidTest(null, strings.doesNotContainAnyOf(Arrays.asList("x")), "must.not.be.null");
+        }
+
+        @Test
+        void ignoreCase() {
+            validTest("hello", strings.doesNotContainAnyOfIgnoreCase(Arrays.asList("xyz")));
+            invalidTest("Hello World", strings.doesNotContainAnyOfIgnoreCase(Arrays.asList("xyz", "WORLD")), "must.not.contain.any.of.ignorecase", HashMap.of("fragment", "WORLD"));
+        }
+    }
+
+    /**
+     * The prefix, suffix and contains rules put large dictionaries in a trie, these compare them with looping over the
+     * dictionary.
+     */
+    @Nested
+    class LargeDictionaries {
+
+        private static final String ALPHABET = "abAB\u00df\u0130i\u0131\ud83d\ude00";
+
+        private final Random random = new Random(42);
+
+        private String randomString(int maxLength) {
+            StringBuilder s = new StringBuilder();
+            int length = random.nextInt(maxLength + 1);
+            for (int i = 0; i < length; i++) {
+                if (random.nextInt(8) == 0) {
+                    s.append("\ud83d\ude00");
+                } else {
+                    s.append(ALPHABET.charAt(random.nextInt(ALPHABET.length() - 2)));
+                }
+            }
+            return s.toString();
+        }
+
+        private static boolean regionMatches(String s, int offset, String entry, boolean ignoreCase) {
+            return offset >= 0 && s.regionMatches(ignoreCase, offset, entry, 0, entry.length());
+        }
+
+        @Test
+        void largeDictionaries_matchLoopingOverTheEntries() {
+            for (int round = 0; round < 200; round++) {
+                java.util.List<String> entries = new ArrayList<>();
+                int size = 16 + random.nextInt(40);
+                for (int i = 0; i < size; i++) {
+                    entries.add(randomString(4));
+                }
+                String[] array = entries.toArray(String[]::new);
+                for (boolean ignoreCase : new boolean[]{false, true}) {
+                    var startsWith = ignoreCase ? strings.startsWithIgnoreCase(array) : strings.startsWith(array);
+                    var endsWith = ignoreCase ? strings.endsWithIgnoreCase(array) : strings.endsWith(array);
+                    var doesNotStartWith = ignoreCase ? strings.doesNotStartWithIgnoreCase(array) : strings.doesNotStartWith(array);
+                    var doesNotEndWith = ignoreCase ? strings.doesNotEndWithIgnoreCase(array) : strings.doesNotEndWith(array);
+                    var containsAnyOf = ignoreCase ? strings.containsAnyOfIgnoreCase(entries) : strings.containsAnyOf(entries);
+                    var doesNotContainAnyOf = ignoreCase ? strings.doesNotContainAnyOfIgnoreCase(entries) : strings.doesNotContainAnyOf(entries);
+                    for (int i = 0; i < 50; i++) {
+                        String s = randomString(10);
+                        boolean starts = entries.stream().anyMatch(e -> regionMatches(s, 0, e, ignoreCase));
+                        boolean ends = entries.stream().anyMatch(e -> regionMatches(s, s.length() - e.length(), e, ignoreCase));
+                        boolean contains = entries.stream().anyMatch(e ->
+                            IntStream.rangeClosed(0, s.length()).anyMatch(offset -> regionMatches(s, offset, e, ignoreCase)));
+
+                        String description = s + " in " + entries + (ignoreCase ? " ignoring case" : "");
+                        assertEquals(starts, startsWith.apply(s).isValid(), description);
+                        assertEquals(!starts, doesNotStartWith.apply(s).isValid(), description);
+                        assertEquals(ends, endsWith.apply(s).isValid(), description);
+                        assertEquals(!ends, doesNotEndWith.apply(s).isValid(), description);
+                        assertEquals(contains, containsAnyOf.apply(s).isValid(), description);
+                        assertEquals(!contains, doesNotContainAnyOf.apply(s).isValid(), description);
+                        if (contains) {
+                            String found = (String) doesNotContainAnyOf.apply(s).errors().head().parameters().get("fragment").get();
+                            assertTrue(entries.contains(found), description);
+                            assertTrue(IntStream.rangeClosed(0, s.length()).anyMatch(offset -> regionMatches(s, offset, found, ignoreCase)), description);
+                        }
+                    }
+                }
+            }
+        }
+
+        @Test
+        void containsAnyOf_findsOverlappingFragments() {
+            // Arrange
+            java.util.List<String> fragments = Arrays.asList("he", "she", "his", "hers", "abcd", "bcx", "cdy", "xyz");
+            var rule = strings.containsAnyOf(fragments);
+
+            // Act & Assert
+            validTest("ushers", rule);
+            validTest("abcx", rule);
+            validTest("abcdy", rule);
+            validTest("abccdy", rule);
+            invalidTest("abcbc", rule, "must.contain.any.of");
+            invalidTest("hi", rule, "must.contain.any.of");
+        }
+
+        @Test
+        void doesNotContainAnyOf_reportsTheFragmentFound_notTheDictionary() {
+            java.util.List<String> fragments = new ArrayList<>(Arrays.asList("he", "she", "his", "hers"));
+            IntStream.range(0, 10_000).forEach(i -> fragments.add("word" + i));
+            var rule = strings.doesNotContainAnyOf(fragments);
+
+            invalidTest("ushers", rule, "must.not.contain.any.of", HashMap.of("fragment", "she"));
+            invalidTest("a word42 b", rule, "must.not.contain.any.of", HashMap.of("fragment", "word4"));
+            invalidTest("xhis", rule, "must.not.contain.any.of", HashMap.of("fragment", "his"));
+        }
+    }
+
     @Nested
     class IsIn {
 
@@ -1624,5 +2142,97 @@ class StringRulesTest {
         void isIn_whenNullAllowed_throwsException() {
             assertThrows(NullPointerException.class, () -> strings.isIn(null));
         }
+
+        @Test
+        void isIn_whenSortedSet_usesItsComparator() {
+            // Arrange
+            var allowed = TreeSet.of(String.CASE_INSENSITIVE_ORDER, "admin", "user");
+
+            // Act & Assert
+            validTest("ADMIN", strings.isIn(allowed));
+            invalidTest("root", strings.isIn(allowed), "must.be.in");
+        }
+
+        @Test
+        void isIn_whenLargeSet_matchesHashSet() {
+            // Arrange
+            Random random = new Random(42);
+            HashSet<String> allowed = HashSet.fill(2000, () -> Integer.toString(random.nextInt(10000), 36));
+            var rule = strings.isIn(allowed);
+
+            // Act & Assert
+            for (int i = 0; i < 10000; i++) {
+                String s = Integer.toString(i, 36);
+                assertEquals(allowed.contains(s), rule.apply(s).isValid(), s);
+            }
+        }
+    }
+
+    @Nested
+    class IsInIgnoreCase {
+
+        @Test
+        void valid() {
+            validTest("admin", strings.isInIgnoreCase(HashSet.of("Admin", "user")));
+            validTest("USER", strings.isInIgnoreCase(HashSet.of("Admin", "user")));
+            validTest("straße", strings.isInIgnoreCase(HashSet.of("STRAßE")));
+            validTest("\u212a", strings.isInIgnoreCase(HashSet.of("k"))); // Kelvin sign
+        }
+
+        @Test
+        void invalid() {
+            invalidTest(
+                    "root",
+                    strings.isInIgnoreCase(HashSet.of("admin")),
+                    "must.be.in.ignorecase",
+                    HashMap.of("allowed", HashSet.of("admin"))
+            );
+            invalidTest("strasse", strings.isInIgnoreCase(HashSet.of("straße")), "must.be.in.ignorecase");
+            invalidTest(null, strings.isInIgnoreCase(HashSet.of("admin")), "must.not.be.null");
+        }
+
+        @Test
+        void isInIgnoreCase_matchesEqualsIgnoreCase() {
+            // Arrange
+            Random random = new Random(42);
+            String alphabet = "aAbB\u00df\u0130i\u0131I\u017fsS\u212ak";
+            java.util.function.Supplier<String> randomString = () -> {
+                StringBuilder s = new StringBuilder();
+                int length = random.nextInt(4);
+                for (int i = 0; i < length; i++) {
+                    s.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                }
+                return s.toString();
+            };
+            HashSet<String> allowed = HashSet.fill(30, randomString);
+            var rule = strings.isInIgnoreCase(allowed);
+
+            // Act & Assert
+            for (int i = 0; i < 5000; i++) {
+                String s = randomString.get();
+                assertEquals(allowed.exists(s::equalsIgnoreCase), rule.apply(s).isValid(), s + " in " + allowed);
+            }
+        }
+    }
+
+    @Nested
+    class NotInIgnoreCase {
+
+        @Test
+        void valid() {
+            validTest("hello", strings.notInIgnoreCase(HashSet.of("nope", "forbidden")));
+            validTest("", strings.notInIgnoreCase(HashSet.of("x")));
+        }
+
+        @Test
+        void invalid() {
+            invalidTest(
+                    "Admin",
+                    strings.notInIgnoreCase(HashSet.of("admin", "root")),
+                    "must.not.be.in.ignorecase",
+                    HashMap.of("forbidden", HashSet.of("admin", "root"))
+            );
+            invalidTest(null, strings.notInIgnoreCase(HashSet.of("admin")), "must.not.be.null");
+        }
     }
 }
@@ -16,7 +16,6 @@ import java.util.Map;
 public record ValidationErrorMessage(String key, String path, Map<String, Object> parameters) {
 
     public static ValidationErrorMessage from(ErrorMessage error) {
-        String path = error.paths().map(ErrorMessage.Path::formatted).mkString(".");
-        return new ValidationErrorMessage(error.key(), path, error.parameters().toJavaMap());
+        return new ValidationErrorMessage(error.key(), error.path(), error.parameters().toJavaMap());
     }
 }
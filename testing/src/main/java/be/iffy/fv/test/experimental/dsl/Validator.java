@@ -20,7 +20,8 @@ public class Validator {
         }
 
         public <R> MappingRule<T, R> is(RuleLike<V, Validation<R>> rule) {
-            return input -> rule.apply(propertySelector.apply(input)).at(propertySelector.getPropertyName());
+            String name = propertySelector.getPropertyName();
+            return input -> rule.apply(propertySelector.apply(input)).at(name);
         }
     }
 
@@ -0,0 +1,61 @@
+package be.iffy.fv.test.experimental;
+
+import be.iffy.fv.CheckWith;
+import be.iffy.fv.MappingRule;
+import be.iffy.fv.RecordValidator;
+import be.iffy.fv.Rule;
+import org.junit.jupiter.api.Test;
+
+import static be.iffy.fv.assertj.ValidationAssert.assertThatValidation;
+import static be.iffy.fv.dsl.DSL.validateThat;
+import static be.iffy.fv.rules.numbers.IntegerRules.ints;
+import static be.iffy.fv.rules.text.StringRules.strings;
+import static be.iffy.fv.test.experimental.dsl.Validator.validatorFor;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Uses the classes that the annotation processor generates for {@link Customer}.
+ */
+class RecordValidatorTest {
+
+    static final Rule<String> NAME = strings.notBlank();
+    static final Rule<Integer> AGE = ints.atLeast(18);
+
+    @RecordValidator
+    record Customer(@CheckWith(on = RecordValidatorTest.class, field = "NAME") String name,
+                    @CheckWith(on = RecordValidatorTest.class, field = "AGE") int age,
+                    String email) {
+    }
+
+    @Test
+    void validator_accumulatesTheErrorsOfTheComponents() {
+        Customer valid = new Customer("Alice", 30, "alice@example.com");
+
+        assertThatValidation(RecordValidatorTest_CustomerValidator.instance.apply(valid)).isValid().isSameAs(valid);
+        assertThatValidation(RecordValidatorTest_CustomerValidator.instance.apply(new Customer(" ", 12, "")))
+                .isInvalid()
+                .hasErrorMessages("name.must.not.be.blank", "age.must.be.at.least");
+    }
+
+    @Test
+    void properties_nameTheErrorsOfValidateThat() {
+        Customer customer = new Customer(" ", 30, "alice@example.com");
+
+        assertThat(RecordValidatorTest_CustomerProperties.email.getPropertyName()).isEqualTo("email");
+        assertThatValidation(validateThat(customer.name(), RecordValidatorTest_CustomerProperties.name).is(NAME))
+                .isInvalid()
+                .hasErrorMessages("name.must.not.be.blank");
+    }
+
+    @Test
+    void properties_nameTheErrorsOfTheValidatorBuilder() {
+        MappingRule<Customer, String> validator = validatorFor(Customer.class)
+                .where(RecordValidatorTest_CustomerProperties.name, NAME)
+                .where(RecordValidatorTest_CustomerProperties.age, MappingRule.of(AGE))
+                .builds((name, age) -> name + " (" + age + ")");
+
+        assertThatValidation(validator.apply(new Customer("Alice", 30, ""))).isValid().isEqualTo("Alice (30)");
+        assertThatValidation(validator.apply(new Customer("", 12, ""))).isInvalid()
+                .hasErrorMessages("name.must.not.be.blank", "age.must.be.at.least");
+    }
+}
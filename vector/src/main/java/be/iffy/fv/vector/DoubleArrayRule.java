@@ -0,0 +1,297 @@
+package be.iffy.fv.vector;
+
+import be.iffy.fv.ErrorMessage;
+import be.iffy.fv.DoubleRule;
+import be.iffy.fv.Rule;
+import be.iffy.fv.Validation;
+import be.iffy.fv.Validation.Invalid;
+import be.iffy.fv.rules.numbers.DoubleRules;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Objects;
+
+import static be.iffy.fv.rules.numbers.DoubleRules.doubles;
+
+/**
+ * A {@link Rule} for {@code double[]} that applies range and sign rules of {@link DoubleRules} to every element, a whole
+ * vector of elements at a time when the Vector API is available.
+ * <p>
+ * The result is the same as that of {@code elementRule().lift().toArray()}: the elements are compared as primitives,
+ * and only the elements that fail are boxed, to build their errors. {@link #offending(double[])} only returns the
+ * indices of the elements that fail, without building any error.
+ * {@snippet :
+ * DoubleArrayRule samples = DoubleArrayRule.finite().and(DoubleArrayRule.between(-1.0, 1.0));
+ * BitSet clipped = samples.offending(frame);
+ *}
+ * <p>
+ * Like in {@link DoubleRules}, {@code between}, {@code greaterThan}, ... order {@code NaN} and {@code -0.0} like
+ * {@link Double#compare}, the sign rules and {@code min}/{@code max} compare like {@code <} and {@code >}.
+ * <p>
+ * The Vector API is still incubating: it is only used when the JVM was started with
+ * {@code --add-modules jdk.incubator.vector}, otherwise every rule uses the same loop as {@link #scalar()}.
+ */
+public final class DoubleArrayRule implements Rule<double[]> {
+
+    // the keys of the values, see Range.doubleKey
+    private static final long NEGATIVE_INFINITY = Range.doubleKey(Double.NEGATIVE_INFINITY);
+    private static final long LOWEST = Range.doubleKey(-Double.MAX_VALUE);
+    private static final long NEGATIVE_ZERO = Range.doubleKey(-0.0);
+    private static final long ZERO = Range.doubleKey(0.0);
+    private static final long HIGHEST = Range.doubleKey(Double.MAX_VALUE);
+    private static final long POSITIVE_INFINITY = Range.doubleKey(Double.POSITIVE_INFINITY);
+    private static final long NAN = Range.doubleKey(Double.NaN);
+    private static final Range ALL = Range.of(Long.MIN_VALUE, Long.MAX_VALUE);
+
+    private final @Nullable Range range;
+    private final DoubleRule elementRule;
+    private final boolean vectorized;
+    private final Kernels.DoubleKernel kernel;
+
+    private DoubleArrayRule(@Nullable Range range, DoubleRule elementRule, boolean vectorized) {
+        this.range = range;
+        this.elementRule = elementRule;
+        this.vectorized = vectorized && range != null && !range.isEmpty();
+        this.kernel = Kernels.doubles(elementRule, this.vectorized ? range : null);
+    }
+
+    private static DoubleArrayRule of(DoubleRule elementRule, Range range) {
+        return new DoubleArrayRule(range, elementRule, Kernels.VECTOR_API);
+    }
+
+    /**
+     * The keys of the values {@code v >= bound}, or {@code v > bound} when not inclusive: never {@code NaN}, and
+     * {@code -0.0} and {@code 0.0} are equal.
+     */
+    private static Range above(double bound, boolean inclusive) {
+        if (Double.isNaN(bound)) {
+            return Range.NONE;
+        }
+        if (bound == 0.0) {
+            return Range.of(inclusive ? NEGATIVE_ZERO : ZERO + 1L, POSITIVE_INFINITY);
+        }
+        return Range.of(Range.doubleKey(bound) + (inclusive ? 0L : 1L), POSITIVE_INFINITY);
+    }
+
+    /**
+     * The keys of the values {@code v <= bound}, or {@code v < bound} when not inclusive, like {@link #above}.
+     */
+    private static Range below(double bound, boolean inclusive) {
+        if (Double.isNaN(bound)) {
+            return Range.NONE;
+        }
+        if (bound == 0.0) {
+            return Range.of(NEGATIVE_INFINITY, inclusive ? ZERO : NEGATIVE_ZERO - 1L);
+        }
+        return Range.of(NEGATIVE_INFINITY, Range.doubleKey(bound) - (inclusive ? 0L : 1L));
+    }
+
+    //region sign related
+
+    /**
+     * {@link DoubleRules#positive()}, for every element.
+     */
+    public static DoubleArrayRule positive() {
+        return of(doubles.positive(), above(0.0, false));
+    }
+
+    /**
+     * {@link DoubleRules#nonNegative()}, for every element.
+     */
+    public static DoubleArrayRule nonNegative() {
+        return of(doubles.nonNegative(), above(0.0, true));
+    }
+
+    /**
+     * {@link DoubleRules#negative()}, for every element.
+     */
+    public static DoubleArrayRule negative() {
+        return of(doubles.negative(), below(0.0, false));
+    }
+
+    /**
+     * {@link DoubleRules#nonPositive()}, for every element.
+     */
+    public static DoubleArrayRule nonPositive() {
+        return of(doubles.nonPositive(), below(0.0, true));
+    }
+
+    /**
+     * {@link DoubleRules#zero()}, for every element.
+     */
+    public static DoubleArrayRule zero() {
+        return of(doubles.zero(), Range.of(NEGATIVE_ZERO, ZERO));
+    }
+
+    /**
+     * {@link DoubleRules#nonZero()}, for every element.
+     */
+    public static DoubleArrayRule nonZero() {
+        return of(doubles.nonZero(), ALL.excluding(NEGATIVE_ZERO, ZERO));
+    }
+    //endregion
+
+    //region floating point related
+
+    /**
+     * {@link DoubleRules#finite()}, for every element.
+     */
+    public static DoubleArrayRule finite() {
+        return of(doubles.finiteDouble(), Range.of(LOWEST, HIGHEST));
+    }
+
+    /**
+     * {@link DoubleRules#nan()}, for every element.
+     */
+    public static DoubleArrayRule nan() {
+        return of(doubles.nanDouble(), Range.of(NAN, NAN));
+    }
+
+    /**
+     * {@link DoubleRules#nonNan()}, for every element.
+     */
+    public static DoubleArrayRule nonNan() {
+        return of(doubles.nonNanDouble(), Range.of(NEGATIVE_INFINITY, POSITIVE_INFINITY));
+    }
+    //endregion
+
+    //region comparisons
+
+    /**
+     * {@link DoubleRules#min(double)}, for every element.
+     */
+    public static DoubleArrayRule min(double minInclusive) {
+        return of(doubles.minDouble(minInclusive), above(minInclusive, true));
+    }
+
+    /**
+     * {@link DoubleRules#max(double)}, for every element.
+     */
+    public static DoubleArrayRule max(double maxInclusive) {
+        return of(doubles.maxDouble(maxInclusive), below(maxInclusive, true));
+    }
+
+    /**
+     * {@link DoubleRules#between(Double, Double)}, for every element.
+     *
+     * @throws IllegalArgumentException if {@code maxInclusive} is less than {@code minInclusive}.
+     */
+    public static DoubleArrayRule between(double minInclusive, double maxInclusive) {
+        return of(doubles.between(minInclusive, maxInclusive),
+                Range.of(Range.doubleKey(minInclusive), Range.doubleKey(maxInclusive)));
+    }
+
+    /**
+     * {@link DoubleRules#betweenExclusive(Double, Double)}, for every element.
+     *
+     * @throws IllegalArgumentException if {@code maxExclusive} is not greater than {@code minExclusive}.
+     */
+    public static DoubleArrayRule betweenExclusive(double minExclusive, double maxExclusive) {
+        return of(doubles.betweenExclusive(minExclusive, maxExclusive),
+                Range.of(Range.doubleKey(minExclusive) + 1L, Range.doubleKey(maxExclusive) - 1L));
+    }
+
+    /**
+     * {@link DoubleRules#greaterThan(Double)}, for every element.
+     */
+    public static DoubleArrayRule greaterThan(double minExclusive) {
+        return of(doubles.greaterThan(minExclusive), Range.of(Range.doubleKey(minExclusive) + 1L, Long.MAX_VALUE));
+    }
+
+    /**
+     * {@link DoubleRules#atLeast(Double)}, for every element.
+     */
+    public static DoubleArrayRule atLeast(double minInclusive) {
+        return of(doubles.atLeast(minInclusive), Range.of(Range.doubleKey(minInclusive), Long.MAX_VALUE));
+    }
+
+    /**
+     * {@link DoubleRules#lessThan(Double)}, for every element.
+     */
+    public static DoubleArrayRule lessThan(double maxExclusive) {
+        return of(doubles.lessThan(maxExclusive), Range.of(Long.MIN_VALUE, Range.doubleKey(maxExclusive) - 1L));
+    }
+
+    /**
+     * {@link DoubleRules#atMost(Double)}, for every element.
+     */
+    public static DoubleArrayRule atMost(double maxInclusive) {
+        return of(doubles.atMost(maxInclusive), Range.of(Long.MIN_VALUE, Range.doubleKey(maxInclusive)));
+    }
+    //endregion
+
+    /**
+     * Every element has to pass both rules, an element that fails both has the errors of both, like
+     * {@link DoubleRule#and(DoubleRule)}. Only vectorized if both rules are, and the
+     * elements that pass both are still one range with at most one hole.
+     */
+    public DoubleArrayRule and(DoubleArrayRule other) {
+        Objects.requireNonNull(other, "other rule cannot be null");
+        return new DoubleArrayRule(Range.both(range, other.range), elementRule.and(other.elementRule), vectorized && other.vectorized);
+    }
+
+    /**
+     * The rule every element has to pass.
+     */
+    public DoubleRule elementRule() {
+        return elementRule;
+    }
+
+    /**
+     * Whether this rule tests a vector of elements at a time.
+     */
+    public boolean isVectorized() {
+        return vectorized;
+    }
+
+    /**
+     * The same rule, testing one element at a time.
+     */
+    public DoubleArrayRule scalar() {
+        return vectorized ? new DoubleArrayRule(range, elementRule, false) : this;
+    }
+
+    /**
+     * The indices of the elements that fail this rule.
+     */
+    public BitSet offending(double[] values) {
+        Objects.requireNonNull(values, "values cannot be null");
+        return offending(values, 0, values.length);
+    }
+
+    /**
+     * The indices of the elements in {@code values[offset, offset + length)} that fail this rule, relative to
+     * {@code offset}.
+     *
+     * @throws IndexOutOfBoundsException if the range is out of bounds of the array.
+     */
+    public BitSet offending(double[] values, int offset, int length) {
+        Objects.requireNonNull(values, "values cannot be null");
+        Objects.checkFromIndexSize(offset, length, values.length);
+        long[] words = Offending.words(length);
+        kernel.offending(values, offset, 0, length, words);
+        return BitSet.valueOf(words);
+    }
+
+    @Override
+    public Validation<double[]> apply(double[] values) {
+        if (values == null) {
+            return Invalid.notNull();
+        }
+        long[] words = Offending.words(values.length);
+        kernel.offending(values, 0, 0, values.length, words);
+        if (Offending.none(words)) {
+            return Validation.valid(values);
+        }
+        ArrayList<ErrorMessage> errors = new ArrayList<>();
+        for (int w = 0; w < words.length; w++) {
+            for (long word = words[w]; word != 0; word &= word - 1) {
+                int i = (w << 6) + Long.numberOfTrailingZeros(word);
+                Offending.addErrorsAt(errors, i, elementRule.errors(values[i]));
+            }
+        }
+        return Validation.invalid(errors);
+    }
+}
@@ -0,0 +1,301 @@
+package be.iffy.fv.vector;
+
+import be.iffy.fv.ErrorMessage;
+import be.iffy.fv.Rule;
+import be.iffy.fv.Validation;
+import be.iffy.fv.Validation.Invalid;
+import be.iffy.fv.rules.numbers.FloatRules;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Objects;
+import java.util.function.DoublePredicate;
+
+import static be.iffy.fv.rules.numbers.FloatRules.floats;
+
+/**
+ * A {@link Rule} for {@code float[]} that applies range and sign rules of {@link FloatRules} to every element, a whole
+ * vector of elements at a time when the Vector API is available.
+ * <p>
+ * The result is the same as that of {@code elementRule().lift().toArray()}: the elements are compared as primitives,
+ * and only the elements that fail are boxed, to apply the element rule to them. {@link #offending(float[])} only returns the
+ * indices of the elements that fail, without building any error.
+ * {@snippet :
+ * FloatArrayRule samples = FloatArrayRule.finite().and(FloatArrayRule.between(-1.0f, 1.0f));
+ * BitSet clipped = samples.offending(frame);
+ *}
+ * <p>
+ * Like in {@link FloatRules}, {@code between}, {@code greaterThan}, ... order {@code NaN} and {@code -0.0} like
+ * {@link Float#compare}, the sign rules and {@code min}/{@code max} compare like {@code <} and {@code >}.
+ * <p>
+ * The Vector API is still incubating: it is only used when the JVM was started with
+ * {@code --add-modules jdk.incubator.vector}, otherwise every rule uses the same loop as {@link #scalar()}.
+ */
+public final class FloatArrayRule implements Rule<float[]> {
+
+    // the keys of the values, see Range.floatKey
+    private static final long NEGATIVE_INFINITY = Range.floatKey(Float.NEGATIVE_INFINITY);
+    private static final long LOWEST = Range.floatKey(-Float.MAX_VALUE);
+    private static final long NEGATIVE_ZERO = Range.floatKey(-0.0f);
+    private static final long ZERO = Range.floatKey(0.0f);
+    private static final long HIGHEST = Range.floatKey(Float.MAX_VALUE);
+    private static final long POSITIVE_INFINITY = Range.floatKey(Float.POSITIVE_INFINITY);
+    private static final long NAN = Range.floatKey(Float.NaN);
+    private static final Range ALL = Range.of(Integer.MIN_VALUE, Integer.MAX_VALUE);
+
+    private final @Nullable Range range;
+    private final Rule<Float> elementRule;
+    // elementRule without boxing, for the scalar kernel
+    private final DoublePredicate test;
+    private final boolean vectorized;
+    private final Kernels.FloatKernel kernel;
+
+    private FloatArrayRule(@Nullable Range range, Rule<Float> elementRule, DoublePredicate test, boolean vectorized) {
+        this.range = range;
+        this.elementRule = elementRule;
+        this.test = test;
+        this.vectorized = vectorized && range != null && !range.isEmpty();
+        this.kernel = Kernels.floats(test, this.vectorized ? range : null);
+    }
+
+    private static FloatArrayRule of(Rule<Float> elementRule, DoublePredicate test, Range range) {
+        return new FloatArrayRule(range, elementRule, test, Kernels.VECTOR_API);
+    }
+
+    /**
+     * The keys of the values {@code v >= bound}, or {@code v > bound} when not inclusive: never {@code NaN}, and
+     * {@code -0.0} and {@code 0.0} are equal.
+     */
+    private static Range above(float bound, boolean inclusive) {
+        if (Float.isNaN(bound)) {
+            return Range.NONE;
+        }
+        if (bound == 0.0f) {
+            return Range.of(inclusive ? NEGATIVE_ZERO : ZERO + 1L, POSITIVE_INFINITY);
+        }
+        return Range.of(Range.floatKey(bound) + (inclusive ? 0L : 1L), POSITIVE_INFINITY);
+    }
+
+    /**
+     * The keys of the values {@code v <= bound}, or {@code v < bound} when not inclusive, like {@link #above}.
+     */
+    private static Range below(float bound, boolean inclusive) {
+        if (Float.isNaN(bound)) {
+            return Range.NONE;
+        }
+        if (bound == 0.0f) {
+            return Range.of(NEGATIVE_INFINITY, inclusive ? ZERO : NEGATIVE_ZERO - 1L);
+        }
+        return Range.of(NEGATIVE_INFINITY, Range.floatKey(bound) - (inclusive ? 0L : 1L));
+    }
+
+    //region sign related
+
+    /**
+     * {@link FloatRules#positive()}, for every element.
+     */
+    public static FloatArrayRule positive() {
+        return of(floats.positive(), f -> f > 0.0f, above(0.0f, false));
+    }
+
+    /**
+     * {@link FloatRules#nonNegative()}, for every element.
+     */
+    public static FloatArrayRule nonNegative() {
+        return of(floats.nonNegative(), f -> f >= 0.0f, above(0.0f, true));
+    }
+
+    /**
+     * {@link FloatRules#negative()}, for every element.
+     */
+    public static FloatArrayRule negative() {
+        return of(floats.negative(), f -> f < 0.0f, below(0.0f, false));
+    }
+
+    /**
+     * {@link FloatRules#nonPositive()}, for every element.
+     */
+    public static FloatArrayRule nonPositive() {
+        return of(floats.nonPositive(), f -> f <= 0.0f, below(0.0f, true));
+    }
+
+    /**
+     * {@link FloatRules#zero()}, for every element.
+     */
+    public static FloatArrayRule zero() {
+        return of(floats.zero(), f -> f == 0.0f, Range.of(NEGATIVE_ZERO, ZERO));
+    }
+
+    /**
+     * {@link FloatRules#nonZero()}, for every element.
+     */
+    public static FloatArrayRule nonZero() {
+        return of(floats.nonZero(), f -> f != 0.0f, ALL.excluding(NEGATIVE_ZERO, ZERO));
+    }
+    //endregion
+
+    //region floating point related
+
+    /**
+     * {@link FloatRules#finite()}, for every element.
+     */
+    public static FloatArrayRule finite() {
+        return of(floats.finite(), Double::isFinite, Range.of(LOWEST, HIGHEST));
+    }
+
+    /**
+     * {@link FloatRules#nan()}, for every element.
+     */
+    public static FloatArrayRule nan() {
+        return of(floats.nan(), Double::isNaN, Range.of(NAN, NAN));
+    }
+
+    /**
+     * {@link FloatRules#nonNan()}, for every element.
+     */
+    public static FloatArrayRule nonNan() {
+        return of(floats.nonNan(), f -> !Double.isNaN(f), Range.of(NEGATIVE_INFINITY, POSITIVE_INFINITY));
+    }
+    //endregion
+
+    //region comparisons
+
+    /**
+     * {@link FloatRules#min(float)}, for every element.
+     */
+    public static FloatArrayRule min(float minInclusive) {
+        return of(floats.min(minInclusive), f -> f >= minInclusive, above(minInclusive, true));
+    }
+
+    /**
+     * {@link FloatRules#max(float)}, for every element.
+     */
+    public static FloatArrayRule max(float maxInclusive) {
+        return of(floats.max(maxInclusive), f -> f <= maxInclusive, below(maxInclusive, true));
+    }
+
+    /**
+     * {@code between} of {@link FloatRules}, for every element.
+     *
+     * @throws IllegalArgumentException if {@code maxInclusive} is less than {@code minInclusive}.
+     */
+    public static FloatArrayRule between(float minInclusive, float maxInclusive) {
+        return of(floats.between(minInclusive, maxInclusive), f -> Float.compare((float) f, minInclusive) >= 0 && Float.compare((float) f, maxInclusive) <= 0,
+                Range.of(Range.floatKey(minInclusive), Range.floatKey(maxInclusive)));
+    }
+
+    /**
+     * {@code betweenExclusive} of {@link FloatRules}, for every element.
+     *
+     * @throws IllegalArgumentException if {@code maxExclusive} is not greater than {@code minExclusive}.
+     */
+    public static FloatArrayRule betweenExclusive(float minExclusive, float maxExclusive) {
+        return of(floats.betweenExclusive(minExclusive, maxExclusive), f -> Float.compare((float) f, minExclusive) > 0 && Float.compare((float) f, maxExclusive) < 0,
+                Range.of(Range.floatKey(minExclusive) + 1L, Range.floatKey(maxExclusive) - 1L));
+    }
+
+    /**
+     * {@code greaterThan} of {@link FloatRules}, for every element.
+     */
+    public static FloatArrayRule greaterThan(float minExclusive) {
+        return of(floats.greaterThan(minExclusive), f -> Float.compare((float) f, minExclusive) > 0, Range.of(Range.floatKey(minExclusive) + 1L, Integer.MAX_VALUE));
+    }
+
+    /**
+     * {@code atLeast} of {@link FloatRules}, for every element.
+     */
+    public static FloatArrayRule atLeast(float minInclusive) {
+        return of(floats.atLeast(minInclusive), f -> Float.compare((float) f, minInclusive) >= 0, Range.of(Range.floatKey(minInclusive), Integer.MAX_VALUE));
+    }
+
+    /**
+     * {@code lessThan} of {@link FloatRules}, for every element.
+     */
+    public static FloatArrayRule lessThan(float maxExclusive) {
+        return of(floats.lessThan(maxExclusive), f -> Float.compare((float) f, maxExclusive) < 0, Range.of(Integer.MIN_VALUE, Range.floatKey(maxExclusive) - 1L));
+    }
+
+    /**
+     * {@code atMost} of {@link FloatRules}, for every element.
+     */
+    public static FloatArrayRule atMost(float maxInclusive) {
+        return of(floats.atMost(maxInclusive), f -> Float.compare((float) f, maxInclusive) <= 0, Range.of(Integer.MIN_VALUE, Range.floatKey(maxInclusive)));
+    }
+    //endregion
+
+    /**
+     * Every element has to pass both rules, an element that fails both has the errors of both, like
+     * {@link Rule#and(be.iffy.fv.RuleLike)}. Only vectorized if both rules are, and the
+     * elements that pass both are still one range with at most one hole.
+     */
+    public FloatArrayRule and(FloatArrayRule other) {
+        Objects.requireNonNull(other, "other rule cannot be null");
+        return new FloatArrayRule(Range.both(range, other.range), elementRule.and(other.elementRule), test.and(other.test),
+                vectorized && other.vectorized);
+    }
+
+    /**
+     * The rule every element has to pass.
+     */
+    public Rule<Float> elementRule() {
+        return elementRule;
+    }
+
+    /**
+     * Whether this rule tests a vector of elements at a time.
+     */
+    public boolean isVectorized() {
+        return vectorized;
+    }
+
+    /**
+     * The same rule, testing one element at a time.
+     */
+    public FloatArrayRule scalar() {
+        return vectorized ? new FloatArrayRule(range, elementRule, test, false) : this;
+    }
+
+    /**
+     * The indices of the elements that fail this rule.
+     */
+    public BitSet offending(float[] values) {
+        Objects.requireNonNull(values, "values cannot be null");
+        return offending(values, 0, values.length);
+    }
+
+    /**
+     * The indices of the elements in {@code values[offset, offset + length)} that fail this rule, relative to
+     * {@code offset}.
+     *
+     * @throws IndexOutOfBoundsException if the range is out of bounds of the array.
+     */
+    public BitSet offending(float[] values, int offset, int length) {
+        Objects.requireNonNull(values, "values cannot be null");
+        Objects.checkFromIndexSize(offset, length, values.length);
+        long[] words = Offending.words(length);
+        kernel.offending(values, offset, 0, length, words);
+        return BitSet.valueOf(words);
+    }
+
+    @Override
+    public Validation<float[]> apply(float[] values) {
+        if (values == null) {
+            return Invalid.notNull();
+        }
+        long[] words = Offending.words(values.length);
+        kernel.offending(values, 0, 0, values.length, words);
+        if (Offending.none(words)) {
+            return Validation.valid(values);
+        }
+        ArrayList<ErrorMessage> errors = new ArrayList<>();
+        for (int w = 0; w < words.length; w++) {
+            for (long word = words[w]; word != 0; word &= word - 1) {
+                int i = (w << 6) + Long.numberOfTrailingZeros(word);
+                Offending.addErrorsAt(errors, i, elementRule.apply(values[i]).errors());
+            }
+        }
+        return Validation.invalid(errors);
+    }
+}
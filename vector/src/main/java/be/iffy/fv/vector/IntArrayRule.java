@@ -0,0 +1,233 @@
+package be.iffy.fv.vector;
+
+import be.iffy.fv.ErrorMessage;
+import be.iffy.fv.IntRule;
+import be.iffy.fv.Rule;
+import be.iffy.fv.Validation;
+import be.iffy.fv.Validation.Invalid;
+import be.iffy.fv.rules.numbers.IntegerRules;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Objects;
+
+import static be.iffy.fv.rules.numbers.IntegerRules.ints;
+
+/**
+ * A {@link Rule} for {@code int[]} that applies range and sign rules of {@link IntegerRules} to every element, a whole
+ * vector of elements at a time when the Vector API is available.
+ * <p>
+ * The result is the same as that of {@code elementRule().lift().toArray()}: the elements are compared as primitives,
+ * and only the elements that fail are boxed, to build their errors. {@link #offending(int[])} only returns the
+ * indices of the elements that fail, without building any error.
+ * {@snippet :
+ * IntArrayRule readings = IntArrayRule.nonNegative().and(IntArrayRule.max(4095));
+ * BitSet outOfRange = readings.offending(frame);
+ *}
+ * <p>
+ * The Vector API is still incubating: it is only used when the JVM was started with
+ * {@code --add-modules jdk.incubator.vector}, otherwise every rule uses the same loop as {@link #scalar()}.
+ */
+public final class IntArrayRule implements Rule<int[]> {
+
+    private final @Nullable Range range;
+    private final IntRule elementRule;
+    private final boolean vectorized;
+    private final Kernels.IntKernel kernel;
+
+    private IntArrayRule(@Nullable Range range, IntRule elementRule, boolean vectorized) {
+        this.range = range;
+        this.elementRule = elementRule;
+        this.vectorized = vectorized && range != null && !range.isEmpty();
+        this.kernel = Kernels.ints(elementRule, this.vectorized ? range : null);
+    }
+
+    private static IntArrayRule of(IntRule elementRule, Range range) {
+        return new IntArrayRule(range, elementRule, Kernels.VECTOR_API);
+    }
+
+    //region sign related
+
+    /**
+     * {@link IntegerRules#positive()}, for every element.
+     */
+    public static IntArrayRule positive() {
+        return of(ints.positive(), Range.of(1L, Integer.MAX_VALUE));
+    }
+
+    /**
+     * {@link IntegerRules#nonNegative()}, for every element.
+     */
+    public static IntArrayRule nonNegative() {
+        return of(ints.nonNegative(), Range.of(0L, Integer.MAX_VALUE));
+    }
+
+    /**
+     * {@link IntegerRules#negative()}, for every element.
+     */
+    public static IntArrayRule negative() {
+        return of(ints.negative(), Range.of(Integer.MIN_VALUE, -1L));
+    }
+
+    /**
+     * {@link IntegerRules#nonPositive()}, for every element.
+     */
+    public static IntArrayRule nonPositive() {
+        return of(ints.nonPositive(), Range.of(Integer.MIN_VALUE, 0L));
+    }
+
+    /**
+     * {@link IntegerRules#zero()}, for every element.
+     */
+    public static IntArrayRule zero() {
+        return of(ints.zero(), Range.of(0L, 0L));
+    }
+
+    /**
+     * {@link IntegerRules#nonZero()}, for every element.
+     */
+    public static IntArrayRule nonZero() {
+        return of(ints.nonZero(), Range.of(Integer.MIN_VALUE, Integer.MAX_VALUE).excluding(0L, 0L));
+    }
+    //endregion
+
+    //region comparisons
+
+    /**
+     * {@link IntegerRules#min(int)}, for every element.
+     */
+    public static IntArrayRule min(int minInclusive) {
+        return of(ints.minInt(minInclusive), Range.of(minInclusive, Integer.MAX_VALUE));
+    }
+
+    /**
+     * {@link IntegerRules#max(int)}, for every element.
+     */
+    public static IntArrayRule max(int maxInclusive) {
+        return of(ints.maxInt(maxInclusive), Range.of(Integer.MIN_VALUE, maxInclusive));
+    }
+
+    /**
+     * {@link IntegerRules#between(Integer, Integer)}, for every element.
+     *
+     * @throws IllegalArgumentException if {@code maxInclusive} is less than {@code minInclusive}.
+     */
+    public static IntArrayRule between(int minInclusive, int maxInclusive) {
+        return of(ints.between(minInclusive, maxInclusive),
+                Range.of(minInclusive, maxInclusive));
+    }
+
+    /**
+     * {@link IntegerRules#betweenExclusive(Integer, Integer)}, for every element.
+     *
+     * @throws IllegalArgumentException if {@code maxExclusive} is not greater than {@code minExclusive}.
+     */
+    public static IntArrayRule betweenExclusive(int minExclusive, int maxExclusive) {
+        return of(ints.betweenExclusive(minExclusive, maxExclusive),
+                Range.of(minExclusive + 1L, maxExclusive - 1L));
+    }
+
+    /**
+     * {@link IntegerRules#greaterThan(Integer)}, for every element.
+     */
+    public static IntArrayRule greaterThan(int minExclusive) {
+        return of(ints.greaterThan(minExclusive), Range.greaterThan(minExclusive, Integer.MAX_VALUE));
+    }
+
+    /**
+     * {@link IntegerRules#atLeast(Integer)}, for every element.
+     */
+    public static IntArrayRule atLeast(int minInclusive) {
+        return of(ints.atLeast(minInclusive), Range.of(minInclusive, Integer.MAX_VALUE));
+    }
+
+    /**
+     * {@link IntegerRules#lessThan(Integer)}, for every element.
+     */
+    public static IntArrayRule lessThan(int maxExclusive) {
+        return of(ints.lessThan(maxExclusive), Range.lessThan(Integer.MIN_VALUE, maxExclusive));
+    }
+
+    /**
+     * {@link IntegerRules#atMost(Integer)}, for every element.
+     */
+    public static IntArrayRule atMost(int maxInclusive) {
+        return of(ints.atMost(maxInclusive), Range.of(Integer.MIN_VALUE, maxInclusive));
+    }
+    //endregion
+
+    /**
+     * Every element has to pass both rules, an element that fails both has the errors of both, like
+     * {@link IntRule#and(IntRule)}. Only vectorized if both rules are, and the
+     * elements that pass both are still one range with at most one hole.
+     */
+    public IntArrayRule and(IntArrayRule other) {
+        Objects.requireNonNull(other, "other rule cannot be null");
+        return new IntArrayRule(Range.both(range, other.range), elementRule.and(other.elementRule), vectorized && other.vectorized);
+    }
+
+    /**
+     * The rule every element has to pass.
+     */
+    public IntRule elementRule() {
+        return elementRule;
+    }
+
+    /**
+     * Whether this rule tests a vector of elements at a time.
+     */
+    public boolean isVectorized() {
+        return vectorized;
+    }
+
+    /**
+     * The same rule, testing one element at a time.
+     */
+    public IntArrayRule scalar() {
+        return vectorized ? new IntArrayRule(range, elementRule, false) : this;
+    }
+
+    /**
+     * The indices of the elements that fail this rule.
+     */
+    public BitSet offending(int[] values) {
+        Objects.requireNonNull(values, "values cannot be null");
+        return offending(values, 0, values.length);
+    }
+
+    /**
+     * The indices of the elements in {@code values[offset, offset + length)} that fail this rule, relative to
+     * {@code offset}.
+     *
+     * @throws IndexOutOfBoundsException if the range is out of bounds of the array.
+     */
+    public BitSet offending(int[] values, int offset, int length) {
+        Objects.requireNonNull(values, "values cannot be null");
+        Objects.checkFromIndexSize(offset, length, values.length);
+        long[] words = Offending.words(length);
+        kernel.offending(values, offset, 0, length, words);
+        return BitSet.valueOf(words);
+    }
+
+    @Override
+    public Validation<int[]> apply(int[] values) {
+        if (values == null) {
+            return Invalid.notNull();
+        }
+        long[] words = Offending.words(values.length);
+        kernel.offending(values, 0, 0, values.length, words);
+        if (Offending.none(words)) {
+            return Validation.valid(values);
+        }
+        ArrayList<ErrorMessage> errors = new ArrayList<>();
+        for (int w = 0; w < words.length; w++) {
+            for (long word = words[w]; word != 0; word &= word - 1) {
+                int i = (w << 6) + Long.numberOfTrailingZeros(word);
+                Offending.addErrorsAt(errors, i, elementRule.errors(values[i]));
+            }
+        }
+        return Validation.invalid(errors);
+    }
+}
@@ -0,0 +1,100 @@
+package be.iffy.fv.vector;
+
+import be.iffy.fv.DoubleRule;
+import be.iffy.fv.IntRule;
+import be.iffy.fv.LongRule;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.function.DoublePredicate;
+
+/**
+ * Finds the offending elements of an array: the scalar kernels test one element at a time with the element rule,
+ * the kernels of {@link VectorKernels} test a vector of elements at a time against the {@link Range} of the rule, when
+ * there is one, and leave the tail to the scalar kernel.
+ * <p>
+ * A kernel sets bit {@code i} of {@code words} when {@code values[offset + i]} fails, for {@code from <= i < to}.
+ */
+final class Kernels {
+
+    /**
+     * Whether {@code jdk.incubator.vector} was resolved at startup (with {@code --add-modules jdk.incubator.vector}).
+     * Without it, {@link VectorKernels} cannot be loaded and all rules use the scalar kernels.
+     */
+    static final boolean VECTOR_API = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    private Kernels() {
+    }
+
+    interface IntKernel {
+        void offending(int[] values, int offset, int from, int to, long[] words);
+    }
+
+    interface LongKernel {
+        void offending(long[] values, int offset, int from, int to, long[] words);
+    }
+
+    interface FloatKernel {
+        void offending(float[] values, int offset, int from, int to, long[] words);
+    }
+
+    interface DoubleKernel {
+        void offending(double[] values, int offset, int from, int to, long[] words);
+    }
+
+    static IntKernel ints(IntRule rule, @Nullable Range range) {
+        IntKernel scalar = (values, offset, from, to, words) -> {
+            for (int i = from; i < to; i++) {
+                if (!rule.test(values[offset + i])) {
+                    words[i >>> 6] |= 1L << i;
+                }
+            }
+        };
+        return range == null ? scalar : VectorKernels.ints(range, scalar);
+    }
+
+    static LongKernel longs(LongRule rule, @Nullable Range range) {
+        LongKernel scalar = (values, offset, from, to, words) -> {
+            for (int i = from; i < to; i++) {
+                if (!rule.test(values[offset + i])) {
+                    words[i >>> 6] |= 1L << i;
+                }
+            }
+        };
+        return range == null ? scalar : VectorKernels.longs(range, scalar);
+    }
+
+    static FloatKernel floats(DoublePredicate test, @Nullable Range range) {
+        FloatKernel scalar = (values, offset, from, to, words) -> {
+            for (int i = from; i < to; i++) {
+                if (!test.test(values[offset + i])) {
+                    words[i >>> 6] |= 1L << i;
+                }
+            }
+        };
+        return range == null ? scalar : VectorKernels.floats(range, scalar);
+    }
+
+    static DoubleKernel doubles(DoubleRule rule, @Nullable Range range) {
+        DoubleKernel scalar = (values, offset, from, to, words) -> {
+            for (int i = from; i < to; i++) {
+                if (!rule.test(values[offset + i])) {
+                    words[i >>> 6] |= 1L << i;
+                }
+            }
+        };
+        return range == null ? scalar : VectorKernels.doubles(range, scalar);
+    }
+
+    /**
+     * Sets the bits of a vector of {@code lanes} elements that starts at bit {@code i}, the vector may straddle two
+     * words when {@code from} was not a multiple of 64.
+     */
+    static void setBits(long[] words, int i, long bits, int lanes) {
+        int shift = i & 63;
+        words[i >>> 6] |= bits << shift;
+        if (shift + lanes > 64) {
+            words[(i >>> 6) + 1] |= bits >>> (64 - shift);
+        }
+    }
+}
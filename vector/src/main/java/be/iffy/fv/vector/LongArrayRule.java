@@ -0,0 +1,233 @@
+package be.iffy.fv.vector;
+
+import be.iffy.fv.ErrorMessage;
+import be.iffy.fv.LongRule;
+import be.iffy.fv.Rule;
+import be.iffy.fv.Validation;
+import be.iffy.fv.Validation.Invalid;
+import be.iffy.fv.rules.numbers.LongRules;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Objects;
+
+import static be.iffy.fv.rules.numbers.LongRules.longs;
+
+/**
+ * A {@link Rule} for {@code long[]} that applies range and sign rules of {@link LongRules} to every element, a whole
+ * vector of elements at a time when the Vector API is available.
+ * <p>
+ * The result is the same as that of {@code elementRule().lift().toArray()}: the elements are compared as primitives,
+ * and only the elements that fail are boxed, to build their errors. {@link #offending(long[])} only returns the
+ * indices of the elements that fail, without building any error.
+ * {@snippet :
+ * LongArrayRule timestamps = LongArrayRule.between(windowStart, windowEnd);
+ * BitSet outsideWindow = timestamps.offending(frame);
+ *}
+ * <p>
+ * The Vector API is still incubating: it is only used when the JVM was started with
+ * {@code --add-modules jdk.incubator.vector}, otherwise every rule uses the same loop as {@link #scalar()}.
+ */
+public final class LongArrayRule implements Rule<long[]> {
+
+    private final @Nullable Range range;
+    private final LongRule elementRule;
+    private final boolean vectorized;
+    private final Kernels.LongKernel kernel;
+
+    private LongArrayRule(@Nullable Range range, LongRule elementRule, boolean vectorized) {
+        this.range = range;
+        this.elementRule = elementRule;
+        this.vectorized = vectorized && range != null && !range.isEmpty();
+        this.kernel = Kernels.longs(elementRule, this.vectorized ? range : null);
+    }
+
+    private static LongArrayRule of(LongRule elementRule, Range range) {
+        return new LongArrayRule(range, elementRule, Kernels.VECTOR_API);
+    }
+
+    //region sign related
+
+    /**
+     * {@link LongRules#positive()}, for every element.
+     */
+    public static LongArrayRule positive() {
+        return of(longs.positive(), Range.of(1L, Long.MAX_VALUE));
+    }
+
+    /**
+     * {@link LongRules#nonNegative()}, for every element.
+     */
+    public static LongArrayRule nonNegative() {
+        return of(longs.nonNegative(), Range.of(0L, Long.MAX_VALUE));
+    }
+
+    /**
+     * {@link LongRules#negative()}, for every element.
+     */
+    public static LongArrayRule negative() {
+        return of(longs.negative(), Range.of(Long.MIN_VALUE, -1L));
+    }
+
+    /**
+     * {@link LongRules#nonPositive()}, for every element.
+     */
+    public static LongArrayRule nonPositive() {
+        return of(longs.nonPositive(), Range.of(Long.MIN_VALUE, 0L));
+    }
+
+    /**
+     * {@link LongRules#zero()}, for every element.
+     */
+    public static LongArrayRule zero() {
+        return of(longs.zero(), Range.of(0L, 0L));
+    }
+
+    /**
+     * {@link LongRules#nonZero()}, for every element.
+     */
+    public static LongArrayRule nonZero() {
+        return of(longs.nonZero(), Range.of(Long.MIN_VALUE, Long.MAX_VALUE).excluding(0L, 0L));
+    }
+    //endregion
+
+    //region comparisons
+
+    /**
+     * {@link LongRules#min(long)}, for every element.
+     */
+    public static LongArrayRule min(long minInclusive) {
+        return of(longs.minLong(minInclusive), Range.of(minInclusive, Long.MAX_VALUE));
+    }
+
+    /**
+     * {@link LongRules#max(long)}, for every element.
+     */
+    public static LongArrayRule max(long maxInclusive) {
+        return of(longs.maxLong(maxInclusive), Range.of(Long.MIN_VALUE, maxInclusive));
+    }
+
+    /**
+     * {@link LongRules#between(Long, Long)}, for every element.
+     *
+     * @throws IllegalArgumentException if {@code maxInclusive} is less than {@code minInclusive}.
+     */
+    public static LongArrayRule between(long minInclusive, long maxInclusive) {
+        return of(longs.between(minInclusive, maxInclusive),
+                Range.of(minInclusive, maxInclusive));
+    }
+
+    /**
+     * {@link LongRules#betweenExclusive(Long, Long)}, for every element.
+     *
+     * @throws IllegalArgumentException if {@code maxExclusive} is not greater than {@code minExclusive}.
+     */
+    public static LongArrayRule betweenExclusive(long minExclusive, long maxExclusive) {
+        return of(longs.betweenExclusive(minExclusive, maxExclusive),
+                Range.of(minExclusive + 1L, maxExclusive - 1L));
+    }
+
+    /**
+     * {@link LongRules#greaterThan(Long)}, for every element.
+     */
+    public static LongArrayRule greaterThan(long minExclusive) {
+        return of(longs.greaterThan(minExclusive), Range.greaterThan(minExclusive, Long.MAX_VALUE));
+    }
+
+    /**
+     * {@link LongRules#atLeast(Long)}, for every element.
+     */
+    public static LongArrayRule atLeast(long minInclusive) {
+        return of(longs.atLeast(minInclusive), Range.of(minInclusive, Long.MAX_VALUE));
+    }
+
+    /**
+     * {@link LongRules#lessThan(Long)}, for every element.
+     */
+    public static LongArrayRule lessThan(long maxExclusive) {
+        return of(longs.lessThan(maxExclusive), Range.lessThan(Long.MIN_VALUE, maxExclusive));
+    }
+
+    /**
+     * {@link LongRules#atMost(Long)}, for every element.
+     */
+    public static LongArrayRule atMost(long maxInclusive) {
+        return of(longs.atMost(maxInclusive), Range.of(Long.MIN_VALUE, maxInclusive));
+    }
+    //endregion
+
+    /**
+     * Every element has to pass both rules, an element that fails both has the errors of both, like
+     * {@link LongRule#and(LongRule)}. Only vectorized if both rules are, and the
+     * elements that pass both are still one range with at most one hole.
+     */
+    public LongArrayRule and(LongArrayRule other) {
+        Objects.requireNonNull(other, "other rule cannot be null");
+        return new LongArrayRule(Range.both(range, other.range), elementRule.and(other.elementRule), vectorized && other.vectorized);
+    }
+
+    /**
+     * The rule every element has to pass.
+     */
+    public LongRule elementRule() {
+        return elementRule;
+    }
+
+    /**
+     * Whether this rule tests a vector of elements at a time.
+     */
+    public boolean isVectorized() {
+        return vectorized;
+    }
+
+    /**
+     * The same rule, testing one element at a time.
+     */
+    public LongArrayRule scalar() {
+        return vectorized ? new LongArrayRule(range, elementRule, false) : this;
+    }
+
+    /**
+     * The indices of the elements that fail this rule.
+     */
+    public BitSet offending(long[] values) {
+        Objects.requireNonNull(values, "values cannot be null");
+        return offending(values, 0, values.length);
+    }
+
+    /**
+     * The indices of the elements in {@code values[offset, offset + length)} that fail this rule, relative to
+     * {@code offset}.
+     *
+     * @throws IndexOutOfBoundsException if the range is out of bounds of the array.
+     */
+    public BitSet offending(long[] values, int offset, int length) {
+        Objects.requireNonNull(values, "values cannot be null");
+        Objects.checkFromIndexSize(offset, length, values.length);
+        long[] words = Offending.words(length);
+        kernel.offending(values, offset, 0, length, words);
+        return BitSet.valueOf(words);
+    }
+
+    @Override
+    public Validation<long[]> apply(long[] values) {
+        if (values == null) {
+            return Invalid.notNull();
+        }
+        long[] words = Offending.words(values.length);
+        kernel.offending(values, 0, 0, values.length, words);
+        if (Offending.none(words)) {
+            return Validation.valid(values);
+        }
+        ArrayList<ErrorMessage> errors = new ArrayList<>();
+        for (int w = 0; w < words.length; w++) {
+            for (long word = words[w]; word != 0; word &= word - 1) {
+                int i = (w << 6) + Long.numberOfTrailingZeros(word);
+                Offending.addErrorsAt(errors, i, elementRule.errors(values[i]));
+            }
+        }
+        return Validation.invalid(errors);
+    }
+}
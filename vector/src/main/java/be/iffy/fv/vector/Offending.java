@@ -0,0 +1,37 @@
+package be.iffy.fv.vector;
+
+import be.iffy.fv.ErrorMessage;
+import io.vavr.collection.List;
+
+/**
+ * The bitmask the kernels fill: bit {@code i} of word {@code i / 64} is set when element {@code i} fails.
+ */
+final class Offending {
+
+    private static final ErrorMessage.Path UNNAMED = ErrorMessage.Path.of("");
+
+    private Offending() {
+    }
+
+    static long[] words(int length) {
+        return new long[(length + 63) >>> 6];
+    }
+
+    static boolean none(long[] words) {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds the errors of the element at the index to the target, with the paths {@code lift().toArray()} gives them.
+     */
+    static void addErrorsAt(java.util.List<ErrorMessage> target, int index, List<ErrorMessage> errors) {
+        for (ErrorMessage error : errors) {
+            target.add(error.prepend(UNNAMED).atIndex(index));
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package be.iffy.fv.vector;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The elements that pass a range or sign rule, as an interval of keys with an optional hole: an element passes if its
+ * key is in {@code [min, max]} and not in {@code [excludedMin, excludedMax]}. There is no hole when
+ * {@code excludedMin > excludedMax}, and no element passes when {@code min > max}.
+ * <p>
+ * The key of an {@code int} or {@code long} is the value itself. The key of a {@code float} or {@code double} is
+ * {@link #floatKey(float)} or {@link #doubleKey(double)}, which orders the values like {@link Double#compare}, so
+ * that every sign, range and {@code NaN} rule is such an interval.
+ *
+ * @param min         the smallest key that passes.
+ * @param max         the largest key that passes.
+ * @param excludedMin the smallest key of the hole.
+ * @param excludedMax the largest key of the hole.
+ */
+record Range(long min, long max, long excludedMin, long excludedMax) {
+
+    static final Range NONE = of(1L, 0L);
+
+    static Range of(long min, long max) {
+        return new Range(min, max, 1L, 0L);
+    }
+
+    /**
+     * The keys in {@code (key, max]}.
+     */
+    static Range greaterThan(long key, long max) {
+        return key == Long.MAX_VALUE ? NONE : of(key + 1, max);
+    }
+
+    /**
+     * The keys in {@code [min, key)}.
+     */
+    static Range lessThan(long min, long key) {
+        return key == Long.MIN_VALUE ? NONE : of(min, key - 1);
+    }
+
+    /**
+     * The keys in both ranges, or {@code null} if either is {@code null} or their holes cannot be merged into one.
+     */
+    static @Nullable Range both(@Nullable Range first, @Nullable Range second) {
+        return first == null || second == null ? null : first.and(second);
+    }
+
+    Range excluding(long min, long max) {
+        return new Range(this.min, this.max, min, max);
+    }
+
+    boolean isEmpty() {
+        return min > max;
+    }
+
+    boolean hasHole() {
+        return excludedMin <= excludedMax;
+    }
+
+    /**
+     * The keys in both ranges, or {@code null} if their holes cannot be merged into one.
+     */
+    @Nullable Range and(Range other) {
+        Range range = of(Math.max(min, other.min), Math.min(max, other.max)).minus(excludedMin, excludedMax);
+        return range == null ? null : range.minus(other.excludedMin, other.excludedMax);
+    }
+
+    // the keys of this range that are not in [holeMin, holeMax], a hole at the edge of the range shrinks it
+    private @Nullable Range minus(long holeMin, long holeMax) {
+        long from = Math.max(min, holeMin);
+        long to = Math.min(max, holeMax);
+        if (from > to) {
+            return this;
+        }
+        if (from == min && to == max) {
+            return NONE;
+        }
+        if (from == min) {
+            return of(to + 1, max).minus(excludedMin, excludedMax);
+        }
+        if (to == max) {
+            return of(min, from - 1).minus(excludedMin, excludedMax);
+        }
+        if (!hasHole()) {
+            return excluding(from, to);
+        }
+        // the holes are inside the range, so they can be merged when they overlap or touch
+        if (from <= excludedMax + 1 && excludedMin <= to + 1) {
+            return excluding(Math.min(from, excludedMin), Math.max(to, excludedMax));
+        }
+        return null;
+    }
+
+    /**
+     * The bits of the {@code float} like {@link Float#floatToIntBits}, with the bits of the negative values flipped so
+     * that comparing the keys as signed {@code int}s orders them like {@link Float#compare}.
+     */
+    static int floatKey(float value) {
+        int bits = Float.floatToIntBits(value);
+        return bits ^ ((bits >> 31) >>> 1);
+    }
+
+    /**
+     * The bits of the {@code double} like {@link Double#doubleToLongBits}, with the bits of the negative values flipped
+     * so that comparing the keys as signed {@code long}s orders them like {@link Double#compare}.
+     */
+    static long doubleKey(double value) {
+        long bits = Double.doubleToLongBits(value);
+        return bits ^ ((bits >> 63) >>> 1);
+    }
+}
@@ -0,0 +1,208 @@
+package be.iffy.fv.vector;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+import static jdk.incubator.vector.VectorOperators.AND;
+import static jdk.incubator.vector.VectorOperators.ASHR;
+import static jdk.incubator.vector.VectorOperators.GT;
+import static jdk.incubator.vector.VectorOperators.LSHR;
+import static jdk.incubator.vector.VectorOperators.UNSIGNED_GT;
+import static jdk.incubator.vector.VectorOperators.UNSIGNED_LE;
+import static jdk.incubator.vector.VectorOperators.XOR;
+
+/**
+ * The kernels that test {@link VectorSpecies#length()} elements at a time against a {@link Range}: the keys of the
+ * lanes are in {@code [min, max]} when {@code key - min <= max - min} as unsigned numbers, so a whole range is a single
+ * comparison and a hole a second one. The lanes that did not pass become the bits of the offending elements, the
+ * elements after the last full vector are left to the scalar kernel.
+ * <p>
+ * The comparisons are constants in every kernel, so that C2 compiles them to vector instructions instead of boxing the
+ * vectors and masks. Only loaded when {@link Kernels#VECTOR_API} is {@code true}.
+ */
+final class VectorKernels {
+
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Float> FLOATS = FloatVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+    private static final int FLOAT_NAN = Float.floatToIntBits(Float.NaN);
+    private static final int FLOAT_INFINITY = Float.floatToIntBits(Float.POSITIVE_INFINITY);
+    private static final long DOUBLE_NAN = Double.doubleToLongBits(Double.NaN);
+    private static final long DOUBLE_INFINITY = Double.doubleToLongBits(Double.POSITIVE_INFINITY);
+
+    private VectorKernels() {
+    }
+
+    static Kernels.IntKernel ints(Range range, Kernels.IntKernel scalar) {
+        int min = (int) range.min();
+        int width = (int) (range.max() - range.min());
+        if (!range.hasHole()) {
+            return (values, offset, from, to, words) -> {
+                int lanes = INTS.length();
+                int upper = from + INTS.loopBound(to - from);
+                int i = from;
+                for (; i < upper; i += lanes) {
+                    IntVector v = IntVector.fromArray(INTS, values, offset + i);
+                    long fail = v.sub(min).compare(UNSIGNED_GT, width).toLong();
+                    if (fail != 0) {
+                        Kernels.setBits(words, i, fail, lanes);
+                    }
+                }
+                scalar.offending(values, offset, i, to, words);
+            };
+        }
+        int excludedMin = (int) range.excludedMin();
+        int excludedWidth = (int) (range.excludedMax() - range.excludedMin());
+        return (values, offset, from, to, words) -> {
+            int lanes = INTS.length();
+            int upper = from + INTS.loopBound(to - from);
+            int i = from;
+            for (; i < upper; i += lanes) {
+                IntVector v = IntVector.fromArray(INTS, values, offset + i);
+                VectorMask<Integer> pass = v.sub(min).compare(UNSIGNED_LE, width)
+                        .and(v.sub(excludedMin).compare(UNSIGNED_GT, excludedWidth));
+                long fail = pass.not().toLong();
+                if (fail != 0) {
+                    Kernels.setBits(words, i, fail, lanes);
+                }
+            }
+            scalar.offending(values, offset, i, to, words);
+        };
+    }
+
+    static Kernels.LongKernel longs(Range range, Kernels.LongKernel scalar) {
+        long min = range.min();
+        long width = range.max() - range.min();
+        if (!range.hasHole()) {
+            return (values, offset, from, to, words) -> {
+                int lanes = LONGS.length();
+                int upper = from + LONGS.loopBound(to - from);
+                int i = from;
+                for (; i < upper; i += lanes) {
+                    LongVector v = LongVector.fromArray(LONGS, values, offset + i);
+                    long fail = v.sub(min).compare(UNSIGNED_GT, width).toLong();
+                    if (fail != 0) {
+                        Kernels.setBits(words, i, fail, lanes);
+                    }
+                }
+                scalar.offending(values, offset, i, to, words);
+            };
+        }
+        long excludedMin = range.excludedMin();
+        long excludedWidth = range.excludedMax() - range.excludedMin();
+        return (values, offset, from, to, words) -> {
+            int lanes = LONGS.length();
+            int upper = from + LONGS.loopBound(to - from);
+            int i = from;
+            for (; i < upper; i += lanes) {
+                LongVector v = LongVector.fromArray(LONGS, values, offset + i);
+                VectorMask<Long> pass = v.sub(min).compare(UNSIGNED_LE, width)
+                        .and(v.sub(excludedMin).compare(UNSIGNED_GT, excludedWidth));
+                long fail = pass.not().toLong();
+                if (fail != 0) {
+                    Kernels.setBits(words, i, fail, lanes);
+                }
+            }
+            scalar.offending(values, offset, i, to, words);
+        };
+    }
+
+    static Kernels.FloatKernel floats(Range range, Kernels.FloatKernel scalar) {
+        int min = (int) range.min();
+        int width = (int) (range.max() - range.min());
+        if (!range.hasHole()) {
+            return (values, offset, from, to, words) -> {
+                int lanes = FLOATS.length();
+                int upper = from + FLOATS.loopBound(to - from);
+                int i = from;
+                for (; i < upper; i += lanes) {
+                    IntVector key = key(FloatVector.fromArray(FLOATS, values, offset + i));
+                    long fail = key.sub(min).compare(UNSIGNED_GT, width).toLong();
+                    if (fail != 0) {
+                        Kernels.setBits(words, i, fail, lanes);
+                    }
+                }
+                scalar.offending(values, offset, i, to, words);
+            };
+        }
+        int excludedMin = (int) range.excludedMin();
+        int excludedWidth = (int) (range.excludedMax() - range.excludedMin());
+        return (values, offset, from, to, words) -> {
+            int lanes = FLOATS.length();
+            int upper = from + FLOATS.loopBound(to - from);
+            int i = from;
+            for (; i < upper; i += lanes) {
+                IntVector key = key(FloatVector.fromArray(FLOATS, values, offset + i));
+                VectorMask<Integer> pass = key.sub(min).compare(UNSIGNED_LE, width)
+                        .and(key.sub(excludedMin).compare(UNSIGNED_GT, excludedWidth));
+                long fail = pass.not().toLong();
+                if (fail != 0) {
+                    Kernels.setBits(words, i, fail, lanes);
+                }
+            }
+            scalar.offending(values, offset, i, to, words);
+        };
+    }
+
+    static Kernels.DoubleKernel doubles(Range range, Kernels.DoubleKernel scalar) {
+        long min = range.min();
+        long width = range.max() - range.min();
+        if (!range.hasHole()) {
+            return (values, offset, from, to, words) -> {
+                int lanes = DOUBLES.length();
+                int upper = from + DOUBLES.loopBound(to - from);
+                int i = from;
+                for (; i < upper; i += lanes) {
+                    LongVector key = key(DoubleVector.fromArray(DOUBLES, values, offset + i));
+                    long fail = key.sub(min).compare(UNSIGNED_GT, width).toLong();
+                    if (fail != 0) {
+                        Kernels.setBits(words, i, fail, lanes);
+                    }
+                }
+                scalar.offending(values, offset, i, to, words);
+            };
+        }
+        long excludedMin = range.excludedMin();
+        long excludedWidth = range.excludedMax() - range.excludedMin();
+        return (values, offset, from, to, words) -> {
+            int lanes = DOUBLES.length();
+            int upper = from + DOUBLES.loopBound(to - from);
+            int i = from;
+            for (; i < upper; i += lanes) {
+                LongVector key = key(DoubleVector.fromArray(DOUBLES, values, offset + i));
+                VectorMask<Long> pass = key.sub(min).compare(UNSIGNED_LE, width)
+                        .and(key.sub(excludedMin).compare(UNSIGNED_GT, excludedWidth));
+                long fail = pass.not().toLong();
+                if (fail != 0) {
+                    Kernels.setBits(words, i, fail, lanes);
+                }
+            }
+            scalar.offending(values, offset, i, to, words);
+        };
+    }
+
+    /**
+     * {@link Range#floatKey(float)} of every lane: the {@code NaN}s are made canonical first, they are the lanes whose
+     * bits without the sign are above those of infinity.
+     */
+    private static IntVector key(FloatVector v) {
+        IntVector raw = v.viewAsIntegralLanes();
+        IntVector bits = raw.blend(FLOAT_NAN, raw.lanewise(AND, Integer.MAX_VALUE).compare(GT, FLOAT_INFINITY));
+        return bits.lanewise(XOR, bits.lanewise(ASHR, 31).lanewise(LSHR, 1));
+    }
+
+    /**
+     * {@link Range#doubleKey(double)} of every lane, like {@link #key(FloatVector)}.
+     */
+    private static LongVector key(DoubleVector v) {
+        LongVector raw = v.viewAsIntegralLanes();
+        LongVector bits = raw.blend(DOUBLE_NAN, raw.lanewise(AND, Long.MAX_VALUE).compare(GT, DOUBLE_INFINITY));
+        return bits.lanewise(XOR, bits.lanewise(ASHR, 63).lanewise(LSHR, 1));
+    }
+}
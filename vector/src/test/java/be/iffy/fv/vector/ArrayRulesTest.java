@@ -0,0 +1,245 @@
+package be.iffy.fv.vector;
+
+import be.iffy.fv.Rule;
+import be.iffy.fv.Validation;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+import static be.iffy.fv.assertj.ValidationAssert.assertThatValidation;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ArrayRulesTest {
+
+    private static final Random random = new Random(42);
+
+    // lengths around the vector sizes, so every kernel also has a scalar tail
+    private static int length() {
+        return random.nextInt(4) == 0 ? random.nextInt(300) : random.nextInt(40);
+    }
+
+    private static <T> BitSet expectedOffending(Rule<T> elementRule, int length, IntFunction<T> element) {
+        BitSet offending = new BitSet();
+        for (int i = 0; i < length; i++) {
+            if (elementRule.apply(element.apply(i)).isInvalid()) {
+                offending.set(i);
+            }
+        }
+        return offending;
+    }
+
+    @Test
+    void vectorApi_isAvailableInTheTests() {
+        assertThat(IntArrayRule.positive().isVectorized()).isTrue();
+        assertThat(IntArrayRule.positive().scalar().isVectorized()).isFalse();
+        assertThat(IntArrayRule.positive().and(IntArrayRule.max(3).scalar()).isVectorized()).isFalse();
+    }
+
+    @Nested
+    class Ints {
+
+        private static final int[] SPECIAL = {Integer.MIN_VALUE, -4096, -1, 0, 1, 7, 4095, 4096, Integer.MAX_VALUE};
+
+        private final List<IntArrayRule> rules = List.of(
+                IntArrayRule.positive(), IntArrayRule.nonNegative(), IntArrayRule.negative(), IntArrayRule.nonPositive(),
+                IntArrayRule.zero(), IntArrayRule.nonZero(), IntArrayRule.min(-1), IntArrayRule.max(4095),
+                IntArrayRule.between(0, 4095), IntArrayRule.betweenExclusive(-1, 7), IntArrayRule.greaterThan(Integer.MIN_VALUE),
+                IntArrayRule.atLeast(1), IntArrayRule.lessThan(Integer.MAX_VALUE), IntArrayRule.atMost(0),
+                IntArrayRule.nonNegative().and(IntArrayRule.max(4095)).and(IntArrayRule.nonZero()),
+                IntArrayRule.greaterThan(Integer.MAX_VALUE), IntArrayRule.nonZero().and(IntArrayRule.between(0, 1))
+        );
+
+        private int[] values() {
+            return random.ints(length(), 0, 2 * SPECIAL.length)
+                    .map(i -> i < SPECIAL.length ? SPECIAL[i] : random.nextInt(-5000, 5000))
+                    .toArray();
+        }
+
+        @Test
+        void sameAsLiftToArray() {
+            for (int run = 0; run < 100; run++) {
+                int[] values = values();
+                for (IntArrayRule rule : rules) {
+                    Validation<int[]> expected = rule.elementRule().lift().toArray().apply(values);
+
+                    assertThat(rule.apply(values)).isEqualTo(expected);
+                    assertThat(rule.scalar().apply(values)).isEqualTo(expected);
+                    assertThat(rule.offending(values))
+                            .isEqualTo(rule.scalar().offending(values))
+                            .isEqualTo(expectedOffending(rule.elementRule(), values.length, i -> values[i]));
+                }
+            }
+        }
+
+        @Test
+        void offending_inRange_isRelativeToTheOffset() {
+            IntArrayRule rule = IntArrayRule.nonNegative();
+            for (int run = 0; run < 100; run++) {
+                int[] values = values();
+                int offset = random.nextInt(values.length + 1);
+                int length = random.nextInt(values.length - offset + 1);
+
+                assertThat(rule.offending(values, offset, length))
+                        .isEqualTo(rule.scalar().offending(values, offset, length))
+                        .isEqualTo(expectedOffending(rule.elementRule(), length, i -> values[offset + i]));
+            }
+        }
+
+        @Test
+        void offending_outOfBounds_throws() {
+            assertThatThrownBy(() -> IntArrayRule.positive().offending(new int[4], 2, 3))
+                    .isInstanceOf(IndexOutOfBoundsException.class);
+        }
+
+        @Test
+        void apply_hasIndexedErrors() {
+            assertThatValidation(IntArrayRule.nonNegative().and(IntArrayRule.max(4095)).apply(new int[]{0, -1, 4096, 12}))
+                    .isInvalid()
+                    .hasErrorMessages("[1].must.be.non.negative", "[2].must.be.at.most");
+        }
+
+        @Test
+        void apply_null_isInvalid() {
+            assertThatValidation(IntArrayRule.positive().apply(null)).isInvalid().hasErrorMessages("must.not.be.null");
+        }
+
+        @Test
+        void between_invalidBounds_throws() {
+            assertThatThrownBy(() -> IntArrayRule.between(2, 1)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    class Longs {
+
+        private static final long[] SPECIAL = {Long.MIN_VALUE, Integer.MIN_VALUE - 1L, -1, 0, 1, Integer.MAX_VALUE + 1L, Long.MAX_VALUE};
+
+        private final List<LongArrayRule> rules = List.of(
+                LongArrayRule.positive(), LongArrayRule.nonNegative(), LongArrayRule.negative(), LongArrayRule.nonPositive(),
+                LongArrayRule.zero(), LongArrayRule.nonZero(), LongArrayRule.min(Integer.MIN_VALUE), LongArrayRule.max(Integer.MAX_VALUE + 1L),
+                LongArrayRule.between(-1, Long.MAX_VALUE), LongArrayRule.betweenExclusive(Long.MIN_VALUE, 0),
+                LongArrayRule.greaterThan(1), LongArrayRule.atLeast(0), LongArrayRule.lessThan(1), LongArrayRule.atMost(-1),
+                LongArrayRule.positive().and(LongArrayRule.lessThan(Long.MAX_VALUE)),
+                LongArrayRule.greaterThan(Long.MAX_VALUE), LongArrayRule.lessThan(Long.MIN_VALUE),
+                LongArrayRule.nonZero().and(LongArrayRule.between(-1, 1))
+        );
+
+        @Test
+        void sameAsLiftToArray() {
+            for (int run = 0; run < 100; run++) {
+                long[] values = random.ints(length(), 0, 2 * SPECIAL.length)
+                        .mapToLong(i -> i < SPECIAL.length ? SPECIAL[i] : random.nextLong())
+                        .toArray();
+                for (LongArrayRule rule : rules) {
+                    Validation<long[]> expected = rule.elementRule().lift().toArray().apply(values);
+
+                    assertThat(rule.apply(values)).isEqualTo(expected);
+                    assertThat(rule.scalar().apply(values)).isEqualTo(expected);
+                    assertThat(rule.offending(values))
+                            .isEqualTo(rule.scalar().offending(values))
+                            .isEqualTo(expectedOffending(rule.elementRule(), values.length, i -> values[i]));
+                }
+            }
+        }
+
+        @Test
+        void apply_hasIndexedErrors() {
+            assertThatValidation(LongArrayRule.between(10, 20).apply(new long[]{10, 21, 9}))
+                    .isInvalid()
+                    .hasErrorMessages("[1].must.be.between", "[2].must.be.between");
+        }
+    }
+
+    @Nested
+    class Floats {
+
+        private static final float[] SPECIAL = {Float.NEGATIVE_INFINITY, -Float.MAX_VALUE, -1.0f, -Float.MIN_VALUE, -0.0f, 0.0f,
+                Float.MIN_VALUE, 1.0f, Float.MAX_VALUE, Float.POSITIVE_INFINITY, Float.NaN, Float.intBitsToFloat(0xffc00001)};
+
+        private final List<FloatArrayRule> rules = List.of(
+                FloatArrayRule.positive(), FloatArrayRule.nonNegative(), FloatArrayRule.negative(), FloatArrayRule.nonPositive(),
+                FloatArrayRule.zero(), FloatArrayRule.nonZero(), FloatArrayRule.finite(), FloatArrayRule.nan(), FloatArrayRule.nonNan(),
+                FloatArrayRule.min(-1.0f), FloatArrayRule.max(0.0f), FloatArrayRule.between(-0.0f, 1.0f),
+                FloatArrayRule.between(0.0f, Float.NaN), FloatArrayRule.betweenExclusive(-1.0f, 0.0f),
+                FloatArrayRule.greaterThan(0.0f), FloatArrayRule.atLeast(Float.NaN), FloatArrayRule.lessThan(Float.POSITIVE_INFINITY),
+                FloatArrayRule.atMost(-0.0f), FloatArrayRule.finite().and(FloatArrayRule.between(-1.0f, 1.0f)),
+                FloatArrayRule.greaterThan(Float.NaN), FloatArrayRule.min(Float.NaN), FloatArrayRule.max(Float.NEGATIVE_INFINITY),
+                FloatArrayRule.nonZero().and(FloatArrayRule.between(-1.0f, 1.0f)), FloatArrayRule.nonZero().and(FloatArrayRule.nonNegative())
+        );
+
+        @Test
+        void sameAsLiftToArray() {
+            for (int run = 0; run < 100; run++) {
+                int length = length();
+                float[] values = new float[length];
+                for (int i = 0; i < length; i++) {
+                    int special = random.nextInt(2 * SPECIAL.length);
+                    values[i] = special < SPECIAL.length ? SPECIAL[special] : (float) random.nextGaussian();
+                }
+                for (FloatArrayRule rule : rules) {
+                    BitSet expected = expectedOffending(rule.elementRule(), length, i -> values[i]);
+
+                    assertThat(rule.offending(values)).isEqualTo(rule.scalar().offending(values)).isEqualTo(expected);
+                    assertThat(rule.apply(values).isValid()).isEqualTo(expected.isEmpty());
+                    assertThat(rule.apply(values)).isEqualTo(rule.scalar().apply(values));
+                }
+            }
+        }
+
+        @Test
+        void apply_hasIndexedErrors() {
+            assertThatValidation(FloatArrayRule.finite().and(FloatArrayRule.nonNegative()).apply(new float[]{0.0f, -1.0f, Float.NaN}))
+                    .isInvalid()
+                    .hasErrorMessages("[1].must.be.non.negative", "[2].must.be.finite", "[2].must.be.non.negative");
+        }
+    }
+
+    @Nested
+    class Doubles {
+
+        private static final double[] SPECIAL = {Double.NEGATIVE_INFINITY, -Double.MAX_VALUE, -1.0, -Double.MIN_VALUE, -0.0, 0.0,
+                Double.MIN_VALUE, 1.0, Double.MAX_VALUE, Double.POSITIVE_INFINITY, Double.NaN, Double.longBitsToDouble(0xfff8000000000001L)};
+
+        private final List<DoubleArrayRule> rules = List.of(
+                DoubleArrayRule.positive(), DoubleArrayRule.nonNegative(), DoubleArrayRule.negative(), DoubleArrayRule.nonPositive(),
+                DoubleArrayRule.zero(), DoubleArrayRule.nonZero(), DoubleArrayRule.finite(), DoubleArrayRule.nan(), DoubleArrayRule.nonNan(),
+                DoubleArrayRule.min(-1.0), DoubleArrayRule.max(0.0), DoubleArrayRule.between(-0.0, 1.0),
+                DoubleArrayRule.between(0.0, Double.NaN), DoubleArrayRule.betweenExclusive(-1.0, 0.0),
+                DoubleArrayRule.greaterThan(0.0), DoubleArrayRule.atLeast(Double.NaN), DoubleArrayRule.lessThan(Double.POSITIVE_INFINITY),
+                DoubleArrayRule.atMost(-0.0), DoubleArrayRule.finite().and(DoubleArrayRule.between(-1.0, 1.0)),
+                DoubleArrayRule.greaterThan(Double.NaN), DoubleArrayRule.min(Double.NaN), DoubleArrayRule.max(Double.NEGATIVE_INFINITY),
+                DoubleArrayRule.nonZero().and(DoubleArrayRule.between(-1.0, 1.0)), DoubleArrayRule.nonZero().and(DoubleArrayRule.nonNegative()),
+                DoubleArrayRule.nonZero().and(DoubleArrayRule.between(-0.0, -0.0))
+        );
+
+        @Test
+        void sameAsLiftToArray() {
+            for (int run = 0; run < 100; run++) {
+                double[] values = random.ints(length(), 0, 2 * SPECIAL.length)
+                        .mapToDouble(i -> i < SPECIAL.length ? SPECIAL[i] : random.nextGaussian())
+                        .toArray();
+                for (DoubleArrayRule rule : rules) {
+                    Validation<double[]> expected = rule.elementRule().lift().toArray().apply(values);
+
+                    assertThat(rule.apply(values)).isEqualTo(expected);
+                    assertThat(rule.scalar().apply(values)).isEqualTo(expected);
+                    assertThat(rule.offending(values))
+                            .isEqualTo(rule.scalar().offending(values))
+                            .isEqualTo(expectedOffending(rule.elementRule(), values.length, i -> values[i]));
+                }
+            }
+        }
+
+        @Test
+        void apply_hasIndexedErrors() {
+            assertThatValidation(DoubleArrayRule.between(-1.0, 1.0).apply(new double[]{0.5, Double.NaN, -2.0}))
+                    .isInvalid()
+                    .hasErrorMessages("[1].must.be.between", "[2].must.be.between");
+        }
+    }
+}